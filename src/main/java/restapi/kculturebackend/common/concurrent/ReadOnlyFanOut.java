@@ -0,0 +1,224 @@
+package restapi.kculturebackend.common.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.common.exception.BusinessException;
+import restapi.kculturebackend.common.exception.ErrorCode;
+
+/**
+ * 서로 독립적인 읽기 조회를 가상 스레드에서 동시에 실행 (fan-out)
+ *
+ * <pre>
+ * try (ReadOnlyFanOut.Scope scope = fanOut.open()) {
+ *     Branch&lt;Long&gt; likes = scope.fork(() -&gt; favoriteRepository.countBy...(id));
+ *     Branch&lt;Profile&gt; profile = scope.fork(() -&gt; ...);
+ *     scope.join();
+ *     ... likes.get(), profile.get()
+ * }
+ * </pre>
+ *
+ * - fork: 분기마다 별도 읽기 전용 트랜잭션에서 실행하고, 분기 timeout을 트랜잭션 timeout으로도 걸어
+ *   JPA/JdbcTemplate 쿼리에 statement timeout이 적용되도록 함
+ * - forkWithoutTransaction: Redis처럼 DB 커넥션이 필요 없는 호출 (트랜잭션을 열지 않음)
+ *   캐시 미스 때만 DB를 읽는 분기는 그 부분만 readOnly로 감싸 fork와 같은 제한/timeout/트랜잭션을 적용
+ * - join은 분기별로 fork 시점부터 timeout까지만 기다리며, 실패하거나 시간이 지난 분기가 있으면
+ *   나머지 분기를 취소하고 예외를 던짐 (분기 예외는 그대로, 시간 초과는 QUERY_TIMEOUT)
+ * - DB 커넥션을 동시에 쓰는 분기 수를 max-in-flight로 제한하여 요청 하나가 커넥션 풀을 비우지 않도록 함
+ *   (커넥션 풀 크기 - 2를 넘으면 그 값으로 낮춤, 분기를 연 요청 스레드와 다른 쓰기 요청의 커넥션 몫)
+ * - 분기는 호출 스레드의 트랜잭션, 영속성 컨텍스트, SecurityContext를 공유하지 않으므로 필요한 값은
+ *   인자로 넘기고, 엔티티는 분기 안에서 지연 로딩까지 마친 뒤 반환
+ */
+@Slf4j
+@Component
+public class ReadOnlyFanOut {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration timeout;
+    private final Semaphore inFlight;
+    // 팬아웃 분기가 쓰지 않고 남겨 두는 커넥션 수
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("fan-out-", 0).factory());
+    private final Counter timeouts;
+
+    public ReadOnlyFanOut(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${concurrency.fan-out.timeout-millis:3000}") long timeoutMillis,
+            @Value("${concurrency.fan-out.max-in-flight:8}") int maxInFlight,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 트랜잭션 timeout은 초 단위 (분기 timeout보다 짧아지지 않도록 올림)
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+        int limit = Math.min(maxInFlight, Math.max(1, connectionPoolSize - RESERVED_CONNECTIONS));
+        if (limit < maxInFlight) {
+            log.warn("concurrency.fan-out.max-in-flight={} exceeds the connection pool ({}), using {}",
+                    maxInFlight, connectionPoolSize, limit);
+        }
+        this.inFlight = new Semaphore(limit);
+        this.timeouts = Counter.builder("fan_out.timeouts")
+                .description("Fan-out branches cancelled because they exceeded the branch timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분기 묶음 시작 (try-with-resources로 닫으면 끝나지 않은 분기를 취소)
+     */
+    public Scope open() {
+        return new Scope();
+    }
+
+    /**
+     * 트랜잭션 없는 분기 안에서 DB 조회가 필요할 때 사용
+     * fork와 같이 동시 실행 수 제한을 지키고 읽기 전용 트랜잭션(timeout 포함)에서 실행
+     */
+    public <T> T readOnly(Supplier<T> query) {
+        try {
+            return runInTransaction(query, System.nanoTime() + timeout.toNanos());
+        } catch (InterruptedException e) {
+            // join에서 분기가 취소된 경우
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.QUERY_TIMEOUT, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T runInTransaction(Supplier<T> query, long deadlineNanos) throws InterruptedException {
+        long waitNanos = deadlineNanos - System.nanoTime();
+        if (!inFlight.tryAcquire(Math.max(0, waitNanos), TimeUnit.NANOSECONDS)) {
+            throw new BusinessException(ErrorCode.QUERY_TIMEOUT);
+        }
+        try {
+            return readOnlyTransaction.execute(status -> query.get());
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 한 요청에서 동시에 실행하는 분기 묶음
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final List<Branch<?>> branches = new ArrayList<>();
+
+        private Scope() {
+        }
+
+        /**
+         * 읽기 전용 트랜잭션 분기 추가
+         */
+        public <T> Branch<T> fork(Supplier<T> query) {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            return add(new Branch<>(executor.submit(() -> runInTransaction(query, deadline)), deadline));
+        }
+
+        /**
+         * 트랜잭션 없는 분기 추가 (DB를 쓰지 않는 호출)
+         */
+        public <T> Branch<T> forkWithoutTransaction(Supplier<T> call) {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            return add(new Branch<>(executor.submit(call::get), deadline));
+        }
+
+        /**
+         * 모든 분기 완료 대기 (하나라도 실패하면 나머지를 취소하고 예외 전달)
+         */
+        public void join() {
+            try {
+                for (Branch<?> branch : branches) {
+                    branch.await();
+                }
+            } catch (RuntimeException e) {
+                cancelAll();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private <T> Branch<T> add(Branch<T> branch) {
+            branches.add(branch);
+            return branch;
+        }
+
+        private void cancelAll() {
+            for (Branch<?> branch : branches) {
+                branch.future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 분기 결과 (join 이후 get으로 조회)
+     */
+    public final class Branch<T> implements Supplier<T> {
+
+        private final Future<T> future;
+        private final long deadlineNanos;
+
+        private Branch(Future<T> future, long deadlineNanos) {
+            this.future = future;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 분기 결과 (아직 끝나지 않았으면 분기 timeout까지 대기)
+         */
+        @Override
+        public T get() {
+            return await();
+        }
+
+        private T await() {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timeouts.increment();
+                throw new BusinessException(ErrorCode.QUERY_TIMEOUT, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+            } catch (CancellationException e) {
+                throw new BusinessException(ErrorCode.QUERY_TIMEOUT, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+            }
+        }
+    }
+}
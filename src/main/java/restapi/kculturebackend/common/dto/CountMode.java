@@ -0,0 +1,27 @@
+package restapi.kculturebackend.common.dto;
+
+/**
+ * 페이지 목록의 전체 건수 계산 방식
+ * - EXACT: COUNT 쿼리로 정확한 건수 (기본)
+ * - ESTIMATED: 플래너 추정치 또는 일정 시간 캐시된 건수 (오차 허용)
+ * - NONE: 건수 없이 limit + 1건 조회로 다음 페이지 여부만 판단
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    /**
+     * 요청 파라미터 값으로 변환 (exact/estimated/none, 알 수 없는 값은 EXACT)
+     */
+    public static CountMode from(String value) {
+        if (value == null) {
+            return EXACT;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "estimated" -> ESTIMATED;
+            case "none" -> NONE;
+            default -> EXACT;
+        };
+    }
+}
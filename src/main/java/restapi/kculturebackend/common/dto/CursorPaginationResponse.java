@@ -0,0 +1,25 @@
+package restapi.kculturebackend.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지네이션 응답 구조 (제네릭)
+ * 전체 건수를 세지 않으며, 다음 페이지는 nextCursor로 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPaginationResponse<T> {
+    private List<T> content;
+    private int limit;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPaginationResponse<T> of(List<T> content, int limit, String nextCursor) {
+        return new CursorPaginationResponse<>(content, limit, nextCursor, nextCursor != null);
+    }
+}
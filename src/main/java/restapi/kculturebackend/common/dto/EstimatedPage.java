@@ -0,0 +1,34 @@
+package restapi.kculturebackend.common.dto;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 추정 건수로 만든 페이지 (응답에 countMode=ESTIMATED로 표시)
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    public EstimatedPage(List<T> content, Pageable pageable, long estimatedTotal) {
+        super(content, pageable, estimatedTotal);
+    }
+
+    /**
+     * limit + 1건으로 조회한 Slice에 추정 건수 적용
+     * 마지막 페이지면 건수가 확정되므로 정확한 페이지로 반환하고,
+     * 추정치가 이미 확인된 행 수보다 작으면 확인된 행 수로 보정
+     */
+    public static <T> Page<T> of(Slice<T> slice, LongSupplier estimatedTotal) {
+        Pageable pageable = slice.getPageable();
+        long seen = (pageable.isPaged() ? pageable.getOffset() : 0) + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        long total = Math.max(estimatedTotal.getAsLong(), seen + 1);
+        return new EstimatedPage<>(slice.getContent(), pageable, total);
+    }
+}
@@ -1,6 +1,7 @@
 package restapi.kculturebackend.common.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * 페이지네이션 정보
+ * countMode가 NONE이면 total/totalPages는 null이며 hasNext로 다음 페이지 여부 판단
  */
 @Getter
 @NoArgsConstructor
@@ -15,15 +17,33 @@ import lombok.NoArgsConstructor;
 public class Pagination {
     private int page;
     private int limit;
-    private long total;
-    private int totalPages;
+    private Long total;
+    private Integer totalPages;
+    private boolean hasNext;
+    private CountMode countMode;
 
     public static <T> Pagination from(Page<T> page) {
         return new Pagination(
                 page.getNumber() + 1, // 0-based to 1-based
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                page.hasNext(),
+                page instanceof EstimatedPage ? CountMode.ESTIMATED : CountMode.EXACT
+        );
+    }
+
+    public static <T> Pagination from(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return from(page);
+        }
+        return new Pagination(
+                slice.getNumber() + 1,
+                slice.getSize(),
+                null,
+                null,
+                slice.hasNext(),
+                CountMode.NONE
         );
     }
 }
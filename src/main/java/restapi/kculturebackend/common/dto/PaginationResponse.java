@@ -4,11 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 /**
  * 페이지네이션 응답 구조 (제네릭)
+ * countMode가 NONE이면 total/totalPages는 null이며 hasNext로 다음 페이지 여부 판단
  */
 @Getter
 @NoArgsConstructor
@@ -17,8 +19,10 @@ public class PaginationResponse<T> {
     private List<T> content;
     private int page;
     private int limit;
-    private long total;
-    private int totalPages;
+    private Long total;
+    private Integer totalPages;
+    private boolean hasNext;
+    private CountMode countMode;
 
     /**
      * Spring Data Page 객체로부터 PaginationResponse 생성
@@ -29,8 +33,27 @@ public class PaginationResponse<T> {
                 page.getNumber() + 1, // 0-based to 1-based
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                page.hasNext(),
+                page instanceof EstimatedPage ? CountMode.ESTIMATED : CountMode.EXACT
         );
     }
-}
 
+    /**
+     * Slice로부터 생성 (Page이면 건수 포함, 아니면 건수 없이 hasNext만)
+     */
+    public static <T> PaginationResponse<T> from(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return from(page);
+        }
+        return new PaginationResponse<>(
+                slice.getContent(),
+                slice.getNumber() + 1,
+                slice.getSize(),
+                null,
+                null,
+                slice.hasNext(),
+                CountMode.NONE
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package restapi.kculturebackend.common.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일회성 데이터 채우기 완료 기록 엔티티
+ * 행이 있으면 해당 작업은 이미 끝났으므로 기동 시 다시 실행하지 않음 (다시 실행하려면 행을 지움)
+ */
+@Entity
+@Table(name = "backfill_markers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillMarker {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
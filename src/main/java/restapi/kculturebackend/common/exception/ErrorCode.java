@@ -75,6 +75,9 @@ public enum ErrorCode {
     FORBIDDEN("COMMON_002", "접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
     RESOURCE_NOT_FOUND("COMMON_003", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     CONFLICT("COMMON_004", "리소스 충돌이 발생했습니다.", HttpStatus.CONFLICT),
+    INVALID_CURSOR("COMMON_005", "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+    TOO_MANY_REQUESTS("COMMON_006", "요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    QUERY_TIMEOUT("COMMON_007", "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
     INTERNAL_SERVER_ERROR("COMMON_999", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
 
     private final String code;
@@ -0,0 +1,42 @@
+package restapi.kculturebackend.common.migration;
+
+import java.util.function.IntSupplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일회성 데이터 채우기 실행 (Flyway를 쓰지 않는 동안의 데이터 마이그레이션 대용)
+ *
+ * - backfill_markers에 작업 이름을 넣은 트랜잭션에서 작업을 실행하고 함께 커밋
+ * - 이미 기록이 있으면 실행하지 않으므로 최초 기동 한 번만 전체 테이블을 읽음
+ * - 여러 인스턴스가 동시에 기동하면 나머지는 먼저 넣은 쪽이 커밋할 때까지 기다린 뒤 건너뜀
+ * - 작업이 실패하면 기록도 롤백되어 다음 기동에서 다시 실행
+ */
+@Component
+public class OneTimeBackfill {
+
+    private static final String CLAIM_SQL =
+            "INSERT INTO backfill_markers (name, completed_at) VALUES (?, now()) ON CONFLICT (name) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public OneTimeBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 아직 실행하지 않은 작업이면 실행
+     *
+     * @return 작업이 바꾼 행 수 (이미 실행한 작업이면 -1)
+     */
+    public int runOnce(String name, IntSupplier work) {
+        Integer updated = transaction.execute(status ->
+                jdbcTemplate.update(CLAIM_SQL, name) == 0 ? -1 : work.getAsInt());
+        return updated != null ? updated : -1;
+    }
+}
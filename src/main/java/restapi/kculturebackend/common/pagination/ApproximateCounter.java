@@ -0,0 +1,75 @@
+package restapi.kculturebackend.common.pagination;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추정 건수 계산 (CountMode.ESTIMATED)
+ * - 조건 없는 전체 목록: PostgreSQL 플래너 통계(pg_class.reltuples)
+ * - 조건이 있는 목록: 정확한 COUNT 결과를 maxStalenessSeconds 동안 재사용
+ */
+@Slf4j
+@Component
+public class ApproximateCounter {
+
+    private final long maxStalenessMillis;
+    private final int maxEntries;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ApproximateCounter(
+            @Value("${pagination.estimate.max-staleness-seconds:60}") long maxStalenessSeconds,
+            @Value("${pagination.estimate.max-entries:10000}") int maxEntries) {
+        this.maxStalenessMillis = maxStalenessSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 건수 (없거나 오래되었으면 exactCount로 다시 계산)
+     */
+    public long count(String key, LongSupplier exactCount) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.computedAt() <= maxStalenessMillis) {
+            return cached.value();
+        }
+
+        long value = exactCount.getAsLong();
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(value, now));
+        return value;
+    }
+
+    /**
+     * 테이블 전체 행 수 추정 (통계가 없으면 fallback으로 계산한 값을 캐시)
+     */
+    public long tableEstimate(String table, LongSupplier fallback) {
+        Object result = entityManager.createNativeQuery(
+                        "SELECT CAST(c.reltuples AS bigint) FROM pg_class c WHERE c.oid = to_regclass(:table)")
+                .setParameter("table", table)
+                .getResultList().stream()
+                .findFirst()
+                .orElse(null);
+        long estimate = result instanceof Number number ? number.longValue() : -1L;
+        // ANALYZE 전에는 -1(PostgreSQL 14+) 또는 0
+        if (estimate <= 0) {
+            return count("table:" + table, fallback);
+        }
+        return estimate;
+    }
+
+    private record CachedCount(long value, long computedAt) {
+    }
+}
@@ -0,0 +1,12 @@
+package restapi.kculturebackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 - @Scheduled 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -62,13 +62,18 @@ public class SecurityConfig {
                 ).permitAll()
                 // 인증/회원가입 엔드포인트 허용
                 .requestMatchers("/api/auth/**").permitAll()
+                // 배우 검색 결과 내보내기는 인증 필요 (아래 /api/actors/* 허용보다 먼저 선언)
+                .requestMatchers(HttpMethod.GET, "/api/actors/export").authenticated()
                 // 배우 목록/상세 조회는 GET만 인증 없이 허용
                 .requestMatchers(HttpMethod.GET, "/api/actors", "/api/actors/*").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/actors/*/filmography").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/actors/*/showreels").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/actors/*/portfolio").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/actors/*/similar").permitAll()
                 // 작품구인 목록/상세 조회는 GET만 인증 없이 허용
                 .requestMatchers(HttpMethod.GET, "/api/jobs", "/api/jobs/*").permitAll()
+                // 배우/작품구인 자동완성은 GET만 인증 없이 허용
+                .requestMatchers(HttpMethod.GET, "/api/suggest/actors", "/api/suggest/jobs").permitAll()
                 // 공지사항 조회는 GET만 인증 없이 허용
                 .requestMatchers(HttpMethod.GET, "/api/notices", "/api/notices/*").permitAll()
                 // 나머지는 인증 필요
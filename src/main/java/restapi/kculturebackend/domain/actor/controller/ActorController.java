@@ -1,18 +1,26 @@
 package restapi.kculturebackend.domain.actor.controller;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -22,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,15 +39,21 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import restapi.kculturebackend.common.dto.ApiResponse;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.CursorPaginationResponse;
 import restapi.kculturebackend.common.dto.PaginationResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorDetailResponse;
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorRecommendRequest;
 import restapi.kculturebackend.domain.actor.dto.ActorRecommendResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
 import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
 import restapi.kculturebackend.domain.actor.dto.ContactActorRequest;
 import restapi.kculturebackend.domain.actor.dto.CreateActorProfileRequest;
+import restapi.kculturebackend.domain.actor.dto.ProjectRecommendResponse;
 import restapi.kculturebackend.domain.actor.dto.UpdateActorProfileRequest;
+import restapi.kculturebackend.domain.actor.export.ActorExportFormat;
+import restapi.kculturebackend.domain.actor.service.ActorExportService;
 import restapi.kculturebackend.domain.actor.service.ActorService;
 import restapi.kculturebackend.domain.user.entity.User;
 import restapi.kculturebackend.infrastructure.storage.FileStorageService;
@@ -54,7 +69,10 @@ import restapi.kculturebackend.infrastructure.storage.UploadResult;
 @RequiredArgsConstructor
 public class ActorController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ActorService actorService;
+    private final ActorExportService actorExportService;
     private final FileStorageService fileStorageService;
 
     /**
@@ -64,38 +82,83 @@ public class ActorController {
     @Operation(summary = "배우 목록 조회", description = "필터/정렬 조건으로 배우 목록을 검색합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<PaginationResponse<ActorSummaryResponse>>> getActors(
-            @Parameter(description = "구분 (배우/모델)") @RequestParam(required = false) String category,
-            @Parameter(description = "성별 (남자/여자)") @RequestParam(required = false) String gender,
-            @Parameter(description = "최소 나이") @RequestParam(required = false) Integer ageMin,
-            @Parameter(description = "최대 나이") @RequestParam(required = false) Integer ageMax,
-            @Parameter(description = "최소 키 (cm)") @RequestParam(required = false) Integer heightMin,
-            @Parameter(description = "최대 키 (cm)") @RequestParam(required = false) Integer heightMax,
-            @Parameter(description = "최소 몸무게 (kg)") @RequestParam(required = false) Integer weightMin,
-            @Parameter(description = "최대 몸무게 (kg)") @RequestParam(required = false) Integer weightMax,
-            @Parameter(description = "특기/스킬 목록") @RequestParam(required = false) List<String> skills,
-            @Parameter(description = "키워드 검색 (이름, 활동명)") @RequestParam(required = false) String keyword,
-            @Parameter(description = "정렬 기준 (recent, views_high, views_low, name, age_young, age_old, height_tall, height_short)") 
-                @RequestParam(required = false, defaultValue = "recent") String sortBy,
+            @ParameterObject @ModelAttribute ActorSearchRequest searchRequest,
+            @Parameter(description = "전체 건수 계산 방식 (exact: 정확한 건수, estimated: 추정 건수, none: 건수 없이 hasNext만)")
+                @RequestParam(required = false, defaultValue = "exact") String countMode,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        
-        ActorSearchRequest searchRequest = ActorSearchRequest.builder()
-                .category(category)
-                .gender(gender)
-                .ageMin(ageMin)
-                .ageMax(ageMax)
-                .heightMin(heightMin)
-                .heightMax(heightMax)
-                .weightMin(weightMin)
-                .weightMax(weightMax)
-                .skills(skills)
-                .keyword(keyword)
-                .sortBy(sortBy)
-                .build();
-        
-        Page<ActorSummaryResponse> actors = actorService.searchActorsAdvanced(searchRequest, pageable);
+
+        withDefaultSort(searchRequest);
+        Slice<ActorSummaryResponse> actors =
+                actorService.searchActorsAdvanced(searchRequest, pageable, CountMode.from(countMode));
         return ResponseEntity.ok(ApiResponse.success(PaginationResponse.from(actors)));
     }
 
+    /**
+     * 배우 목록 조회 (커서 기반)
+     * 목록 조회와 같은 필터/정렬로 전체 건수 없이 이전 페이지 마지막 행 이후를 조회
+     */
+    @Operation(summary = "배우 목록 커서 조회", description = "목록 조회와 같은 필터/정렬 조건으로 전체 건수 없이 조회합니다. "
+            + "첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 보냅니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPaginationResponse<ActorSummaryResponse>>> getActorsByCursor(
+            @ParameterObject @ModelAttribute ActorSearchRequest searchRequest,
+            @Parameter(description = "커서 (이전 응답의 nextCursor, 첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 수 (1~100)") @RequestParam(defaultValue = "20") int size) {
+
+        withDefaultSort(searchRequest);
+        CursorPaginationResponse<ActorSummaryResponse> actors =
+                actorService.searchActorsByCursor(searchRequest, cursor, Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE));
+        return ResponseEntity.ok(ApiResponse.success(actors));
+    }
+
+    /**
+     * 배우 검색 패싯 조회
+     * 목록 조회와 같은 필터를 받아 성별/구분/나이 구간/키 구간별 배우 수를 한 번에 반환 (정렬 조건은 무시)
+     */
+    @Operation(summary = "배우 검색 패싯 조회", description = "목록 조회와 같은 필터 조건으로 성별/구분/나이 구간/키 구간별 배우 수를 조회합니다. "
+            + "각 패싯은 자기 필터만 제외하고 집계합니다.")
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<ActorFacetResponse>> getActorFacets(
+            @ParameterObject @ModelAttribute ActorSearchRequest searchRequest) {
+
+        return ResponseEntity.ok(ApiResponse.success(actorService.getActorFacets(searchRequest)));
+    }
+
+    /**
+     * 배우 검색 결과 내보내기 (에이전시 전용)
+     * 목록 조회와 같은 필터/정렬로 조건에 맞는 배우 전체를 NDJSON 또는 CSV로 스트리밍 (페이징/전체 건수 없음)
+     */
+    @Operation(summary = "배우 검색 결과 내보내기", description = "목록 조회와 같은 필터/정렬 조건에 맞는 배우 전체를 NDJSON 또는 CSV 파일로 내려받습니다. "
+            + "에이전시 계정만 사용할 수 있습니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportActors(
+            @AuthenticationPrincipal User user,
+            @ParameterObject @ModelAttribute ActorSearchRequest searchRequest,
+            @Parameter(description = "파일 형식 (ndjson, csv)") @RequestParam(required = false, defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+
+        withDefaultSort(searchRequest);
+
+        ActorExportFormat exportFormat = ActorExportFormat.from(format);
+        StreamingResponseBody body = actorExportService.export(user, searchRequest, exportFormat, request);
+
+        String filename = "actors-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 정렬 기준이 없으면 최신순 (Pageable 정렬이 아닌 정렬 옵션으로 처리하여 인덱스 검색 사용)
+     */
+    private void withDefaultSort(ActorSearchRequest searchRequest) {
+        if (!StringUtils.hasText(searchRequest.getSortBy())) {
+            searchRequest.setSortBy("recent");
+        }
+    }
+
     /**
      * 배우 검색 (하위 호환용)
      */
@@ -240,6 +303,35 @@ public class ActorController {
         return ResponseEntity.ok(ApiResponse.success(Map.of("recommendedActors", recommendations)));
     }
 
+    /**
+     * 프로젝트 배역별 배우 추천
+     */
+    @Operation(summary = "프로젝트 배역별 배우 추천",
+            description = "캐스팅 미완료 배역 전체에 대해 배역마다 추천 배우 목록 반환 (distinct=true면 배역 간 중복 없음)")
+    @GetMapping("/recommend/projects/{projectId}")
+    public ResponseEntity<ApiResponse<ProjectRecommendResponse>> recommendActorsForProject(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID projectId,
+            @Parameter(description = "배역별 추천 수 (1~30)") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "배역 간 중복 제거 여부") @RequestParam(defaultValue = "false") boolean distinct) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                actorService.recommendActorsForProject(user, projectId, limit, distinct)));
+    }
+
+    /**
+     * 비슷한 배우 조회
+     */
+    @Operation(summary = "비슷한 배우 조회", description = "나이/키/몸무게/성별/구분/스킬이 비슷한 배우 목록 (미리 계산된 목록)")
+    @GetMapping("/{actorId}/similar")
+    public ResponseEntity<ApiResponse<Map<String, List<ActorSummaryResponse>>>> getSimilarActors(
+            @PathVariable UUID actorId,
+            @Parameter(description = "조회 수 (1~20)") @RequestParam(defaultValue = "10") int limit) {
+
+        List<ActorSummaryResponse> similarActors = actorService.getSimilarActors(actorId, limit);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("similarActors", similarActors)));
+    }
+
     /**
      * 포트폴리오 다운로드
      */
@@ -0,0 +1,36 @@
+package restapi.kculturebackend.domain.actor.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 배우 검색 패싯 응답 DTO
+ * 패싯마다 자기 필터만 제외한 조건으로 집계한 값별 배우 수
+ */
+@Getter
+@Builder
+public class ActorFacetResponse {
+    // 모든 조건을 적용한 전체 배우 수
+    private long total;
+    private List<Bucket> gender;
+    private List<Bucket> category;
+    // 나이/키 구간 (min/max를 그대로 ageMin/ageMax, heightMin/heightMax 필터로 사용 가능)
+    private List<Bucket> age;
+    private List<Bucket> height;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private String value;
+        private Integer min;
+        private Integer max;
+        private long count;
+
+        public static Bucket of(String value, Integer min, Integer max, long count) {
+            return new Bucket(value, min, max, count);
+        }
+    }
+}
@@ -2,47 +2,79 @@ package restapi.kculturebackend.domain.actor.dto;
 
 import java.util.List;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * 배우 검색 요청 DTO
+ * 목록/패싯/내보내기 API가 같은 쿼리 파라미터로 바인딩 (@ModelAttribute)
  */
 @Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ActorSearchRequest {
     
     // 구분 (배우/모델)
+    @Schema(description = "구분 (배우/모델)")
     private String category;
     
     // 성별
+    @Schema(description = "성별 (남자/여자)")
     private String gender;
     
     // 나이 범위
+    @Schema(description = "최소 나이")
     private Integer ageMin;
+    @Schema(description = "최대 나이")
     private Integer ageMax;
     
     // 키 범위 (cm)
+    @Schema(description = "최소 키 (cm)")
     private Integer heightMin;
+    @Schema(description = "최대 키 (cm)")
     private Integer heightMax;
     
     // 몸무게 범위 (kg)
+    @Schema(description = "최소 몸무게 (kg)")
     private Integer weightMin;
+    @Schema(description = "최대 몸무게 (kg)")
     private Integer weightMax;
     
     // 특기/스킬 목록
+    @Schema(description = "특기/스킬 목록")
     private List<String> skills;
+
+    // 스킬 매칭 방식 (any: 하나 이상 보유, all: 모두 보유)
+    @Schema(description = "스킬 매칭 방식 (any: 하나 이상 보유, all: 모두 보유)", defaultValue = "any")
+    private String skillMatch;
+
+    // 최소 프로필 완성도 (0~100)
+    @Schema(description = "최소 프로필 완성도 (0~100)")
+    private Integer minCompleteness;
     
     // 키워드 검색 (이름, 활동명)
+    @Schema(description = "키워드 검색 (이름, 활동명)")
     private String keyword;
     
     // 정렬 기준
+    @Schema(description = "정렬 기준 (recent, views_high, views_low, name, age_young, age_old, height_tall, height_short, completeness)",
+            defaultValue = "recent")
     private String sortBy;
     
     // 정렬 방향
+    @Schema(description = "정렬 방향 (name 정렬에만 적용, asc/desc)")
     private String sortDirection;
+
+    /**
+     * 모든 스킬 보유 조건 여부 (기본은 하나 이상 보유)
+     */
+    public boolean isMatchAllSkills() {
+        return "all".equalsIgnoreCase(skillMatch);
+    }
 }
@@ -0,0 +1,33 @@
+package restapi.kculturebackend.domain.actor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 프로젝트 배역별 배우 추천 응답 DTO
+ * 캐스팅 미완료 배역마다 추천 배우 목록 (distinct면 한 배우는 한 배역에만 포함)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectRecommendResponse {
+    private UUID projectId;
+    private boolean distinct;
+    private List<RoleRecommendation> roles;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RoleRecommendation {
+        private UUID characterId;
+        private String characterName;
+        private List<ActorRecommendResponse> recommendedActors;
+    }
+}
@@ -1,9 +1,14 @@
 package restapi.kculturebackend.domain.actor.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -17,12 +22,14 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import restapi.kculturebackend.common.entity.BaseEntity;
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
 import restapi.kculturebackend.domain.user.entity.User;
 
 /**
@@ -35,7 +42,12 @@ import restapi.kculturebackend.domain.user.entity.User;
         @Index(name = "idx_actor_birth_year", columnList = "birth_year"),
         @Index(name = "idx_actor_height", columnList = "height"),
         @Index(name = "idx_actor_profile_complete", columnList = "is_profile_complete"),
-        @Index(name = "idx_actor_category", columnList = "category")
+        @Index(name = "idx_actor_category", columnList = "category"),
+        // 커서(키셋) 페이지네이션용 정렬 키 + user_id
+        @Index(name = "idx_actor_created_at_user", columnList = "created_at, user_id"),
+        @Index(name = "idx_actor_view_count_user", columnList = "view_count, user_id"),
+        @Index(name = "idx_actor_stage_name_user", columnList = "stage_name, user_id"),
+        @Index(name = "idx_actor_completeness_user", columnList = "profile_completeness, user_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -102,6 +114,14 @@ public class ActorProfile extends BaseEntity {
     @Builder.Default
     private Long viewCount = 0L; // 조회수
 
+    @Column(name = "profile_completeness", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer profileCompleteness = 0; // 프로필 완성도 (0~100, 입력 항목별 가중치 합)
+
+    @Transient
+    private transient boolean searchIndexStale; // 저장 시 변경 이벤트 발행 여부
+
     // 비즈니스 메서드
     public void updateProfile(String stageName, Integer birthYear, String introduction,
                               String nationality, Integer height, Integer weight,
@@ -116,21 +136,63 @@ public class ActorProfile extends BaseEntity {
         this.languages = languages != null ? languages : new ArrayList<>();
         this.agency = agency;
         this.isProfileComplete = true;
+        this.searchIndexStale = true;
+        refreshCompleteness(user != null ? user.getProfileImage() : null);
+    }
+
+    /**
+     * 프로필 완성도 재계산 (프로필 이미지는 User에 있으므로 호출 측에서 전달)
+     * 값이 바뀌면 검색 인덱스/대시보드 캐시 갱신을 위해 변경 이벤트 발행 대상으로 표시
+     */
+    public void refreshCompleteness(String profileImage) {
+        int score = calculateCompleteness(profileImage);
+        if (profileCompleteness == null || profileCompleteness != score) {
+            this.profileCompleteness = score;
+            this.searchIndexStale = true;
+        }
+    }
+
+    // 항목별 가중치 (ActorCompletenessBackfill SQL과 같아야 함)
+    private int calculateCompleteness(String profileImage) {
+        int score = 0;
+        if (stageName != null) score += 15;
+        if (birthYear != null) score += 10;
+        if (introduction != null) score += 20;
+        if (height != null) score += 10;
+        if (weight != null) score += 10;
+        if (skills != null && !skills.isEmpty()) score += 15;
+        if (languages != null && !languages.isEmpty()) score += 10;
+        if (profileImage != null) score += 10;
+        return score;
     }
 
     public void updateGenderAndCategory(Gender gender, ActorCategory category) {
         this.gender = gender;
         this.category = category;
+        this.searchIndexStale = true;
     }
 
     public void incrementViewCount() {
         this.viewCount++;
     }
 
+    // 검색 인덱스 동기화용 도메인 이벤트 (Repository.save 시 발행)
+    @DomainEvents
+    Collection<ActorProfileChangedEvent> domainEvents() {
+        return searchIndexStale ? List.of(ActorProfileChangedEvent.of(this)) : List.of();
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        this.searchIndexStale = false;
+    }
+
     public static ActorProfile createDefault(User user) {
-        return ActorProfile.builder()
+        ActorProfile profile = ActorProfile.builder()
                 .user(user)
                 .build();
+        profile.searchIndexStale = true;
+        return profile;
     }
 }
 
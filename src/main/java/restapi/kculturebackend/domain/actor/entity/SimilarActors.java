@@ -0,0 +1,71 @@
+package restapi.kculturebackend.domain.actor.entity;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비슷한 배우 목록 엔티티
+ * 배경 작업이 미리 계산한 배우별 최근접 이웃 목록 (유사도 높은 순)
+ * 이웃 ID는 16바이트씩 이어 붙인 bytea 한 컬럼에 저장 (이웃 20명 = 320바이트)
+ */
+@Entity
+@Table(name = "actor_similar_neighbors", indexes = {
+        @Index(name = "idx_actor_similar_computed", columnList = "computed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SimilarActors {
+
+    private static final int UUID_BYTES = 16;
+
+    @Id
+    @Column(name = "actor_id", columnDefinition = "UUID")
+    private UUID actorId;
+
+    @Column(name = "neighbors", nullable = false, columnDefinition = "bytea")
+    private byte[] neighbors;
+
+    // 계산한 작업의 시작 시각 (다음 증분 계산의 기준)
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public static SimilarActors of(UUID actorId, List<UUID> neighborIds, LocalDateTime computedAt) {
+        SimilarActors similarActors = new SimilarActors();
+        similarActors.actorId = actorId;
+        similarActors.update(neighborIds, computedAt);
+        return similarActors;
+    }
+
+    public void update(List<UUID> neighborIds, LocalDateTime computedAt) {
+        ByteBuffer buffer = ByteBuffer.allocate(neighborIds.size() * UUID_BYTES);
+        for (UUID id : neighborIds) {
+            buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        }
+        this.neighbors = buffer.array();
+        this.computedAt = computedAt;
+    }
+
+    /**
+     * 이웃 배우 ID (유사도 높은 순)
+     */
+    public List<UUID> getNeighborIds() {
+        ByteBuffer buffer = ByteBuffer.wrap(neighbors);
+        List<UUID> ids = new ArrayList<>(neighbors.length / UUID_BYTES);
+        while (buffer.remaining() >= UUID_BYTES) {
+            ids.add(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+        return ids;
+    }
+}
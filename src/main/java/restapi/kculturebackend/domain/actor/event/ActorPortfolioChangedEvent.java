@@ -0,0 +1,16 @@
+package restapi.kculturebackend.domain.actor.event;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배우 포트폴리오(필모그래피/쇼릴) 변경 이벤트 (생성/수정/삭제)
+ * FilmographyService, ShowreelService에서 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActorPortfolioChangedEvent {
+    private final UUID actorId;
+}
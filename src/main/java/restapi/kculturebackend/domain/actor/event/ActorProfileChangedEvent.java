@@ -0,0 +1,20 @@
+package restapi.kculturebackend.domain.actor.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.domain.actor.entity.ActorProfile;
+import restapi.kculturebackend.domain.actor.search.ActorIndexEntry;
+
+/**
+ * 배우 프로필 변경 이벤트
+ * ActorProfile 저장 시 Spring Data 도메인 이벤트로 발행되며, 변경 시점의 스냅샷을 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActorProfileChangedEvent {
+    private final ActorIndexEntry snapshot;
+
+    public static ActorProfileChangedEvent of(ActorProfile actor) {
+        return new ActorProfileChangedEvent(ActorIndexEntry.from(actor));
+    }
+}
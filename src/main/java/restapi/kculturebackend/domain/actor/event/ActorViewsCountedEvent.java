@@ -0,0 +1,17 @@
+package restapi.kculturebackend.domain.actor.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배우 조회수 반영 이벤트 (배우 ID → 이번에 더해진 조회수)
+ * ProfileViewBatchWriter에서 view_count 갱신 커밋 후 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActorViewsCountedEvent {
+    private final Map<UUID, Long> deltas;
+}
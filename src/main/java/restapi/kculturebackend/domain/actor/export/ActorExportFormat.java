@@ -0,0 +1,35 @@
+package restapi.kculturebackend.domain.actor.export;
+
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.common.exception.ValidationException;
+
+/**
+ * 배우 검색 결과 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ActorExportFormat {
+    // 한 줄에 JSON 객체 하나 (application/x-ndjson)
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙여 전송
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ActorExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package restapi.kculturebackend.domain.actor.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
+
+/**
+ * 배우 요약 DTO를 한 건씩 출력 스트림에 쓰는 Writer
+ * 버퍼 크기 외에 결과를 모아 두지 않으며, flush 시점은 호출 측(배치 단위)에서 결정
+ */
+public class ActorExportWriter {
+
+    static final String[] CSV_HEADER = {
+            "id", "email", "name", "stageName", "birthYear", "age", "gender", "category",
+            "height", "weight", "agency", "skills", "viewCount", "profileImage", "introduction"
+    };
+
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writerFor(ActorSummaryResponse.class);
+    private static final String SKILL_SEPARATOR = "|";
+
+    private final ActorExportFormat format;
+    private final Writer writer;
+
+    public ActorExportWriter(ActorExportFormat format, OutputStream outputStream) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 헤더 출력 (CSV만 해당)
+     */
+    public void writeHeader() throws IOException {
+        if (format == ActorExportFormat.CSV) {
+            writer.write('\uFEFF');
+            writeCsvRow(CSV_HEADER);
+        }
+    }
+
+    public void write(ActorSummaryResponse actor) throws IOException {
+        if (format == ActorExportFormat.NDJSON) {
+            // 기본 ObjectMapper는 줄바꿈 없이 한 줄로 직렬화
+            writer.write(JSON_WRITER.writeValueAsString(actor));
+            writer.write('\n');
+            return;
+        }
+
+        List<String> skills = actor.getSkills();
+        writeCsvRow(new String[] {
+                String.valueOf(actor.getId()),
+                actor.getEmail(),
+                actor.getName(),
+                actor.getStageName(),
+                toText(actor.getBirthYear()),
+                toText(actor.getAge()),
+                actor.getGender(),
+                actor.getCategory(),
+                toText(actor.getHeight()),
+                toText(actor.getWeight()),
+                actor.getAgency(),
+                skills != null ? String.join(SKILL_SEPARATOR, skills) : null,
+                toText(actor.getViewCount()),
+                actor.getProfileImage(),
+                actor.getIntroduction()
+        });
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvRow(String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 이스케이프
+     * 구분자/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고, 수식으로 해석되는 값은 앞에 '를 붙임
+     */
+    static String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = isFormula(value) ? "'" + value : value;
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+
+    // 스프레드시트에서 수식으로 실행되는 값 (CSV 인젝션 방지)
+    private static boolean isFormula(String value) {
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
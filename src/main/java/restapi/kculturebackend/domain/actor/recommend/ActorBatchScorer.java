@@ -0,0 +1,167 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 배역 동시 추천 (배역마다 ActorScorer를 따로 돌리지 않고 배우 배열을 한 번만 스캔)
+ *
+ * 구간별로 배우 한 명을 읽을 때 모든 배역의 점수를 계산하고, 배역마다 크기 K의 힙에 상위 후보를 남겨 합친다.
+ * 배역 간 중복 제거(distinct)를 켜면:
+ * - 배역마다 K x 배역 수만큼 후보를 남김 (다른 배역이 최대 K x (배역 수 - 1)명을 가져가도 K명을 채울 수 있도록)
+ * - 모든 (배역, 배우) 후보를 점수 높은 순으로 보며, 아직 배정되지 않은 배우를 자리가 남은 배역에 배정
+ */
+public class ActorBatchScorer {
+
+    private final ActorFeatureSnapshot snapshot;
+    private final List<ActorScorer> scorers;
+
+    /**
+     * @param scorers 같은 스냅샷으로 만든 배역별 점수 계산기
+     */
+    public ActorBatchScorer(ActorFeatureSnapshot snapshot, List<ActorScorer> scorers) {
+        this.snapshot = snapshot;
+        this.scorers = List.copyOf(scorers);
+    }
+
+    /**
+     * 배역별 상위 limit명 (scorers 순서, 각 목록은 점수 높은 순)
+     */
+    public List<List<ActorRecommendation>> top(int limit, boolean distinct) {
+        int targets = scorers.size();
+        int size = snapshot.size();
+        if (targets == 0) {
+            return List.of();
+        }
+        if (size == 0 || limit <= 0) {
+            return emptyResults(targets);
+        }
+
+        int depth = distinct ? (int) Math.min(size, (long) limit * targets) : Math.min(size, limit);
+        TopKHeap[] heaps;
+        if (size <= ActorScorer.PARALLEL_THRESHOLD) {
+            heaps = scan(0, size, depth);
+        } else {
+            int chunks = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+            int chunkSize = (size + chunks - 1) / chunks;
+            heaps = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> scan(chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize), depth))
+                    .reduce((left, right) -> {
+                        for (int t = 0; t < targets; t++) {
+                            left[t].addAll(right[t]);
+                        }
+                        return left;
+                    })
+                    .orElseGet(() -> scan(0, 0, depth));
+        }
+
+        int[][] ranked = new int[targets][];
+        for (int t = 0; t < targets; t++) {
+            ranked[t] = heaps[t].sortedIndexes();
+        }
+        if (distinct) {
+            ranked = assignDistinct(ranked, limit);
+        }
+
+        List<List<ActorRecommendation>> results = new ArrayList<>(targets);
+        for (int t = 0; t < targets; t++) {
+            ActorScorer scorer = scorers.get(t);
+            List<ActorRecommendation> result = new ArrayList<>(ranked[t].length);
+            for (int index : ranked[t]) {
+                result.add(scorer.toRecommendation(index));
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private TopKHeap[] scan(int from, int to, int depth) {
+        int targets = scorers.size();
+        ActorScorer[] local = scorers.toArray(new ActorScorer[0]);
+        TopKHeap[] heaps = new TopKHeap[targets];
+        for (int t = 0; t < targets; t++) {
+            heaps[t] = new TopKHeap(depth);
+        }
+        for (int i = from; i < to; i++) {
+            long viewCount = snapshot.viewCount(i);
+            for (int t = 0; t < targets; t++) {
+                float score = local[t].score(i);
+                if (score >= 0f) {
+                    heaps[t].offer(score, viewCount, i);
+                }
+            }
+        }
+        return heaps;
+    }
+
+    // 점수 높은 (배역, 배우) 쌍부터 배정하여 배우가 한 배역에만 나오도록 함
+    private int[][] assignDistinct(int[][] ranked, int limit) {
+        int targets = ranked.length;
+        int total = 0;
+        for (int[] candidates : ranked) {
+            total += candidates.length;
+        }
+
+        float[] scores = new float[total];
+        int[] targetOf = new int[total];
+        int[] indexOf = new int[total];
+        int n = 0;
+        for (int t = 0; t < targets; t++) {
+            for (int index : ranked[t]) {
+                scores[n] = scorers.get(t).score(index);
+                targetOf[n] = t;
+                indexOf[n] = index;
+                n++;
+            }
+        }
+
+        Integer[] order = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byScore = Float.compare(scores[b], scores[a]);
+            if (byScore != 0) {
+                return byScore;
+            }
+            int byViews = Long.compare(snapshot.viewCount(indexOf[b]), snapshot.viewCount(indexOf[a]));
+            if (byViews != 0) {
+                return byViews;
+            }
+            int byIndex = Integer.compare(indexOf[a], indexOf[b]);
+            return byIndex != 0 ? byIndex : Integer.compare(targetOf[a], targetOf[b]);
+        });
+
+        boolean[] assigned = new boolean[snapshot.size()];
+        int[][] result = new int[targets][];
+        int[] counts = new int[targets];
+        for (int t = 0; t < targets; t++) {
+            result[t] = new int[Math.min(limit, ranked[t].length)];
+        }
+        for (int candidate : order) {
+            int t = targetOf[candidate];
+            int index = indexOf[candidate];
+            if (assigned[index] || counts[t] >= result[t].length) {
+                continue;
+            }
+            assigned[index] = true;
+            result[t][counts[t]++] = index;
+        }
+        for (int t = 0; t < targets; t++) {
+            result[t] = Arrays.copyOf(result[t], counts[t]);
+        }
+        return result;
+    }
+
+    private static List<List<ActorRecommendation>> emptyResults(int targets) {
+        List<List<ActorRecommendation>> results = new ArrayList<>(targets);
+        for (int t = 0; t < targets; t++) {
+            results.add(List.of());
+        }
+        return results;
+    }
+}
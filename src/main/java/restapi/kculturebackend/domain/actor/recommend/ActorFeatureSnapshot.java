@@ -0,0 +1,264 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.RoleType;
+import restapi.kculturebackend.domain.actor.search.SkillNormalizer;
+
+/**
+ * 추천 점수 계산용 배우 특징 스냅샷 (불변)
+ *
+ * 배우별 값을 객체 대신 열(column) 단위 기본형 배열로 보관하여 전체 스캔 시 캐시 효율을 높인다.
+ * - 값이 없으면 출생년도/키 0, 성별 -1
+ * - 스킬/언어는 정규화 후 정수 ID로 바꿔 CSR 형태로 보관 (배우 i의 태그 = tags[tagOffsets[i] .. tagOffsets[i + 1]))
+ * - 출연 경력은 작품의 역할 유형(RoleType)별 비트 마스크
+ * - 조회수 기반 인기도는 생성 시 미리 계산
+ */
+public final class ActorFeatureSnapshot {
+
+    static final byte UNKNOWN_GENDER = -1;
+
+    private final UUID[] actorIds;
+    private final Map<UUID, Integer> indexById;
+    private final int[] birthYears;
+    private final byte[] genders;
+    private final short[] heights;
+    private final int[] roleMasks;
+    private final long[] viewCounts;
+    private final int[] tagOffsets;
+    private final int[] tags;
+    private final Map<String, Integer> tagIds;
+    private final String[] tagNames;
+    private final float[] popularity;
+
+    private ActorFeatureSnapshot(Builder builder, int[] tagOffsets, int[] tags) {
+        int size = builder.size;
+        this.actorIds = builder.actorIds.toArray(new UUID[0]);
+        this.indexById = Map.copyOf(builder.indexById);
+        this.birthYears = Arrays.copyOf(builder.birthYears, size);
+        this.genders = Arrays.copyOf(builder.genders, size);
+        this.heights = Arrays.copyOf(builder.heights, size);
+        this.roleMasks = Arrays.copyOf(builder.roleMasks, size);
+        this.viewCounts = Arrays.copyOf(builder.viewCounts, size);
+        this.tagOffsets = tagOffsets;
+        this.tags = tags;
+        this.tagIds = Map.copyOf(builder.tagIds);
+        this.tagNames = builder.tagNames.toArray(new String[0]);
+        this.popularity = popularity(viewCounts);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static ActorFeatureSnapshot empty() {
+        return builder().build();
+    }
+
+    public int size() {
+        return actorIds.length;
+    }
+
+    public UUID actorId(int index) {
+        return actorIds[index];
+    }
+
+    /**
+     * 배우 ID의 배열 위치 (스냅샷에 없으면 -1)
+     */
+    public int indexOf(UUID actorId) {
+        Integer index = indexById.get(actorId);
+        return index != null ? index : -1;
+    }
+
+    int birthYear(int index) {
+        return birthYears[index];
+    }
+
+    byte gender(int index) {
+        return genders[index];
+    }
+
+    int height(int index) {
+        return heights[index];
+    }
+
+    int roleMask(int index) {
+        return roleMasks[index];
+    }
+
+    long viewCount(int index) {
+        return viewCounts[index];
+    }
+
+    int tagStart(int index) {
+        return tagOffsets[index];
+    }
+
+    int tagEnd(int index) {
+        return tagOffsets[index + 1];
+    }
+
+    int tag(int position) {
+        return tags[position];
+    }
+
+    /**
+     * 조회수 기반 인기도 (0~1, 최대 조회수 대비 로그 비율)
+     */
+    float popularity(int index) {
+        return popularity[index];
+    }
+
+    /**
+     * 정규화된 스킬/언어의 태그 ID (스냅샷에 없는 값이면 -1)
+     */
+    int tagId(String value) {
+        String normalized = SkillNormalizer.normalize(value);
+        if (normalized == null) {
+            return -1;
+        }
+        Integer id = tagIds.get(normalized);
+        return id != null ? id : -1;
+    }
+
+    int tagCount() {
+        return tagNames.length;
+    }
+
+    String tagName(int tagId) {
+        return tagNames[tagId];
+    }
+
+    private static float[] popularity(long[] viewCounts) {
+        long max = Arrays.stream(viewCounts).max().orElse(0L);
+        float[] result = new float[viewCounts.length];
+        if (max <= 0) {
+            return result;
+        }
+        double scale = Math.log1p(max);
+        for (int i = 0; i < viewCounts.length; i++) {
+            result[i] = (float) (Math.log1p(Math.max(0L, viewCounts[i])) / scale);
+        }
+        return result;
+    }
+
+    /**
+     * 스냅샷 빌더 (배우를 먼저 추가한 뒤 배우 ID로 태그/출연 경력 추가)
+     */
+    public static final class Builder {
+
+        private final List<UUID> actorIds = new ArrayList<>();
+        private final Map<UUID, Integer> indexById = new HashMap<>();
+        private int[] birthYears = new int[16];
+        private byte[] genders = new byte[16];
+        private short[] heights = new short[16];
+        private int[] roleMasks = new int[16];
+        private long[] viewCounts = new long[16];
+        private int size;
+
+        private final Map<String, Integer> tagIds = new HashMap<>();
+        private final List<String> tagNames = new ArrayList<>();
+        // (배우 인덱스, 태그 ID) 쌍 (build 시 배우 순으로 재배치)
+        private int[] tagOwners = new int[16];
+        private int[] tagValues = new int[16];
+        private int tagPairs;
+
+        private Builder() {
+        }
+
+        public Builder addActor(UUID actorId, Integer birthYear, Gender gender, Integer height, Long viewCount) {
+            if (indexById.containsKey(actorId)) {
+                return this;
+            }
+            if (size == birthYears.length) {
+                int capacity = size * 2;
+                birthYears = Arrays.copyOf(birthYears, capacity);
+                genders = Arrays.copyOf(genders, capacity);
+                heights = Arrays.copyOf(heights, capacity);
+                roleMasks = Arrays.copyOf(roleMasks, capacity);
+                viewCounts = Arrays.copyOf(viewCounts, capacity);
+            }
+            indexById.put(actorId, size);
+            actorIds.add(actorId);
+            birthYears[size] = birthYear != null ? birthYear : 0;
+            genders[size] = gender != null ? (byte) gender.ordinal() : UNKNOWN_GENDER;
+            heights[size] = height != null ? (short) Math.max(0, Math.min(height, Short.MAX_VALUE)) : 0;
+            viewCounts[size] = viewCount != null ? viewCount : 0L;
+            size++;
+            return this;
+        }
+
+        /**
+         * 스킬/언어 추가 (스냅샷에 없는 배우면 무시)
+         */
+        public Builder addTag(UUID actorId, String value) {
+            Integer index = indexById.get(actorId);
+            String normalized = SkillNormalizer.normalize(value);
+            if (index == null || normalized == null) {
+                return this;
+            }
+            Integer tagId = tagIds.get(normalized);
+            if (tagId == null) {
+                tagId = tagNames.size();
+                tagIds.put(normalized, tagId);
+                tagNames.add(normalized);
+            }
+            if (tagPairs == tagOwners.length) {
+                tagOwners = Arrays.copyOf(tagOwners, tagPairs * 2);
+                tagValues = Arrays.copyOf(tagValues, tagPairs * 2);
+            }
+            tagOwners[tagPairs] = index;
+            tagValues[tagPairs] = tagId;
+            tagPairs++;
+            return this;
+        }
+
+        /**
+         * 출연 경력의 역할 유형 추가 (스냅샷에 없는 배우면 무시)
+         */
+        public Builder addRole(UUID actorId, RoleType roleType) {
+            Integer index = indexById.get(actorId);
+            if (index != null && roleType != null) {
+                roleMasks[index] |= 1 << roleType.ordinal();
+            }
+            return this;
+        }
+
+        public ActorFeatureSnapshot build() {
+            // 계수 정렬로 배우별 태그 구간 구성
+            int[] offsets = new int[size + 1];
+            for (int i = 0; i < tagPairs; i++) {
+                offsets[tagOwners[i] + 1]++;
+            }
+            for (int i = 0; i < size; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] cursor = Arrays.copyOf(offsets, size);
+            int[] sorted = new int[tagPairs];
+            for (int i = 0; i < tagPairs; i++) {
+                sorted[cursor[tagOwners[i]]++] = tagValues[i];
+            }
+
+            // 배우별 중복 태그 제거 (같은 값이 스킬과 언어에 모두 있는 경우 등)
+            int[] compactOffsets = new int[size + 1];
+            int written = 0;
+            for (int i = 0; i < size; i++) {
+                Arrays.sort(sorted, offsets[i], offsets[i + 1]);
+                for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                    if (p == offsets[i] || sorted[p] != sorted[p - 1]) {
+                        sorted[written++] = sorted[p];
+                    }
+                }
+                compactOffsets[i + 1] = written;
+            }
+            return new ActorFeatureSnapshot(this, compactOffsets, Arrays.copyOf(sorted, written));
+        }
+    }
+}
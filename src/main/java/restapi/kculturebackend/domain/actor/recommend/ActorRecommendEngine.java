@@ -0,0 +1,192 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.RoleType;
+import restapi.kculturebackend.domain.actor.event.ActorPortfolioChangedEvent;
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
+import restapi.kculturebackend.domain.actor.search.ActorTextIndexManager;
+
+/**
+ * 배우 추천 엔진
+ * - 프로필 완성된 배우의 특징 스냅샷을 메모리에 두고 요청마다 전체를 점수화
+ * - 스냅샷은 불변이며 재구성 후 참조만 교체 (조회 중인 요청은 이전 스냅샷을 계속 사용)
+ * - 프로필/포트폴리오 변경 시 변경 표시만 하고 주기적으로 재구성
+ * - 시놉시스가 있으면 본문 인덱스(BM25) 상위 후보의 점수를 함께 반영
+ */
+@Slf4j
+@Component
+public class ActorRecommendEngine {
+
+    private static final int FETCH_SIZE = 1000;
+    // 본문 유사도를 반영할 최대 배우 수 (그 밖의 배우는 0)
+    private static final int TEXT_CANDIDATES = 1000;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ActorTextIndexManager actorTextIndexManager;
+    private final long maxAgeMillis;
+
+    private volatile ActorFeatureSnapshot snapshot;
+    private volatile long builtAt;
+    private volatile boolean dirty;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ActorRecommendEngine(
+            PlatformTransactionManager transactionManager,
+            ActorTextIndexManager actorTextIndexManager,
+            @Value("${recommend.snapshot.max-age-millis:600000}") long maxAgeMillis) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.actorTextIndexManager = actorTextIndexManager;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (snapshot == null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 조건에 맞는 상위 limit명 추천
+     */
+    public List<ActorRecommendation> recommend(RecommendCriteria criteria, int limit) {
+        ActorFeatureSnapshot current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        return new ActorScorer(current, criteria, Year.now().getValue(), textScores(current, criteria))
+                .top(limit);
+    }
+
+    /**
+     * 여러 배역의 상위 limit명을 한 번의 스캔으로 추천 (criteria 순서대로 반환)
+     * @param distinct true면 한 배우가 여러 배역에 중복 추천되지 않음
+     */
+    public List<List<ActorRecommendation>> recommendAll(List<RecommendCriteria> criteria, int limit, boolean distinct) {
+        ActorFeatureSnapshot current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        int currentYear = Year.now().getValue();
+        List<ActorScorer> scorers = new ArrayList<>(criteria.size());
+        for (RecommendCriteria target : criteria) {
+            scorers.add(new ActorScorer(current, target, currentYear, textScores(current, target)));
+        }
+        return new ActorBatchScorer(current, scorers).top(limit, distinct);
+    }
+
+    // 시놉시스 BM25 점수를 스냅샷 위치별 0~1 비율로 변환 (본문 인덱스를 사용할 수 없으면 null)
+    private float[] textScores(ActorFeatureSnapshot current, RecommendCriteria criteria) {
+        Map<UUID, Float> hits = actorTextIndexManager.search(criteria.getSynopsis(), TEXT_CANDIDATES)
+                .orElse(Map.of());
+        if (hits.isEmpty()) {
+            return null;
+        }
+        float max = hits.values().iterator().next();
+        float[] scores = new float[current.size()];
+        hits.forEach((actorId, score) -> {
+            int index = current.indexOf(actorId);
+            if (index >= 0) {
+                scores[index] = score / max;
+            }
+        });
+        return scores;
+    }
+
+    /**
+     * 변경이 있었거나 최대 보관 시간이 지났으면 재구성
+     */
+    @Scheduled(fixedDelayString = "${recommend.snapshot.refresh-millis:30000}")
+    public void refreshIfStale() {
+        if (dirty || System.currentTimeMillis() - builtAt >= maxAgeMillis) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 스냅샷 전체 재구성
+     */
+    public synchronized ActorFeatureSnapshot rebuild() {
+        // 재구성 중 들어온 변경은 다음 주기에 반영
+        dirty = false;
+        try {
+            long start = System.currentTimeMillis();
+            ActorFeatureSnapshot built = readOnlyTransaction.execute(status -> load());
+            snapshot = built;
+            builtAt = System.currentTimeMillis();
+            log.info("Actor recommend snapshot built: {} actors in {}ms",
+                    built.size(), builtAt - start);
+            return built;
+        } catch (RuntimeException e) {
+            dirty = true;
+            log.error("Failed to build actor recommend snapshot", e);
+            return snapshot != null ? snapshot : ActorFeatureSnapshot.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorProfileChanged(ActorProfileChangedEvent event) {
+        dirty = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorPortfolioChanged(ActorPortfolioChangedEvent event) {
+        dirty = true;
+    }
+
+    // 엔티티 대신 필요한 컬럼만 서버 측 커서로 읽음
+    private ActorFeatureSnapshot load() {
+        ActorFeatureSnapshot.Builder builder = ActorFeatureSnapshot.builder();
+
+        try (Stream<Object[]> rows = stream(
+                "SELECT a.userId, a.birthYear, a.gender, a.height, a.viewCount FROM ActorProfile a " +
+                "WHERE a.isProfileComplete = true")) {
+            rows.forEach(row -> builder.addActor(
+                    (UUID) row[0], (Integer) row[1], (Gender) row[2], (Integer) row[3], (Long) row[4]));
+        }
+        try (Stream<Object[]> rows = stream(
+                "SELECT a.userId, s FROM ActorProfile a JOIN a.skills s WHERE a.isProfileComplete = true")) {
+            rows.forEach(row -> builder.addTag((UUID) row[0], (String) row[1]));
+        }
+        try (Stream<Object[]> rows = stream(
+                "SELECT a.userId, l FROM ActorProfile a JOIN a.languages l WHERE a.isProfileComplete = true")) {
+            rows.forEach(row -> builder.addTag((UUID) row[0], (String) row[1]));
+        }
+        try (Stream<Object[]> rows = stream(
+                "SELECT f.actor.userId, f.roleType FROM Filmography f WHERE f.roleType IS NOT NULL")) {
+            rows.forEach(row -> builder.addRole((UUID) row[0], (RoleType) row[1]));
+        }
+        return builder.build();
+    }
+
+    private Stream<Object[]> stream(String jpql) {
+        return entityManager.createQuery(jpql, Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,18 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 결과 (배우 ID, 0~100 점수, 점수에 기여한 항목 설명)
+ */
+@Getter
+@AllArgsConstructor
+public class ActorRecommendation {
+    private final UUID actorId;
+    private final int score;
+    private final List<String> reasons;
+}
@@ -0,0 +1,288 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.RoleType;
+
+/**
+ * 배우 추천 점수 계산기
+ *
+ * 조건(RecommendCriteria)을 스냅샷의 기본형 값(성별 ordinal, 태그 비트셋, 역할 비트)으로 한 번 변환한 뒤
+ * 배우 배열을 구간별로 나눠 병렬 스캔하고, 구간마다 크기 K의 힙으로 상위 후보만 남겨 합친다.
+ *
+ * 점수 = 조건이 있는 항목의 가중치 합 대비 획득 점수 (0~100)
+ * - 성별: 조건과 다르면 후보에서 제외, 같으면 만점
+ * - 나이/키: 범위 안이면 만점, 벗어나면 거리에 비례해 감소
+ * - 키워드: 캐릭터 키워드/시놉시스 단어 중 배우 스킬/언어와 일치하는 비율
+ * - 역할 유형: 같은 역할 출연 경력이면 만점, 다른 출연 경력만 있으면 일부
+ * - 본문 유사도: 시놉시스와 소개/필모그래피/쇼릴의 BM25 점수 (최고점 대비 비율)
+ * - 인기도: 항상 적용되는 작은 가중치 (조건이 없을 때의 기본 순서)
+ * 사유(reasons)는 최종 상위 K명에 대해서만 만든다.
+ */
+public class ActorScorer {
+
+    static final float WEIGHT_AGE = 30f;
+    static final float WEIGHT_KEYWORD = 30f;
+    static final float WEIGHT_GENDER = 15f;
+    static final float WEIGHT_ROLE = 15f;
+    static final float WEIGHT_HEIGHT = 10f;
+    static final float WEIGHT_TEXT = 20f;
+    static final float WEIGHT_POPULARITY = 5f;
+
+    // 범위를 벗어난 만큼 점수가 0이 되는 거리 (나이: 년, 키: cm)
+    private static final float AGE_FALLOFF = 5f;
+    private static final float HEIGHT_FALLOFF = 10f;
+    // 다른 역할 유형 출연 경력만 있을 때의 비율
+    private static final float OTHER_ROLE_RATIO = 0.4f;
+    private static final float POPULAR_THRESHOLD = 0.8f;
+    private static final float TEXT_REASON_THRESHOLD = 0.5f;
+    // 이 크기 이하면 병렬화 비용이 더 큼
+    static final int PARALLEL_THRESHOLD = 8_192;
+
+    private final ActorFeatureSnapshot snapshot;
+    private final int currentYear;
+
+    private final byte gender;
+    private final boolean hasAge;
+    private final int ageMin;
+    private final int ageMax;
+    private final int roleBit;
+    private final long[] keywordBits;
+    private final int keywordCount;
+    private final boolean hasHeight;
+    private final int heightMin;
+    private final int heightMax;
+    private final float[] textScores;
+    private final float totalWeight;
+
+    public ActorScorer(ActorFeatureSnapshot snapshot, RecommendCriteria criteria, int currentYear) {
+        this(snapshot, criteria, currentYear, null);
+    }
+
+    /**
+     * @param textScores 스냅샷 위치별 본문 유사도 (0~1, 본문 조건이 없으면 null)
+     */
+    public ActorScorer(ActorFeatureSnapshot snapshot, RecommendCriteria criteria, int currentYear,
+                       float[] textScores) {
+        this.snapshot = snapshot;
+        this.currentYear = currentYear;
+        this.textScores = textScores;
+
+        this.gender = criteria.getGender() != null
+                ? (byte) criteria.getGender().ordinal()
+                : ActorFeatureSnapshot.UNKNOWN_GENDER;
+        this.hasAge = criteria.getAgeMin() != null || criteria.getAgeMax() != null;
+        this.ageMin = criteria.getAgeMin() != null ? criteria.getAgeMin() : Integer.MIN_VALUE;
+        this.ageMax = criteria.getAgeMax() != null ? criteria.getAgeMax() : Integer.MAX_VALUE;
+        this.roleBit = criteria.getRoleType() != null ? 1 << criteria.getRoleType().ordinal() : 0;
+        this.hasHeight = criteria.getHeightMin() != null || criteria.getHeightMax() != null;
+        this.heightMin = criteria.getHeightMin() != null ? criteria.getHeightMin() : Integer.MIN_VALUE;
+        this.heightMax = criteria.getHeightMax() != null ? criteria.getHeightMax() : Integer.MAX_VALUE;
+
+        // 스냅샷에 있는 스킬/언어와 같은 키워드만 비트셋으로 변환
+        this.keywordBits = new long[(snapshot.tagCount() + 63) >>> 6];
+        int count = 0;
+        if (criteria.getKeywords() != null) {
+            for (String keyword : criteria.getKeywords()) {
+                int tagId = snapshot.tagId(keyword);
+                if (tagId >= 0 && (keywordBits[tagId >>> 6] & (1L << tagId)) == 0) {
+                    keywordBits[tagId >>> 6] |= 1L << tagId;
+                    count++;
+                }
+            }
+        }
+        this.keywordCount = count;
+
+        this.totalWeight = WEIGHT_POPULARITY
+                + (gender != ActorFeatureSnapshot.UNKNOWN_GENDER ? WEIGHT_GENDER : 0f)
+                + (hasAge ? WEIGHT_AGE : 0f)
+                + (roleBit != 0 ? WEIGHT_ROLE : 0f)
+                + (keywordCount > 0 ? WEIGHT_KEYWORD : 0f)
+                + (hasHeight ? WEIGHT_HEIGHT : 0f)
+                + (textScores != null ? WEIGHT_TEXT : 0f);
+    }
+
+    /**
+     * 상위 limit명 (점수 높은 순)
+     */
+    public List<ActorRecommendation> top(int limit) {
+        int size = snapshot.size();
+        if (size == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        TopKHeap heap;
+        if (size <= PARALLEL_THRESHOLD) {
+            heap = scan(0, size, limit);
+        } else {
+            int chunks = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+            int chunkSize = (size + chunks - 1) / chunks;
+            heap = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> scan(chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize), limit))
+                    .reduce((left, right) -> {
+                        left.addAll(right);
+                        return left;
+                    })
+                    .orElseGet(() -> new TopKHeap(limit));
+        }
+
+        List<ActorRecommendation> result = new ArrayList<>(heap.size());
+        for (int index : heap.sortedIndexes()) {
+            result.add(toRecommendation(index));
+        }
+        return result;
+    }
+
+    ActorRecommendation toRecommendation(int index) {
+        return new ActorRecommendation(snapshot.actorId(index), Math.round(score(index)), explain(index));
+    }
+
+    private TopKHeap scan(int from, int to, int limit) {
+        TopKHeap heap = new TopKHeap(limit);
+        for (int i = from; i < to; i++) {
+            float score = score(i);
+            if (score >= 0f) {
+                heap.offer(score, snapshot.viewCount(i), i);
+            }
+        }
+        return heap;
+    }
+
+    /**
+     * 0~100 점수 (후보에서 제외되면 -1)
+     */
+    float score(int i) {
+        float earned = WEIGHT_POPULARITY * snapshot.popularity(i);
+
+        if (gender != ActorFeatureSnapshot.UNKNOWN_GENDER) {
+            byte actorGender = snapshot.gender(i);
+            if (actorGender == gender) {
+                earned += WEIGHT_GENDER;
+            } else if (actorGender != ActorFeatureSnapshot.UNKNOWN_GENDER) {
+                return -1f;
+            }
+        }
+        if (hasAge) {
+            earned += WEIGHT_AGE * ageRatio(i);
+        }
+        if (roleBit != 0) {
+            earned += WEIGHT_ROLE * roleRatio(i);
+        }
+        if (keywordCount > 0) {
+            earned += WEIGHT_KEYWORD * matchedKeywords(i) / keywordCount;
+        }
+        if (hasHeight) {
+            earned += WEIGHT_HEIGHT * heightRatio(i);
+        }
+        if (textScores != null) {
+            earned += WEIGHT_TEXT * textScores[i];
+        }
+        return earned * 100f / totalWeight;
+    }
+
+    /**
+     * 점수에 기여한 항목 설명
+     */
+    List<String> explain(int i) {
+        List<String> reasons = new ArrayList<>();
+
+        if (gender != ActorFeatureSnapshot.UNKNOWN_GENDER && snapshot.gender(i) == gender) {
+            reasons.add("성별 일치 (" + Gender.values()[gender].getDisplayName() + ")");
+        }
+        if (hasAge) {
+            float ratio = ageRatio(i);
+            int age = currentYear - snapshot.birthYear(i);
+            if (ratio >= 1f) {
+                reasons.add("나이 조건 부합 (" + age + "세)");
+            } else if (ratio > 0f) {
+                reasons.add("나이 조건과 근접 (" + age + "세)");
+            }
+        }
+        if (keywordCount > 0) {
+            List<String> matched = new ArrayList<>();
+            for (int p = snapshot.tagStart(i); p < snapshot.tagEnd(i); p++) {
+                int tag = snapshot.tag(p);
+                if ((keywordBits[tag >>> 6] & (1L << tag)) != 0) {
+                    matched.add(snapshot.tagName(tag));
+                }
+            }
+            if (!matched.isEmpty()) {
+                reasons.add("키워드 일치: " + String.join(", ", matched));
+            }
+        }
+        if (roleBit != 0) {
+            int mask = snapshot.roleMask(i);
+            if ((mask & roleBit) != 0) {
+                reasons.add(RoleType.values()[Integer.numberOfTrailingZeros(roleBit)].getDisplayName() + " 출연 경력");
+            } else if (mask != 0) {
+                reasons.add("출연 경력 보유");
+            }
+        }
+        if (hasHeight) {
+            float ratio = heightRatio(i);
+            if (ratio >= 1f) {
+                reasons.add("키 조건 부합 (" + snapshot.height(i) + "cm)");
+            } else if (ratio > 0f) {
+                reasons.add("키 조건과 근접 (" + snapshot.height(i) + "cm)");
+            }
+        }
+        if (textScores != null && textScores[i] >= TEXT_REASON_THRESHOLD) {
+            reasons.add("시놉시스와 관련된 소개/출연작");
+        }
+        if (snapshot.popularity(i) >= POPULAR_THRESHOLD) {
+            reasons.add("조회수 상위");
+        }
+        if (reasons.isEmpty()) {
+            reasons.add("프로필 완성");
+        }
+        return reasons;
+    }
+
+    private float ageRatio(int i) {
+        int birthYear = snapshot.birthYear(i);
+        if (birthYear == 0) {
+            return 0f;
+        }
+        return rangeRatio(currentYear - birthYear, ageMin, ageMax, AGE_FALLOFF);
+    }
+
+    private float heightRatio(int i) {
+        int height = snapshot.height(i);
+        if (height == 0) {
+            return 0f;
+        }
+        return rangeRatio(height, heightMin, heightMax, HEIGHT_FALLOFF);
+    }
+
+    private float roleRatio(int i) {
+        int mask = snapshot.roleMask(i);
+        if ((mask & roleBit) != 0) {
+            return 1f;
+        }
+        return mask != 0 ? OTHER_ROLE_RATIO : 0f;
+    }
+
+    private int matchedKeywords(int i) {
+        int matched = 0;
+        for (int p = snapshot.tagStart(i), end = snapshot.tagEnd(i); p < end; p++) {
+            int tag = snapshot.tag(p);
+            if ((keywordBits[tag >>> 6] & (1L << tag)) != 0) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private static float rangeRatio(int value, int min, int max, float falloff) {
+        if (value >= min && value <= max) {
+            return 1f;
+        }
+        long distance = value < min ? (long) min - value : (long) value - max;
+        return Math.max(0f, 1f - distance / falloff);
+    }
+}
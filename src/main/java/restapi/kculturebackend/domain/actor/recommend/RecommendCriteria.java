@@ -0,0 +1,180 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.StringUtils;
+
+import lombok.Builder;
+import lombok.Getter;
+import restapi.kculturebackend.domain.actor.dto.ActorRecommendRequest;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.RoleType;
+import restapi.kculturebackend.domain.project.entity.Character;
+
+/**
+ * 배우 추천 대상 조건
+ * 캐릭터(배역) 정보와 요청 필터를 합친 값으로, null인 항목은 점수 계산에서 제외
+ */
+@Getter
+@Builder
+public class RecommendCriteria {
+
+    private static final String ANY = "무관";
+    private static final Pattern AGE_TOKEN = Pattern.compile("(\\d{1,2})\\s*(대|세|살)?\\s*(초반|중반|후반)?");
+    private static final Pattern HEIGHT_TOKEN = Pattern.compile("(\\d{3})\\s*(?:cm|센티)\\s*(이상|이하)?");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s,./!?\"'()\\[\\]·]+");
+    // 키 조건에 범위 표현이 없을 때 허용하는 오차 (cm)
+    private static final int HEIGHT_TOLERANCE = 3;
+
+    private final Gender gender;
+    private final Integer ageMin;
+    private final Integer ageMax;
+    private final RoleType roleType;
+    private final List<String> keywords;
+    private final Integer heightMin;
+    private final Integer heightMax;
+    // 본문(BM25) 검색 질의
+    private final String synopsis;
+
+    /**
+     * 캐릭터 + 요청 필터 + 시놉시스로 조건 구성 (필터가 있으면 캐릭터 값보다 우선)
+     */
+    public static RecommendCriteria of(Character character, ActorRecommendRequest request) {
+        ActorRecommendRequest.ActorRecommendFilters filters = request != null ? request.getFilters() : null;
+
+        Gender gender = filters != null ? parseGender(filters.getGender()) : null;
+        if (gender == null && character != null && character.getGender() != null) {
+            gender = switch (character.getGender()) {
+                case MALE -> Gender.MALE;
+                case FEMALE -> Gender.FEMALE;
+                case ANY -> null;
+            };
+        }
+
+        int[] ageRange = filters != null ? parseAgeRange(filters.getAgeRange()) : null;
+        if (ageRange == null && character != null) {
+            ageRange = parseAgeRange(character.getAgeRange());
+        }
+
+        RoleType roleType = filters != null ? parseRoleType(filters.getRoleType()) : null;
+        if (roleType == null && character != null) {
+            roleType = character.getRoleType();
+        }
+
+        List<String> keywords = new ArrayList<>();
+        StringBuilder heightSource = new StringBuilder();
+        if (character != null) {
+            if (character.getKeywords() != null) {
+                keywords.addAll(character.getKeywords());
+                character.getKeywords().forEach(keyword -> heightSource.append(keyword).append(' '));
+            }
+            if (character.getDescription() != null) {
+                heightSource.append(character.getDescription());
+            }
+        }
+        if (request != null && StringUtils.hasText(request.getSynopsis())) {
+            // 시놉시스 단어 중 배우 스킬/언어와 같은 단어만 점수에 반영됨
+            keywords.addAll(List.of(WORD_SEPARATOR.split(request.getSynopsis().trim())));
+        }
+        int[] heightRange = parseHeightRange(heightSource.toString());
+
+        return RecommendCriteria.builder()
+                .gender(gender)
+                .ageMin(ageRange != null ? nullIfUnbounded(ageRange[0]) : null)
+                .ageMax(ageRange != null ? nullIfUnbounded(ageRange[1]) : null)
+                .roleType(roleType)
+                .keywords(keywords)
+                .heightMin(heightRange != null ? nullIfUnbounded(heightRange[0]) : null)
+                .heightMax(heightRange != null ? nullIfUnbounded(heightRange[1]) : null)
+                .synopsis(request != null ? request.getSynopsis() : null)
+                .build();
+    }
+
+    /**
+     * 나이대 문자열 파싱 ([최소, 최대], 한쪽이 열려 있으면 Integer.MIN_VALUE/MAX_VALUE, 해석할 수 없으면 null)
+     * 예) "20대" → 20~29, "20대 초반" → 20~23, "30-40" → 30~40, "60대 이상" → 60~, "25세" → 25~25
+     */
+    public static int[] parseAgeRange(String value) {
+        if (!StringUtils.hasText(value) || ANY.equals(value.trim())) {
+            return null;
+        }
+
+        List<int[]> tokens = new ArrayList<>();
+        Matcher matcher = AGE_TOKEN.matcher(value);
+        while (matcher.find()) {
+            int age = Integer.parseInt(matcher.group(1));
+            if (!"대".equals(matcher.group(2))) {
+                tokens.add(new int[] {age, age});
+                continue;
+            }
+            String part = matcher.group(3);
+            if ("초반".equals(part)) {
+                tokens.add(new int[] {age, age + 3});
+            } else if ("중반".equals(part)) {
+                tokens.add(new int[] {age + 4, age + 6});
+            } else if ("후반".equals(part)) {
+                tokens.add(new int[] {age + 7, age + 9});
+            } else {
+                tokens.add(new int[] {age, age + 9});
+            }
+        }
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        int[] range = {tokens.get(0)[0], tokens.get(tokens.size() - 1)[1]};
+        if (value.contains("이상")) {
+            range[1] = Integer.MAX_VALUE;
+        } else if (value.contains("이하") || value.contains("미만")) {
+            range[0] = Integer.MIN_VALUE;
+        }
+        return range;
+    }
+
+    /**
+     * 키 조건 파싱 (예: "180cm 이상", "키 165cm")
+     */
+    public static int[] parseHeightRange(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        Matcher matcher = HEIGHT_TOKEN.matcher(value.toLowerCase(Locale.ROOT));
+        if (!matcher.find()) {
+            return null;
+        }
+        int height = Integer.parseInt(matcher.group(1));
+        if ("이상".equals(matcher.group(2))) {
+            return new int[] {height, Integer.MAX_VALUE};
+        }
+        if ("이하".equals(matcher.group(2))) {
+            return new int[] {Integer.MIN_VALUE, height};
+        }
+        return new int[] {height - HEIGHT_TOLERANCE, height + HEIGHT_TOLERANCE};
+    }
+
+    private static Gender parseGender(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        return switch (value.trim().toUpperCase(Locale.ROOT)) {
+            case "남자", "남성", "MALE" -> Gender.MALE;
+            case "여자", "여성", "FEMALE" -> Gender.FEMALE;
+            default -> null;
+        };
+    }
+
+    private static RoleType parseRoleType(String value) {
+        if (!StringUtils.hasText(value) || ANY.equals(value.trim())) {
+            return null;
+        }
+        return RoleType.fromDisplayName(value.trim());
+    }
+
+    private static Integer nullIfUnbounded(int value) {
+        return value == Integer.MIN_VALUE || value == Integer.MAX_VALUE ? null : value;
+    }
+}
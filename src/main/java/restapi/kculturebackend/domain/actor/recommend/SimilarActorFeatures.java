@@ -0,0 +1,210 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.search.SkillNormalizer;
+
+/**
+ * 비슷한 배우 계산용 특징 행렬 (불변)
+ *
+ * 배우마다 고정 길이 벡터와 스킬 MinHash 서명을 한 배열에 이어 붙여 보관한다.
+ * - 나이/키/몸무게: 전체 배우의 평균/표준편차로 정규화 (값이 없으면 평균 = 0)
+ * - 성별/구분: 원-핫 (성별은 가중치를 크게 두어 성별이 다르면 거의 이웃이 되지 않음)
+ * 유사도 = (1 - SKILL_WEIGHT) x 1 / (1 + 벡터 거리) + SKILL_WEIGHT x 스킬 자카드 추정치
+ */
+public final class SimilarActorFeatures {
+
+    static final float SKILL_WEIGHT = 0.4f;
+    private static final float GENDER_WEIGHT = 2f;
+    private static final float CATEGORY_WEIGHT = 1f;
+    private static final int NUMERIC_DIMS = 3;
+    private static final int DIMS = NUMERIC_DIMS + Gender.values().length + ActorCategory.values().length;
+
+    private final UUID[] actorIds;
+    private final Map<UUID, Integer> indexById;
+    private final float[] vectors;
+    private final int[] signatures;
+    private final boolean[] hasSkills;
+
+    private SimilarActorFeatures(Builder builder, int currentYear) {
+        int size = builder.actorIds.size();
+        this.actorIds = builder.actorIds.toArray(new UUID[0]);
+        this.indexById = Map.copyOf(builder.indexById);
+        this.vectors = new float[size * DIMS];
+        this.signatures = new int[size * MinHash.SIZE];
+        this.hasSkills = new boolean[size];
+
+        float[][] numeric = new float[NUMERIC_DIMS][size];
+        boolean[][] present = new boolean[NUMERIC_DIMS][size];
+        for (int i = 0; i < size; i++) {
+            Integer birthYear = builder.birthYears.get(i);
+            Integer height = builder.heights.get(i);
+            Integer weight = builder.weights.get(i);
+            if (birthYear != null) {
+                numeric[0][i] = currentYear - birthYear;
+                present[0][i] = true;
+            }
+            if (height != null) {
+                numeric[1][i] = height;
+                present[1][i] = true;
+            }
+            if (weight != null) {
+                numeric[2][i] = weight;
+                present[2][i] = true;
+            }
+        }
+        for (int d = 0; d < NUMERIC_DIMS; d++) {
+            standardize(numeric[d], present[d], d);
+        }
+
+        for (int i = 0; i < size; i++) {
+            Gender gender = builder.genders.get(i);
+            ActorCategory category = builder.categories.get(i);
+            if (gender != null) {
+                vectors[i * DIMS + NUMERIC_DIMS + gender.ordinal()] = GENDER_WEIGHT;
+            }
+            if (category != null) {
+                vectors[i * DIMS + NUMERIC_DIMS + Gender.values().length + category.ordinal()] = CATEGORY_WEIGHT;
+            }
+
+            Set<String> skills = builder.skills.get(i);
+            hasSkills[i] = !skills.isEmpty();
+            System.arraycopy(MinHash.signature(skills), 0, signatures, i * MinHash.SIZE, MinHash.SIZE);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return actorIds.length;
+    }
+
+    public UUID actorId(int index) {
+        return actorIds[index];
+    }
+
+    /**
+     * 배우 ID의 배열 위치 (없으면 -1)
+     */
+    public int indexOf(UUID actorId) {
+        Integer index = indexById.get(actorId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 두 배우의 유사도 (0~1)
+     */
+    public float similarity(int a, int b) {
+        float distance = 0f;
+        for (int d = 0, offsetA = a * DIMS, offsetB = b * DIMS; d < DIMS; d++) {
+            float diff = vectors[offsetA + d] - vectors[offsetB + d];
+            distance += diff * diff;
+        }
+        float featureSimilarity = 1f / (1f + (float) Math.sqrt(distance));
+        float skillSimilarity = hasSkills[a] && hasSkills[b]
+                ? MinHash.jaccard(signatures, a * MinHash.SIZE, signatures, b * MinHash.SIZE)
+                : 0f;
+        return (1f - SKILL_WEIGHT) * featureSimilarity + SKILL_WEIGHT * skillSimilarity;
+    }
+
+    /**
+     * 가장 비슷한 k명 (자기 자신 제외, 유사도 높은 순)
+     */
+    public List<UUID> nearest(int index, int k) {
+        TopKHeap heap = new TopKHeap(Math.min(k, Math.max(0, size() - 1)));
+        for (int other = 0; other < actorIds.length; other++) {
+            if (other != index) {
+                heap.offer(similarity(index, other), 0L, other);
+            }
+        }
+        List<UUID> result = new ArrayList<>(heap.size());
+        for (int neighbor : heap.sortedIndexes()) {
+            result.add(actorIds[neighbor]);
+        }
+        return result;
+    }
+
+    // 평균 0, 표준편차 1로 변환 (값이 없는 배우는 평균)
+    private void standardize(float[] values, boolean[] present, int dim) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (present[i]) {
+                sum += values[i];
+                count++;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        double mean = sum / count;
+        double squares = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (present[i]) {
+                squares += (values[i] - mean) * (values[i] - mean);
+            }
+        }
+        double std = Math.sqrt(squares / count);
+        for (int i = 0; i < values.length; i++) {
+            if (present[i] && std > 0) {
+                vectors[i * DIMS + dim] = (float) ((values[i] - mean) / std);
+            }
+        }
+    }
+
+    /**
+     * 특징 행렬 빌더 (배우를 먼저 추가한 뒤 스킬 추가, 없는 배우의 스킬은 무시)
+     */
+    public static final class Builder {
+
+        private final List<UUID> actorIds = new ArrayList<>();
+        private final Map<UUID, Integer> indexById = new HashMap<>();
+        private final List<Integer> birthYears = new ArrayList<>();
+        private final List<Gender> genders = new ArrayList<>();
+        private final List<ActorCategory> categories = new ArrayList<>();
+        private final List<Integer> heights = new ArrayList<>();
+        private final List<Integer> weights = new ArrayList<>();
+        private final List<Set<String>> skills = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder addActor(UUID actorId, Integer birthYear, Gender gender, ActorCategory category,
+                                Integer height, Integer weight) {
+            if (indexById.putIfAbsent(actorId, actorIds.size()) != null) {
+                return this;
+            }
+            actorIds.add(actorId);
+            birthYears.add(birthYear);
+            genders.add(gender);
+            categories.add(category);
+            heights.add(height);
+            weights.add(weight);
+            skills.add(new LinkedHashSet<>());
+            return this;
+        }
+
+        public Builder addSkill(UUID actorId, String skill) {
+            Integer index = indexById.get(actorId);
+            String normalized = SkillNormalizer.normalize(skill);
+            if (index != null && normalized != null) {
+                skills.get(index).add(normalized);
+            }
+            return this;
+        }
+
+        public SimilarActorFeatures build(int currentYear) {
+            return new SimilarActorFeatures(this, currentYear);
+        }
+    }
+}
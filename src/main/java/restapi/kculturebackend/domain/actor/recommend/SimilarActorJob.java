@@ -0,0 +1,244 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.SimilarActors;
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
+import restapi.kculturebackend.domain.actor.repository.SimilarActorsRepository;
+
+/**
+ * 비슷한 배우 목록 계산 작업
+ *
+ * 상세 페이지 요청 시점에 전체 배우를 스캔하지 않도록 배우별 최근접 이웃(kNN)을 미리 계산해 테이블에 저장한다.
+ * - 목록이 하나도 없으면 전체 계산, 이후에는 마지막 계산 이후 변경된 배우만 증분 계산
+ *   (변경 대상 = updated_at이 마지막 계산 시각 이후인 배우 + 이 인스턴스에서 받은 프로필 변경 이벤트)
+ * - 변경된 배우의 이전/새 이웃도 함께 다시 계산 (유사도가 대칭이므로 목록이 바뀔 가능성이 큰 배우)
+ * - 그 밖의 배우 목록이 조금 늦게 반영되는 것은 full-rebuild-millis 주기의 전체 계산으로 보정
+ * - 특징 전체는 실행마다 필요한 컬럼만 읽어 메모리에서 비교 (이웃 계산 비용 = 대상 수 x 전체 배우 수)
+ */
+@Slf4j
+@Component
+public class SimilarActorJob {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int SAVE_BATCH_SIZE = 500;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    private final SimilarActorsRepository similarActorsRepository;
+    private final boolean enabled;
+    private final int neighborCount;
+    private final long fullRebuildMillis;
+
+    // 다음 실행에서 다시 계산할 배우 (이 인스턴스에서 발생한 변경)
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    // 재시작마다 전체 계산하지 않도록 시작 시각부터 주기를 셈
+    private volatile long lastFullRebuildAt = System.currentTimeMillis();
+    // 저장할 목록이 없던 실행(삭제만 있는 경우 등)도 기준 시각을 앞당기기 위한 마지막 성공 실행 시각
+    private volatile LocalDateTime lastRunStartedAt;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SimilarActorJob(
+            PlatformTransactionManager transactionManager,
+            SimilarActorsRepository similarActorsRepository,
+            @Value("${recommend.similar.enabled:true}") boolean enabled,
+            @Value("${recommend.similar.neighbors:20}") int neighborCount,
+            @Value("${recommend.similar.full-rebuild-millis:86400000}") long fullRebuildMillis) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.similarActorsRepository = similarActorsRepository;
+        this.enabled = enabled;
+        this.neighborCount = neighborCount;
+        this.fullRebuildMillis = fullRebuildMillis;
+    }
+
+    public int getNeighborCount() {
+        return neighborCount;
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.similar.refresh-millis:300000}",
+            initialDelayString = "${recommend.similar.initial-delay-millis:60000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * 변경된 배우의 이웃 목록 갱신 (필요하면 전체 계산)
+     */
+    public synchronized void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<UUID> changed = new HashSet<>(pending);
+        pending.removeAll(changed);
+
+        try {
+            LocalDateTime lastComputedAt = readOnlyTransaction.execute(status ->
+                    similarActorsRepository.findLastComputedAt().orElse(null));
+            boolean full = lastComputedAt == null
+                    || System.currentTimeMillis() - lastFullRebuildAt >= fullRebuildMillis;
+            if (!full) {
+                LocalDateTime since = lastRunStartedAt != null && lastRunStartedAt.isAfter(lastComputedAt)
+                        ? lastRunStartedAt
+                        : lastComputedAt;
+                changed.addAll(readOnlyTransaction.execute(status -> findChangedSince(since)));
+                if (changed.isEmpty()) {
+                    return;
+                }
+            }
+
+            long start = System.currentTimeMillis();
+            SimilarActorFeatures features = readOnlyTransaction.execute(status -> load());
+            int computed = full ? rebuildAll(features, startedAt) : rebuildChanged(features, changed, startedAt);
+            log.info("Similar actors {}: {} of {} actors in {}ms",
+                    full ? "rebuilt" : "updated", computed, features.size(), System.currentTimeMillis() - start);
+            lastRunStartedAt = startedAt;
+        } catch (RuntimeException e) {
+            // 다음 실행에서 다시 시도
+            pending.addAll(changed);
+            log.error("Failed to compute similar actors", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorProfileChanged(ActorProfileChangedEvent event) {
+        pending.add(event.getSnapshot().getActorId());
+    }
+
+    private int rebuildAll(SimilarActorFeatures features, LocalDateTime startedAt) {
+        List<Integer> targets = new ArrayList<>(features.size());
+        for (int i = 0; i < features.size(); i++) {
+            targets.add(i);
+        }
+        save(features, compute(features, targets), startedAt);
+        // 이번에 저장되지 않은 목록 = 더 이상 프로필 완성 상태가 아닌 배우
+        transaction.executeWithoutResult(status -> similarActorsRepository.deleteComputedBefore(startedAt));
+        lastFullRebuildAt = System.currentTimeMillis();
+        return targets.size();
+    }
+
+    private int rebuildChanged(SimilarActorFeatures features, Set<UUID> changed, LocalDateTime startedAt) {
+        Set<Integer> targets = new LinkedHashSet<>();
+        List<UUID> removed = new ArrayList<>();
+        for (UUID actorId : changed) {
+            int index = features.indexOf(actorId);
+            if (index >= 0) {
+                targets.add(index);
+            } else {
+                removed.add(actorId);
+            }
+        }
+
+        Map<Integer, List<UUID>> neighbors = new HashMap<>(compute(features, targets));
+
+        // 변경된 배우의 이전 이웃과 새 이웃도 다시 계산
+        Set<Integer> affected = new LinkedHashSet<>();
+        List<SimilarActors> previous = readOnlyTransaction.execute(status ->
+                similarActorsRepository.findAllById(changed));
+        Stream.concat(
+                        previous.stream().flatMap(similar -> similar.getNeighborIds().stream()),
+                        neighbors.values().stream().flatMap(List::stream))
+                .mapToInt(features::indexOf)
+                .filter(index -> index >= 0 && !targets.contains(index))
+                .forEach(affected::add);
+        neighbors.putAll(compute(features, affected));
+
+        save(features, neighbors, startedAt);
+        if (!removed.isEmpty()) {
+            transaction.executeWithoutResult(status -> similarActorsRepository.deleteAllByIdInBatch(removed));
+        }
+        return neighbors.size();
+    }
+
+    // 대상 배우마다 전체 배우와 비교 (대상 단위 병렬)
+    private Map<Integer, List<UUID>> compute(SimilarActorFeatures features, Collection<Integer> targets) {
+        return targets.parallelStream()
+                .collect(Collectors.toConcurrentMap(Function.identity(),
+                        index -> features.nearest(index, neighborCount)));
+    }
+
+    private void save(SimilarActorFeatures features, Map<Integer, List<UUID>> neighbors, LocalDateTime computedAt) {
+        List<Integer> indexes = new ArrayList<>(neighbors.keySet());
+        for (int from = 0; from < indexes.size(); from += SAVE_BATCH_SIZE) {
+            List<Integer> batch = indexes.subList(from, Math.min(indexes.size(), from + SAVE_BATCH_SIZE));
+            transaction.executeWithoutResult(status -> {
+                List<UUID> actorIds = batch.stream().map(features::actorId).toList();
+                Map<UUID, SimilarActors> existing = similarActorsRepository.findAllById(actorIds).stream()
+                        .collect(Collectors.toMap(SimilarActors::getActorId, Function.identity()));
+                List<SimilarActors> created = new ArrayList<>();
+                for (int index : batch) {
+                    UUID actorId = features.actorId(index);
+                    SimilarActors similar = existing.get(actorId);
+                    if (similar != null) {
+                        similar.update(neighbors.get(index), computedAt);
+                    } else {
+                        created.add(SimilarActors.of(actorId, neighbors.get(index), computedAt));
+                    }
+                }
+                similarActorsRepository.saveAll(created);
+            });
+        }
+    }
+
+    private List<UUID> findChangedSince(LocalDateTime since) {
+        return entityManager.createQuery(
+                        "SELECT a.userId FROM ActorProfile a WHERE a.updatedAt > :since", UUID.class)
+                .setParameter("since", since)
+                .getResultList();
+    }
+
+    // 엔티티 대신 필요한 컬럼만 서버 측 커서로 읽음
+    private SimilarActorFeatures load() {
+        SimilarActorFeatures.Builder builder = SimilarActorFeatures.builder();
+
+        try (Stream<Object[]> rows = stream(
+                "SELECT a.userId, a.birthYear, a.gender, a.category, a.height, a.weight FROM ActorProfile a " +
+                "WHERE a.isProfileComplete = true")) {
+            rows.forEach(row -> builder.addActor((UUID) row[0], (Integer) row[1], (Gender) row[2],
+                    (ActorCategory) row[3], (Integer) row[4], (Integer) row[5]));
+        }
+        try (Stream<Object[]> rows = stream(
+                "SELECT a.userId, s FROM ActorProfile a JOIN a.skills s WHERE a.isProfileComplete = true")) {
+            rows.forEach(row -> builder.addSkill((UUID) row[0], (String) row[1]));
+        }
+        return builder.build(Year.now().getValue());
+    }
+
+    private Stream<Object[]> stream(String jpql) {
+        return entityManager.createQuery(jpql, Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,122 @@
+package restapi.kculturebackend.domain.actor.recommend;
+
+import java.util.Arrays;
+
+/**
+ * 상위 K개 선택용 크기 제한 최소 힙 (기본형 배열, 박싱 없음)
+ * 점수가 같으면 보조 키(조회수)가 큰 쪽, 그래도 같으면 인덱스가 작은 쪽을 우선
+ */
+final class TopKHeap {
+
+    private final int capacity;
+    private final float[] scores;
+    private final long[] tieBreakers;
+    private final int[] indexes;
+    private int size;
+
+    TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.scores = new float[capacity];
+        this.tieBreakers = new long[capacity];
+        this.indexes = new int[capacity];
+    }
+
+    /**
+     * 후보 추가 (가득 차 있으면 현재 최하위보다 나을 때만 교체)
+     */
+    void offer(float score, long tieBreaker, int index) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            scores[size] = score;
+            tieBreakers[size] = tieBreaker;
+            indexes[size] = index;
+            siftUp(size++);
+            return;
+        }
+        if (!better(score, tieBreaker, index, 0)) {
+            return;
+        }
+        scores[0] = score;
+        tieBreakers[0] = tieBreaker;
+        indexes[0] = index;
+        siftDown(0);
+    }
+
+    void addAll(TopKHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.scores[i], other.tieBreakers[i], other.indexes[i]);
+        }
+    }
+
+    /**
+     * 높은 순으로 정렬된 인덱스
+     */
+    int[] sortedIndexes() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> a.equals(b) ? 0 : better(scores[a], tieBreakers[a], indexes[a], b) ? -1 : 1);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = indexes[order[i]];
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // (score, tieBreaker, index)가 힙의 slot 위치 값보다 우선하는지
+    private boolean better(float score, long tieBreaker, int index, int slot) {
+        if (score != scores[slot]) {
+            return score > scores[slot];
+        }
+        if (tieBreaker != tieBreakers[slot]) {
+            return tieBreaker > tieBreakers[slot];
+        }
+        return index < indexes[slot];
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!better(scores[parent], tieBreakers[parent], indexes[parent], slot)) {
+                break;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int left = slot * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && better(scores[left], tieBreakers[left], indexes[left], right) ? right : left;
+            if (!better(scores[slot], tieBreakers[slot], indexes[slot], worst)) {
+                return;
+            }
+            swap(slot, worst);
+            slot = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long tieBreaker = tieBreakers[a];
+        tieBreakers[a] = tieBreakers[b];
+        tieBreakers[b] = tieBreaker;
+        int index = indexes[a];
+        indexes[a] = indexes[b];
+        indexes[b] = index;
+    }
+}
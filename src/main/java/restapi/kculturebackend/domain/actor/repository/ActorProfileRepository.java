@@ -1,5 +1,7 @@
 package restapi.kculturebackend.domain.actor.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,13 +24,12 @@ public interface ActorProfileRepository extends JpaRepository<ActorProfile, UUID
     // 프로필 완성된 배우 수 카운트
     long countByIsProfileCompleteTrue();
 
-    // 활동명으로 검색
-    @Query("SELECT a FROM ActorProfile a WHERE " +
-           "(:stageName IS NULL OR LOWER(a.stageName) LIKE LOWER(CONCAT('%', :stageName, '%')))")
-    Page<ActorProfile> searchByName(@Param("stageName") String stageName, Pageable pageable);
-
     // 사용자 ID로 조회 (User 정보 fetch join)
     @Query("SELECT a FROM ActorProfile a JOIN FETCH a.user WHERE a.userId = :userId")
     Optional<ActorProfile> findByUserIdWithUser(@Param("userId") UUID userId);
+
+    // 사용자 ID 목록으로 조회 (User 정보 fetch join, 순서 보장 없음)
+    @Query("SELECT a FROM ActorProfile a JOIN FETCH a.user WHERE a.userId IN :userIds")
+    List<ActorProfile> findAllByUserIdInWithUser(@Param("userIds") Collection<UUID> userIds);
 }
 
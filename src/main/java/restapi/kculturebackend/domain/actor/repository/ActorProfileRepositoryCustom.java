@@ -1,10 +1,19 @@
 package restapi.kculturebackend.domain.actor.repository;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
 import restapi.kculturebackend.domain.actor.entity.ActorProfile;
+import restapi.kculturebackend.domain.actor.search.ActorCursor;
 
 /**
  * 배우 프로필 레포지토리 커스텀 인터페이스
@@ -17,4 +26,60 @@ public interface ActorProfileRepositoryCustom {
      * 필터링, 정렬, 페이징을 지원하는 복합 검색
      */
     Page<ActorProfile> searchWithFilters(ActorSearchRequest request, Pageable pageable);
+
+    /**
+     * 활동명 검색 (하위 호환)
+     * 활동명 부분 문자열/초성 검색, stageName이 null이면 전체 (프로필 미완성 포함)
+     */
+    Page<ActorProfile> searchByName(String stageName, Pageable pageable);
+
+    /**
+     * 커서(키셋) 기반 검색
+     * OFFSET 대신 커서의 정렬 키 이후 행만 조회하며, 전체 건수는 세지 않음
+     * 행마다 위치(user_id + 정렬 키)만 반환하므로 응답은 findSummariesByIds로 조회
+     * cursor가 null이면 첫 페이지
+     */
+    Slice<ActorCursor> searchAfter(ActorSearchRequest request, ActorCursor cursor, int limit);
+
+    /**
+     * 검색 패싯 집계 (성별/구분/나이 구간/키 구간)
+     * 패싯마다 자기 필터만 제외한 조건으로 집계
+     */
+    ActorFacetResponse facets(ActorSearchRequest request);
+
+    // ===== 읽기 전용 프로젝션 (목록 응답에 필요한 컬럼만 조회, 엔티티/영속성 컨텍스트 미사용) =====
+
+    /**
+     * 프로필 완성된 배우 목록 (요약 DTO)
+     */
+    Page<ActorSummaryResponse> findCompleteSummaries(Pageable pageable);
+
+    /**
+     * 고급 검색 (요약 DTO, searchWithFilters와 같은 조건/정렬)
+     */
+    Page<ActorSummaryResponse> searchSummaries(ActorSearchRequest request, Pageable pageable);
+
+    /**
+     * 고급 검색 (요약 DTO, 건수 계산 방식 지정)
+     * NONE은 limit + 1건 조회로 다음 페이지 여부만, ESTIMATED는 캐시된 건수 사용
+     * 인덱스로 처리되는 요청은 건수 비용이 없으므로 항상 정확한 건수
+     */
+    Slice<ActorSummaryResponse> searchSummaries(ActorSearchRequest request, Pageable pageable, CountMode countMode);
+
+    /**
+     * 활동명 검색 (요약 DTO, searchByName과 같은 조건/정렬)
+     */
+    Page<ActorSummaryResponse> searchSummariesByName(String stageName, Pageable pageable);
+
+    /**
+     * 검색 결과 전체를 batchSize 단위로 전달 (내보내기용, searchSummaries와 같은 조건/정렬)
+     * ID는 서버 측 커서(fetch size)로 읽으므로 결과 크기와 무관하게 메모리 사용이 일정하며, 건수는 세지 않음
+     * 커서 유지를 위해 트랜잭션 안에서 호출해야 함
+     */
+    void forEachSummaryBatch(ActorSearchRequest request, int batchSize, Consumer<List<ActorSummaryResponse>> consumer);
+
+    /**
+     * ID 순서를 유지하여 요약 DTO 조회 (없는 ID는 제외)
+     */
+    List<ActorSummaryResponse> findSummariesByIds(List<UUID> ids);
 }
@@ -2,41 +2,102 @@ package restapi.kculturebackend.domain.actor.repository;
 
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.EstimatedPage;
+import restapi.kculturebackend.common.pagination.ApproximateCounter;
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
 import restapi.kculturebackend.domain.actor.entity.ActorCategory;
 import restapi.kculturebackend.domain.actor.entity.ActorProfile;
 import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.search.ActorCursor;
+import restapi.kculturebackend.domain.actor.search.ActorFacetCollector;
+import restapi.kculturebackend.domain.actor.search.ActorIndexResult;
+import restapi.kculturebackend.domain.actor.search.ActorSearchCacheKey;
+import restapi.kculturebackend.domain.actor.search.ActorSearchIndexManager;
+import restapi.kculturebackend.domain.actor.search.ActorSortOption;
+import restapi.kculturebackend.domain.actor.search.SkillNormalizer;
 
 /**
  * 배우 프로필 레포지토리 커스텀 구현
- * Criteria API를 사용한 동적 쿼리 생성
+ * 인메모리 검색 인덱스를 우선 사용하고, 사용할 수 없으면 Criteria API 동적 쿼리로 처리
  */
 @Repository
+@RequiredArgsConstructor
 public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom {
 
+    /**
+     * 요약 DTO 조회 SQL
+     * 배우/사용자 컬럼만 선택하고 스킬은 상관 서브쿼리로 한 행에 모아 한 번에 조회 (컬렉션 지연 로딩 없음)
+     * 스킬 값에 쓰이지 않는 단위 구분자(U+001F)로 이어 붙여 드라이버별 배열 타입 매핑에 의존하지 않음
+     */
+    private static final String SUMMARY_SQL =
+            "SELECT a.user_id, u.email, u.name, a.stage_name, u.profile_image, a.birth_year, " +
+            "a.gender, a.category, a.height, a.weight, a.introduction, a.agency, a.view_count, " +
+            "(SELECT string_agg(s.skill, chr(31) ORDER BY s.skill) FROM actor_skills s WHERE s.actor_id = a.user_id) " +
+            "AS skills " +
+            "FROM actor_profiles a JOIN users u ON u.id = a.user_id " +
+            "WHERE a.user_id IN (:ids)";
+
+    private static final String SKILL_SEPARATOR = "\u001F";
+
+    // 활동명 정렬 collation (코드 포인트 순, 인메모리 인덱스의 정렬 순서와 동일)
+    private static final String NAME_COLLATION = "ucs_basic";
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ActorSearchIndexManager actorSearchIndexManager;
+    private final ApproximateCounter approximateCounter;
+
     @Override
     public Page<ActorProfile> searchWithFilters(ActorSearchRequest request, Pageable pageable) {
+        Optional<ActorIndexResult> indexed = actorSearchIndexManager.search(request, pageable);
+        if (indexed.isPresent()) {
+            return loadIndexedPage(indexed.get(), pageable);
+        }
+
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         
         // 메인 쿼리
@@ -44,7 +105,7 @@ public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom
         Root<ActorProfile> actor = query.from(ActorProfile.class);
         actor.fetch("user", JoinType.LEFT);
 
-        List<Predicate> predicates = buildPredicates(cb, actor, request);
+        List<Predicate> predicates = buildPredicates(cb, query, actor, request);
         
         query.where(predicates.toArray(new Predicate[0]));
         query.orderBy(buildOrder(cb, actor, request, pageable));
@@ -59,7 +120,147 @@ public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom
         return new PageImpl<>(resultList, pageable, total);
     }
 
-    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<ActorProfile> actor, ActorSearchRequest request) {
+    @Override
+    public Page<ActorProfile> searchByName(String stageName, Pageable pageable) {
+        Optional<ActorIndexResult> indexed = actorSearchIndexManager.searchByStageName(stageName, pageable);
+        if (indexed.isPresent()) {
+            return loadIndexedPage(indexed.get(), pageable);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ActorProfile> query = cb.createQuery(ActorProfile.class);
+        Root<ActorProfile> actor = query.from(ActorProfile.class);
+        if (stageName != null) {
+            query.where(stageNameLike(cb, actor, stageName));
+        }
+        query.orderBy(toOrders(cb, actor, pageable.getSort()));
+
+        List<ActorProfile> resultList = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<ActorProfile> countRoot = countQuery.from(ActorProfile.class);
+        countQuery.select(cb.count(countRoot));
+        if (stageName != null) {
+            countQuery.where(stageNameLike(cb, countRoot, stageName));
+        }
+
+        return new PageImpl<>(resultList, pageable, entityManager.createQuery(countQuery).getSingleResult());
+    }
+
+    private Predicate stageNameLike(CriteriaBuilder cb, Root<ActorProfile> actor, String stageName) {
+        return cb.like(cb.lower(actor.get("stageName")), "%" + stageName.toLowerCase() + "%");
+    }
+
+    @Override
+    public Slice<ActorCursor> searchAfter(ActorSearchRequest request, ActorCursor cursor, int limit) {
+        ActorSortOption option = ActorSortOption.from(request.getSortBy(), request.getSortDirection());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // 엔티티 대신 user_id와 정렬 키만 조회 (요약 DTO는 ID로 따로 조회)
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<ActorProfile> actor = query.from(ActorProfile.class);
+
+        List<Predicate> predicates = buildPredicates(cb, query, actor, request);
+        if (cursor != null) {
+            predicates.add(buildSeekPredicate(cb, actor, option, cursor));
+        }
+
+        // 정렬 키가 같은 행은 user_id로 같은 방향 정렬하여 순서를 고정
+        Expression<Comparable<Object>> sortKey = sortKey(cb, actor, option.getProperty());
+        Path<UUID> userId = actor.get("userId");
+        query.multiselect(userId, actor.get(option.getProperty()))
+                .where(predicates.toArray(new Predicate[0]));
+        query.orderBy(option.isDescending()
+                ? List.of(cb.desc(sortKey), cb.desc(userId))
+                : List.of(cb.asc(sortKey), cb.asc(userId)));
+
+        // limit + 1건 조회로 다음 페이지 존재 여부 판단
+        List<ActorCursor> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList()
+                .stream()
+                .map(row -> new ActorCursor(option, (Comparable<?>) row[1], (UUID) row[0]))
+                .toList();
+
+        boolean hasNext = rows.size() > limit;
+        List<ActorCursor> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, limit), hasNext);
+    }
+
+    /**
+     * 패싯 외 조건을 적용한 뒤 (성별, 구분, 출생년도, 키) 조합별 인원을 한 번의 GROUP BY로 조회하고
+     * 패싯별 제외 규칙은 ActorFacetCollector에서 적용
+     */
+    @Override
+    public ActorFacetResponse facets(ActorSearchRequest request) {
+        Optional<ActorFacetResponse> indexed = actorSearchIndexManager.facets(request);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<ActorProfile> actor = query.from(ActorProfile.class);
+
+        Path<Gender> gender = actor.get("gender");
+        Path<ActorCategory> category = actor.get("category");
+        Path<Integer> birthYear = actor.get("birthYear");
+        Path<Integer> height = actor.get("height");
+
+        List<Predicate> predicates = buildPredicates(cb, query, actor,
+                ActorFacetCollector.withoutFacetFilters(request));
+        query.multiselect(gender, category, birthYear, height, cb.count(actor))
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(gender, category, birthYear, height);
+
+        ActorFacetCollector collector = new ActorFacetCollector(request);
+        for (Object[] row : entityManager.createQuery(query).getResultList()) {
+            collector.accept((Gender) row[0], (ActorCategory) row[1],
+                    (Integer) row[2], (Integer) row[3], (Long) row[4]);
+        }
+        return collector.toResponse();
+    }
+
+    /**
+     * 커서 이후 행 조건
+     * PostgreSQL 기본 NULL 정렬(ASC는 NULLS LAST, DESC는 NULLS FIRST)에 맞춰 NULL 정렬 키를 처리
+     */
+    private Predicate buildSeekPredicate(CriteriaBuilder cb, Root<ActorProfile> actor,
+                                         ActorSortOption option, ActorCursor cursor) {
+        Expression<Comparable<Object>> sortKey = sortKey(cb, actor, option.getProperty());
+        Path<UUID> userId = actor.get("userId");
+        @SuppressWarnings("unchecked")
+        Comparable<Object> lastKey = (Comparable<Object>) cursor.getSortKey();
+        UUID lastId = cursor.getActorId();
+
+        if (option.isDescending()) {
+            if (lastKey == null) {
+                // NULL 구간 안에서 이어서 조회한 뒤 NULL이 아닌 행 전체
+                return cb.or(
+                        cb.and(cb.isNull(sortKey), cb.lessThan(userId, lastId)),
+                        cb.isNotNull(sortKey));
+            }
+            return cb.or(
+                    cb.lessThan(sortKey, lastKey),
+                    cb.and(cb.equal(sortKey, lastKey), cb.lessThan(userId, lastId)));
+        }
+
+        if (lastKey == null) {
+            // NULL 구간은 마지막이므로 NULL 행 중 user_id 이후만
+            return cb.and(cb.isNull(sortKey), cb.greaterThan(userId, lastId));
+        }
+        return cb.or(
+                cb.greaterThan(sortKey, lastKey),
+                cb.and(cb.equal(sortKey, lastKey), cb.greaterThan(userId, lastId)),
+                cb.isNull(sortKey));
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, AbstractQuery<?> query,
+                                            Root<ActorProfile> actor, ActorSearchRequest request) {
         List<Predicate> predicates = new ArrayList<>();
         int currentYear = Year.now().getValue();
 
@@ -108,6 +309,17 @@ public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom
             predicates.add(cb.lessThanOrEqualTo(actor.get("weight"), request.getWeightMax()));
         }
 
+        // 최소 프로필 완성도 필터
+        if (request.getMinCompleteness() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(actor.get("profileCompleteness"), request.getMinCompleteness()));
+        }
+
+        // 스킬 필터 (정규화된 값으로 비교)
+        List<String> skills = SkillNormalizer.normalizeAll(request.getSkills());
+        if (!skills.isEmpty()) {
+            predicates.add(buildSkillPredicate(cb, query, actor, skills, request.isMatchAllSkills()));
+        }
+
         // 키워드 검색 (이름, 활동명)
         if (StringUtils.hasText(request.getKeyword())) {
             String keyword = "%" + request.getKeyword().toLowerCase() + "%";
@@ -119,51 +331,42 @@ public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom
         return predicates;
     }
 
+    /**
+     * 스킬 조건 서브쿼리
+     * ANY: 요청 스킬 중 하나라도 보유, ALL: 보유한 요청 스킬 종류 수가 요청 수와 같음
+     */
+    private Predicate buildSkillPredicate(CriteriaBuilder cb, AbstractQuery<?> query, Root<ActorProfile> actor,
+                                          List<String> skills, boolean matchAll) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<ActorProfile> correlated = subquery.correlate(actor);
+        Join<ActorProfile, String> skill = correlated.join("skills");
+        Expression<String> normalizedSkill = cb.lower(cb.trim(skill));
+
+        if (matchAll) {
+            subquery.select(cb.countDistinct(normalizedSkill))
+                    .where(normalizedSkill.in(skills));
+            return cb.equal(subquery, (long) skills.size());
+        }
+
+        subquery.select(cb.literal(1L))
+                .where(normalizedSkill.in(skills));
+        return cb.exists(subquery);
+    }
+
     private List<Order> buildOrder(CriteriaBuilder cb, Root<ActorProfile> actor, 
                                    ActorSearchRequest request, Pageable pageable) {
         List<Order> orders = new ArrayList<>();
         
         String sortBy = request.getSortBy();
-        boolean isDesc = !"asc".equalsIgnoreCase(request.getSortDirection());
 
         if (StringUtils.hasText(sortBy)) {
-            switch (sortBy) {
-                case "views_high":
-                    orders.add(cb.desc(actor.get("viewCount")));
-                    break;
-                case "views_low":
-                    orders.add(cb.asc(actor.get("viewCount")));
-                    break;
-                case "name":
-                    orders.add(isDesc ? cb.desc(actor.get("stageName")) : cb.asc(actor.get("stageName")));
-                    break;
-                case "age_young":
-                    orders.add(cb.desc(actor.get("birthYear"))); // 출생년도 높을수록 어림
-                    break;
-                case "age_old":
-                    orders.add(cb.asc(actor.get("birthYear"))); // 출생년도 낮을수록 나이 많음
-                    break;
-                case "height_tall":
-                    orders.add(cb.desc(actor.get("height")));
-                    break;
-                case "height_short":
-                    orders.add(cb.asc(actor.get("height")));
-                    break;
-                case "recent":
-                default:
-                    orders.add(cb.desc(actor.get("createdAt")));
-                    break;
-            }
+            ActorSortOption option = ActorSortOption.from(sortBy, request.getSortDirection());
+            orders.add(option.isDescending()
+                    ? cb.desc(sortKey(cb, actor, option.getProperty()))
+                    : cb.asc(sortKey(cb, actor, option.getProperty())));
         } else {
             // Pageable의 Sort 사용
-            for (Sort.Order order : pageable.getSort()) {
-                String property = order.getProperty();
-                if (order.isDescending()) {
-                    orders.add(cb.desc(actor.get(property)));
-                } else {
-                    orders.add(cb.asc(actor.get(property)));
-                }
-            }
+            return toOrders(cb, actor, pageable.getSort());
         }
 
         // 기본 정렬: 최신순
@@ -171,7 +374,50 @@ public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom
             orders.add(cb.desc(actor.get("createdAt")));
         }
 
-        return orders;
+        return withTiebreaker(cb, actor, orders);
+    }
+
+    private List<Order> toOrders(CriteriaBuilder cb, Root<ActorProfile> actor, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            if (order.isDescending()) {
+                orders.add(cb.desc(sortKey(cb, actor, property)));
+            } else {
+                orders.add(cb.asc(sortKey(cb, actor, property)));
+            }
+        }
+        if (sort.getOrderFor("userId") != null) {
+            return orders;
+        }
+        if (orders.isEmpty()) {
+            // 기본 정렬: 최신순
+            orders.add(cb.desc(actor.get("createdAt")));
+        }
+        return withTiebreaker(cb, actor, orders);
+    }
+
+    /**
+     * 정렬 키가 같은 배우는 user_id로 순서를 고정 (오프셋 페이지 간 중복/누락 방지)
+     * 인덱스 검색의 compareUuid, 키셋 조건과 같이 첫 정렬 키와 같은 방향으로 비교
+     */
+    private List<Order> withTiebreaker(CriteriaBuilder cb, Root<ActorProfile> actor, List<Order> orders) {
+        List<Order> result = new ArrayList<>(orders);
+        Path<UUID> userId = actor.get("userId");
+        result.add(orders.get(0).isAscending() ? cb.asc(userId) : cb.desc(userId));
+        return result;
+    }
+
+    /**
+     * 정렬 키 (활동명은 DB 기본 collation 대신 코드 포인트 순으로 비교하여 인덱스 검색과 순서를 맞춤)
+     */
+    @SuppressWarnings("unchecked")
+    private Expression<Comparable<Object>> sortKey(CriteriaBuilder cb, Root<ActorProfile> actor, String property) {
+        if ("stageName".equals(property)) {
+            Expression<?> collated = ((HibernateCriteriaBuilder) cb).collate(actor.<String>get(property), NAME_COLLATION);
+            return (Expression<Comparable<Object>>) collated;
+        }
+        return actor.get(property);
     }
 
     private long countWithFilters(ActorSearchRequest request) {
@@ -179,11 +425,224 @@ public class ActorProfileRepositoryImpl implements ActorProfileRepositoryCustom
         CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
         Root<ActorProfile> actor = countQuery.from(ActorProfile.class);
 
-        List<Predicate> predicates = buildPredicates(cb, actor, request);
+        List<Predicate> predicates = buildPredicates(cb, countQuery, actor, request);
         
         countQuery.select(cb.count(actor));
         countQuery.where(predicates.toArray(new Predicate[0]));
 
         return entityManager.createQuery(countQuery).getSingleResult();
     }
+
+    // ===== 읽기 전용 프로젝션 =====
+
+    @Override
+    public Page<ActorSummaryResponse> findCompleteSummaries(Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<ActorProfile> actor = query.from(ActorProfile.class);
+        query.select(actor.get("userId"))
+                .where(cb.isTrue(actor.get("isProfileComplete")))
+                .orderBy(toOrders(cb, actor, pageable.getSort()));
+
+        List<UUID> ids = pageOfIds(query, pageable);
+        return PageableExecutionUtils.getPage(findSummariesByIds(ids), pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<ActorProfile> countRoot = countQuery.from(ActorProfile.class);
+            countQuery.select(cb.count(countRoot)).where(cb.isTrue(countRoot.get("isProfileComplete")));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    @Override
+    public Page<ActorSummaryResponse> searchSummaries(ActorSearchRequest request, Pageable pageable) {
+        Optional<ActorIndexResult> indexed = actorSearchIndexManager.search(request, pageable);
+        if (indexed.isPresent()) {
+            return loadIndexedSummaries(indexed.get(), pageable);
+        }
+
+        return loadIndexedSummaries(searchSummaryIds(request, pageable), pageable);
+    }
+
+    @Override
+    public Slice<ActorSummaryResponse> searchSummaries(ActorSearchRequest request, Pageable pageable,
+                                                       CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return searchSummaries(request, pageable);
+        }
+        Optional<ActorIndexResult> indexed = actorSearchIndexManager.search(request, pageable);
+        if (indexed.isPresent()) {
+            return loadIndexedSummaries(indexed.get(), pageable);
+        }
+
+        // limit + 1건 조회로 다음 페이지 여부 판단
+        List<UUID> ids = entityManager.createQuery(summaryIdQuery(request, pageable))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<UUID> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+        Slice<ActorSummaryResponse> slice = new SliceImpl<>(findSummariesByIds(pageIds), pageable, hasNext);
+
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+        return EstimatedPage.of(slice, () -> approximateCounter.count(
+                "actors:" + ActorSearchCacheKey.ofFilters(request), () -> countWithFilters(request)));
+    }
+
+    private CriteriaQuery<UUID> summaryIdQuery(ActorSearchRequest request, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<ActorProfile> actor = query.from(ActorProfile.class);
+        return query.select(actor.get("userId"))
+                .where(buildPredicates(cb, query, actor, request).toArray(new Predicate[0]))
+                .orderBy(buildOrder(cb, actor, request, pageable));
+    }
+
+    private ActorIndexResult searchSummaryIds(ActorSearchRequest request, Pageable pageable) {
+        List<UUID> ids = pageOfIds(summaryIdQuery(request, pageable), pageable);
+        long total = PageableExecutionUtils.getPage(ids, pageable, () -> countWithFilters(request))
+                .getTotalElements();
+        return new ActorIndexResult(ids, total);
+    }
+
+    @Override
+    public Page<ActorSummaryResponse> searchSummariesByName(String stageName, Pageable pageable) {
+        Optional<ActorIndexResult> indexed = actorSearchIndexManager.searchByStageName(stageName, pageable);
+        if (indexed.isPresent()) {
+            return loadIndexedSummaries(indexed.get(), pageable);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<ActorProfile> actor = query.from(ActorProfile.class);
+        query.select(actor.get("userId"));
+        if (stageName != null) {
+            query.where(stageNameLike(cb, actor, stageName));
+        }
+        query.orderBy(toOrders(cb, actor, pageable.getSort()));
+
+        List<UUID> ids = pageOfIds(query, pageable);
+        return PageableExecutionUtils.getPage(findSummariesByIds(ids), pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<ActorProfile> countRoot = countQuery.from(ActorProfile.class);
+            countQuery.select(cb.count(countRoot));
+            if (stageName != null) {
+                countQuery.where(stageNameLike(cb, countRoot, stageName));
+            }
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    @Override
+    public void forEachSummaryBatch(ActorSearchRequest request, int batchSize,
+                                    Consumer<List<ActorSummaryResponse>> consumer) {
+        // 인덱스의 전체 결과는 ID 목록을 한 번에 만들어야 하므로 항상 DB 커서 사용
+        CriteriaQuery<UUID> query = summaryIdQuery(request, Pageable.unpaged());
+
+        try (Stream<UUID> ids = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, batchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            List<UUID> batch = new ArrayList<>(batchSize);
+            Iterator<UUID> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    consumer.accept(findSummariesByIds(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(findSummariesByIds(batch));
+            }
+        }
+    }
+
+    private List<UUID> pageOfIds(CriteriaQuery<UUID> query, Pageable pageable) {
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    private Page<ActorSummaryResponse> loadIndexedSummaries(ActorIndexResult result, Pageable pageable) {
+        return new PageImpl<>(findSummariesByIds(result.getActorIds()), pageable, result.getTotal());
+    }
+
+    @Override
+    public List<ActorSummaryResponse> findSummariesByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SUMMARY_SQL)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<UUID, ActorSummaryResponse> summariesById = rows.stream()
+                .map(ActorProfileRepositoryImpl::toSummary)
+                .collect(Collectors.toMap(ActorSummaryResponse::getId, Function.identity()));
+
+        return ids.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static ActorSummaryResponse toSummary(Object[] row) {
+        Integer birthYear = toInteger(row[5]);
+        Gender gender = row[6] != null ? Gender.valueOf((String) row[6]) : null;
+        ActorCategory category = row[7] != null ? ActorCategory.valueOf((String) row[7]) : null;
+        String skills = (String) row[13];
+
+        return ActorSummaryResponse.builder()
+                .id(row[0] instanceof UUID id ? id : UUID.fromString(row[0].toString()))
+                .email((String) row[1])
+                .name((String) row[2])
+                .stageName((String) row[3])
+                .profileImage((String) row[4])
+                .birthYear(birthYear)
+                .age(birthYear != null ? Year.now().getValue() - birthYear : null)
+                .gender(gender != null ? gender.getDisplayName() : null)
+                .category(category != null ? category.getDisplayName() : null)
+                .height(toInteger(row[8]))
+                .weight(toInteger(row[9]))
+                .introduction((String) row[10])
+                .agency((String) row[11])
+                .skills(skills != null ? List.of(skills.split(SKILL_SEPARATOR)) : List.of())
+                .viewCount(row[12] != null ? ((Number) row[12]).longValue() : 0L)
+                .build();
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    /**
+     * 인덱스가 정한 ID 순서대로 엔티티 로드
+     */
+    private Page<ActorProfile> loadIndexedPage(ActorIndexResult result, Pageable pageable) {
+        if (result.getActorIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.getTotal());
+        }
+
+        Map<UUID, ActorProfile> actorsById = entityManager.createQuery(
+                        "SELECT a FROM ActorProfile a LEFT JOIN FETCH a.user WHERE a.userId IN :ids",
+                        ActorProfile.class)
+                .setParameter("ids", result.getActorIds())
+                .getResultList().stream()
+                .collect(Collectors.toMap(ActorProfile::getUserId, Function.identity()));
+
+        List<ActorProfile> content = result.getActorIds().stream()
+                .map(actorsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
 }
@@ -0,0 +1,31 @@
+package restapi.kculturebackend.domain.actor.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import restapi.kculturebackend.domain.actor.entity.SimilarActors;
+
+/**
+ * 비슷한 배우 목록 레포지토리
+ */
+public interface SimilarActorsRepository extends JpaRepository<SimilarActors, UUID> {
+
+    /**
+     * 마지막 계산 시각 (계산된 적 없으면 empty)
+     */
+    @Query("SELECT MAX(s.computedAt) FROM SimilarActors s")
+    Optional<LocalDateTime> findLastComputedAt();
+
+    /**
+     * 지정 시각 이전에 계산된 목록 삭제 (전체 재계산 후 더 이상 대상이 아닌 배우 정리)
+     */
+    @Modifying
+    @Query("DELETE FROM SimilarActors s WHERE s.computedAt < :before")
+    int deleteComputedBefore(@Param("before") LocalDateTime before);
+}
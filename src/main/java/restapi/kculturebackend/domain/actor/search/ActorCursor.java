@@ -0,0 +1,41 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배우 검색 커서 (키셋 페이지네이션)
+ * 마지막으로 반환한 행의 정렬 키와 user_id(동순위 구분용)를 보관
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActorCursor {
+    private final ActorSortOption sortOption;
+    private final Comparable<?> sortKey; // 정렬 컬럼 값 (null 허용)
+    private final UUID actorId;
+
+    /**
+     * 정렬 키를 문자열로 직렬화
+     */
+    String sortKeyAsString() {
+        return sortKey != null ? sortKey.toString() : null;
+    }
+
+    /**
+     * 문자열 정렬 키를 정렬 옵션의 컬럼 타입으로 복원
+     */
+    static Comparable<?> parseSortKey(ActorSortOption sortOption, String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (sortOption) {
+            case RECENT -> LocalDateTime.parse(value);
+            case VIEWS_HIGH, VIEWS_LOW -> Long.valueOf(value);
+            case NAME_ASC, NAME_DESC -> value;
+            case AGE_YOUNG, AGE_OLD, HEIGHT_TALL, HEIGHT_SHORT, COMPLETENESS_HIGH -> Integer.valueOf(value);
+        };
+    }
+}
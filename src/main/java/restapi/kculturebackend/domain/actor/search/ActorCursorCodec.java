@@ -0,0 +1,105 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import restapi.kculturebackend.common.exception.ErrorCode;
+import restapi.kculturebackend.common.exception.ValidationException;
+
+/**
+ * 배우 검색 커서 인코더/디코더
+ * 클라이언트에는 불투명 문자열로 전달하고, HMAC 서명으로 위변조를 차단
+ *
+ * 형식: base64url(정렬옵션:정렬키:user_id) + "." + base64url(HMAC-SHA256)
+ *
+ * 서명 키는 설정한 비밀값(search.cursor.secret, 없으면 jwt.secret)을 그대로 쓰지 않고
+ * HMAC(비밀값, "actor-cursor")로 파생하여 JWT 서명 키와 용도를 분리
+ */
+@Component
+public class ActorCursorCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String NULL_KEY = "-";
+    private static final String KEY_PREFIX = "=";
+    private static final byte[] KEY_PURPOSE = "actor-cursor".getBytes(StandardCharsets.UTF_8);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec secretKey;
+
+    public ActorCursorCodec(@Value("${search.cursor.secret:${jwt.secret}}") String secret) {
+        this.secretKey = new SecretKeySpec(
+                hmac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM), KEY_PURPOSE),
+                HMAC_ALGORITHM);
+    }
+
+    public String encode(ActorCursor cursor) {
+        String sortKey = cursor.sortKeyAsString();
+        String payload = cursor.getSortOption().name()
+                + ":" + (sortKey == null ? NULL_KEY : KEY_PREFIX + encodeText(sortKey))
+                + ":" + cursor.getActorId();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * 커서 복원 (서명 불일치, 형식 오류 시 ValidationException)
+     */
+    public ActorCursor decode(String token) {
+        try {
+            int dot = token.indexOf('.');
+            if (dot < 0) {
+                throw new ValidationException(ErrorCode.INVALID_CURSOR);
+            }
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                throw new ValidationException(ErrorCode.INVALID_CURSOR);
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(":", -1);
+            if (parts.length != 3) {
+                throw new ValidationException(ErrorCode.INVALID_CURSOR);
+            }
+            ActorSortOption sortOption = ActorSortOption.valueOf(parts[0]);
+            String sortKey = NULL_KEY.equals(parts[1]) ? null : decodeText(parts[1].substring(KEY_PREFIX.length()));
+            return new ActorCursor(sortOption, ActorCursor.parseSortKey(sortOption, sortKey), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        return hmac(secretKey, payload);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] payload) {
+        try {
+            // Mac은 스레드 안전하지 않으므로 호출마다 생성
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명에 실패했습니다.", e);
+        }
+    }
+
+    private static String encodeText(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeText(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+}
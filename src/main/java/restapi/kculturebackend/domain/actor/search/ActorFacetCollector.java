@@ -0,0 +1,144 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.util.StringUtils;
+
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+
+/**
+ * 배우 검색 패싯 집계
+ *
+ * 패싯 필터(성별/구분/나이/키) 외의 조건은 호출 측에서 먼저 적용하고,
+ * 남은 배우(또는 같은 값을 가진 배우 그룹)를 accept로 넘기면 패싯별로 자기 필터만 제외하고 집계한다.
+ * 예) 성별 패싯 = 구분/나이/키 조건을 만족하는 배우의 성별 분포
+ *
+ * 인메모리 인덱스와 SQL 그룹 조회 경로가 같은 규칙을 쓰도록 한 곳에 둔다.
+ */
+public class ActorFacetCollector {
+
+    public static final int AGE_BUCKET_SIZE = 10;
+    public static final int HEIGHT_BUCKET_SIZE = 10;
+
+    private static final String ANY = "무관";
+
+    private final Gender gender;
+    private final ActorCategory category;
+    private final Integer minBirthYear;
+    private final Integer maxBirthYear;
+    private final Integer heightMin;
+    private final Integer heightMax;
+    private final int currentYear = Year.now().getValue();
+
+    private final EnumMap<Gender, Long> genderCounts = new EnumMap<>(Gender.class);
+    private final EnumMap<ActorCategory, Long> categoryCounts = new EnumMap<>(ActorCategory.class);
+    private final TreeMap<Integer, Long> ageCounts = new TreeMap<>();
+    private final TreeMap<Integer, Long> heightCounts = new TreeMap<>();
+    private long total;
+
+    public ActorFacetCollector(ActorSearchRequest request) {
+        this.gender = StringUtils.hasText(request.getGender()) && !ANY.equals(request.getGender())
+                ? Gender.fromDisplayName(request.getGender())
+                : null;
+        this.category = StringUtils.hasText(request.getCategory()) && !ANY.equals(request.getCategory())
+                ? ActorCategory.fromDisplayName(request.getCategory())
+                : null;
+        // 나이 조건은 출생년도 범위로 변환 (검색과 동일)
+        this.minBirthYear = request.getAgeMax() != null ? currentYear - request.getAgeMax() : null;
+        this.maxBirthYear = request.getAgeMin() != null ? currentYear - request.getAgeMin() : null;
+        this.heightMin = request.getHeightMin();
+        this.heightMax = request.getHeightMax();
+        for (Gender value : Gender.values()) {
+            genderCounts.put(value, 0L);
+        }
+        for (ActorCategory value : ActorCategory.values()) {
+            categoryCounts.put(value, 0L);
+        }
+    }
+
+    /**
+     * 패싯 필터를 제외한 검색 조건 (SQL 그룹 조회용)
+     */
+    public static ActorSearchRequest withoutFacetFilters(ActorSearchRequest request) {
+        return ActorSearchRequest.builder()
+                .weightMin(request.getWeightMin())
+                .weightMax(request.getWeightMax())
+                .minCompleteness(request.getMinCompleteness())
+                .skills(request.getSkills())
+                .skillMatch(request.getSkillMatch())
+                .keyword(request.getKeyword())
+                .build();
+    }
+
+    /**
+     * 같은 값을 가진 배우 count명 집계
+     */
+    public void accept(Gender actorGender, ActorCategory actorCategory,
+                       Integer birthYear, Integer height, long count) {
+        boolean genderOk = gender == null || gender == actorGender;
+        boolean categoryOk = category == null || category == actorCategory;
+        boolean ageOk = inRange(birthYear, minBirthYear, maxBirthYear);
+        boolean heightOk = inRange(height, heightMin, heightMax);
+
+        if (categoryOk && ageOk && heightOk && actorGender != null) {
+            genderCounts.merge(actorGender, count, Long::sum);
+        }
+        if (genderOk && ageOk && heightOk && actorCategory != null) {
+            categoryCounts.merge(actorCategory, count, Long::sum);
+        }
+        if (genderOk && categoryOk && heightOk && birthYear != null) {
+            ageCounts.merge(bucket(currentYear - birthYear, AGE_BUCKET_SIZE), count, Long::sum);
+        }
+        if (genderOk && categoryOk && ageOk && height != null) {
+            heightCounts.merge(bucket(height, HEIGHT_BUCKET_SIZE), count, Long::sum);
+        }
+        if (genderOk && categoryOk && ageOk && heightOk) {
+            total += count;
+        }
+    }
+
+    public ActorFacetResponse toResponse() {
+        List<ActorFacetResponse.Bucket> genders = new ArrayList<>();
+        genderCounts.forEach((value, count) ->
+                genders.add(ActorFacetResponse.Bucket.of(value.getDisplayName(), null, null, count)));
+
+        List<ActorFacetResponse.Bucket> categories = new ArrayList<>();
+        categoryCounts.forEach((value, count) ->
+                categories.add(ActorFacetResponse.Bucket.of(value.getDisplayName(), null, null, count)));
+
+        return ActorFacetResponse.builder()
+                .total(total)
+                .gender(genders)
+                .category(categories)
+                .age(ranges(ageCounts, AGE_BUCKET_SIZE, "대"))
+                .height(ranges(heightCounts, HEIGHT_BUCKET_SIZE, "cm대"))
+                .build();
+    }
+
+    private static List<ActorFacetResponse.Bucket> ranges(Map<Integer, Long> counts, int size, String suffix) {
+        List<ActorFacetResponse.Bucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((start, count) ->
+                buckets.add(ActorFacetResponse.Bucket.of(start + suffix, start, start + size - 1, count)));
+        return buckets;
+    }
+
+    private static int bucket(int value, int size) {
+        return Math.floorDiv(value, size) * size;
+    }
+
+    // 범위 조건이 있으면 값이 없는 배우는 제외 (검색과 동일)
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
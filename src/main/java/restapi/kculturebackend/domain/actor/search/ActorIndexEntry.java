@@ -0,0 +1,56 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.ActorProfile;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+
+/**
+ * 검색 인덱스에 저장되는 배우 프로필 스냅샷
+ * 영속성 컨텍스트와 분리된 불변 값만 보관
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ActorIndexEntry {
+    private final UUID actorId;
+    private final String stageName;
+    private final String userName;
+    private final Integer birthYear;
+    private final Gender gender;
+    private final ActorCategory category;
+    private final Integer height;
+    private final Integer weight;
+    private final List<String> skills;
+    private final long viewCount;
+    private final int profileCompleteness;
+    private final LocalDateTime createdAt;
+    private final boolean profileComplete;
+
+    public static ActorIndexEntry from(ActorProfile actor) {
+        return ActorIndexEntry.builder()
+                .actorId(actor.getUserId())
+                .stageName(actor.getStageName())
+                .userName(actor.getUser() != null ? actor.getUser().getName() : null)
+                .birthYear(actor.getBirthYear())
+                .gender(actor.getGender())
+                .category(actor.getCategory())
+                .height(actor.getHeight())
+                .weight(actor.getWeight())
+                .skills(actor.getSkills() != null
+                        ? actor.getSkills().stream().filter(Objects::nonNull).toList()
+                        : List.of())
+                .viewCount(actor.getViewCount() != null ? actor.getViewCount() : 0L)
+                .profileCompleteness(actor.getProfileCompleteness() != null ? actor.getProfileCompleteness() : 0)
+                .createdAt(actor.getCreatedAt())
+                .profileComplete(Boolean.TRUE.equals(actor.getIsProfileComplete()))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 조회 결과
+ * 정렬된 페이지의 배우 ID 목록과 전체 매칭 수
+ */
+@Getter
+@AllArgsConstructor
+public class ActorIndexResult {
+    private final List<UUID> actorIds;
+    private final long total;
+}
@@ -0,0 +1,68 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.util.StringUtils;
+
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+
+/**
+ * 배우 검색 조건 캐시 키 (추정 건수 캐시용)
+ *
+ * 같은 결과를 내는 조건이 같은 키가 되도록 정규화한 뒤 SHA-256으로 줄인다.
+ * - "무관"/빈 문자열은 조건 없음으로 취급
+ * - 키워드는 앞뒤 공백 제거 + 소문자, 스킬은 정규화 후 정렬 (스킬이 없으면 매칭 방식 무시)
+ */
+public final class ActorSearchCacheKey {
+
+    private static final String ANY = "무관";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private ActorSearchCacheKey() {
+    }
+
+    /**
+     * 정렬/페이지를 제외한 필터 조건 키 (건수 캐시용)
+     */
+    public static String ofFilters(ActorSearchRequest request) {
+        return hash(canonicalizeFilters(request));
+    }
+
+    private static String canonicalizeFilters(ActorSearchRequest request) {
+        List<String> skills = SkillNormalizer.normalizeAll(request.getSkills()).stream()
+                .sorted()
+                .toList();
+
+        return "c=" + choice(request.getCategory())
+                + "|g=" + choice(request.getGender())
+                + "|a=" + range(request.getAgeMin(), request.getAgeMax())
+                + "|h=" + range(request.getHeightMin(), request.getHeightMax())
+                + "|w=" + range(request.getWeightMin(), request.getWeightMax())
+                + "|pc=" + range(request.getMinCompleteness(), null)
+                + "|s=" + (skills.isEmpty() ? "" : (request.isMatchAllSkills() ? "all:" : "any:") + String.join(",", skills))
+                + "|k=" + (StringUtils.hasText(request.getKeyword())
+                        ? request.getKeyword().trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    private static String choice(String value) {
+        return StringUtils.hasText(value) && !ANY.equals(value) ? value.trim() : "";
+    }
+
+    private static String range(Integer min, Integer max) {
+        return (min != null ? min.toString() : "") + "~" + (max != null ? max.toString() : "");
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
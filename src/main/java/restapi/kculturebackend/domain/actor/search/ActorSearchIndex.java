@@ -0,0 +1,544 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+
+/**
+ * 배우 검색용 인메모리 컬럼형 인덱스
+ *
+ * - 배우마다 고정 ordinal을 부여하고 출생년도/키/몸무게 등은 원시 타입 배열에 보관
+ * - 성별/구분은 값별 BitSet으로 관리
+ * - 모든 프로필은 present, 검색 대상(프로필 완성)은 live BitSet으로 구분 (활동명 검색은 미완성 프로필 포함)
+ * - 스킬은 정규화된 스킬별 RoaringBitmap 역색인으로 관리 (스킬 종류는 많고 보유 배우는 적어 압축 비트맵이 유리)
+ * - 활동명/이름은 한글 인식 n-gram 역색인(HangulNgramIndex)으로 부분 문자열/초성 검색
+ * - 정렬 옵션별 정렬 순열(permutation)은 조회 시점에 필요한 것만 생성하고, 변경이 생기면 폐기
+ *
+ * 필터 결과는 BitSet으로 계산하므로 카운트는 cardinality, 페이징은 순열 순회로 처리한다.
+ * 패싯은 패싯 외 조건으로 좁힌 BitSet을 한 번 순회하며 ActorFacetCollector로 집계한다.
+ */
+public class ActorSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final String ANY = "무관";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private UUID[] actorIds = new UUID[INITIAL_CAPACITY];
+    private String[] stageNames = new String[INITIAL_CAPACITY];
+    private int[] birthYears = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int[] weights = new int[INITIAL_CAPACITY];
+    private long[] viewCounts = new long[INITIAL_CAPACITY];
+    private int[] completeness = new int[INITIAL_CAPACITY];
+    private long[] createdAts = new long[INITIAL_CAPACITY];
+    private String[][] skillsByOrdinal = new String[INITIAL_CAPACITY][]; // 역색인 갱신 시 이전 스킬 제거용
+    private int size;
+
+    private final BitSet present = new BitSet();
+    private final BitSet live = new BitSet();
+    private final EnumMap<Gender, BitSet> genderBits = new EnumMap<>(Gender.class);
+    private final EnumMap<ActorCategory, BitSet> categoryBits = new EnumMap<>(ActorCategory.class);
+    private final Map<String, RoaringBitmap> skillBits = new HashMap<>();
+    private final HangulNgramIndex stageNameIndex = new HangulNgramIndex();
+    private final HangulNgramIndex userNameIndex = new HangulNgramIndex();
+
+    // 정렬 옵션별 present ordinal 순열 (쓰기 발생 시 전체 폐기)
+    private final EnumMap<ActorSortOption, int[]> permutations = new EnumMap<>(ActorSortOption.class);
+
+    /**
+     * 인덱스가 처리할 수 있는 요청인지 확인
+     * sortBy 없이 Pageable 정렬만 지정된 경우는 JPA 경로로 위임
+     */
+    public boolean supports(ActorSearchRequest request, Pageable pageable) {
+        return StringUtils.hasText(request.getSortBy()) || pageable.getSort().isUnsorted();
+    }
+
+    /**
+     * 필터/정렬/페이징 검색
+     */
+    public ActorIndexResult search(ActorSearchRequest request, long offset, int limit) {
+        ActorSortOption sortOption = ActorSortOption.from(request.getSortBy(), request.getSortDirection());
+
+        lock.readLock().lock();
+        try {
+            return page(permutation(sortOption), filter(request), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 활동명 검색 (미완성 프로필 포함, name이 null이면 전체)
+     */
+    public ActorIndexResult searchByStageName(String name, ActorSortOption sortOption, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) present.clone();
+            if (name != null) {
+                matches.and(toBitSet(stageNameIndex.search(name)));
+            }
+            return page(permutation(sortOption), matches, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯 집계 (패싯 외 조건으로 좁힌 뒤 배우를 한 번만 순회)
+     */
+    public ActorFacetResponse facets(ActorSearchRequest request) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) live.clone();
+            applyTextFilters(matches, request);
+
+            boolean weightBounded = request.getWeightMin() != null || request.getWeightMax() != null;
+            Integer minCompleteness = request.getMinCompleteness();
+            ActorFacetCollector collector = new ActorFacetCollector(request);
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (weightBounded && !inRange(weights[i], request.getWeightMin(), request.getWeightMax())) {
+                    continue;
+                }
+                if (minCompleteness != null && completeness[i] < minCompleteness) {
+                    continue;
+                }
+                collector.accept(valueAt(genderBits, i), valueAt(categoryBits, i),
+                        toInteger(birthYears[i]), toInteger(heights[i]), 1);
+            }
+            return collector.toResponse();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 배우 추가/갱신 (미완성 프로필은 필터 검색 대상에서 제외)
+     */
+    public void upsert(ActorIndexEntry entry) {
+        lock.writeLock().lock();
+        try {
+            put(entry);
+            permutations.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조회수 증가분 반영 (조회수 정렬 순열만 폐기, 인덱스에 없는 배우는 무시)
+     */
+    public void addViewCounts(Map<UUID, Long> deltas) {
+        lock.writeLock().lock();
+        try {
+            boolean changed = false;
+            for (Map.Entry<UUID, Long> delta : deltas.entrySet()) {
+                Integer ordinal = ordinals.get(delta.getKey());
+                if (ordinal != null) {
+                    viewCounts[ordinal] += delta.getValue();
+                    changed = true;
+                }
+            }
+            if (changed) {
+                permutations.remove(ActorSortOption.VIEWS_HIGH);
+                permutations.remove(ActorSortOption.VIEWS_LOW);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 배우 제거
+     */
+    public void remove(UUID actorId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(actorId);
+            permutations.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성
+     */
+    public void replaceAll(Collection<ActorIndexEntry> entries) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            present.clear();
+            live.clear();
+            genderBits.clear();
+            categoryBits.clear();
+            skillBits.clear();
+            stageNameIndex.clear();
+            userNameIndex.clear();
+            permutations.clear();
+            Arrays.fill(actorIds, 0, size, null);
+            Arrays.fill(stageNames, 0, size, null);
+            Arrays.fill(skillsByOrdinal, 0, size, null);
+            size = 0;
+
+            entries.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 검색 대상(프로필 완성) 배우 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 내부 구현 (호출 측에서 락 보유) =====
+
+    private void put(ActorIndexEntry entry) {
+        Integer existing = ordinals.get(entry.getActorId());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            clearBits(ordinal);
+        } else {
+            ordinal = size++;
+            ensureCapacity(size);
+            ordinals.put(entry.getActorId(), ordinal);
+            actorIds[ordinal] = entry.getActorId();
+        }
+
+        stageNames[ordinal] = entry.getStageName();
+        birthYears[ordinal] = toInt(entry.getBirthYear());
+        heights[ordinal] = toInt(entry.getHeight());
+        weights[ordinal] = toInt(entry.getWeight());
+        viewCounts[ordinal] = entry.getViewCount();
+        completeness[ordinal] = entry.getProfileCompleteness();
+        createdAts[ordinal] = toEpochNanos(entry.getCreatedAt());
+
+        present.set(ordinal);
+        if (entry.isProfileComplete()) {
+            live.set(ordinal);
+        }
+        stageNameIndex.put(ordinal, entry.getStageName());
+        userNameIndex.put(ordinal, entry.getUserName());
+        if (entry.getGender() != null) {
+            genderBits.computeIfAbsent(entry.getGender(), g -> new BitSet()).set(ordinal);
+        }
+        if (entry.getCategory() != null) {
+            categoryBits.computeIfAbsent(entry.getCategory(), c -> new BitSet()).set(ordinal);
+        }
+
+        String[] skills = SkillNormalizer.normalizeAll(entry.getSkills()).toArray(new String[0]);
+        for (String skill : skills) {
+            skillBits.computeIfAbsent(skill, k -> new RoaringBitmap()).add(ordinal);
+        }
+        skillsByOrdinal[ordinal] = skills;
+    }
+
+    private void removeInternal(UUID actorId) {
+        Integer ordinal = ordinals.get(actorId);
+        if (ordinal != null) {
+            clearBits(ordinal);
+        }
+    }
+
+    private void clearBits(int ordinal) {
+        present.clear(ordinal);
+        live.clear(ordinal);
+        stageNameIndex.remove(ordinal);
+        userNameIndex.remove(ordinal);
+        genderBits.values().forEach(bits -> bits.clear(ordinal));
+        categoryBits.values().forEach(bits -> bits.clear(ordinal));
+
+        String[] skills = skillsByOrdinal[ordinal];
+        if (skills != null) {
+            for (String skill : skills) {
+                RoaringBitmap bits = skillBits.get(skill);
+                if (bits != null) {
+                    bits.remove(ordinal);
+                    if (bits.isEmpty()) {
+                        skillBits.remove(skill);
+                    }
+                }
+            }
+            skillsByOrdinal[ordinal] = null;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= actorIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, actorIds.length * 2);
+        actorIds = Arrays.copyOf(actorIds, capacity);
+        stageNames = Arrays.copyOf(stageNames, capacity);
+        birthYears = Arrays.copyOf(birthYears, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        viewCounts = Arrays.copyOf(viewCounts, capacity);
+        completeness = Arrays.copyOf(completeness, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+        skillsByOrdinal = Arrays.copyOf(skillsByOrdinal, capacity);
+    }
+
+    /**
+     * 필터 조건을 BitSet으로 평가 (ActorProfileRepositoryImpl.buildPredicates와 동일한 의미)
+     */
+    private BitSet filter(ActorSearchRequest request) {
+        BitSet matches = (BitSet) live.clone();
+
+        // 구분 필터 (배우/모델)
+        if (StringUtils.hasText(request.getCategory()) && !ANY.equals(request.getCategory())) {
+            ActorCategory category = ActorCategory.fromDisplayName(request.getCategory());
+            if (category != null) {
+                matches.and(categoryBits.getOrDefault(category, new BitSet()));
+            }
+        }
+
+        // 성별 필터
+        if (StringUtils.hasText(request.getGender()) && !ANY.equals(request.getGender())) {
+            Gender gender = Gender.fromDisplayName(request.getGender());
+            if (gender != null) {
+                matches.and(genderBits.getOrDefault(gender, new BitSet()));
+            }
+        }
+
+        applyTextFilters(matches, request);
+
+        // 나이 필터는 출생년도 범위로 변환
+        int currentYear = Year.now().getValue();
+        Integer minBirthYear = request.getAgeMax() != null ? currentYear - request.getAgeMax() : null;
+        Integer maxBirthYear = request.getAgeMin() != null ? currentYear - request.getAgeMin() : null;
+
+        boolean birthYearBounded = minBirthYear != null || maxBirthYear != null;
+        boolean heightBounded = request.getHeightMin() != null || request.getHeightMax() != null;
+        boolean weightBounded = request.getWeightMin() != null || request.getWeightMax() != null;
+        boolean completenessBounded = request.getMinCompleteness() != null;
+
+        if (birthYearBounded || heightBounded || weightBounded || completenessBounded) {
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if ((birthYearBounded && !inRange(birthYears[i], minBirthYear, maxBirthYear))
+                        || (heightBounded && !inRange(heights[i], request.getHeightMin(), request.getHeightMax()))
+                        || (weightBounded && !inRange(weights[i], request.getWeightMin(), request.getWeightMax()))
+                        || (completenessBounded && completeness[i] < request.getMinCompleteness())) {
+                    matches.clear(i);
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * 스킬/키워드 조건 적용
+     */
+    private void applyTextFilters(BitSet matches, ActorSearchRequest request) {
+        // 스킬 필터 (ANY: 합집합, ALL: 교집합)
+        List<String> skills = SkillNormalizer.normalizeAll(request.getSkills());
+        if (!skills.isEmpty()) {
+            matches.and(toBitSet(matchSkills(skills, request.isMatchAllSkills())));
+        }
+
+        // 키워드 검색 (활동명, 이름)
+        if (StringUtils.hasText(request.getKeyword())) {
+            RoaringBitmap keywordMatches = RoaringBitmap.or(
+                    stageNameIndex.search(request.getKeyword()),
+                    userNameIndex.search(request.getKeyword()));
+            matches.and(toBitSet(keywordMatches));
+        }
+    }
+
+    private static <E extends Enum<E>> E valueAt(EnumMap<E, BitSet> bitsByValue, int ordinal) {
+        for (Map.Entry<E, BitSet> entry : bitsByValue.entrySet()) {
+            if (entry.getValue().get(ordinal)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 정렬 순열을 따라 매칭된 ordinal 중 offset 이후 limit개 추출
+     */
+    private ActorIndexResult page(int[] order, BitSet matches, long offset, int limit) {
+        int total = matches.cardinality();
+        List<UUID> page = new ArrayList<>(Math.min(limit, total));
+        long skipped = 0;
+        for (int ordinal : order) {
+            if (!matches.get(ordinal)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(actorIds[ordinal]);
+            if (page.size() >= limit) {
+                break;
+            }
+        }
+        return new ActorIndexResult(page, total);
+    }
+
+    private RoaringBitmap matchSkills(List<String> skills, boolean matchAll) {
+        RoaringBitmap result = null;
+        for (String skill : skills) {
+            RoaringBitmap bits = skillBits.get(skill);
+            if (bits == null) {
+                if (matchAll) {
+                    return new RoaringBitmap();
+                }
+                continue;
+            }
+            if (result == null) {
+                result = bits.clone();
+            } else if (matchAll) {
+                result.and(bits);
+            } else {
+                result.or(bits);
+            }
+        }
+        return result != null ? result : new RoaringBitmap();
+    }
+
+    private static BitSet toBitSet(RoaringBitmap bitmap) {
+        BitSet bits = new BitSet();
+        bitmap.forEach((int ordinal) -> bits.set(ordinal));
+        return bits;
+    }
+
+    /**
+     * 정렬 순열 조회 (없으면 읽기 락을 쓰기 락으로 바꿔 생성 후 다시 읽기 락으로 강등)
+     */
+    private int[] permutation(ActorSortOption option) {
+        int[] order = permutations.get(option);
+        if (order != null) {
+            return order;
+        }
+
+        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            order = permutations.get(option);
+            if (order == null) {
+                order = buildPermutation(option);
+                permutations.put(option, order);
+            }
+        } finally {
+            lock.readLock().lock();
+            lock.writeLock().unlock();
+        }
+        return order;
+    }
+
+    private int[] buildPermutation(ActorSortOption option) {
+        Integer[] boxed = present.stream().boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, comparator(option));
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * PostgreSQL 기본 동작과 맞추기 위해 NULL은 가장 큰 값으로 취급 (ASC: 마지막, DESC: 처음)
+     * 동일 값은 user_id 순으로 정렬
+     */
+    private Comparator<Integer> comparator(ActorSortOption option) {
+        Comparator<Integer> byKey = switch (option) {
+            case RECENT -> Comparator.comparingLong(i -> nullsHigh(createdAts[i]));
+            case VIEWS_HIGH, VIEWS_LOW -> Comparator.comparingLong(i -> viewCounts[i]);
+            case NAME_ASC, NAME_DESC -> Comparator.comparing(i -> stageNames[i],
+                    Comparator.nullsLast(ActorSearchIndex::compareCodePoints));
+            case AGE_YOUNG, AGE_OLD -> Comparator.comparingLong(i -> nullsHigh(birthYears[i]));
+            case HEIGHT_TALL, HEIGHT_SHORT -> Comparator.comparingLong(i -> nullsHigh(heights[i]));
+            case COMPLETENESS_HIGH -> Comparator.comparingInt(i -> completeness[i]);
+        };
+        Comparator<Integer> ascending = byKey.thenComparing((a, b) -> compareUuid(actorIds[a], actorIds[b]));
+        return option.isDescending() ? ascending.reversed() : ascending;
+    }
+
+    /**
+     * 코드 포인트 순 문자열 비교 (SQL 검색의 활동명 정렬 collation인 ucs_basic과 동일)
+     * String.compareTo는 UTF-16 단위로 비교하므로 보조 평면 문자 순서가 달라 사용하지 않음
+     */
+    static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int x = a.codePointAt(i);
+            int y = b.codePointAt(j);
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+            i += Character.charCount(x);
+            j += Character.charCount(y);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    /**
+     * PostgreSQL uuid 비교와 동일한 부호 없는 비교
+     */
+    static int compareUuid(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static boolean inRange(int value, Integer min, Integer max) {
+        if (value == NULL_INT) {
+            return false;
+        }
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static long nullsHigh(int value) {
+        return value == NULL_INT ? Long.MAX_VALUE : value;
+    }
+
+    private static long nullsHigh(long value) {
+        return value == NULL_LONG ? Long.MAX_VALUE : value;
+    }
+
+    private static Integer toInteger(int value) {
+        return value != NULL_INT ? value : null;
+    }
+
+    private static int toInt(Integer value) {
+        return value != null ? value : NULL_INT;
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_LONG;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+}
@@ -0,0 +1,339 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
+import restapi.kculturebackend.domain.actor.event.ActorViewsCountedEvent;
+
+/**
+ * 배우 검색 인덱스 관리자
+ * - 애플리케이션 기동 시 전체 프로필로 인덱스 구성 (필터 검색은 완성된 프로필만 대상)
+ * - 프로필 변경 이벤트를 커밋 이후 인덱스에 반영하고, 변경된 배우 ID를 Redis 채널로 다른 인스턴스에 알림
+ * - 다른 인스턴스의 알림을 받으면 해당 배우만 DB에서 다시 읽어 반영
+ * - 알림 유실(Redis 장애, 구독 재연결)과 다른 인스턴스의 조회수 증가분은 주기적 전체 재구성으로 맞춤
+ * - 재구성은 하나의 스냅샷(REPEATABLE READ)에서 읽고, 그동안 들어온 변경/조회수 증가분은 모아 두었다가
+ *   새 인덱스로 교체하면서 다시 반영 (교체와 반영은 swapLock으로 묶어 증가분이 빠지거나 두 번 더해지지 않도록 함)
+ * - 비활성화되었거나 준비 전이면 빈 결과를 반환하여 JPA 검색으로 대체
+ */
+@Slf4j
+@Component
+public class ActorSearchIndexManager implements MessageListener {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final String CHANGE_CHANNEL = "actor-search-index:changed";
+    private static final String MESSAGE_SEPARATOR = ":";
+
+    // 인덱스에 필요한 컬럼만 조회 (엔티티와 EAGER skills 컬렉션을 행마다 읽지 않도록)
+    private static final String ENTRY_QUERY =
+            "SELECT a.userId, a.stageName, u.name, a.birthYear, a.gender, a.category, a.height, a.weight, " +
+            "a.viewCount, a.profileCompleteness, a.createdAt, a.isProfileComplete " +
+            "FROM ActorProfile a LEFT JOIN a.user u ";
+    // 배치의 스킬을 한 번에 조회
+    private static final String SKILLS_QUERY =
+            "SELECT a.userId, s FROM ActorProfile a JOIN a.skills s WHERE a.userId IN :ids ORDER BY a.userId, s";
+
+    private final ActorSearchIndex index = new ActorSearchIndex();
+    private final TransactionTemplate readOnlyTransaction;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    // 자신이 보낸 알림은 이미 반영했으므로 건너뜀
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 재구성 중 들어온 변경분/조회수 증가분 (새 인덱스로 교체할 때 다시 반영)
+    private final Queue<ActorIndexEntry> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private final Queue<Map<UUID, Long>> pendingViewCounts = new ConcurrentLinkedQueue<>();
+    private final Object swapLock = new Object();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ActorSearchIndexManager(
+            PlatformTransactionManager transactionManager,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${search.actor-index.enabled:false}") boolean enabled) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 재구성의 배치 조회가 모두 같은 스냅샷을 읽도록 함 (이후 커밋된 증가분만 다시 반영)
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.actor-index.rebuild-millis:600000}",
+            initialDelayString = "${search.actor-index.rebuild-millis:600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 인덱스 전체 재구성
+     */
+    public synchronized void rebuild() {
+        synchronized (swapLock) {
+            pendingDuringRebuild.clear();
+            pendingViewCounts.clear();
+            rebuilding = true;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<ActorIndexEntry> entries = readOnlyTransaction.execute(status -> loadEntries());
+            synchronized (swapLock) {
+                index.replaceAll(entries);
+
+                ActorIndexEntry pending;
+                while ((pending = pendingDuringRebuild.poll()) != null) {
+                    index.upsert(pending);
+                }
+                Map<UUID, Long> deltas;
+                while ((deltas = pendingViewCounts.poll()) != null) {
+                    index.addViewCounts(deltas);
+                }
+                rebuilding = false;
+            }
+
+            ready = true;
+            log.info("Actor search index built: {} actors in {}ms",
+                    index.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build actor search index, falling back to JPA search", e);
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+                pendingViewCounts.clear();
+            }
+        }
+    }
+
+    /**
+     * 인덱스 검색 (처리할 수 없는 요청이면 empty)
+     */
+    public Optional<ActorIndexResult> search(ActorSearchRequest request, Pageable pageable) {
+        if (!enabled || !ready || !index.supports(request, pageable)) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(request, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    /**
+     * 활동명 검색 (Pageable 정렬을 정렬 옵션으로 표현할 수 없으면 empty)
+     */
+    public Optional<ActorIndexResult> searchByStageName(String name, Pageable pageable) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        return ActorSortOption.fromSort(pageable.getSort())
+                .map(sortOption -> index.searchByStageName(
+                        name, sortOption, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    /**
+     * 패싯 집계 (인덱스를 사용할 수 없으면 empty)
+     */
+    public Optional<ActorFacetResponse> facets(ActorSearchRequest request) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        return Optional.of(index.facets(request));
+    }
+
+    /**
+     * 프로필 변경 반영 (커밋 이후) 및 다른 인스턴스에 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorProfileChanged(ActorProfileChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        apply(event.getSnapshot());
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL,
+                    instanceId + MESSAGE_SEPARATOR + event.getSnapshot().getActorId());
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 다음 주기적 재구성에서 반영
+            log.warn("Actor search index change publish failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 프로필 변경 알림 (형식: 인스턴스ID:배우ID)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        try {
+            reload(Set.of(UUID.fromString(body.substring(separator + 1))));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed actor search index message: {}", body);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload actor {} into search index: {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 배우를 DB에서 다시 읽어 반영 (없어진 배우는 제거)
+     */
+    public void reload(Set<UUID> actorIds) {
+        if (!enabled || actorIds.isEmpty()) {
+            return;
+        }
+        List<ActorIndexEntry> entries = readOnlyTransaction.execute(status -> toEntries(entityManager.createQuery(
+                        ENTRY_QUERY + "WHERE a.userId IN :ids", Object[].class)
+                .setParameter("ids", actorIds)
+                .getResultList()));
+
+        Set<UUID> missing = new HashSet<>(actorIds);
+        for (ActorIndexEntry entry : entries) {
+            missing.remove(entry.getActorId());
+            apply(entry);
+        }
+        missing.forEach(index::remove);
+    }
+
+    /**
+     * 조회수 증가분 반영 (재구성 중이면 새 인덱스의 스냅샷에 빠져 있으므로 교체 시 다시 반영하도록 모아 둠)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorViewsCounted(ActorViewsCountedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (swapLock) {
+            index.addViewCounts(event.getDeltas());
+            if (rebuilding) {
+                pendingViewCounts.add(event.getDeltas());
+            }
+        }
+    }
+
+    private void apply(ActorIndexEntry entry) {
+        synchronized (swapLock) {
+            index.upsert(entry);
+            if (rebuilding) {
+                pendingDuringRebuild.add(entry);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // user_id 키셋 방식으로 나눠 읽음 (배치마다 컬럼 조회 1번 + 스킬 조회 1번)
+    private List<ActorIndexEntry> loadEntries() {
+        List<ActorIndexEntry> entries = new ArrayList<>();
+        UUID lastId = MIN_UUID;
+
+        while (true) {
+            List<Object[]> batch = entityManager.createQuery(
+                            ENTRY_QUERY + "WHERE a.userId > :lastId ORDER BY a.userId", Object[].class)
+                    .setParameter("lastId", lastId)
+                    .setMaxResults(LOAD_BATCH_SIZE)
+                    .getResultList();
+
+            if (batch.isEmpty()) {
+                break;
+            }
+            entries.addAll(toEntries(batch));
+            lastId = (UUID) batch.get(batch.size() - 1)[0];
+
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    // ENTRY_QUERY 결과 행 + 해당 배우들의 스킬 → 인덱스 항목
+    private List<ActorIndexEntry> toEntries(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = rows.stream().map(row -> (UUID) row[0]).toList();
+        Map<UUID, List<String>> skillsById = new HashMap<>();
+        for (Object[] skill : entityManager.createQuery(SKILLS_QUERY, Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()) {
+            if (skill[1] != null) {
+                skillsById.computeIfAbsent((UUID) skill[0], id -> new ArrayList<>()).add((String) skill[1]);
+            }
+        }
+
+        List<ActorIndexEntry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            UUID actorId = (UUID) row[0];
+            entries.add(ActorIndexEntry.builder()
+                    .actorId(actorId)
+                    .stageName((String) row[1])
+                    .userName((String) row[2])
+                    .birthYear((Integer) row[3])
+                    .gender((Gender) row[4])
+                    .category((ActorCategory) row[5])
+                    .height((Integer) row[6])
+                    .weight((Integer) row[7])
+                    .skills(skillsById.getOrDefault(actorId, List.of()))
+                    .viewCount(row[8] != null ? (Long) row[8] : 0L)
+                    .profileCompleteness(row[9] != null ? (Integer) row[9] : 0)
+                    .createdAt((LocalDateTime) row[10])
+                    .profileComplete(Boolean.TRUE.equals(row[11]))
+                    .build());
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,69 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배우 검색 정렬 옵션
+ * sortBy 파라미터 값과 정렬 컬럼/방향을 매핑
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ActorSortOption {
+    RECENT("createdAt", true),
+    VIEWS_HIGH("viewCount", true),
+    VIEWS_LOW("viewCount", false),
+    NAME_ASC("stageName", false),
+    NAME_DESC("stageName", true),
+    AGE_YOUNG("birthYear", true),   // 출생년도 높을수록 어림
+    AGE_OLD("birthYear", false),    // 출생년도 낮을수록 나이 많음
+    HEIGHT_TALL("height", true),
+    HEIGHT_SHORT("height", false),
+    COMPLETENESS_HIGH("profileCompleteness", true);
+
+    private final String property;
+    private final boolean descending;
+
+    /**
+     * sortBy/sortDirection 값으로 정렬 옵션 결정 (알 수 없는 값은 최신순)
+     */
+    public static ActorSortOption from(String sortBy, String sortDirection) {
+        if (!StringUtils.hasText(sortBy)) {
+            return RECENT;
+        }
+        return switch (sortBy) {
+            case "views_high" -> VIEWS_HIGH;
+            case "views_low" -> VIEWS_LOW;
+            case "name" -> "asc".equalsIgnoreCase(sortDirection) ? NAME_ASC : NAME_DESC;
+            case "age_young" -> AGE_YOUNG;
+            case "age_old" -> AGE_OLD;
+            case "height_tall" -> HEIGHT_TALL;
+            case "height_short" -> HEIGHT_SHORT;
+            case "completeness" -> COMPLETENESS_HIGH;
+            default -> RECENT;
+        };
+    }
+
+    /**
+     * Pageable 정렬을 정렬 옵션으로 변환 (단일 컬럼 정렬만 지원, 정렬 없음은 최신순)
+     */
+    public static Optional<ActorSortOption> fromSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Optional.of(RECENT);
+        }
+        if (sort.stream().count() != 1) {
+            return Optional.empty();
+        }
+        Sort.Order order = sort.iterator().next();
+        return Arrays.stream(values())
+                .filter(option -> option.property.equals(order.getProperty())
+                        && option.descending == order.isDescending())
+                .findFirst();
+    }
+}
@@ -0,0 +1,239 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.actor.event.ActorPortfolioChangedEvent;
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
+
+/**
+ * 배우 본문 검색(BM25) 인덱스 관리자
+ * - 문서 = 소개 + 필모그래피 제목/배역명 + 쇼릴 제목/작품명/장르/태그 (프로필 완성된 배우만)
+ * - 애플리케이션 기동 시 전체 구성, 프로필/포트폴리오 변경 시 해당 배우 문서만 다시 읽어 반영 (커밋 이후)
+ * - 질의 지연 시간(search.text_index.query)과 문서/토큰 수, 추정 메모리를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class ActorTextIndexManager {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String PROFILE_JPQL =
+            "SELECT a.userId, a.introduction FROM ActorProfile a WHERE a.isProfileComplete = true";
+    private static final String FILMOGRAPHY_JPQL =
+            "SELECT f.actor.userId, f.title, f.role FROM Filmography f WHERE f.actor.isProfileComplete = true";
+    private static final String SHOWREEL_JPQL =
+            "SELECT s.actor.userId, s.title, s.workTitle, s.genre FROM Showreel s WHERE s.actor.isProfileComplete = true";
+    private static final String SHOWREEL_TAG_JPQL =
+            "SELECT s.actor.userId, t FROM Showreel s JOIN s.tags t WHERE s.actor.isProfileComplete = true";
+    private static final String ACTOR_CONDITION = " AND %s.userId = :actorId";
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Timer queryTimer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Bm25Index index = new Bm25Index();
+    // 재구성 중 변경된 배우 (재구성 완료 후 다시 반영)
+    private final Queue<UUID> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ActorTextIndexManager(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${search.text-index.enabled:false}") boolean enabled) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.queryTimer = Timer.builder("search.text_index.query")
+                .description("BM25 text index query latency")
+                .register(meterRegistry);
+        Gauge.builder("search.text_index.documents", this, manager -> manager.read(() -> manager.index.size()))
+                .register(meterRegistry);
+        Gauge.builder("search.text_index.terms", this, manager -> manager.read(() -> manager.index.termCount()))
+                .register(meterRegistry);
+        Gauge.builder("search.text_index.memory", this, manager -> manager.read(() -> manager.index.estimatedBytes()))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 인덱스 전체 재구성 (새 인덱스를 만든 뒤 교체)
+     */
+    public synchronized void rebuild() {
+        pendingDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            long start = System.currentTimeMillis();
+            Map<UUID, StringBuilder> documents = readOnlyTransaction.execute(status -> loadDocuments(null));
+            Bm25Index built = new Bm25Index();
+            documents.forEach((actorId, text) -> built.put(actorId, text.toString()));
+
+            lock.writeLock().lock();
+            try {
+                index = built;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            UUID pending;
+            while ((pending = pendingDuringRebuild.poll()) != null) {
+                reload(pending);
+            }
+
+            ready = true;
+            log.info("Actor text index built: {} documents, {} terms in {}ms",
+                    built.size(), built.termCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build actor text index", e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    /**
+     * 본문 검색 (인덱스를 사용할 수 없으면 empty)
+     * 점수 높은 순으로 최대 limit명의 배우 ID -> BM25 점수
+     */
+    public Optional<Map<UUID, Float>> search(String text, int limit) {
+        if (!enabled || !ready || !StringUtils.hasText(text)) {
+            return Optional.empty();
+        }
+        return Optional.of(queryTimer.record(() -> read(() -> index.search(text, limit))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorProfileChanged(ActorProfileChangedEvent event) {
+        onChanged(event.getSnapshot().getActorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorPortfolioChanged(ActorPortfolioChangedEvent event) {
+        onChanged(event.getActorId());
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    private void onChanged(UUID actorId) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding) {
+            pendingDuringRebuild.add(actorId);
+        }
+        reload(actorId);
+    }
+
+    // 배우 한 명의 문서를 다시 읽어 반영 (프로필 미완성/삭제면 제거)
+    private void reload(UUID actorId) {
+        try {
+            Map<UUID, StringBuilder> documents = readOnlyTransaction.execute(status -> loadDocuments(actorId));
+            StringBuilder text = documents.get(actorId);
+            lock.writeLock().lock();
+            try {
+                if (text != null) {
+                    index.put(actorId, text.toString());
+                } else {
+                    index.remove(actorId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update actor text index for {}: {}", actorId, e.getMessage());
+        }
+    }
+
+    // actorId가 null이면 전체, 값이 있으면 해당 배우만
+    private Map<UUID, StringBuilder> loadDocuments(UUID actorId) {
+        Map<UUID, StringBuilder> documents = new HashMap<>();
+
+        try (Stream<Object[]> rows = stream(PROFILE_JPQL, "a", actorId)) {
+            rows.forEach(row -> append(documents.computeIfAbsent((UUID) row[0], id -> new StringBuilder()), row));
+        }
+        appendRows(documents, stream(FILMOGRAPHY_JPQL, "f.actor", actorId));
+        appendRows(documents, stream(SHOWREEL_JPQL, "s.actor", actorId));
+        appendRows(documents, stream(SHOWREEL_TAG_JPQL, "s.actor", actorId));
+        return documents;
+    }
+
+    // 프로필 조회에서 문서가 만들어진 배우의 행만 반영
+    private static void appendRows(Map<UUID, StringBuilder> documents, Stream<Object[]> rows) {
+        try (rows) {
+            rows.forEach(row -> {
+                StringBuilder document = documents.get((UUID) row[0]);
+                if (document != null) {
+                    append(document, row);
+                }
+            });
+        }
+    }
+
+    private Stream<Object[]> stream(String jpql, String alias, UUID actorId) {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                        actorId != null ? jpql + String.format(ACTOR_CONDITION, alias) : jpql, Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (actorId != null) {
+            query.setParameter("actorId", actorId);
+        }
+        return query.getResultStream();
+    }
+
+    // 첫 번째 열(배우 ID)을 제외한 값을 줄 단위로 이어 붙임
+    private static void append(StringBuilder document, Object[] row) {
+        for (int i = 1; i < row.length; i++) {
+            if (row[i] != null) {
+                document.append(row[i]).append('\n');
+            }
+        }
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
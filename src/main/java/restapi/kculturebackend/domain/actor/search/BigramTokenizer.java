@@ -0,0 +1,71 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 본문 검색용 토크나이저
+ *
+ * 형태소 분석 없이 한글/한자/가나 구간은 음절 bigram, 영문/숫자 구간은 단어 단위로 자른다.
+ * 조사/어미가 붙어도 어간 bigram이 남으므로 "형사가" / "형사로"가 같은 토큰("형사")을 공유한다.
+ * - NFC 정규화 + 소문자
+ * - 한 글자 한글 구간은 그 글자 자체를 토큰으로 사용
+ * - 한 글자 영문/숫자는 제외
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int start = 0;
+        int length = normalized.length();
+        while (start < length) {
+            char c = normalized.charAt(start);
+            if (isCjk(c)) {
+                int end = start;
+                while (end < length && isCjk(normalized.charAt(end))) {
+                    end++;
+                }
+                if (end - start == 1) {
+                    tokens.add(normalized.substring(start, end));
+                } else {
+                    for (int i = start; i + 1 < end; i++) {
+                        tokens.add(normalized.substring(i, i + 2));
+                    }
+                }
+                start = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = start;
+                while (end < length && Character.isLetterOrDigit(normalized.charAt(end))
+                        && !isCjk(normalized.charAt(end))) {
+                    end++;
+                }
+                if (end - start > 1) {
+                    tokens.add(normalized.substring(start, end));
+                }
+                start = end;
+            } else {
+                start++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+                || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || block == Character.UnicodeBlock.HIRAGANA
+                || block == Character.UnicodeBlock.KATAKANA;
+    }
+}
@@ -0,0 +1,244 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * BM25 역색인 (배우 1명 = 문서 1개)
+ *
+ * - 토큰별 포스팅(문서 번호, 출현 횟수)을 기본형 배열로 보관하고, 질의 토큰의 포스팅만 순회 (전체 문서 스캔 없음)
+ * - 갱신은 이전 문서를 삭제 표시 후 새 문서 번호로 추가, 삭제 표시가 살아 있는 문서보다 많아지면 포스팅 압축
+ * - 문서 빈도(df)와 평균 문서 길이는 살아 있는 문서 기준으로 유지
+ *
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ */
+public class Bm25Index {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int INITIAL_CAPACITY = 1024;
+    // 긴 시놉시스의 질의 비용 상한 (idf가 높은 토큰 우선)
+    private static final int MAX_QUERY_TERMS = 256;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private UUID[] actorIds = new UUID[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private String[][] docTerms = new String[INITIAL_CAPACITY][];
+    private int nextDocId;
+    private int deadDocs;
+    private long totalLength;
+
+    /**
+     * 문서 등록/갱신 (토큰이 없으면 제거만 수행)
+     */
+    public void put(UUID actorId, String text) {
+        remove(actorId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : BigramTokenizer.tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int docId = nextDocId++;
+        if (docId == actorIds.length) {
+            int capacity = actorIds.length * 2;
+            actorIds = Arrays.copyOf(actorIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+        }
+
+        String[] terms = new String[frequencies.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            Postings list = postings.computeIfAbsent(entry.getKey(), k -> new Postings());
+            list.add(docId, entry.getValue());
+            terms[i++] = entry.getKey();
+            length += entry.getValue();
+        }
+
+        actorIds[docId] = actorId;
+        docLengths[docId] = length;
+        docTerms[docId] = terms;
+        docIds.put(actorId, docId);
+        totalLength += length;
+    }
+
+    public void remove(UUID actorId) {
+        Integer docId = docIds.remove(actorId);
+        if (docId == null) {
+            return;
+        }
+        for (String term : docTerms[docId]) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                list.documentFrequency--;
+            }
+        }
+        totalLength -= docLengths[docId];
+        actorIds[docId] = null;
+        docTerms[docId] = null;
+        deadDocs++;
+
+        if (deadDocs >= MIN_DEAD_FOR_COMPACTION && deadDocs > docIds.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * 질의 텍스트와 관련된 상위 limit개 문서 (점수 높은 순, 배우 ID -> BM25 점수)
+     */
+    public Map<UUID, Float> search(String query, int limit) {
+        int documents = docIds.size();
+        if (documents == 0 || limit <= 0) {
+            return Map.of();
+        }
+
+        List<Postings> terms = new ArrayList<>();
+        for (String token : new LinkedHashSet<>(BigramTokenizer.tokenize(query))) {
+            Postings list = postings.get(token);
+            if (list != null && list.documentFrequency > 0) {
+                terms.add(list);
+            }
+        }
+        if (terms.isEmpty()) {
+            return Map.of();
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms.sort(Comparator.comparingInt(list -> list.documentFrequency));
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        float averageLength = (float) totalLength / documents;
+        float[] scores = new float[nextDocId];
+        int[] touched = new int[Math.min(nextDocId, terms.stream().mapToInt(list -> list.size).sum())];
+        int touchedCount = 0;
+
+        for (Postings list : terms) {
+            float idf = (float) Math.log(1 + (documents - list.documentFrequency + 0.5) / (list.documentFrequency + 0.5));
+            for (int p = 0; p < list.size; p++) {
+                int docId = list.docs[p];
+                if (actorIds[docId] == null) {
+                    continue;
+                }
+                int tf = list.frequencies[p];
+                float norm = K1 * (1 - B + B * docLengths[docId] / averageLength);
+                if (scores[docId] == 0f) {
+                    touched[touchedCount++] = docId;
+                }
+                scores[docId] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+
+        Integer[] order = new Integer[touchedCount];
+        for (int i = 0; i < touchedCount; i++) {
+            order[i] = touched[i];
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+
+        Map<UUID, Float> result = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(limit, touchedCount); i++) {
+            result.put(actorIds[order[i]], scores[order[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return docIds.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (바이트, 포스팅 배열 + 토큰 문자열 + 문서별 배열)
+     */
+    public long estimatedBytes() {
+        long bytes = (long) actorIds.length * (8 + 4 + 8);
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            // HashMap 엔트리 + String(헤더 + byte[]) + Postings 헤더 + 배열 2개
+            bytes += 32 + 40 + entry.getKey().length() * 2L + 32 + 2L * (16 + 4L * entry.getValue().docs.length);
+        }
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (docTerms[docId] != null) {
+                bytes += 16 + 8L * docTerms[docId].length + 48;
+            }
+        }
+        return bytes;
+    }
+
+    // 살아 있는 문서에 새 번호를 부여하고 포스팅에서 삭제 표시된 항목 제거
+    private void compact() {
+        int[] remap = new int[nextDocId];
+        int live = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (actorIds[docId] == null) {
+                remap[docId] = -1;
+                continue;
+            }
+            remap[docId] = live;
+            actorIds[live] = actorIds[docId];
+            docLengths[live] = docLengths[docId];
+            docTerms[live] = docTerms[docId];
+            docIds.put(actorIds[live], live);
+            live++;
+        }
+        Arrays.fill(actorIds, live, nextDocId, null);
+        Arrays.fill(docTerms, live, nextDocId, null);
+
+        postings.values().removeIf(list -> {
+            list.compact(remap);
+            return list.size == 0;
+        });
+        nextDocId = live;
+        deadDocs = 0;
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int documentFrequency;
+
+        void add(int docId, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+            documentFrequency++;
+        }
+
+        void compact(int[] remap) {
+            int written = 0;
+            for (int p = 0; p < size; p++) {
+                int docId = remap[docs[p]];
+                if (docId >= 0) {
+                    docs[written] = docId;
+                    frequencies[written] = frequencies[p];
+                    written++;
+                }
+            }
+            size = written;
+            if (docs.length > 4 && size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(4, size * 2));
+                frequencies = Arrays.copyOf(frequencies, Math.max(4, size * 2));
+            }
+        }
+    }
+}
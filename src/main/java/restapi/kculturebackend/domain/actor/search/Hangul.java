@@ -0,0 +1,108 @@
+package restapi.kculturebackend.domain.actor.search;
+
+/**
+ * 한글 음절/자모 처리 유틸
+ * 음절(가-힣)을 초성/중성/종성으로 분해하고, 겹모음/겹받침은 입력 순서대로 기본 자모로 풀어낸다
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 키보드 입력 순서 기준 기본 자모 (겹모음/겹받침 분해)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_CONSONANT_END = 'ㅎ';
+    private static final char COMPAT_JAMO_END = 'ㅣ';
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 호환용 자음 (ㄱ-ㅎ, 겹받침 포함)
+     */
+    public static boolean isConsonant(char c) {
+        return c >= COMPAT_JAMO_BEGIN && c <= COMPAT_CONSONANT_END;
+    }
+
+    /**
+     * 음절 또는 호환용 자모
+     */
+    public static boolean isHangul(char c) {
+        return isSyllable(c) || (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END);
+    }
+
+    /**
+     * 초성 검색 키 (음절은 초성, 그 외 문자는 그대로)
+     */
+    public static char choseongKey(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+    }
+
+    /**
+     * 기본 자모 시퀀스로 분해 (예: '닭' -> "ㄷㅏㄹㄱ", '과' -> "ㄱㅗㅏ")
+     */
+    public static String toJamo(char c) {
+        if (isSyllable(c)) {
+            int offset = c - SYLLABLE_BEGIN;
+            int jong = offset % JONGSEONG_COUNT;
+            int jung = (offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+            int cho = offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+            return CHOSEONG[cho] + JUNGSEONG[jung] + JONGSEONG[jong];
+        }
+        return switch (c) {
+            // 호환용 겹자모 문자
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(c);
+        };
+    }
+
+    public static String toJamo(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(toJamo(text.charAt(i)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,202 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 한글 인식 n-gram 역색인 (ordinal -> 문자열 1개)
+ *
+ * - 음절 bigram: 완성된 음절/문자 구간으로 후보를 좁힘
+ * - 초성 키 unigram/bigram: 음절을 초성으로 바꾼 문자열 기준 (초성 검색, 입력 중인 음절까지 포괄)
+ * - 후보는 실제 문자열과 다시 대조하여 확정
+ *
+ * 매칭 규칙 (대소문자 무시 부분 문자열 검색을 확장):
+ * - 마지막 글자를 제외한 음절은 정확히 일치, 자음은 초성 일치 ("ㄱㅅㅎ" -> "김수현")
+ * - 마지막 글자는 자모 단위 접두 일치로 입력 중인 음절을 허용 ("홍길ㄷ", "홍기" -> "홍길동")
+ *   받침이 다음 음절 초성으로 넘어가는 경우도 허용 ("간" -> "가나")
+ *
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ */
+public class HangulNgramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final char SYLLABLE_GRAM = '\u0001';
+    private static final char CHOSEONG_GRAM = '\u0002';
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final RoaringBitmap indexed = new RoaringBitmap();
+    private String[] texts = new String[INITIAL_CAPACITY];
+
+    /**
+     * 문자열 등록/갱신 (null이면 제거)
+     */
+    public void put(int ordinal, String text) {
+        remove(ordinal);
+        String normalized = normalize(text);
+        if (normalized == null) {
+            return;
+        }
+        if (ordinal >= texts.length) {
+            texts = Arrays.copyOf(texts, Math.max(ordinal + 1, texts.length * 2));
+        }
+        texts[ordinal] = normalized;
+        indexed.add(ordinal);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, k -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    public void remove(int ordinal) {
+        if (ordinal >= texts.length || texts[ordinal] == null) {
+            return;
+        }
+        for (String gram : grams(texts[ordinal])) {
+            RoaringBitmap bits = postings.get(gram);
+            if (bits != null) {
+                bits.remove(ordinal);
+                if (bits.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        texts[ordinal] = null;
+        indexed.remove(ordinal);
+    }
+
+    public void clear() {
+        postings.clear();
+        indexed.clear();
+        texts = new String[INITIAL_CAPACITY];
+    }
+
+    /**
+     * 검색어와 매칭되는 ordinal 집합 (빈 검색어는 문자열이 있는 전체)
+     */
+    public RoaringBitmap search(String query) {
+        String q = normalize(query);
+        if (q == null || q.isEmpty()) {
+            return indexed.clone();
+        }
+
+        RoaringBitmap candidates = null;
+        for (String gram : queryGrams(q)) {
+            RoaringBitmap bits = postings.get(gram);
+            if (bits == null) {
+                return new RoaringBitmap();
+            }
+            candidates = candidates == null ? bits.clone() : RoaringBitmap.and(candidates, bits);
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+
+        RoaringBitmap result = new RoaringBitmap();
+        String lastJamo = Hangul.toJamo(q.charAt(q.length() - 1));
+        candidates.forEach((int ordinal) -> {
+            if (matches(texts[ordinal], q, lastJamo)) {
+                result.add(ordinal);
+            }
+        });
+        return result;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(CHOSEONG_GRAM + String.valueOf(Hangul.choseongKey(text.charAt(i))));
+            if (i + 1 < text.length()) {
+                grams.add(SYLLABLE_GRAM + text.substring(i, i + 2));
+                grams.add(CHOSEONG_GRAM + String.valueOf(Hangul.choseongKey(text.charAt(i)))
+                        + Hangul.choseongKey(text.charAt(i + 1)));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어에서 반드시 포함되어야 하는 gram 목록
+     */
+    private static List<String> queryGrams(String q) {
+        List<String> grams = new ArrayList<>();
+        int last = q.length() - 1;
+
+        // 정확히 일치해야 하는 인접 글자 쌍 (자음, 마지막 한글 글자 제외)
+        for (int i = 0; i + 1 <= last; i++) {
+            if (isExact(q, i) && isExact(q, i + 1)) {
+                grams.add(SYLLABLE_GRAM + q.substring(i, i + 2));
+            }
+        }
+
+        // 초성 키는 모든 글자에 대해 성립
+        if (q.length() == 1) {
+            grams.add(CHOSEONG_GRAM + String.valueOf(Hangul.choseongKey(q.charAt(0))));
+        }
+        for (int i = 0; i + 1 <= last; i++) {
+            grams.add(CHOSEONG_GRAM + String.valueOf(Hangul.choseongKey(q.charAt(i)))
+                    + Hangul.choseongKey(q.charAt(i + 1)));
+        }
+        return grams;
+    }
+
+    private static boolean isExact(String q, int i) {
+        char c = q.charAt(i);
+        if (i == q.length() - 1) {
+            return !Hangul.isHangul(c);
+        }
+        return !Hangul.isConsonant(c);
+    }
+
+    private static boolean matches(String text, String q, String lastJamo) {
+        int n = q.length();
+        for (int start = 0; start + n <= text.length(); start++) {
+            if (matchesAt(text, start, q, lastJamo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAt(String text, int start, String q, String lastJamo) {
+        int last = q.length() - 1;
+        for (int i = 0; i < last; i++) {
+            if (!matchesChar(q.charAt(i), text.charAt(start + i))) {
+                return false;
+            }
+        }
+
+        char qc = q.charAt(last);
+        int pos = start + last;
+        if (!Hangul.isHangul(qc)) {
+            return qc == text.charAt(pos);
+        }
+        // 입력 중인 마지막 글자: 자모 접두 일치 (받침이 다음 음절로 넘어가는 경우 포함)
+        String jamo = Hangul.toJamo(text.charAt(pos));
+        if (pos + 1 < text.length() && lastJamo.length() > jamo.length()) {
+            jamo = jamo + Hangul.toJamo(text.charAt(pos + 1));
+        }
+        return jamo.startsWith(lastJamo);
+    }
+
+    private static boolean matchesChar(char q, char t) {
+        if (q == t) {
+            return true;
+        }
+        return Hangul.isConsonant(q) && Hangul.isSyllable(t) && Hangul.choseongKey(t) == q;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
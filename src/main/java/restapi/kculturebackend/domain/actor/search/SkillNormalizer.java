@@ -0,0 +1,45 @@
+package restapi.kculturebackend.domain.actor.search;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 스킬 문자열 정규화
+ * 입력 경로(웹/모바일)에 따라 달라지는 공백, 대소문자, 한글 자모 조합 형태(NFD)를 통일
+ */
+public final class SkillNormalizer {
+
+    private SkillNormalizer() {
+    }
+
+    /**
+     * 단일 스킬 정규화 (빈 값이면 null)
+     */
+    public static String normalize(String skill) {
+        if (!StringUtils.hasText(skill)) {
+            return null;
+        }
+        return Normalizer.normalize(skill.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 스킬 목록 정규화 (빈 값 제거, 중복 제거, 입력 순서 유지)
+     */
+    public static List<String> normalizeAll(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return List.of();
+        }
+        LinkedHashSet<String> normalized = new LinkedHashSet<>();
+        skills.stream()
+                .map(SkillNormalizer::normalize)
+                .filter(Objects::nonNull)
+                .forEach(normalized::add);
+        return List.copyOf(normalized);
+    }
+}
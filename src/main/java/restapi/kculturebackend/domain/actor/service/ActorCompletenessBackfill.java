@@ -0,0 +1,70 @@
+package restapi.kculturebackend.domain.actor.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.common.migration.OneTimeBackfill;
+
+/**
+ * profile_completeness 채우기
+ *
+ * 완성도 컬럼 도입 전 프로필은 기본값 0이므로, 입력 항목으로 다시 계산해 값이 다른 배우만 고친다.
+ * 가중치는 ActorProfile.refreshCompleteness와 같다. 배우 전체를 읽으므로 OneTimeBackfill로 최초 기동에서만
+ * 실행하고, 이후에는 프로필/이미지 변경 시 엔티티에서 다시 계산한 값을 쓴다.
+ * 검색 인덱스가 채워진 값을 읽도록 인덱스 구성보다 먼저 실행한다.
+ */
+@Slf4j
+@Component
+public class ActorCompletenessBackfill {
+
+    private static final String BACKFILL_SQL =
+            "UPDATE actor_profiles a SET profile_completeness = c.score " +
+            "FROM (SELECT ap.user_id, " +
+            "(CASE WHEN ap.stage_name IS NOT NULL THEN 15 ELSE 0 END) + " +
+            "(CASE WHEN ap.birth_year IS NOT NULL THEN 10 ELSE 0 END) + " +
+            "(CASE WHEN ap.introduction IS NOT NULL THEN 20 ELSE 0 END) + " +
+            "(CASE WHEN ap.height IS NOT NULL THEN 10 ELSE 0 END) + " +
+            "(CASE WHEN ap.weight IS NOT NULL THEN 10 ELSE 0 END) + " +
+            "(CASE WHEN EXISTS (SELECT 1 FROM actor_skills s WHERE s.actor_id = ap.user_id) THEN 15 ELSE 0 END) + " +
+            "(CASE WHEN EXISTS (SELECT 1 FROM actor_languages l WHERE l.actor_id = ap.user_id) THEN 10 ELSE 0 END) + " +
+            "(CASE WHEN u.profile_image IS NOT NULL THEN 10 ELSE 0 END) AS score " +
+            "FROM actor_profiles ap JOIN users u ON u.id = ap.user_id) c " +
+            "WHERE a.user_id = c.user_id AND a.profile_completeness IS DISTINCT FROM c.score";
+
+    private static final String MARKER = "actor_profile_completeness";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OneTimeBackfill oneTimeBackfill;
+    private final boolean enabled;
+
+    public ActorCompletenessBackfill(
+            JdbcTemplate jdbcTemplate,
+            OneTimeBackfill oneTimeBackfill,
+            @Value("${actor.profile-completeness.backfill:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.oneTimeBackfill = oneTimeBackfill;
+        this.enabled = enabled;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int updated = oneTimeBackfill.runOnce(MARKER, () -> jdbcTemplate.update(BACKFILL_SQL));
+            if (updated > 0) {
+                log.info("Backfilled profile_completeness for {} actors", updated);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to backfill actor profile completeness", e);
+        }
+    }
+}
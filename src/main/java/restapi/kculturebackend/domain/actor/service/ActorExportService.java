@@ -0,0 +1,116 @@
+package restapi.kculturebackend.domain.actor.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.common.exception.BusinessException;
+import restapi.kculturebackend.common.exception.ErrorCode;
+import restapi.kculturebackend.common.exception.ForbiddenException;
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
+import restapi.kculturebackend.domain.actor.export.ActorExportFormat;
+import restapi.kculturebackend.domain.actor.export.ActorExportWriter;
+import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import restapi.kculturebackend.domain.user.entity.User;
+import restapi.kculturebackend.domain.user.entity.UserType;
+
+/**
+ * 배우 검색 결과 내보내기 서비스
+ *
+ * - 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로 트랜잭션을 본문 작성 시점에 직접 연다
+ * - 배치(batch-size) 단위로 조회 → 출력 → flush 하여 결과 크기와 무관하게 메모리 사용이 일정
+ * - 내보내기 한 건이 끝날 때까지 DB 커넥션을 점유하므로 동시 실행 수와 트랜잭션 시간(timeout-seconds)을 제한
+ * - 동시 실행 허가는 응답 전에 얻고, 본문이 실행되지 않고 끝나는 경우(시작 전 연결 종료, 실행 거부, 타임아웃)에도
+ *   비동기 요청 완료 시점에 반납
+ */
+@Slf4j
+@Service
+public class ActorExportService {
+
+    private final ActorProfileRepository actorProfileRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final int batchSize;
+
+    public ActorExportService(
+            ActorProfileRepository actorProfileRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${export.actors.max-concurrent:2}") int maxConcurrent,
+            @Value("${export.actors.batch-size:500}") int batchSize,
+            @Value("${export.actors.timeout-seconds:120}") int timeoutSeconds) {
+        this.actorProfileRepository = actorProfileRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout(timeoutSeconds);
+        this.permits = new Semaphore(maxConcurrent);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 검색 조건에 맞는 배우 전체를 내보내는 응답 본문 생성 (에이전시 전용)
+     * 권한/동시 실행 수 검증은 응답이 시작되기 전에 수행
+     */
+    public StreamingResponseBody export(User user, ActorSearchRequest request, ActorExportFormat format,
+                                        HttpServletRequest servletRequest) {
+        if (user.getType() != UserType.AGENCY) {
+            throw new ForbiddenException(ErrorCode.FORBIDDEN, "에이전시 계정만 접근할 수 있습니다.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 본문 실행 종료와 비동기 요청 완료 중 먼저 오는 쪽에서 한 번만 반납
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releasePermit = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(servletRequest).registerCallableInterceptor(
+                ActorExportService.class.getName(), new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        releasePermit.run();
+                    }
+                });
+
+        return outputStream -> {
+            try {
+                ActorExportWriter writer = new ActorExportWriter(format, outputStream);
+                writer.writeHeader();
+                readOnlyTransaction.executeWithoutResult(status ->
+                        actorProfileRepository.forEachSummaryBatch(request, batchSize, batch -> {
+                            try {
+                                for (ActorSummaryResponse actor : batch) {
+                                    writer.write(actor);
+                                }
+                                writer.flush();
+                            } catch (IOException e) {
+                                // 클라이언트 연결 종료 등: 커서를 닫고 중단
+                                throw new UncheckedIOException(e);
+                            }
+                        }));
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                log.info("Actor export aborted: {}", e.getCause().getMessage());
+                throw e.getCause();
+            } finally {
+                releasePermit.run();
+            }
+        };
+    }
+}
@@ -2,38 +2,64 @@ package restapi.kculturebackend.domain.actor.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut.Branch;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.CursorPaginationResponse;
 import restapi.kculturebackend.common.exception.ErrorCode;
 import restapi.kculturebackend.common.exception.ForbiddenException;
 import restapi.kculturebackend.common.exception.NotFoundException;
+import restapi.kculturebackend.common.exception.ValidationException;
 import restapi.kculturebackend.domain.actor.dto.ActorDetailResponse;
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorRecommendRequest;
 import restapi.kculturebackend.domain.actor.dto.ActorRecommendResponse;
 import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
 import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
 import restapi.kculturebackend.domain.actor.dto.ContactActorRequest;
 import restapi.kculturebackend.domain.actor.dto.CreateActorProfileRequest;
+import restapi.kculturebackend.domain.actor.dto.ProjectRecommendResponse;
 import restapi.kculturebackend.domain.actor.dto.UpdateActorProfileRequest;
 import restapi.kculturebackend.domain.actor.entity.ActorProfile;
+import restapi.kculturebackend.domain.actor.entity.SimilarActors;
+import restapi.kculturebackend.domain.actor.recommend.ActorRecommendEngine;
+import restapi.kculturebackend.domain.actor.recommend.ActorRecommendation;
+import restapi.kculturebackend.domain.actor.recommend.RecommendCriteria;
 import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import restapi.kculturebackend.domain.actor.repository.SimilarActorsRepository;
+import restapi.kculturebackend.domain.actor.search.ActorCursor;
+import restapi.kculturebackend.domain.actor.search.ActorCursorCodec;
+import restapi.kculturebackend.domain.actor.search.ActorSortOption;
+import restapi.kculturebackend.domain.dashboard.counter.UserCounterWriter;
 import restapi.kculturebackend.domain.dashboard.entity.Activity;
 import restapi.kculturebackend.domain.dashboard.entity.ContactRequest;
 import restapi.kculturebackend.domain.dashboard.entity.ContactRequestStatus;
+import restapi.kculturebackend.domain.dashboard.entity.UserCounterType;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
 import restapi.kculturebackend.domain.dashboard.repository.ActivityRepository;
 import restapi.kculturebackend.domain.dashboard.repository.ContactRequestRepository;
-import restapi.kculturebackend.domain.dashboard.repository.ProfileViewRepository;
 import restapi.kculturebackend.domain.dashboard.service.DashboardService;
 import restapi.kculturebackend.domain.favorite.entity.FavoriteType;
 import restapi.kculturebackend.domain.favorite.repository.FavoriteRepository;
+import restapi.kculturebackend.domain.project.entity.Character;
+import restapi.kculturebackend.domain.project.entity.Project;
+import restapi.kculturebackend.domain.project.repository.CharacterRepository;
+import restapi.kculturebackend.domain.project.repository.ProjectRepository;
 import restapi.kculturebackend.domain.user.entity.User;
 import restapi.kculturebackend.domain.user.entity.UserType;
 import restapi.kculturebackend.domain.user.repository.UserRepository;
@@ -46,21 +72,32 @@ import restapi.kculturebackend.domain.user.repository.UserRepository;
 @RequiredArgsConstructor
 public class ActorService {
 
+    private static final int RECOMMEND_LIMIT = 10;
+    private static final int PROJECT_RECOMMEND_MAX_LIMIT = 30;
+    private static final int SIMILAR_MAX_LIMIT = 20;
+
     private final ActorProfileRepository actorProfileRepository;
     private final UserRepository userRepository;
     private final DashboardService dashboardService;
     private final ContactRequestRepository contactRequestRepository;
     private final ActivityRepository activityRepository;
-    private final ProfileViewRepository profileViewRepository;
     private final FavoriteRepository favoriteRepository;
+    private final ActorCursorCodec actorCursorCodec;
+    private final ActorRecommendEngine actorRecommendEngine;
+    private final CharacterRepository characterRepository;
+    private final ProjectRepository projectRepository;
+    private final SimilarActorsRepository similarActorsRepository;
+    private final UserCounterWriter userCounterWriter;
+    private final ReadOnlyFanOut readOnlyFanOut;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 배우 목록 조회 (프로필 완성된 배우만)
+     * 엔티티 대신 요약 DTO 프로젝션으로 조회
      */
     @Transactional(readOnly = true)
     public Page<ActorSummaryResponse> getActors(Pageable pageable) {
-        return actorProfileRepository.findByIsProfileCompleteTrue(pageable)
-                .map(ActorSummaryResponse::from);
+        return actorProfileRepository.findCompleteSummaries(pageable);
     }
 
     /**
@@ -68,8 +105,55 @@ public class ActorService {
      */
     @Transactional(readOnly = true)
     public Page<ActorSummaryResponse> searchActorsAdvanced(ActorSearchRequest request, Pageable pageable) {
-        return actorProfileRepository.searchWithFilters(request, pageable)
-                .map(ActorSummaryResponse::from);
+        return actorProfileRepository.searchSummaries(request, pageable);
+    }
+
+    /**
+     * 배우 고급 검색 (건수 계산 방식 지정)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ActorSummaryResponse> searchActorsAdvanced(ActorSearchRequest request, Pageable pageable,
+                                                            CountMode countMode) {
+        return actorProfileRepository.searchSummaries(request, pageable, countMode);
+    }
+
+    /**
+     * 배우 검색 패싯 조회 (필터 옆에 표시할 값별 배우 수)
+     */
+    @Transactional(readOnly = true)
+    public ActorFacetResponse getActorFacets(ActorSearchRequest request) {
+        return actorProfileRepository.facets(request);
+    }
+
+    /**
+     * 배우 고급 검색 (커서 기반)
+     * 전체 건수 없이 이전 페이지 마지막 행 이후를 조회 (cursor가 비어 있으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPaginationResponse<ActorSummaryResponse> searchActorsByCursor(
+            ActorSearchRequest request, String cursor, int limit) {
+        ActorSortOption sortOption = ActorSortOption.from(request.getSortBy(), request.getSortDirection());
+
+        ActorCursor after = null;
+        if (StringUtils.hasText(cursor)) {
+            after = actorCursorCodec.decode(cursor);
+            // 다른 정렬 조건으로 발급된 커서는 위치를 보장할 수 없음
+            if (after.getSortOption() != sortOption) {
+                throw new ValidationException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        // 위치(ID + 정렬 키)만 키셋으로 조회하고 응답은 요약 프로젝션으로 (스킬 컬렉션 로딩 없음)
+        Slice<ActorCursor> slice = actorProfileRepository.searchAfter(request, after, limit);
+        List<ActorCursor> positions = slice.getContent();
+        List<ActorSummaryResponse> content = actorProfileRepository.findSummariesByIds(
+                positions.stream().map(ActorCursor::getActorId).toList());
+
+        String nextCursor = slice.hasNext()
+                ? actorCursorCodec.encode(positions.get(positions.size() - 1))
+                : null;
+
+        return CursorPaginationResponse.of(content, limit, nextCursor);
     }
 
     /**
@@ -77,8 +161,7 @@ public class ActorService {
      */
     @Transactional(readOnly = true)
     public Page<ActorSummaryResponse> searchActors(String name, Pageable pageable) {
-        return actorProfileRepository.searchByName(name, pageable)
-                .map(ActorSummaryResponse::from);
+        return actorProfileRepository.searchSummariesByName(name, pageable);
     }
 
     /**
@@ -98,24 +181,34 @@ public class ActorService {
 
     /**
      * 배우 상세 조회 (조회수 기록 포함)
+     * 프로필과 찜 수는 서로 독립적이라 각자 읽기 전용 트랜잭션에서 동시에 조회
+     * 조회 기록은 쓰기 지연 버퍼에 넣기만 하므로 트랜잭션이 필요 없음
      */
-    @Transactional
     public ActorDetailResponse getActorDetailWithViewRecord(UUID actorId, User viewer, String viewerIp) {
-        ActorProfile actor = actorProfileRepository.findByUserIdWithUser(actorId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.ACTOR_PROFILE_NOT_FOUND));
-        
-        // Lazy 컬렉션 초기화 (트랜잭션 내에서 수행)
-        actor.getSkills().size();
-        actor.getLanguages().size();
+        ActorProfile actor;
+        long likeCount;
+        try (ReadOnlyFanOut.Scope scope = readOnlyFanOut.open()) {
+            Branch<ActorProfile> actorBranch = scope.fork(() -> {
+                ActorProfile loaded = actorProfileRepository.findByUserIdWithUser(actorId)
+                        .orElseThrow(() -> new NotFoundException(ErrorCode.ACTOR_PROFILE_NOT_FOUND));
+                // Lazy 컬렉션 초기화 (분기 트랜잭션 내에서 수행)
+                loaded.getSkills().size();
+                loaded.getLanguages().size();
+                return loaded;
+            });
+            Branch<Long> likeCountBranch = scope.fork(
+                    () -> favoriteRepository.countByTargetIdAndType(actorId, FavoriteType.ACTOR));
+
+            scope.join();
+            actor = actorBranch.get();
+            likeCount = likeCountBranch.get();
+        }
         
-        // 조회수 기록 (비동기로 처리하지 않고 동기적으로 처리)
+        // 조회수 기록 (버퍼에 넣고 배경 스레드에서 배치 저장)
         dashboardService.recordProfileView(actorId, viewer, viewerIp);
         
-        // 조회수 및 좋아요 수 조회
-        long viewCount = profileViewRepository.countByActorId(actorId);
-        long likeCount = favoriteRepository.countByTargetIdAndType(actorId, FavoriteType.ACTOR);
-        
-        return ActorDetailResponse.from(actor, viewCount, likeCount);
+        // 조회수는 쓰기 지연 저장 시 갱신되는 view_count 사용 (저장 주기만큼 늦게 반영됨)
+        return ActorDetailResponse.from(actor, actor.getViewCount(), likeCount);
     }
 
     /**
@@ -172,6 +265,12 @@ public class ActorService {
         
         managedUser.updateProfileImage(imageUrl);
         userRepository.save(managedUser);
+
+        // 프로필 이미지는 완성도 항목이므로 함께 재계산
+        actorProfileRepository.findById(user.getId()).ifPresent(actor -> {
+            actor.refreshCompleteness(imageUrl);
+            actorProfileRepository.save(actor);
+        });
         
         log.info("Profile image updated for user: {}", user.getId());
     }
@@ -207,6 +306,8 @@ public class ActorService {
                 null, // languages
                 null  // agency
         );
+        // 이미지를 반영한 사용자는 인증 객체이므로 actor.user 대신 그 값으로 완성도 계산
+        actor.refreshCompleteness(user.getProfileImage());
 
         ActorProfile saved = actorProfileRepository.save(actor);
         log.info("Actor profile created: {}", user.getId());
@@ -214,31 +315,134 @@ public class ActorService {
         return ActorDetailResponse.from(saved);
     }
 
-    // AI 배우 추천 (현재는 간단한 필터링으로 구현, 추후 AI 서비스 연동)
+    /**
+     * 배우 추천
+     * 캐릭터(characterId)의 성별/나이대/역할 유형/키워드와 요청 필터로 전체 배우를 점수화하여 상위 10명 반환
+     */
     @Transactional(readOnly = true)
     public List<ActorRecommendResponse> recommendActors(User user, ActorRecommendRequest request) {
         validateAgencyUser(user);
 
-        // 현재는 프로필 완성된 배우 중 상위 10명 반환 (추후 AI 로직 추가)
-        Page<ActorProfile> actors = actorProfileRepository.findByIsProfileCompleteTrue(PageRequest.of(0, 10));
+        Character character = null;
+        if (request.getCharacterId() != null) {
+            character = characterRepository.findByIdWithProject(request.getCharacterId())
+                    .orElseThrow(() -> new NotFoundException(ErrorCode.CHARACTER_NOT_FOUND));
+            if (!character.getProject().getAgency().getUserId().equals(user.getId())) {
+                throw new ForbiddenException(ErrorCode.FORBIDDEN, "본인의 프로젝트 캐릭터만 추천받을 수 있습니다.");
+            }
+        }
+
+        List<ActorRecommendation> ranked = actorRecommendEngine.recommend(
+                RecommendCriteria.of(character, request), RECOMMEND_LIMIT);
+        return toRecommendResponses(ranked);
+    }
+
+    /**
+     * 프로젝트 배역별 배우 추천
+     * 캐스팅 미완료 배역 전체를 배우 스냅샷 한 번의 스캔으로 점수화하여 배역마다 상위 limit명 반환
+     * 배역 설명과 프로젝트 설명을 본문 유사도 질의로 사용
+     */
+    @Transactional(readOnly = true)
+    public ProjectRecommendResponse recommendActorsForProject(User user, UUID projectId, int limit, boolean distinct) {
+        validateAgencyUser(user);
+
+        Project project = projectRepository.findByIdWithAgency(projectId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.PROJECT_NOT_FOUND));
+        if (!project.getAgency().getUserId().equals(user.getId())) {
+            throw new ForbiddenException(ErrorCode.FORBIDDEN, "본인의 프로젝트만 추천받을 수 있습니다.");
+        }
+        if (limit < 1 || limit > PROJECT_RECOMMEND_MAX_LIMIT) {
+            throw new ValidationException("limit은 1~" + PROJECT_RECOMMEND_MAX_LIMIT + " 사이여야 합니다.");
+        }
 
-        List<ActorRecommendResponse> recommendations = new ArrayList<>();
-        int baseScore = 85;
+        List<Character> characters = characterRepository.findOpenCastings(projectId);
+        List<RecommendCriteria> criteria = new ArrayList<>(characters.size());
+        for (Character character : characters) {
+            ActorRecommendRequest request = ActorRecommendRequest.builder()
+                    .synopsis(joinText(character.getDescription(), project.getDescription()))
+                    .build();
+            criteria.add(RecommendCriteria.of(character, request));
+        }
 
-        for (ActorProfile actor : actors) {
-            List<String> reasons = new ArrayList<>();
-            reasons.add("프로필 완성도 높음");
-            if (actor.getSkills() != null && !actor.getSkills().isEmpty()) {
-                reasons.add("다양한 스킬 보유");
-            }
+        List<List<ActorRecommendation>> ranked = criteria.isEmpty()
+                ? List.of()
+                : actorRecommendEngine.recommendAll(criteria, limit, distinct);
+
+        // 배역 전체의 배우를 한 번에 조회
+        Map<UUID, ActorProfile> actors = findRecommendedActors(
+                ranked.stream().flatMap(List::stream).map(ActorRecommendation::getActorId).distinct().toList());
+
+        List<ProjectRecommendResponse.RoleRecommendation> roles = new ArrayList<>(characters.size());
+        for (int i = 0; i < characters.size(); i++) {
+            Character character = characters.get(i);
+            roles.add(ProjectRecommendResponse.RoleRecommendation.builder()
+                    .characterId(character.getId())
+                    .characterName(character.getName())
+                    .recommendedActors(toRecommendResponses(ranked.get(i), actors))
+                    .build());
+        }
+
+        return ProjectRecommendResponse.builder()
+                .projectId(projectId)
+                .distinct(distinct)
+                .roles(roles)
+                .build();
+    }
 
-            recommendations.add(ActorRecommendResponse.from(actor, baseScore, reasons));
-            baseScore -= 5;
+    private static String joinText(String first, String second) {
+        if (!StringUtils.hasText(first)) {
+            return second;
         }
+        return StringUtils.hasText(second) ? first + " " + second : first;
+    }
+
+    private List<ActorRecommendResponse> toRecommendResponses(List<ActorRecommendation> ranked) {
+        return toRecommendResponses(ranked,
+                findRecommendedActors(ranked.stream().map(ActorRecommendation::getActorId).toList()));
+    }
 
+    private Map<UUID, ActorProfile> findRecommendedActors(List<UUID> actorIds) {
+        if (actorIds.isEmpty()) {
+            return Map.of();
+        }
+        return actorProfileRepository.findAllByUserIdInWithUser(actorIds).stream()
+                .collect(Collectors.toMap(ActorProfile::getUserId, Function.identity()));
+    }
+
+    // 추천 순서를 유지하여 응답 변환 (스냅샷 이후 삭제된 배우는 제외)
+    private static List<ActorRecommendResponse> toRecommendResponses(List<ActorRecommendation> ranked,
+                                                                     Map<UUID, ActorProfile> actors) {
+        List<ActorRecommendResponse> recommendations = new ArrayList<>();
+        for (ActorRecommendation recommendation : ranked) {
+            ActorProfile actor = actors.get(recommendation.getActorId());
+            if (actor != null) {
+                recommendations.add(ActorRecommendResponse.from(
+                        actor, recommendation.getScore(), recommendation.getReasons()));
+            }
+        }
         return recommendations;
     }
 
+    /**
+     * 비슷한 배우 조회
+     * 배경 작업(SimilarActorJob)이 미리 계산한 이웃 목록을 그대로 사용 (아직 계산되지 않았으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<ActorSummaryResponse> getSimilarActors(UUID actorId, int limit) {
+        if (limit < 1 || limit > SIMILAR_MAX_LIMIT) {
+            throw new ValidationException("limit은 1~" + SIMILAR_MAX_LIMIT + " 사이여야 합니다.");
+        }
+        if (!actorProfileRepository.existsById(actorId)) {
+            throw new NotFoundException(ErrorCode.ACTOR_PROFILE_NOT_FOUND);
+        }
+
+        List<UUID> neighborIds = similarActorsRepository.findById(actorId)
+                .map(SimilarActors::getNeighborIds)
+                .orElse(List.of());
+        return actorProfileRepository.findSummariesByIds(
+                neighborIds.subList(0, Math.min(limit, neighborIds.size())));
+    }
+
     /**
      * 배우 연락하기 (섭외 요청)
      */
@@ -275,10 +479,13 @@ public class ActorService {
                 request.getMessage()
         );
         ContactRequest savedRequest = contactRequestRepository.save(contactRequest);
+        userCounterWriter.increment(user.getId(), UserCounterType.CONTACTS_SENT,
+                actorId, UserCounterType.CONTACTS_RECEIVED, 1);
 
         // 활동 내역 기록 (배우에게)
         Activity activity = Activity.contactReceived(actor, user, request.getProjectId());
         activityRepository.save(activity);
+        eventPublisher.publishEvent(ActivityRecordedEvent.of(activity));
 
         log.info("Contact request sent from agency {} to actor {}", user.getId(), actorId);
 
@@ -2,6 +2,7 @@ package restapi.kculturebackend.domain.actor.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import restapi.kculturebackend.common.exception.ErrorCode;
@@ -12,6 +13,7 @@ import restapi.kculturebackend.domain.actor.dto.FilmographyResponse;
 import restapi.kculturebackend.domain.actor.dto.UpdateFilmographyRequest;
 import restapi.kculturebackend.domain.actor.entity.ActorProfile;
 import restapi.kculturebackend.domain.actor.entity.Filmography;
+import restapi.kculturebackend.domain.actor.event.ActorPortfolioChangedEvent;
 import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
 import restapi.kculturebackend.domain.actor.repository.FilmographyRepository;
 import restapi.kculturebackend.domain.user.entity.User;
@@ -31,6 +33,7 @@ public class FilmographyService {
 
     private final FilmographyRepository filmographyRepository;
     private final ActorProfileRepository actorProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 배우의 필모그래피 목록 조회
@@ -95,6 +98,7 @@ public class FilmographyService {
 
         Filmography saved = filmographyRepository.save(filmography);
         log.info("Filmography created: {} for actor: {}", saved.getId(), user.getId());
+        eventPublisher.publishEvent(new ActorPortfolioChangedEvent(user.getId()));
 
         return FilmographyResponse.from(saved);
     }
@@ -128,6 +132,7 @@ public class FilmographyService {
 
         Filmography saved = filmographyRepository.save(filmography);
         log.info("Filmography updated: {}", filmographyId);
+        eventPublisher.publishEvent(new ActorPortfolioChangedEvent(user.getId()));
 
         return FilmographyResponse.from(saved);
     }
@@ -149,6 +154,7 @@ public class FilmographyService {
 
         filmographyRepository.delete(filmography);
         log.info("Filmography deleted: {}", filmographyId);
+        eventPublisher.publishEvent(new ActorPortfolioChangedEvent(user.getId()));
     }
 
     /**
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import restapi.kculturebackend.common.exception.ErrorCode;
@@ -14,6 +15,7 @@ import restapi.kculturebackend.domain.actor.dto.ShowreelResponse;
 import restapi.kculturebackend.domain.actor.dto.UpdateShowreelRequest;
 import restapi.kculturebackend.domain.actor.entity.ActorProfile;
 import restapi.kculturebackend.domain.actor.entity.Showreel;
+import restapi.kculturebackend.domain.actor.event.ActorPortfolioChangedEvent;
 import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
 import restapi.kculturebackend.domain.actor.repository.ShowreelRepository;
 import restapi.kculturebackend.domain.user.entity.User;
@@ -33,6 +35,7 @@ public class ShowreelService {
 
     private final ShowreelRepository showreelRepository;
     private final ActorProfileRepository actorProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 배우의 쇼릴 목록 조회
@@ -108,6 +111,7 @@ public class ShowreelService {
 
         Showreel saved = showreelRepository.save(showreel);
         log.info("Showreel created: {} for actor: {}", saved.getId(), user.getId());
+        eventPublisher.publishEvent(new ActorPortfolioChangedEvent(user.getId()));
 
         return ShowreelResponse.from(saved);
     }
@@ -140,6 +144,7 @@ public class ShowreelService {
 
         Showreel saved = showreelRepository.save(showreel);
         log.info("Showreel updated: {}", showreelId);
+        eventPublisher.publishEvent(new ActorPortfolioChangedEvent(user.getId()));
 
         return ShowreelResponse.from(saved);
     }
@@ -161,6 +166,7 @@ public class ShowreelService {
 
         showreelRepository.delete(showreel);
         log.info("Showreel deleted: {}", showreelId);
+        eventPublisher.publishEvent(new ActorPortfolioChangedEvent(user.getId()));
     }
 
     /**
@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import restapi.kculturebackend.common.dto.ApiResponse;
 import restapi.kculturebackend.domain.dashboard.dto.ActorDashboardStats;
 import restapi.kculturebackend.domain.dashboard.dto.AgencyDashboardStats;
+import restapi.kculturebackend.domain.dashboard.dto.DashboardTrendResponse;
 import restapi.kculturebackend.domain.dashboard.dto.RecentActivitiesResponse;
 import restapi.kculturebackend.domain.dashboard.service.DashboardService;
 import restapi.kculturebackend.domain.user.entity.User;
@@ -47,7 +48,8 @@ public class DashboardController {
     /**
      * 최근 활동 내역 조회
      */
-    @Operation(summary = "최근 활동 내역 조회", description = "사용자의 최근 활동 내역을 조회합니다.")
+    @Operation(summary = "최근 활동 내역 조회",
+            description = "사용자의 최근 활동 내역을 조회합니다. recentTotal은 최근 90일 동안의 활동 수입니다.")
     @GetMapping("/activities")
     public ResponseEntity<ApiResponse<RecentActivitiesResponse>> getRecentActivities(
             @AuthenticationPrincipal User user,
@@ -56,4 +58,22 @@ public class DashboardController {
         RecentActivitiesResponse response = dashboardService.getRecentActivities(user, limit);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * 이벤트 추이 조회
+     */
+    @Operation(summary = "이벤트 추이 조회",
+            description = "프로필 조회/찜/섭외 요청의 시간별 또는 일별 발생 수를 조회합니다. 집계 주기만큼 늦게 반영됩니다.")
+    @GetMapping("/trend")
+    public ResponseEntity<ApiResponse<DashboardTrendResponse>> getTrend(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "집계 단위 (hour, day)")
+            @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "이벤트 종류 (view, like, contact)")
+            @RequestParam(defaultValue = "view") String type,
+            @Parameter(description = "구간 수 (기본값: 30, 최대: hour 168 / day 365)")
+            @RequestParam(defaultValue = "30") int buckets) {
+        DashboardTrendResponse response = dashboardService.getTrend(user, granularity, type, buckets);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
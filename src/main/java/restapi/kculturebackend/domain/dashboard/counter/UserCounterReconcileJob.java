@@ -0,0 +1,133 @@
+package restapi.kculturebackend.domain.dashboard.counter;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 대시보드 카운터 보정 작업
+ *
+ * user_counters를 원본 테이블(favorites, contact_requests, projects, characters) 기준으로 다시 계산하여
+ * 어긋난 행만 고친다. 최초 실행 시 카운터 행이 없는 사용자도 채움.
+ * - 사용자 ID 순서로 batch-size개씩 나눠 각각 한 트랜잭션에서 처리
+ * - 먼저 카운터 행을 FOR UPDATE로 잠근 뒤 다음 문장에서 다시 계산하므로, 동시에 커밋된 증감이 덮어써지지 않음
+ *   (READ COMMITTED에서는 문장마다 새 스냅샷을 사용)
+ * - 트랜잭션 범위 advisory lock을 잡지 못하면 다른 인스턴스가 보정 중인 것으로 보고 종료
+ */
+@Slf4j
+@Component
+public class UserCounterReconcileJob {
+
+    // advisory lock 키 ("kccountr" ASCII)
+    private static final long LOCK_KEY = 0x6b63636f756e7472L;
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String INSERT_MISSING_SQL =
+            "INSERT INTO user_counters (user_id, favorites_given, favorites_received, contacts_sent, " +
+            "contacts_received, active_projects, characters) " +
+            "SELECT u.id, 0, 0, 0, 0, 0, 0 FROM users u ON CONFLICT (user_id) DO NOTHING";
+    private static final String LOCK_BATCH_SQL =
+            "SELECT user_id FROM user_counters WHERE user_id > ? ORDER BY user_id LIMIT ? FOR UPDATE";
+    // 진행중 상태는 ProjectStatus.isActive()와 같음
+    private static final String RECONCILE_SQL =
+            "UPDATE user_counters uc SET favorites_given = c.favorites_given, " +
+            "favorites_received = c.favorites_received, contacts_sent = c.contacts_sent, " +
+            "contacts_received = c.contacts_received, active_projects = c.active_projects, " +
+            "characters = c.characters " +
+            "FROM (SELECT t.user_id, " +
+            "(SELECT COUNT(*) FROM favorites f WHERE f.user_id = t.user_id AND f.type = 'ACTOR') AS favorites_given, " +
+            "(SELECT COUNT(*) FROM favorites f WHERE f.target_id = t.user_id AND f.type = 'ACTOR') AS favorites_received, " +
+            "(SELECT COUNT(*) FROM contact_requests r WHERE r.agency_id = t.user_id) AS contacts_sent, " +
+            "(SELECT COUNT(*) FROM contact_requests r WHERE r.actor_id = t.user_id) AS contacts_received, " +
+            "(SELECT COUNT(*) FROM projects p WHERE p.agency_id = t.user_id " +
+            "AND p.status IN ('CASTING', 'PRE_PRODUCTION', 'IN_PRODUCTION')) AS active_projects, " +
+            "(SELECT COUNT(*) FROM characters ch JOIN projects p ON p.id = ch.project_id " +
+            "WHERE p.agency_id = t.user_id) AS characters " +
+            "FROM user_counters t WHERE t.user_id >= ? AND t.user_id <= ?) c " +
+            "WHERE uc.user_id = c.user_id AND (uc.favorites_given, uc.favorites_received, uc.contacts_sent, " +
+            "uc.contacts_received, uc.active_projects, uc.characters) IS DISTINCT FROM (c.favorites_given, " +
+            "c.favorites_received, c.contacts_sent, c.contacts_received, c.active_projects, c.characters)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public UserCounterReconcileJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.counters.reconcile.enabled:true}") boolean enabled,
+            @Value("${dashboard.counters.reconcile.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile.interval-millis:86400000}",
+            initialDelayString = "${dashboard.counters.reconcile.initial-delay-millis:60000}")
+    public void scheduledReconcile() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 전체 사용자 카운터 보정 (다른 인스턴스가 보정 중이면 바로 종료)
+     */
+    public synchronized void reconcile() {
+        try {
+            Integer inserted = transaction.execute(status -> tryLock() ? jdbcTemplate.update(INSERT_MISSING_SQL) : null);
+            if (inserted == null) {
+                return;
+            }
+
+            UUID after = MIN_UUID;
+            int corrected = 0;
+            while (after != null) {
+                UUID from = after;
+                BatchResult result = transaction.execute(status -> reconcileBatch(from));
+                if (result == null) {
+                    return;
+                }
+                corrected += result.corrected();
+                after = result.lastUserId();
+            }
+            if (inserted > 0 || corrected > 0) {
+                log.info("User counters reconciled: {} rows created, {} rows corrected", inserted, corrected);
+            }
+        } catch (RuntimeException e) {
+            log.error("User counter reconciliation failed", e);
+        }
+    }
+
+    // 다음 배치를 잠그고 다시 계산 (락을 못 잡으면 null, 마지막 배치면 lastUserId가 null)
+    private BatchResult reconcileBatch(UUID after) {
+        if (!tryLock()) {
+            return null;
+        }
+        List<UUID> userIds = jdbcTemplate.queryForList(LOCK_BATCH_SQL, UUID.class, after, batchSize);
+        if (userIds.isEmpty()) {
+            return new BatchResult(0, null);
+        }
+        UUID last = userIds.get(userIds.size() - 1);
+        int corrected = jdbcTemplate.update(RECONCILE_SQL, userIds.get(0), last);
+        return new BatchResult(corrected, userIds.size() < batchSize ? null : last);
+    }
+
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, LOCK_KEY));
+    }
+
+    private record BatchResult(int corrected, UUID lastUserId) {
+    }
+}
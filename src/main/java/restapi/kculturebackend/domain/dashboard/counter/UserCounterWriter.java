@@ -0,0 +1,83 @@
+package restapi.kculturebackend.domain.dashboard.counter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import restapi.kculturebackend.domain.dashboard.entity.UserCounterType;
+import restapi.kculturebackend.domain.dashboard.event.DashboardStatsChangedEvent;
+
+/**
+ * 사용자별 대시보드 카운터 증감
+ *
+ * - 호출 측 트랜잭션 안에서 user_counters 행을 upsert하므로 원본 쓰기와 함께 커밋/롤백됨
+ * - 행이 없으면 증감분으로 새 행을 만들고, 값은 0 아래로 내려가지 않음 (어긋난 값은 UserCounterReconcileJob이 보정)
+ * - 두 사용자를 함께 갱신할 때는 PostgreSQL uuid 정렬 순서(UUID 문자열 순서와 같음)로 행을 잠가
+ *   다른 쓰기 경로나 보정 작업과의 교착을 피함
+ * - 커밋 이후 대시보드 통계 캐시를 비우도록 DashboardStatsChangedEvent 발행
+ */
+@Component
+public class UserCounterWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<UserCounterType, String> upsertSql = new EnumMap<>(UserCounterType.class);
+
+    public UserCounterWriter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        String columns = Stream.of(UserCounterType.values())
+                .map(UserCounterType::getColumn)
+                .collect(Collectors.joining(", "));
+        for (UserCounterType type : UserCounterType.values()) {
+            String values = Stream.of(UserCounterType.values())
+                    .map(other -> other == type ? "GREATEST(?, 0)" : "0")
+                    .collect(Collectors.joining(", "));
+            upsertSql.put(type, "INSERT INTO user_counters (user_id, " + columns + ") VALUES (?, " + values + ") " +
+                    "ON CONFLICT (user_id) DO UPDATE SET " + type.getColumn() +
+                    " = GREATEST(user_counters." + type.getColumn() + " + ?, 0)");
+        }
+    }
+
+    /**
+     * 사용자 카운터 증감
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(UUID userId, UserCounterType type, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        upsert(userId, type, delta);
+        eventPublisher.publishEvent(DashboardStatsChangedEvent.of(userId));
+    }
+
+    /**
+     * 두 사용자 카운터를 같은 증감분으로 갱신 (예: 찜한 사용자의 FAVORITES_GIVEN과 대상 배우의 FAVORITES_RECEIVED)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(UUID userId, UserCounterType type, UUID otherUserId, UserCounterType otherType, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (userId.toString().compareTo(otherUserId.toString()) <= 0) {
+            upsert(userId, type, delta);
+            upsert(otherUserId, otherType, delta);
+        } else {
+            upsert(otherUserId, otherType, delta);
+            upsert(userId, type, delta);
+        }
+        eventPublisher.publishEvent(DashboardStatsChangedEvent.of(userId, otherUserId));
+    }
+
+    private void upsert(UUID userId, UserCounterType type, long delta) {
+        jdbcTemplate.update(upsertSql.get(type), userId, delta, delta);
+    }
+}
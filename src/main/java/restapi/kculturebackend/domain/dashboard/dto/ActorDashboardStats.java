@@ -16,6 +16,9 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ActorDashboardStats {
     private Integer profileViews;
+    private Long uniqueViewersToday; // 고유 조회자 수 추정치 (집계 불가 시 null)
+    private Long uniqueViewers7Days;
+    private Long uniqueViewers30Days;
     private Integer likes;
     private Integer contactRequests;
     private Integer profileCompleteness;
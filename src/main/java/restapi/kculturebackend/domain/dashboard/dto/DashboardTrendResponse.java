@@ -0,0 +1,65 @@
+package restapi.kculturebackend.domain.dashboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import restapi.kculturebackend.domain.dashboard.entity.ActivityType;
+import restapi.kculturebackend.domain.dashboard.entity.EventRollup;
+import restapi.kculturebackend.domain.dashboard.entity.RollupGranularity;
+
+/**
+ * 대시보드 추이 응답 DTO
+ * 구간 시작 시각 순 발생 수 (발생이 없는 구간은 0으로 채움)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardTrendResponse {
+    private String granularity;
+    private String type;
+    private long total;
+    private List<Point> points;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime bucketStart;
+        private long count;
+    }
+
+    /**
+     * from부터 buckets개 구간으로 채운 추이
+     */
+    public static DashboardTrendResponse of(RollupGranularity granularity, ActivityType type,
+                                            LocalDateTime from, int buckets, List<EventRollup> rollups) {
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        for (EventRollup rollup : rollups) {
+            counts.merge(rollup.getBucketStart(), rollup.getEventCount(), Long::sum);
+        }
+
+        List<Point> points = new ArrayList<>(buckets);
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            LocalDateTime bucketStart = granularity.plus(from, i);
+            long count = counts.getOrDefault(bucketStart, 0L);
+            points.add(new Point(bucketStart, count));
+            total += count;
+        }
+
+        return DashboardTrendResponse.builder()
+                .granularity(granularity.getTruncUnit())
+                .type(type.getCode())
+                .total(total)
+                .points(points)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package restapi.kculturebackend.domain.dashboard.dto;
 
 import java.util.List;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,12 +17,15 @@ import lombok.NoArgsConstructor;
 @Builder
 public class RecentActivitiesResponse {
     private List<ActivityResponse> activities;
-    private int total;
 
-    public static RecentActivitiesResponse of(List<ActivityResponse> activities, int total) {
+    // 전체 기간 건수가 아님 (오래된 활동 파티션은 보존 기간이 지나면 제거됨)
+    @Schema(description = "최근 90일 동안의 활동 수")
+    private int recentTotal;
+
+    public static RecentActivitiesResponse of(List<ActivityResponse> activities, int recentTotal) {
         return RecentActivitiesResponse.builder()
                 .activities(activities)
-                .total(total)
+                .recentTotal(recentTotal)
                 .build();
     }
 }
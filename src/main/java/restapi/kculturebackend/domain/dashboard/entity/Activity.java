@@ -25,12 +25,15 @@ import restapi.kculturebackend.domain.user.entity.User;
 /**
  * 활동 내역 엔티티
  * 사용자의 프로필 관련 활동(조회, 찜, 섭외 요청 등)을 기록
+ * created_at 기준 월 단위 파티션 테이블 (EventPartitionManager가 전환/관리)
  */
 @Entity
 @Table(name = "activities", indexes = {
         @Index(name = "idx_activity_user", columnList = "user_id"),
         @Index(name = "idx_activity_type", columnList = "type"),
-        @Index(name = "idx_activity_created", columnList = "created_at DESC")
+        @Index(name = "idx_activity_created", columnList = "created_at DESC"),
+        // 사용자별 최근 활동 (파티션마다 최신순으로 읽다가 LIMIT에서 멈춤)
+        @Index(name = "idx_activity_user_created", columnList = "user_id, created_at DESC")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,6 +41,9 @@ import restapi.kculturebackend.domain.user.entity.User;
 @Builder
 public class Activity extends BaseEntity {
 
+    // 프로필 조회 활동의 비로그인 조회자 이름 (ProfileViewBatchWriter의 일괄 저장과 공유)
+    public static final String ANONYMOUS_VIEWER_NAME = "익명 사용자";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", columnDefinition = "UUID")
@@ -76,16 +82,23 @@ public class Activity extends BaseEntity {
     }
 
     public static Activity profileViewed(User actor, User viewer) {
-        String viewerName = viewer != null ? viewer.getName() : "익명 사용자";
+        String viewerName = viewer != null ? viewer.getName() : ANONYMOUS_VIEWER_NAME;
         return Activity.builder()
                 .user(actor)
                 .type(ActivityType.PROFILE_VIEW)
-                .message(viewerName + "님이 프로필을 조회했습니다")
+                .message(profileViewedMessage(viewerName))
                 .relatedUserId(viewer != null ? viewer.getId() : null)
                 .relatedUserName(viewerName)
                 .build();
     }
 
+    /**
+     * 프로필 조회 활동 메시지 (엔티티 생성과 JDBC 일괄 저장이 같은 문구를 쓰도록 공유)
+     */
+    public static String profileViewedMessage(String viewerName) {
+        return viewerName + "님이 프로필을 조회했습니다";
+    }
+
     public static Activity favorited(User actor, User favoritedBy) {
         return Activity.builder()
                 .user(actor)
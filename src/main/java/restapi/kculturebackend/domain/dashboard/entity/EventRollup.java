@@ -0,0 +1,53 @@
+package restapi.kculturebackend.domain.dashboard.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 이벤트 집계 엔티티
+ * 사용자별/이벤트 종류별 시간·일 단위 발생 수 (DashboardRollupJob이 원본 테이블에서 증분 집계)
+ * - PROFILE_VIEW: profile_views 기준 (조회된 배우)
+ * - 그 외 활동 종류: activities 기준 (활동을 받은 사용자)
+ * 유니크 제약이 추이 조회 인덱스를 겸함 (사용자 + 단위 + 종류 + 구간 시작)
+ */
+@Entity
+@Table(name = "dashboard_event_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_rollup_bucket",
+                columnNames = {"subject_id", "granularity", "event_type", "bucket_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventRollup {
+
+    @Id
+    @Column(name = "id", columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "subject_id", nullable = false, columnDefinition = "UUID")
+    private UUID subjectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private ActivityType eventType;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
@@ -23,12 +23,14 @@ import restapi.kculturebackend.domain.user.entity.User;
 /**
  * 프로필 조회 기록 엔티티
  * 배우 프로필 조회 이력을 저장하여 조회수 통계를 집계
+ * created_at 기준 월 단위 파티션 테이블 (EventPartitionManager가 전환/관리)
  */
 @Entity
 @Table(name = "profile_views", indexes = {
         @Index(name = "idx_profile_view_actor", columnList = "actor_id"),
         @Index(name = "idx_profile_view_viewer", columnList = "viewer_id"),
-        @Index(name = "idx_profile_view_created", columnList = "created_at")
+        @Index(name = "idx_profile_view_created", columnList = "created_at"),
+        @Index(name = "idx_profile_view_actor_created", columnList = "actor_id, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,32 @@
+package restapi.kculturebackend.domain.dashboard.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 집계 단위 (시간별 / 일별)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupGranularity {
+    HOUR("hour", ChronoUnit.HOURS, 168),
+    DAY("day", ChronoUnit.DAYS, 365);
+
+    private final String truncUnit; // PostgreSQL date_trunc 단위
+    private final ChronoUnit unit;
+    private final int maxBuckets; // 추이 조회 시 최대 구간 수
+
+    /**
+     * 시각이 속한 구간의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime plus(LocalDateTime bucketStart, long buckets) {
+        return bucketStart.plus(buckets, unit);
+    }
+}
@@ -0,0 +1,29 @@
+package restapi.kculturebackend.domain.dashboard.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 집계 진행 위치 엔티티
+ * 집계 작업별로 어느 시각(created_at)까지 원본을 반영했는지 기록 (다음 실행은 이 시각부터 이어서 집계)
+ */
+@Entity
+@Table(name = "dashboard_rollup_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RollupWatermark {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "high_water_mark", nullable = false)
+    private LocalDateTime highWaterMark;
+}
@@ -0,0 +1,45 @@
+package restapi.kculturebackend.domain.dashboard.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 대시보드 카운터 엔티티
+ * 찜/섭외 요청/프로젝트/캐릭터 쓰기 경로가 같은 트랜잭션에서 증감하고 (UserCounterWriter),
+ * UserCounterReconcileJob이 주기적으로 원본 테이블 기준으로 보정
+ */
+@Entity
+@Table(name = "user_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCounter {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "UUID")
+    private UUID userId;
+
+    @Column(name = "favorites_given", nullable = false)
+    private long favoritesGiven; // 찜한 배우 수
+
+    @Column(name = "favorites_received", nullable = false)
+    private long favoritesReceived; // 배우로서 찜 받은 수
+
+    @Column(name = "contacts_sent", nullable = false)
+    private long contactsSent; // 보낸 섭외 요청 수
+
+    @Column(name = "contacts_received", nullable = false)
+    private long contactsReceived; // 받은 섭외 요청 수
+
+    @Column(name = "active_projects", nullable = false)
+    private long activeProjects; // 진행중 프로젝트 수
+
+    @Column(name = "characters", nullable = false)
+    private long characters; // 전체 캐릭터 수
+}
@@ -0,0 +1,20 @@
+package restapi.kculturebackend.domain.dashboard.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 대시보드 카운터 종류 (user_counters 컬럼)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserCounterType {
+    FAVORITES_GIVEN("favorites_given"), // 배우 찜만 집계
+    FAVORITES_RECEIVED("favorites_received"),
+    CONTACTS_SENT("contacts_sent"),
+    CONTACTS_RECEIVED("contacts_received"),
+    ACTIVE_PROJECTS("active_projects"),
+    CHARACTERS("characters");
+
+    private final String column;
+}
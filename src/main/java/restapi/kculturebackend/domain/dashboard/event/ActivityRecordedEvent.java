@@ -0,0 +1,25 @@
+package restapi.kculturebackend.domain.dashboard.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.domain.dashboard.dto.ActivityResponse;
+import restapi.kculturebackend.domain.dashboard.entity.Activity;
+
+/**
+ * 활동 내역 저장 이벤트
+ * 커밋 이후 ActivityFeedStore가 사용자별 최근 활동 피드에 추가
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActivityRecordedEvent {
+    private final Map<UUID, List<ActivityResponse>> activitiesByUser; // 사용자별, 오래된 순
+
+    public static ActivityRecordedEvent of(Activity activity) {
+        return new ActivityRecordedEvent(
+                Map.of(activity.getUser().getId(), List.of(ActivityResponse.from(activity))));
+    }
+}
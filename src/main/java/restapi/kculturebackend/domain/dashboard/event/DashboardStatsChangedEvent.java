@@ -0,0 +1,26 @@
+package restapi.kculturebackend.domain.dashboard.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대시보드 통계 변경 이벤트
+ * UserCounterWriter가 카운터를 증감할 때 발행하며, 커밋 이후 DashboardStatsCache에서 해당 사용자 캐시를 비움
+ */
+@Getter
+@RequiredArgsConstructor
+public class DashboardStatsChangedEvent {
+    private final Set<UUID> userIds;
+
+    public static DashboardStatsChangedEvent of(UUID... userIds) {
+        return new DashboardStatsChangedEvent(Arrays.stream(userIds)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
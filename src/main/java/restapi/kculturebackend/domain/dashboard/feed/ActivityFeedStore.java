@@ -0,0 +1,267 @@
+package restapi.kculturebackend.domain.dashboard.feed;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.dashboard.dto.ActivityResponse;
+import restapi.kculturebackend.domain.dashboard.dto.RecentActivitiesResponse;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+
+/**
+ * 사용자별 최근 활동 피드 (Redis, 쓰기 시 fan-out)
+ *
+ * - 사용자마다 최근 활동 목록(최신순, capacity개로 제한)과 조회 기간(since 이후) 건수 카운터를 보관
+ * - 활동이 커밋되면 피드가 채워져 있는 사용자에만 추가하고 건수를 올림 (비어 있으면 다음 조회에서 SQL로 채움)
+ * - 조회는 LRANGE + GET 한 번(O(limit))으로 끝나며 DB를 쓰지 않음
+ * - 채우는 동안 들어온 활동이 빠지지 않도록 쓰기마다 세대 번호를 올리고, 조회 시점과 세대가 같을 때만 채움
+ * - 채운 SQL 결과에 이미 들어 있는 활동이 커밋 이후 다시 추가되지 않도록, 목록에 같은 ID가 있으면 건너뜀
+ *   (목록이 capacity개로 제한되어 있어 스크립트 안에서 목록을 훑어 확인)
+ * - 피드와 건수는 채운 시점부터 ttl 뒤 만료되어 SQL로 다시 채움
+ *   (건수는 그 사이 조회 기간을 벗어난 활동만큼 크게 나올 수 있음)
+ * - Redis 장애 시 SQL로 조회 (활동 저장/조회 자체는 실패시키지 않음)
+ */
+@Slf4j
+@Component
+public class ActivityFeedStore {
+
+    // 한 사용자의 키가 같은 슬롯에 놓이도록 사용자 ID를 해시 태그로 감쌈
+    private static final String KEY_PREFIX = "activity-feed:{";
+    private static final String FIELD_SEPARATOR = "\u001F";
+    private static final int FIELD_COUNT = 7;
+
+    // KEYS: 목록, 건수, 세대 / ARGV: capacity, ttl, (활동 ID, 활동) 쌍(오래된 순) / 반환: 추가한 활동 수
+    private static final byte[] PUSH_SCRIPT = bytes(
+            "redis.call('INCR', KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end " +
+            "local present = {} " +
+            "for _, item in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do " +
+            "present[string.match(item, '^[^\\31]*')] = true end " +
+            "local added = 0 " +
+            "for i = 3, #ARGV, 2 do " +
+            "if ARGV[i] == '' or not present[ARGV[i]] then " +
+            "redis.call('LPUSH', KEYS[1], ARGV[i + 1]) " +
+            "present[ARGV[i]] = true " +
+            "added = added + 1 end end " +
+            "if added == 0 then return 0 end " +
+            "redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+            "redis.call('INCRBY', KEYS[2], added) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then " +
+            "redis.call('EXPIRE', KEYS[1], math.max(redis.call('TTL', KEYS[2]), 1)) end " +
+            "return added");
+
+    // KEYS: 목록, 건수, 세대 / ARGV: 조회 시점 세대, ttl, 건수, 활동(최신순)
+    private static final byte[] FILL_SCRIPT = bytes(
+            "if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "if #ARGV > 3 then " +
+            "redis.call('RPUSH', KEYS[1], unpack(ARGV, 4)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[2]) " +
+            "return 1");
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int capacity;
+    private final long ttlSeconds;
+
+    public ActivityFeedStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${dashboard.activity-feed.enabled:true}") boolean enabled,
+            @Value("${dashboard.activity-feed.capacity:50}") int capacity,
+            @Value("${dashboard.activity-feed.ttl-seconds:3600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 최근 활동 조회 (since 이후, 최대 limit개)
+     * 피드가 비어 있으면 loader로 최근 capacity개와 건수를 읽어 피드를 채운 뒤 반환
+     *
+     * @param loader 최근 n개 활동과 since 이후 전체 건수를 SQL로 조회
+     */
+    public RecentActivitiesResponse recent(UUID userId, int limit, LocalDateTime since,
+                                           IntFunction<RecentActivitiesResponse> loader) {
+        if (!enabled || limit > capacity) {
+            return loader.apply(limit);
+        }
+
+        String generation;
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.listCommands().lRange(bytes(itemsKey(userId)), 0, limit - 1);
+                connection.stringCommands().get(bytes(totalKey(userId)));
+                connection.stringCommands().get(bytes(generationKey(userId)));
+                return null;
+            });
+            if (results.get(1) != null) {
+                @SuppressWarnings("unchecked")
+                List<String> items = (List<String>) results.get(0);
+                return RecentActivitiesResponse.of(decodeAll(items, since), Integer.parseInt((String) results.get(1)));
+            }
+            generation = results.get(2) != null ? (String) results.get(2) : "0";
+        } catch (DataAccessException e) {
+            log.warn("Activity feed read failed: {}", e.getMessage());
+            return loader.apply(limit);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // 형식이 맞지 않는 항목은 SQL 결과로 다시 채움
+            log.warn("Activity feed for user {} is malformed, reloading: {}", userId, e.getMessage());
+            generation = null;
+        }
+
+        RecentActivitiesResponse loaded = loader.apply(capacity);
+        if (generation != null) {
+            fill(userId, generation, loaded);
+        } else {
+            evict(userId);
+        }
+        List<ActivityResponse> activities = loaded.getActivities();
+        return RecentActivitiesResponse.of(
+                activities.size() > limit ? activities.subList(0, limit) : activities, loaded.getRecentTotal());
+    }
+
+    /**
+     * 활동 추가 반영 (커밋 이후, 롤백된 활동이 피드에 들어가지 않도록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivityRecorded(ActivityRecordedEvent event) {
+        if (!enabled || event.getActivitiesByUser().isEmpty()) {
+            return;
+        }
+        byte[] capacityArg = bytes(String.valueOf(capacity));
+        byte[] ttlArg = bytes(String.valueOf(ttlSeconds));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<UUID, List<ActivityResponse>> entry : event.getActivitiesByUser().entrySet()) {
+                    UUID userId = entry.getKey();
+                    List<byte[]> args = new ArrayList<>(entry.getValue().size() * 2 + 5);
+                    args.add(bytes(itemsKey(userId)));
+                    args.add(bytes(totalKey(userId)));
+                    args.add(bytes(generationKey(userId)));
+                    args.add(capacityArg);
+                    args.add(ttlArg);
+                    for (ActivityResponse activity : entry.getValue()) {
+                        args.add(bytes(text(activity.getId())));
+                        args.add(bytes(encode(activity)));
+                    }
+                    connection.scriptingCommands().eval(PUSH_SCRIPT, ReturnType.INTEGER, 3, args.toArray(byte[][]::new));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 이미 채워진 피드에는 ttl이 지날 때까지 이번 활동이 빠짐
+            log.warn("Activity feed update failed: {}", e.getMessage());
+        }
+    }
+
+    private void fill(UUID userId, String generation, RecentActivitiesResponse loaded) {
+        List<byte[]> args = new ArrayList<>(loaded.getActivities().size() + 6);
+        args.add(bytes(itemsKey(userId)));
+        args.add(bytes(totalKey(userId)));
+        args.add(bytes(generationKey(userId)));
+        args.add(bytes(generation));
+        args.add(bytes(String.valueOf(ttlSeconds)));
+        args.add(bytes(String.valueOf(loaded.getRecentTotal())));
+        loaded.getActivities().forEach(activity -> args.add(bytes(encode(activity))));
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands()
+                    .eval(FILL_SCRIPT, ReturnType.INTEGER, 3, args.toArray(byte[][]::new)));
+        } catch (DataAccessException e) {
+            log.warn("Activity feed fill failed: {}", e.getMessage());
+        }
+    }
+
+    private void evict(UUID userId) {
+        try {
+            redisTemplate.delete(List.of(itemsKey(userId), totalKey(userId)));
+        } catch (DataAccessException e) {
+            log.warn("Activity feed eviction failed: {}", e.getMessage());
+        }
+    }
+
+    private static List<ActivityResponse> decodeAll(List<String> items, LocalDateTime since) {
+        List<ActivityResponse> activities = new ArrayList<>(items.size());
+        for (String item : items) {
+            ActivityResponse activity = decode(item);
+            // 최신순이므로 조회 기간을 벗어난 항목 이후는 모두 기간 밖
+            if (activity.getCreatedAt() != null && activity.getCreatedAt().isBefore(since)) {
+                break;
+            }
+            activities.add(activity);
+        }
+        return activities;
+    }
+
+    private static String encode(ActivityResponse activity) {
+        return String.join(FIELD_SEPARATOR,
+                text(activity.getId()),
+                text(activity.getType()),
+                text(activity.getMessage()),
+                text(activity.getRelatedUserId()),
+                text(activity.getRelatedUserName()),
+                text(activity.getRelatedEntityId()),
+                text(activity.getCreatedAt()));
+    }
+
+    private static ActivityResponse decode(String value) {
+        String[] fields = value.split(FIELD_SEPARATOR, -1);
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalArgumentException("expected " + FIELD_COUNT + " fields but was " + fields.length);
+        }
+        return ActivityResponse.builder()
+                .id(uuid(fields[0]))
+                .type(emptyToNull(fields[1]))
+                .message(emptyToNull(fields[2]))
+                .relatedUserId(uuid(fields[3]))
+                .relatedUserName(emptyToNull(fields[4]))
+                .relatedEntityId(uuid(fields[5]))
+                .createdAt(fields[6].isEmpty() ? null : LocalDateTime.parse(fields[6]))
+                .build();
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString().replace(FIELD_SEPARATOR, " ") : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static UUID uuid(String value) {
+        return value.isEmpty() ? null : UUID.fromString(value);
+    }
+
+    private static String itemsKey(UUID userId) {
+        return KEY_PREFIX + userId + "}:items";
+    }
+
+    private static String totalKey(UUID userId) {
+        return KEY_PREFIX + userId + "}:total";
+    }
+
+    private static String generationKey(UUID userId) {
+        return KEY_PREFIX + userId + "}:gen";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
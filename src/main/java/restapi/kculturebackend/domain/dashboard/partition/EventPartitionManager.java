@@ -0,0 +1,446 @@
+package restapi.kculturebackend.domain.dashboard.partition;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * profile_views / activities 월 단위 범위 파티션 관리
+ *
+ * - 최초 실행 시 Hibernate가 만든 일반 테이블을 created_at 범위 파티션 테이블로 전환
+ *   (기존 테이블은 {테이블}_legacy 파티션으로 붙여 [MINVALUE, 다음 달 1일) 구간을 담당, 데이터 복사 없음)
+ * - 전환 전 기록은 모두 legacy 파티션 하나에 남으므로 월 단위로 나뉘지 않음
+ *   legacy는 구간 끝(전환한 달의 다음 달 1일)이 보관 기간을 지날 때 통째로 (내보낸 뒤) 제거됨
+ *   즉 전환 전 기록은 최소 retention-months 동안 남고, 그 시점에 한꺼번에 사라짐
+ * - 현재 달부터 ahead-months만큼 앞선 달까지 파티션을 미리 생성 (DEFAULT 파티션은 두지 않음)
+ * - retention-months보다 오래된 파티션은 행 단위 DELETE 대신 통째로 제거하며,
+ *   archive가 켜져 있으면 먼저 {archive-dir}/{테이블}/{파티션}.csv.gz로 내보냄 (내보내기에 실패하면 제거하지 않음)
+ * - archive-dir는 /uploads/**로 공개되는 업로드 디렉터리 밖이어야 함 (안쪽이면 기동 실패)
+ * - 모든 DDL과 보관/제거는 트랜잭션 범위 advisory lock을 잡은 인스턴스 하나만 수행
+ * - 파티션 테이블은 PK가 (id, created_at)이어야 하므로 전환 시 PK를 바꾸고, 나머지 인덱스와 FK는 같은 이름으로 다시 만듦
+ * - 전환 중 테이블을 훑는 작업은 모두 이름 변경 이전에 따로 수행해 읽기/쓰기를 막지 않음
+ *   (created_at 채우기, (id, created_at) 유니크 인덱스 CONCURRENTLY 생성, NOT VALID CHECK 추가 후 VALIDATE)
+ *   이름 변경/파티션 테이블 생성/ATTACH 트랜잭션은 검증된 CHECK와 기존 인덱스를 재사용하여 카탈로그만 변경
+ */
+@Slf4j
+@Component
+public class EventPartitionManager {
+
+    private static final List<String> TABLES = List.of("profile_views", "activities");
+    private static final String LEGACY_SUFFIX = "_legacy";
+    // advisory lock 키 ("kcpartit" ASCII)
+    private static final long LOCK_KEY = 0x6b63706172746974L;
+    private static final int ARCHIVE_FETCH_SIZE = 1000;
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String RELKIND_SQL =
+            "SELECT c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+            "WHERE n.nspname = current_schema() AND c.relname = ?";
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass ORDER BY c.relname";
+    private static final String PRIMARY_KEY_SQL =
+            "SELECT conname FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'p'";
+    private static final String FOREIGN_KEYS_SQL =
+            "SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint " +
+            "WHERE conrelid = ?::regclass AND contype = 'f'";
+    private static final String CHECKS_SQL =
+            "SELECT conname FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'c' " +
+            "AND starts_with(conname, ?)";
+    private static final String INDEX_VALID_SQL =
+            "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+            "JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = current_schema() AND c.relname = ?";
+    private static final String INDEXES_SQL =
+            "SELECT c.relname, pg_get_indexdef(i.indexrelid) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE i.indrelid = ?::regclass AND NOT i.indisprimary";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int aheadMonths;
+    private final int retentionMonths;
+    private final boolean archive;
+    private final Path archiveDir;
+
+    public EventPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.partition.enabled:true}") boolean enabled,
+            @Value("${dashboard.partition.ahead-months:3}") int aheadMonths,
+            @Value("${dashboard.partition.retention-months:12}") int retentionMonths,
+            @Value("${dashboard.partition.archive:true}") boolean archive,
+            @Value("${dashboard.partition.archive-dir:archive}") String archiveDir,
+            @Value("${file.storage.local.upload-dir:uploads}") String uploadDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.aheadMonths = aheadMonths;
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+        this.archiveDir = Paths.get(archiveDir).toAbsolutePath().normalize();
+        Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        if (enabled && archive && this.archiveDir.startsWith(uploadPath)) {
+            throw new IllegalStateException("dashboard.partition.archive-dir (" + this.archiveDir
+                    + ") must not be inside the publicly served upload directory (" + uploadPath + ")");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            maintain();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.partition.maintenance-millis:21600000}",
+            initialDelayString = "${dashboard.partition.maintenance-millis:21600000}")
+    public void scheduledMaintenance() {
+        if (enabled) {
+            maintain();
+        }
+    }
+
+    /**
+     * 파티션 전환/사전 생성/보관 기간 정리
+     */
+    public synchronized void maintain() {
+        YearMonth current = YearMonth.now();
+        for (String table : TABLES) {
+            try {
+                if ("r".equals(transaction.execute(status -> relkind(table))) && !convert(table, current)) {
+                    continue;
+                }
+                Boolean locked = transaction.execute(status -> {
+                    if (!tryLock() || !"p".equals(relkind(table))) {
+                        return false;
+                    }
+                    createAhead(table, current);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(locked) && retentionMonths > 0) {
+                    applyRetention(table, current.minusMonths(retentionMonths).atDay(1).atStartOfDay());
+                }
+            } catch (RuntimeException e) {
+                log.error("Partition maintenance failed for {}", table, e);
+            }
+        }
+    }
+
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, LOCK_KEY));
+    }
+
+    // advisory lock을 잡은 트랜잭션에서 실행 (다른 인스턴스가 잡고 있으면 false)
+    private boolean inLockedTransaction(Runnable work) {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            if (!tryLock()) {
+                return false;
+            }
+            work.run();
+            return true;
+        }));
+    }
+
+    // r: 일반 테이블, p: 파티션 테이블, 없으면 null
+    private String relkind(String table) {
+        List<String> kinds = jdbcTemplate.queryForList(RELKIND_SQL, String.class, table);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+
+    /**
+     * 일반 테이블을 파티션 테이블로 전환 (기존 테이블은 다음 달 1일 이전 구간의 파티션이 됨)
+     * 단계마다 따로 커밋하며 각 단계는 다시 실행해도 안전함 (중간에 실패하면 다음 주기에 이어서 진행)
+     *
+     * @return 전환을 마쳤으면 true
+     */
+    private boolean convert(String table, YearMonth current) {
+        YearMonth boundaryMonth = current.plusMonths(1);
+        LocalDateTime boundary = boundaryMonth.atDay(1).atStartOfDay();
+        String rangeCheckPrefix = table + "_created_before_";
+        String rangeCheck = truncateName(String.format("%s%04d%02d",
+                rangeCheckPrefix, boundaryMonth.getYear(), boundaryMonth.getMonthValue()));
+        String partitionKeyIndex = truncateName(table + "_id_created_at_key");
+
+        // 1. created_at이 비어 있는 행 채우기 (행 잠금만 사용)
+        if (!inLockedTransaction(() -> jdbcTemplate.update("UPDATE " + table
+                + " SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL"))) {
+            return false;
+        }
+        // 2. 새 PK로 ATTACH 시 재사용할 유니크 인덱스 (트랜잭션 밖에서 CONCURRENTLY로 생성)
+        createPartitionKeyIndex(table, partitionKeyIndex);
+        // 3. 범위 CHECK 추가 (NOT VALID라 스캔 없음, 이후 쓰기부터 적용)
+        if (!inLockedTransaction(() -> addRangeCheck(table, rangeCheckPrefix, rangeCheck, boundary))) {
+            return false;
+        }
+        try {
+            // 4. 검증 (SHARE UPDATE EXCLUSIVE 잠금으로 스캔하므로 읽기/쓰기는 계속됨)
+            if (!inLockedTransaction(() ->
+                    jdbcTemplate.execute("ALTER TABLE " + table + " VALIDATE CONSTRAINT " + rangeCheck))) {
+                return false;
+            }
+            // 5. 전환 (검증된 CHECK와 기존 인덱스를 재사용하므로 카탈로그만 변경)
+            Boolean converted = transaction.execute(status -> {
+                if (!tryLock() || !"r".equals(relkind(table))) {
+                    return false;
+                }
+                swap(table, boundary, rangeCheck, partitionKeyIndex);
+                return true;
+            });
+            return Boolean.TRUE.equals(converted);
+        } catch (RuntimeException e) {
+            // 다음 달부터의 쓰기가 CHECK에 막히지 않도록 제거 (다음 주기에 다시 추가)
+            dropRangeCheck(table, rangeCheck);
+            throw e;
+        }
+    }
+
+    private void createPartitionKeyIndex(String table, String name) {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALID_SQL, Boolean.class, name);
+        if (!valid.isEmpty() && Boolean.TRUE.equals(valid.get(0))) {
+            return;
+        }
+        if (!valid.isEmpty()) {
+            // 이전에 중단된 CONCURRENTLY 생성이 남긴 INVALID 인덱스
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+        jdbcTemplate.execute("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + name
+                + " ON " + table + " (id, created_at)");
+    }
+
+    private void addRangeCheck(String table, String prefix, String rangeCheck, LocalDateTime boundary) {
+        boolean exists = false;
+        for (String name : jdbcTemplate.queryForList(CHECKS_SQL, String.class, table, prefix)) {
+            if (name.equals(rangeCheck)) {
+                exists = true;
+            } else {
+                // 이전 달에 중단된 전환이 남긴 다른 경계의 CHECK
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT " + name);
+            }
+        }
+        if (!exists) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + rangeCheck
+                    + " CHECK (created_at IS NOT NULL AND created_at < '" + Timestamp.valueOf(boundary)
+                    + "') NOT VALID");
+        }
+    }
+
+    private void dropRangeCheck(String table, String rangeCheck) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                if ("r".equals(relkind(table))) {
+                    jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS " + rangeCheck);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to drop {} on {}: {}", rangeCheck, table, e.getMessage());
+        }
+    }
+
+    // 이름 변경 → 파티션 테이블 생성 → 기존 테이블 ATTACH (advisory lock 트랜잭션 안에서 호출)
+    private void swap(String table, LocalDateTime boundary, String rangeCheck, String partitionKeyIndex) {
+        String legacy = table + LEGACY_SUFFIX;
+        List<Map<String, Object>> indexes = jdbcTemplate.queryForList(INDEXES_SQL, table).stream()
+                .filter(index -> !partitionKeyIndex.equals(index.get("relname")))
+                .toList();
+        List<String> primaryKeys = jdbcTemplate.queryForList(PRIMARY_KEY_SQL, String.class, table);
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(FOREIGN_KEYS_SQL, table);
+
+        // 검증된 CHECK(created_at IS NOT NULL)가 있으므로 스캔하지 않음
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN created_at SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+        for (String primaryKey : primaryKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + legacy + " RENAME CONSTRAINT " + primaryKey + " TO "
+                    + truncateName(legacy + "_pkey"));
+        }
+        for (Map<String, Object> index : indexes) {
+            String name = (String) index.get("relname");
+            jdbcTemplate.execute("ALTER INDEX " + name + " RENAME TO " + truncateName(name + LEGACY_SUFFIX));
+        }
+
+        // 인덱스(PK 포함)는 파티션 키를 포함하도록 아래에서 다시 만들고, FK는 LIKE로 복사되지 않으므로 따로 추가
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy + " INCLUDING ALL EXCLUDING INDEXES) "
+                + "PARTITION BY RANGE (created_at)");
+        // 함께 복사된 범위 CHECK는 이후 파티션을 막으므로 제거
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT " + rangeCheck);
+        // 파티션이 없는 상태라 인덱스/FK 추가는 카탈로그만 변경하고, ATTACH 시 기존 테이블의 같은 인덱스/FK와 합쳐짐
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (id, created_at)");
+        for (Map<String, Object> index : indexes) {
+            String definition = (String) index.get("pg_get_indexdef");
+            // 파티션 테이블의 유니크 인덱스는 파티션 키를 포함해야 하므로 제외
+            if (definition.startsWith("CREATE UNIQUE")) {
+                log.warn("Skipping unique index on partitioned {}: {}", table, definition);
+                continue;
+            }
+            jdbcTemplate.execute(definition);
+        }
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + foreignKey.get("conname")
+                    + " " + foreignKey.get("definition"));
+        }
+
+        // 검증된 CHECK가 파티션 범위를 보장하므로 스캔하지 않음
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + legacy
+                + " FOR VALUES FROM (MINVALUE) TO ('" + Timestamp.valueOf(boundary) + "')");
+        // 파티션 범위와 같은 제약이므로 ATTACH 이후에는 불필요
+        jdbcTemplate.execute("ALTER TABLE " + legacy + " DROP CONSTRAINT " + rangeCheck);
+        log.info("Converted {} to a partitioned table (existing rows kept in {})", table, legacy);
+    }
+
+    /**
+     * 현재 달 ~ ahead-months 뒤 달 중 아직 어느 파티션에도 속하지 않는 달의 파티션 생성
+     */
+    private void createAhead(String table, YearMonth current) {
+        List<PartitionBound> partitions = partitions(table);
+        for (int i = 0; i <= aheadMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            if (partitions.stream().anyMatch(p -> p.covers(from))) {
+                continue;
+            }
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            String name = partitionName(table, month);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + Timestamp.valueOf(from) + "') TO ('" + Timestamp.valueOf(to) + "')");
+            log.info("Created partition {}", name);
+        }
+    }
+
+    /**
+     * 구간 전체가 cutoff 이전인 파티션을 (내보낸 뒤) 제거
+     * 내보내기와 제거를 같은 advisory lock 트랜잭션에서 수행해 두 인스턴스가 같은 파티션을 동시에 내보내지 않도록 함
+     */
+    private void applyRetention(String table, LocalDateTime cutoff) {
+        List<PartitionBound> expired = transaction.execute(status -> partitions(table)).stream()
+                .filter(p -> p.endsBefore(cutoff))
+                .toList();
+        for (PartitionBound partition : expired) {
+            Boolean dropped = transaction.execute(status -> {
+                if (!tryLock()) {
+                    return false;
+                }
+                // 다른 인스턴스가 먼저 제거했으면 건너뜀
+                if (relkind(partition.name()) == null) {
+                    return false;
+                }
+                if (archive) {
+                    exportPartition(table, partition.name());
+                }
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition.name());
+                jdbcTemplate.execute("DROP TABLE " + partition.name());
+                return true;
+            });
+            if (Boolean.TRUE.equals(dropped)) {
+                log.info("Dropped expired partition {} (before {})", partition.name(), cutoff.toLocalDate());
+            }
+        }
+    }
+
+    /**
+     * 파티션 전체를 gzip CSV로 내보냄 (임시 파일에 쓴 뒤 이름 변경)
+     * PostgreSQL은 트랜잭션 안에서만 fetch size 단위로 커서를 사용하므로 호출하는 트랜잭션 안에서 읽음
+     */
+    private void exportPartition(String table, String partition) {
+        Path dir = archiveDir.resolve(table);
+        Path target = dir.resolve(partition + ".csv.gz");
+        Path temp = dir.resolve(partition + ".csv.gz.part");
+        try {
+            Files.createDirectories(dir);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                writeCsv(partition, writer);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Archived partition {} to {}", partition, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive partition " + partition, e);
+        }
+    }
+
+    private void writeCsv(String partition, Writer writer) {
+        boolean[] headerWritten = {false};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT * FROM " + partition);
+            statement.setFetchSize(ARCHIVE_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            try {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                if (!headerWritten[0]) {
+                    List<String> header = new ArrayList<>(columns);
+                    for (int i = 1; i <= columns; i++) {
+                        header.add(meta.getColumnName(i));
+                    }
+                    writeRow(writer, header);
+                    headerWritten[0] = true;
+                }
+                List<String> row = new ArrayList<>(columns);
+                for (int i = 1; i <= columns; i++) {
+                    row.add(rs.getString(i));
+                }
+                writeRow(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void writeRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values.get(i);
+            if (value != null) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write('\n');
+    }
+
+    private List<PartitionBound> partitions(String table) {
+        return jdbcTemplate.query(PARTITIONS_SQL,
+                (rs, rowNum) -> PartitionBound.parse(rs.getString(1), rs.getString(2)), table)
+                .stream()
+                .filter(bound -> bound != null)
+                .toList();
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return String.format("%s_p%04d%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    // PostgreSQL 식별자 최대 길이(63바이트)
+    private static String truncateName(String name) {
+        return name.length() > 63 ? name.substring(0, 63) : name;
+    }
+}
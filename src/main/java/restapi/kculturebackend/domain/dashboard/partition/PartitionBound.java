@@ -0,0 +1,53 @@
+package restapi.kculturebackend.domain.dashboard.partition;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 범위 파티션 하나의 구간 [from, to)
+ * PostgreSQL pg_get_expr(relpartbound) 결과를 해석 (MINVALUE/MAXVALUE는 null)
+ *
+ * @param from 포함 하한 (MINVALUE면 null)
+ * @param to   제외 상한 (MAXVALUE면 null)
+ */
+public record PartitionBound(String name, LocalDateTime from, LocalDateTime to) {
+
+    private static final Pattern RANGE = Pattern.compile(
+            "FOR VALUES FROM \\((MINVALUE|'[^']*')\\) TO \\((MAXVALUE|'[^']*')\\)");
+
+    /**
+     * 파티션 구간 식 해석 (범위 파티션이 아니면, 예를 들어 DEFAULT면 null)
+     */
+    public static PartitionBound parse(String name, String expression) {
+        if (expression == null) {
+            return null;
+        }
+        Matcher matcher = RANGE.matcher(expression);
+        if (!matcher.find()) {
+            return null;
+        }
+        return new PartitionBound(name, toTime(matcher.group(1)), toTime(matcher.group(2)));
+    }
+
+    /**
+     * 시각이 이 파티션 구간에 속하는지
+     */
+    public boolean covers(LocalDateTime time) {
+        return (from == null || !time.isBefore(from)) && (to == null || time.isBefore(to));
+    }
+
+    /**
+     * 구간 전체가 기준 시각 이전인지 (보관 기간 만료 판단)
+     */
+    public boolean endsBefore(LocalDateTime cutoff) {
+        return to != null && !to.isAfter(cutoff);
+    }
+
+    private static LocalDateTime toTime(String value) {
+        if (value.startsWith("'")) {
+            return LocalDateTime.parse(value.substring(1, value.length() - 1).replace(' ', 'T'));
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package restapi.kculturebackend.domain.dashboard.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,13 +21,20 @@ public interface ActivityRepository extends JpaRepository<Activity, UUID> {
     //특정 사용자의 최근 활동 내역 조회 (페이징)
     Page<Activity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
-    //특정 사용자의 최근 N개 활동 내역 조회
-    @Query("SELECT a FROM Activity a WHERE a.user.id = :userId ORDER BY a.createdAt DESC")
-    List<Activity> findRecentByUserId(@Param("userId") UUID userId, Pageable pageable);
+    //특정 사용자의 최근 N개 활동 내역 조회 (since 이후 파티션만 조회)
+    @Query("SELECT a FROM Activity a WHERE a.user.id = :userId AND a.createdAt >= :since ORDER BY a.createdAt DESC")
+    List<Activity> findRecentByUserId(
+            @Param("userId") UUID userId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable);
 
     //특정 사용자의 특정 타입 활동 내역 조회
     Page<Activity> findByUserIdAndTypeOrderByCreatedAtDesc(UUID userId, ActivityType type, Pageable pageable);
 
     //특정 사용자의 활동 수 조회
     long countByUserId(UUID userId);
+
+    //특정 사용자의 since 이후 활동 수 조회 (since 이후 파티션만 조회)
+    @Query("SELECT COUNT(a) FROM Activity a WHERE a.user.id = :userId AND a.createdAt >= :since")
+    long countByUserIdSince(@Param("userId") UUID userId, @Param("since") LocalDateTime since);
 }
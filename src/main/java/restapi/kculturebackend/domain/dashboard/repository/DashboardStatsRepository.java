@@ -0,0 +1,59 @@
+package restapi.kculturebackend.domain.dashboard.repository;
+
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대시보드 통계 집계 조회
+ * 사용자 타입별 카운터를 한 번의 쿼리로 조회 (찜/섭외/프로젝트/캐릭터 수는 user_counters 기본 키 조회,
+ * 프로필 완성도는 actor_profiles.profile_completeness에 저장된 값)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardStatsRepository {
+
+    private static final String ACTOR_COUNTERS_SQL =
+            "SELECT COALESCE(ap.view_count, 0), COALESCE(ap.profile_completeness, 0), " +
+            "COALESCE(uc.favorites_received, 0), COALESCE(uc.contacts_received, 0) " +
+            "FROM users u LEFT JOIN actor_profiles ap ON ap.user_id = u.id " +
+            "LEFT JOIN user_counters uc ON uc.user_id = u.id WHERE u.id = ?";
+
+    private static final String AGENCY_COUNTERS_SQL =
+            "SELECT active_projects, favorites_given, contacts_sent, characters FROM user_counters WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배우 대시보드 카운터와 프로필 완성도 (사용자가 없으면 null, 프로필이 없으면 0)
+     */
+    public ActorCounters findActorCounters(UUID userId) {
+        return jdbcTemplate.query(ACTOR_COUNTERS_SQL, rs -> rs.next()
+                ? new ActorCounters(rs.getLong(1), rs.getInt(2), rs.getLong(3), rs.getLong(4))
+                : null, userId);
+    }
+
+    /**
+     * 에이전시 대시보드 카운터 (카운터 행이 없으면 0)
+     */
+    public AgencyCounters findAgencyCounters(UUID userId) {
+        return jdbcTemplate.query(AGENCY_COUNTERS_SQL, rs -> rs.next()
+                ? new AgencyCounters(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4))
+                : new AgencyCounters(0, 0, 0, 0), userId);
+    }
+
+    /**
+     * 배우 카운터
+     */
+    public record ActorCounters(long viewCount, int profileCompleteness, long likes, long contactRequests) {
+    }
+
+    /**
+     * 에이전시 카운터
+     */
+    public record AgencyCounters(long activeProjects, long favoriteActors, long sentContacts, long totalCharacters) {
+    }
+}
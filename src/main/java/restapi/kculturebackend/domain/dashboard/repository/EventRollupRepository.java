@@ -0,0 +1,32 @@
+package restapi.kculturebackend.domain.dashboard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import restapi.kculturebackend.domain.dashboard.entity.ActivityType;
+import restapi.kculturebackend.domain.dashboard.entity.EventRollup;
+import restapi.kculturebackend.domain.dashboard.entity.RollupGranularity;
+
+/**
+ * 대시보드 이벤트 집계 레포지토리
+ */
+public interface EventRollupRepository extends JpaRepository<EventRollup, UUID> {
+
+    /**
+     * 구간 [from, to)의 집계 (발생이 없는 구간은 행이 없음)
+     */
+    @Query("SELECT r FROM EventRollup r " +
+           "WHERE r.subjectId = :subjectId AND r.granularity = :granularity AND r.eventType = :eventType " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<EventRollup> findSeries(
+            @Param("subjectId") UUID subjectId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("eventType") ActivityType eventType,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,150 @@
+package restapi.kculturebackend.domain.dashboard.rollup;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.dashboard.entity.ActivityType;
+import restapi.kculturebackend.domain.dashboard.entity.RollupGranularity;
+
+/**
+ * 대시보드 이벤트 집계 작업
+ *
+ * profile_views / activities 원본을 사용자별·이벤트 종류별 시간/일 단위 발생 수로 dashboard_event_rollups에 더한다.
+ * - 진행 위치(high-water mark)부터 (현재 - lag)까지만 증분 집계하고, 구간 경계를 넘는 실행은
+ *   ON CONFLICT로 기존 값에 더함 (원본 행은 정확히 한 번만 반영)
+ * - 쓰기 지연 저장은 created_at을 요청 시각으로 기록하므로 lag만큼 늦게 도착한 행까지 기다림
+ *   (lag보다 늦게 도착한 행은 집계에서 빠짐)
+ * - 한 실행은 max-window 단위로 나눠 각각 한 트랜잭션에서 처리 (최초 실행 시 과거 데이터도 나눠서 따라잡음)
+ * - 트랜잭션 범위 PostgreSQL advisory lock으로 여러 인스턴스 중 하나만 집계하며, 진행 위치도 락을 잡은 뒤 읽음
+ * - activities의 PROFILE_VIEW는 profile_views와 1:1이라 profile_views 쪽만 집계
+ */
+@Slf4j
+@Component
+public class DashboardRollupJob {
+
+    private static final String WATERMARK_NAME = "dashboard_events";
+    // advisory lock 키 ("kculture" ASCII, 다른 잠금 사용처와 겹치지 않는 고정값)
+    private static final long LOCK_KEY = 0x6b63756c74757265L;
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String READ_WATERMARK_SQL =
+            "SELECT high_water_mark FROM dashboard_rollup_watermarks WHERE name = ?";
+    private static final String WRITE_WATERMARK_SQL =
+            "INSERT INTO dashboard_rollup_watermarks (name, high_water_mark) VALUES (?, ?) " +
+            "ON CONFLICT (name) DO UPDATE SET high_water_mark = EXCLUDED.high_water_mark";
+    private static final String EARLIEST_EVENT_SQL =
+            "SELECT LEAST((SELECT MIN(created_at) FROM profile_views), (SELECT MIN(created_at) FROM activities))";
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO dashboard_event_rollups (id, subject_id, granularity, event_type, bucket_start, event_count) ";
+    private static final String UPSERT_SUFFIX =
+            " ON CONFLICT (subject_id, granularity, event_type, bucket_start) " +
+            "DO UPDATE SET event_count = dashboard_event_rollups.event_count + EXCLUDED.event_count";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final Duration lag;
+    private final Duration maxWindow;
+
+    public DashboardRollupJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.rollup.enabled:true}") boolean enabled,
+            @Value("${dashboard.rollup.lag-seconds:300}") long lagSeconds,
+            @Value("${dashboard.rollup.max-window-hours:24}") long maxWindowHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.lag = Duration.ofSeconds(lagSeconds);
+        this.maxWindow = Duration.ofHours(maxWindowHours);
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.rollup.refresh-millis:60000}",
+            initialDelayString = "${dashboard.rollup.initial-delay-millis:30000}")
+    public void scheduledRollup() {
+        if (enabled) {
+            rollup();
+        }
+    }
+
+    /**
+     * 진행 위치부터 (현재 - lag)까지 집계 (다른 인스턴스가 집계 중이면 바로 종료)
+     */
+    public synchronized void rollup() {
+        LocalDateTime upTo = LocalDateTime.now().minus(lag);
+        try {
+            WindowResult result;
+            do {
+                result = transaction.execute(status -> rollupNextWindow(upTo));
+            } while (result == WindowResult.MORE);
+        } catch (RuntimeException e) {
+            log.error("Dashboard rollup failed", e);
+        }
+    }
+
+    private WindowResult rollupNextWindow(LocalDateTime upTo) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, LOCK_KEY))) {
+            return WindowResult.LOCKED;
+        }
+
+        LocalDateTime from = readWatermark();
+        if (from == null) {
+            Timestamp earliest = jdbcTemplate.queryForObject(EARLIEST_EVENT_SQL, Timestamp.class);
+            from = earliest != null ? earliest.toLocalDateTime() : upTo;
+        }
+        if (!from.isBefore(upTo)) {
+            writeWatermark(from);
+            return WindowResult.DONE;
+        }
+
+        LocalDateTime to = from.plus(maxWindow).isBefore(upTo) ? from.plus(maxWindow) : upTo;
+        int rows = 0;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            rows += aggregateProfileViews(granularity, from, to);
+            rows += aggregateActivities(granularity, from, to);
+        }
+        writeWatermark(to);
+        log.debug("Dashboard rollup [{}, {}): {} buckets updated", from, to, rows);
+        return to.isBefore(upTo) ? WindowResult.MORE : WindowResult.DONE;
+    }
+
+    private int aggregateProfileViews(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        String bucket = "date_trunc('" + granularity.getTruncUnit() + "', created_at)";
+        return jdbcTemplate.update(UPSERT_PREFIX +
+                "SELECT gen_random_uuid(), actor_id, ?, ?, " + bucket + ", COUNT(*) FROM profile_views " +
+                "WHERE created_at >= ? AND created_at < ? GROUP BY actor_id, " + bucket + UPSERT_SUFFIX,
+                granularity.name(), ActivityType.PROFILE_VIEW.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private int aggregateActivities(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        String bucket = "date_trunc('" + granularity.getTruncUnit() + "', created_at)";
+        return jdbcTemplate.update(UPSERT_PREFIX +
+                "SELECT gen_random_uuid(), user_id, ?, type, " + bucket + ", COUNT(*) FROM activities " +
+                "WHERE created_at >= ? AND created_at < ? AND type <> ? GROUP BY user_id, type, " + bucket +
+                UPSERT_SUFFIX,
+                granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to), ActivityType.PROFILE_VIEW.name());
+    }
+
+    private LocalDateTime readWatermark() {
+        return jdbcTemplate.query(READ_WATERMARK_SQL,
+                rs -> rs.next() ? rs.getTimestamp(1).toLocalDateTime() : null, WATERMARK_NAME);
+    }
+
+    private void writeWatermark(LocalDateTime highWaterMark) {
+        jdbcTemplate.update(WRITE_WATERMARK_SQL, WATERMARK_NAME, Timestamp.valueOf(highWaterMark));
+    }
+
+    private enum WindowResult {
+        MORE, DONE, LOCKED
+    }
+}
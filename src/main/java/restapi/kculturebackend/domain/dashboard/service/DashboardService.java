@@ -1,29 +1,40 @@
 package restapi.kculturebackend.domain.dashboard.service;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut.Branch;
+import restapi.kculturebackend.common.exception.ValidationException;
 import restapi.kculturebackend.domain.dashboard.dto.ActivityResponse;
 import restapi.kculturebackend.domain.dashboard.dto.ActorDashboardStats;
 import restapi.kculturebackend.domain.dashboard.dto.AgencyDashboardStats;
+import restapi.kculturebackend.domain.dashboard.dto.DashboardTrendResponse;
 import restapi.kculturebackend.domain.dashboard.dto.RecentActivitiesResponse;
 import restapi.kculturebackend.domain.dashboard.entity.Activity;
-import restapi.kculturebackend.domain.dashboard.entity.ProfileView;
+import restapi.kculturebackend.domain.dashboard.entity.ActivityType;
+import restapi.kculturebackend.domain.dashboard.entity.EventRollup;
+import restapi.kculturebackend.domain.dashboard.entity.RollupGranularity;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+import restapi.kculturebackend.domain.dashboard.feed.ActivityFeedStore;
 import restapi.kculturebackend.domain.dashboard.repository.ActivityRepository;
-import restapi.kculturebackend.domain.dashboard.repository.ContactRequestRepository;
-import restapi.kculturebackend.domain.dashboard.repository.ProfileViewRepository;
-import restapi.kculturebackend.domain.favorite.entity.FavoriteType;
-import restapi.kculturebackend.domain.favorite.repository.FavoriteRepository;
-import restapi.kculturebackend.domain.project.repository.CharacterRepository;
-import restapi.kculturebackend.domain.project.repository.ProjectRepository;
+import restapi.kculturebackend.domain.dashboard.repository.DashboardStatsRepository;
+import restapi.kculturebackend.domain.dashboard.repository.DashboardStatsRepository.ActorCounters;
+import restapi.kculturebackend.domain.dashboard.repository.DashboardStatsRepository.AgencyCounters;
+import restapi.kculturebackend.domain.dashboard.repository.EventRollupRepository;
+import restapi.kculturebackend.domain.dashboard.view.PendingProfileView;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewBuffer;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewUniqueCounter;
+import restapi.kculturebackend.domain.dashboard.view.UniqueViewerEstimate;
 import restapi.kculturebackend.domain.user.entity.User;
 import restapi.kculturebackend.domain.user.entity.UserType;
 import restapi.kculturebackend.domain.user.repository.UserRepository;
@@ -37,73 +48,78 @@ import restapi.kculturebackend.domain.user.repository.UserRepository;
 public class DashboardService {
 
     private static final int RECENT_ACTIVITIES_LIMIT = 10;
-    private static final int VIEW_COOLDOWN_HOURS = 1;
-
-    private final ActorProfileRepository actorProfileRepository;
-    private final ProjectRepository projectRepository;
-    private final CharacterRepository characterRepository;
-    private final FavoriteRepository favoriteRepository;
-    private final ProfileViewRepository profileViewRepository;
-    private final ContactRequestRepository contactRequestRepository;
+    // 최근 활동 조회 범위 (이 기간의 파티션만 읽음)
+    private static final int RECENT_ACTIVITY_DAYS = 90;
+
     private final ActivityRepository activityRepository;
+    private final DashboardStatsRepository dashboardStatsRepository;
+    private final DashboardStatsCache dashboardStatsCache;
     private final UserRepository userRepository;
+    private final ProfileViewBuffer profileViewBuffer;
+    private final ProfileViewUniqueCounter profileViewUniqueCounter;
+    private final EventRollupRepository eventRollupRepository;
+    private final ReadOnlyFanOut readOnlyFanOut;
+    private final ActivityFeedStore activityFeedStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 배우 대시보드 통계 조회
+     * 카운터는 집계 쿼리 한 번으로 조회하고, 결과는 사용자별로 짧게 캐시 (캐시 적중 시 DB 조회 없음)
+     * 카운터/고유 조회자/최근 활동은 서로 독립적이라 동시에 조회
      */
-    @Transactional(readOnly = true)
     public ActorDashboardStats getActorStats(User user) {
-        int profileCompleteness = calculateProfileCompleteness(user);
+        return dashboardStatsCache.get(user.getId(), () -> loadActorStats(user.getId()));
+    }
 
-        // 프로필 조회수 조회
-        long profileViews = profileViewRepository.countByActorId(user.getId());
+    private ActorDashboardStats loadActorStats(UUID userId) {
+        LocalDateTime since = recentActivitySince();
+        try (ReadOnlyFanOut.Scope scope = readOnlyFanOut.open()) {
+            // 조회수(view_count), 찜 받은 수, 섭외 요청 수, 프로필 완성도 항목
+            Branch<ActorCounters> countersBranch = scope.fork(() -> dashboardStatsRepository.findActorCounters(userId));
 
-        // 찜 받은 수 (내 프로필이 다른 사람에게 찜된 수)
-        long likes = favoriteRepository.countByTargetIdAndType(user.getId(), FavoriteType.ACTOR);
+            // 고유 조회자 수 (HyperLogLog 추정치, Redis라 트랜잭션 없이)
+            Branch<UniqueViewerEstimate> uniqueViewersBranch = scope.forkWithoutTransaction(
+                    () -> profileViewUniqueCounter.estimate(userId));
 
-        // 섭외 요청 수 조회
-        long contactRequests = contactRequestRepository.countByActorId(user.getId());
+            // 최근 활동 내역 조회 (Redis 피드, 비어 있을 때만 SQL을 fork와 같은 제한/트랜잭션에서 조회)
+            Branch<List<ActivityResponse>> activitiesBranch = scope.forkWithoutTransaction(
+                    () -> activityFeedStore.recent(userId, RECENT_ACTIVITIES_LIMIT, since,
+                                    size -> readOnlyFanOut.readOnly(() -> loadRecentActivities(userId, since, size)))
+                            .getActivities());
 
-        // 최근 활동 내역 조회
-        List<Activity> activities = activityRepository.findRecentByUserId(
-                user.getId(), PageRequest.of(0, RECENT_ACTIVITIES_LIMIT));
-        List<ActivityResponse> recentActivities = activities.stream()
-                .map(ActivityResponse::from)
-                .toList();
+            scope.join();
+            return toActorStats(countersBranch.get(), uniqueViewersBranch.get(), activitiesBranch.get());
+        }
+    }
 
+    private ActorDashboardStats toActorStats(ActorCounters counters, UniqueViewerEstimate uniqueViewers,
+                                             List<ActivityResponse> recentActivities) {
         return ActorDashboardStats.builder()
-                .profileViews((int) profileViews)
-                .likes((int) likes)
-                .contactRequests((int) contactRequests)
-                .profileCompleteness(profileCompleteness)
+                .profileViews(counters != null ? (int) counters.viewCount() : 0)
+                .uniqueViewersToday(uniqueViewers.today())
+                .uniqueViewers7Days(uniqueViewers.last7Days())
+                .uniqueViewers30Days(uniqueViewers.last30Days())
+                .likes(counters != null ? (int) counters.likes() : 0)
+                .contactRequests(counters != null ? (int) counters.contactRequests() : 0)
+                .profileCompleteness(counters != null ? counters.profileCompleteness() : 0)
                 .recentActivities(recentActivities)
                 .build();
     }
 
     /**
      * 에이전시 대시보드 통계 조회
+     * 진행중 프로젝트 수, 찜한 배우 수, 보낸 섭외 요청 수, 전체 캐릭터 수를 집계 쿼리 한 번으로 조회 (사용자별 캐시)
      */
-    @Transactional(readOnly = true)
     public AgencyDashboardStats getAgencyStats(User user) {
-        // 진행중 프로젝트 수
-        long activeProjects = projectRepository.countActiveProjectsByAgencyUserId(user.getId());
-
-        // 찜한 배우 수
-        long favoriteActors = favoriteRepository.findByUserIdAndType(
-                user.getId(), FavoriteType.ACTOR, PageRequest.of(0, 1000)).getTotalElements();
-
-        // 보낸 섭외 요청 수
-        long sentContacts = contactRequestRepository.countByAgencyId(user.getId());
-
-        // 전체 캐릭터 수
-        long totalCharacters = characterRepository.countByAgencyUserId(user.getId());
-
-        return AgencyDashboardStats.builder()
-                .activeProjects((int) activeProjects)
-                .favoriteActors((int) favoriteActors)
-                .sentContacts((int) sentContacts)
-                .totalCharacters((int) totalCharacters)
-                .build();
+        return dashboardStatsCache.get(user.getId(), () -> {
+            AgencyCounters counters = dashboardStatsRepository.findAgencyCounters(user.getId());
+            return AgencyDashboardStats.builder()
+                    .activeProjects((int) counters.activeProjects())
+                    .favoriteActors((int) counters.favoriteActors())
+                    .sentContacts((int) counters.sentContacts())
+                    .totalCharacters((int) counters.totalCharacters())
+                    .build();
+        });
     }
 
     /**
@@ -115,47 +131,18 @@ public class DashboardService {
 
     /**
      * 프로필 조회수 기록
+     * 본인 조회만 걸러서 쓰기 지연 버퍼에 넣음 (쿨다운 확인과 저장은 ProfileViewBatchWriter가 배치로 처리)
+     * 호출 측에서 배우 프로필이 존재하는지 확인한 뒤 호출
      */
-    @Transactional
     public void recordProfileView(UUID actorId, User viewer, String viewerIp) {
-        User actor = userRepository.findById(actorId).orElse(null);
-        if (actor == null || actor.getType() != UserType.ACTOR) {
-            log.warn("Invalid actor id for profile view: {}", actorId);
-            return;
-        }
-
         // 본인 프로필 조회는 기록하지 않음
         if (viewer != null && viewer.getId().equals(actorId)) {
             return;
         }
 
-        LocalDateTime cooldownTime = LocalDateTime.now().minusHours(VIEW_COOLDOWN_HOURS);
-
-        // 중복 조회 체크 (로그인 사용자)
-        if (viewer != null) {
-            boolean recentlyViewed = profileViewRepository.existsByActorIdAndViewerIdSince(
-                    actorId, viewer.getId(), cooldownTime);
-            if (recentlyViewed) {
-                return;
-            }
-        } else if (viewerIp != null) {
-            // 중복 조회 체크 (비로그인 사용자 - IP 기반)
-            boolean recentlyViewed = profileViewRepository.existsByActorIdAndViewerIpSince(
-                    actorId, viewerIp, cooldownTime);
-            if (recentlyViewed) {
-                return;
-            }
+        if (!profileViewBuffer.offer(PendingProfileView.of(actorId, viewer, viewerIp))) {
+            log.debug("Profile view buffer full, dropped view for actor: {}", actorId);
         }
-
-        // 조회 기록 저장
-        ProfileView profileView = ProfileView.create(actor, viewer, viewerIp);
-        profileViewRepository.save(profileView);
-
-        // 활동 내역 기록
-        Activity activity = Activity.profileViewed(actor, viewer);
-        activityRepository.save(activity);
-
-        log.info("Profile view recorded for actor: {}", actorId);
     }
 
     /**
@@ -170,42 +157,62 @@ public class DashboardService {
 
         Activity activity = Activity.favorited(actor, favoritedBy);
         activityRepository.save(activity);
+        eventPublisher.publishEvent(ActivityRecordedEvent.of(activity));
     }
 
     /**
      * 최근 활동 내역 조회
+     * 사용자별 Redis 피드에서 읽고, 피드가 비어 있을 때만 SQL로 조회하여 채움
      */
     @Transactional(readOnly = true)
     public RecentActivitiesResponse getRecentActivities(User user, int limit) {
-        List<Activity> activities = activityRepository.findRecentByUserId(
-                user.getId(), PageRequest.of(0, Math.min(limit, 50)));
+        LocalDateTime since = recentActivitySince();
+        return activityFeedStore.recent(user.getId(), Math.min(limit, 50), since,
+                size -> loadRecentActivities(user.getId(), since, size));
+    }
 
-        List<ActivityResponse> responses = activities.stream()
+    // 최근 size개 활동과 since 이후 전체 건수 (호출 측 트랜잭션에서 실행)
+    private RecentActivitiesResponse loadRecentActivities(UUID userId, LocalDateTime since, int size) {
+        List<ActivityResponse> activities = activityRepository.findRecentByUserId(
+                        userId, since, PageRequest.of(0, size))
+                .stream()
                 .map(ActivityResponse::from)
                 .toList();
-
-        int total = (int) activityRepository.countByUserId(user.getId());
-
-        return RecentActivitiesResponse.of(responses, total);
+        int recentTotal = (int) activityRepository.countByUserIdSince(userId, since);
+        return RecentActivitiesResponse.of(activities, recentTotal);
     }
 
     /**
-     * 프로필 완성도 계산
+     * 이벤트 추이 조회 (집계 테이블만 사용, 현재 구간 포함 최근 buckets개 구간)
+     * 집계 작업 주기와 지연(lag)만큼 최근 발생분은 늦게 반영됨
+     *
+     * @param granularity hour | day
+     * @param type        view | like | contact
      */
-    private int calculateProfileCompleteness(User user) {
-        return actorProfileRepository.findById(user.getId())
-                .map(actor -> {
-                    int score = 0;
-                    if (actor.getStageName() != null) score += 15;
-                    if (actor.getBirthYear() != null) score += 10;
-                    if (actor.getIntroduction() != null) score += 20;
-                    if (actor.getHeight() != null) score += 10;
-                    if (actor.getWeight() != null) score += 10;
-                    if (actor.getSkills() != null && !actor.getSkills().isEmpty()) score += 15;
-                    if (actor.getLanguages() != null && !actor.getLanguages().isEmpty()) score += 10;
-                    if (actor.getUser().getProfileImage() != null) score += 10;
-                    return score;
-                })
-                .orElse(0);
+    @Transactional(readOnly = true)
+    public DashboardTrendResponse getTrend(User user, String granularity, String type, int buckets) {
+        RollupGranularity rollupGranularity = Arrays.stream(RollupGranularity.values())
+                .filter(g -> g.getTruncUnit().equalsIgnoreCase(granularity))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("granularity는 hour 또는 day만 가능합니다."));
+        ActivityType eventType = Arrays.stream(ActivityType.values())
+                .filter(t -> t.getCode().equalsIgnoreCase(type))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("type은 view, like, contact 중 하나여야 합니다."));
+        if (buckets < 1 || buckets > rollupGranularity.getMaxBuckets()) {
+            throw new ValidationException(
+                    "buckets는 1 이상 " + rollupGranularity.getMaxBuckets() + " 이하여야 합니다.");
+        }
+
+        LocalDateTime to = rollupGranularity.plus(rollupGranularity.truncate(LocalDateTime.now()), 1);
+        LocalDateTime from = rollupGranularity.plus(to, -buckets);
+        List<EventRollup> rollups = eventRollupRepository.findSeries(
+                user.getId(), rollupGranularity, eventType, from, to);
+        return DashboardTrendResponse.of(rollupGranularity, eventType, from, buckets, rollups);
+    }
+
+    // 최근 활동 조회 시작 시각 (created_at 범위 조건으로 오래된 파티션은 제외됨)
+    private LocalDateTime recentActivitySince() {
+        return LocalDateTime.now().minusDays(RECENT_ACTIVITY_DAYS);
     }
 }
@@ -0,0 +1,116 @@
+package restapi.kculturebackend.domain.dashboard.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
+import restapi.kculturebackend.domain.dashboard.event.DashboardStatsChangedEvent;
+import restapi.kculturebackend.domain.project.event.ProjectChangedEvent;
+
+/**
+ * 사용자별 대시보드 통계 캐시 (대시보드 폴링 시 TTL마다 사용자당 한 번만 조회)
+ *
+ * - 인스턴스별 로컬 캐시이며, 통계를 바꾸는 쓰기 경로의 이벤트로 커밋 이후 해당 사용자 항목을 비움
+ * - 다른 인스턴스의 변경과 조회수/프로필 이미지처럼 이벤트가 없는 변경은 TTL이 지나야 반영됨
+ * - 조회 중에 그 사용자가 무효화되면 조회 결과를 저장하지 않음 (변경 전 값이 다시 저장되지 않도록)
+ *   무효화는 항목을 지우는 대신 값을 비우고 사용자별 버전을 올린 항목으로 바꾸며, 저장은 버전이 같을 때만 함
+ * - 가득 차면 TTL이 지난 항목을 먼저 지우고, 그래도 가득 차 있으면 오래된 항목부터 1/10을 지움
+ */
+@Component
+public class DashboardStatsCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<UUID, CachedStats> entries = new ConcurrentHashMap<>();
+
+    public DashboardStatsCache(
+            @Value("${dashboard.stats-cache.ttl-millis:5000}") long ttlMillis,
+            @Value("${dashboard.stats-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 통계 (없거나 TTL이 지났으면 loader 결과를 저장 후 반환)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(UUID userId, Supplier<T> loader) {
+        if (ttlMillis <= 0) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        CachedStats cached = entries.get(userId);
+        if (cached != null && cached.value() != null && now - cached.loadedAt() < ttlMillis) {
+            return (T) cached.value();
+        }
+
+        long version = versionOf(cached);
+        T value = loader.get();
+        if (value != null) {
+            if (cached == null && entries.size() >= maxEntries) {
+                evict(now);
+            }
+            entries.compute(userId, (id, current) ->
+                    versionOf(current) == version ? new CachedStats(value, now, version) : current);
+        }
+        return value;
+    }
+
+    /**
+     * 사용자 통계 캐시 제거
+     */
+    public void invalidate(UUID userId) {
+        long now = System.currentTimeMillis();
+        entries.compute(userId, (id, current) -> new CachedStats(null, now, versionOf(current) + 1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDashboardStatsChanged(DashboardStatsChangedEvent event) {
+        event.getUserIds().forEach(this::invalidate);
+    }
+
+    // 진행중 프로젝트 수 변경 (생성/상태 변경/삭제)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        invalidate(event.getAgencyId());
+    }
+
+    // 프로필 완성도 변경
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorProfileChanged(ActorProfileChangedEvent event) {
+        invalidate(event.getSnapshot().getActorId());
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.loadedAt() >= ttlMillis);
+        int excess = entries.size() - maxEntries * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        // 무효화 표시(값이 없는 항목)는 조회 중인 요청의 버전 비교에 필요하므로 TTL 동안 남김
+        List<Map.Entry<UUID, CachedStats>> oldest = entries.entrySet().stream()
+                .filter(entry -> entry.getValue().value() != null)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                .limit(excess)
+                .toList();
+        oldest.forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static long versionOf(CachedStats cached) {
+        return cached != null ? cached.version() : 0;
+    }
+
+    // value가 null이면 무효화 표시
+    private record CachedStats(Object value, long loadedAt, long version) {
+    }
+}
@@ -0,0 +1,61 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.common.migration.OneTimeBackfill;
+
+/**
+ * view_count 초기 채우기
+ *
+ * 조회수 카운터 도입 전에는 view_count가 항상 0이었으므로, view_count가 0인 배우만
+ * profile_views 건수로 한 번 채운다. profile_views 전체(모든 파티션)를 읽으므로 OneTimeBackfill로
+ * 최초 기동에서만 실행하고, 이후에는 쓰기 경로에서 더한 값을 그대로 쓴다.
+ * 검색 인덱스가 채워진 값을 읽도록 인덱스 구성보다 먼저 실행한다.
+ */
+@Slf4j
+@Component
+public class ActorViewCountBackfill {
+
+    private static final String BACKFILL_SQL =
+            "UPDATE actor_profiles a SET view_count = v.cnt " +
+            "FROM (SELECT actor_id, COUNT(*) AS cnt FROM profile_views GROUP BY actor_id) v " +
+            "WHERE a.user_id = v.actor_id AND a.view_count = 0";
+
+    private static final String MARKER = "actor_view_count";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OneTimeBackfill oneTimeBackfill;
+    private final boolean enabled;
+
+    public ActorViewCountBackfill(
+            JdbcTemplate jdbcTemplate,
+            OneTimeBackfill oneTimeBackfill,
+            @Value("${dashboard.profile-view.backfill-view-count:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.oneTimeBackfill = oneTimeBackfill;
+        this.enabled = enabled;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int updated = oneTimeBackfill.runOnce(MARKER, () -> jdbcTemplate.update(BACKFILL_SQL));
+            if (updated > 0) {
+                log.info("Backfilled view_count for {} actors", updated);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to backfill actor view counts", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import restapi.kculturebackend.domain.user.entity.User;
+
+/**
+ * 저장 대기 중인 프로필 조회 (영속성 컨텍스트와 분리된 값만 보관)
+ *
+ * @param viewerId   로그인 사용자 ID (비로그인이면 null)
+ * @param viewerName 활동 내역 메시지용 이름 (비로그인이면 null)
+ * @param viewedAt   조회 시각 (저장 시각이 아니라 요청 시각으로 기록)
+ */
+public record PendingProfileView(UUID actorId, UUID viewerId, String viewerName, String viewerIp,
+                                 LocalDateTime viewedAt) {
+
+    public static PendingProfileView of(UUID actorId, User viewer, String viewerIp) {
+        return new PendingProfileView(
+                actorId,
+                viewer != null ? viewer.getId() : null,
+                viewer != null ? viewer.getName() : null,
+                viewerIp,
+                LocalDateTime.now());
+    }
+
+    /**
+     * 중복 조회 판단 키 (로그인 사용자는 ID, 비로그인은 IP)
+     */
+    public String viewerKey() {
+        if (viewerId != null) {
+            return "u:" + viewerId;
+        }
+        return viewerIp != null ? "ip:" + viewerIp : null;
+    }
+}
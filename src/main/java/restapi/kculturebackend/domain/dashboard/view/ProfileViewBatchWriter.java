@@ -0,0 +1,178 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import restapi.kculturebackend.domain.actor.event.ActorViewsCountedEvent;
+import restapi.kculturebackend.domain.dashboard.dto.ActivityResponse;
+import restapi.kculturebackend.domain.dashboard.entity.Activity;
+import restapi.kculturebackend.domain.dashboard.entity.ActivityType;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+
+/**
+ * 프로필 조회 일괄 저장
+ *
+ * 쌓인 조회를 한 트랜잭션에서 profile_views / activities에 JDBC 배치 INSERT로 저장한다.
+ * - 같은 배치 안의 중복(같은 배우 + 같은 조회자/IP)은 하나만 남김
+ * - 고유 조회자 수(HLL)는 쿨다운과 무관하게 모든 조회로 갱신
+ * - 조회자/IP별 쿨다운은 ProfileViewCooldown으로 확인 (DB 커넥션을 잡기 전에 수행, 저장 실패 시 반납)
+ * - 탈퇴 등으로 없어진 배우/조회자의 조회는 저장 전에 제외
+ * - 같은 트랜잭션에서 배우별 증가분을 모아 actor_profiles.view_count에 배치 UPDATE로 더함
+ *   (배우당 배치마다 한 번만 갱신, 노드 간 교착을 피하려고 배우 ID 순으로 갱신)
+ * - 엔티티를 거치지 않으므로 ID/생성 시각을 직접 채움
+ * - 저장 이후 배우별 조회 활동을 최근 활동 피드(ActivityFeedStore)에 한 번에 전달
+ */
+@Component
+public class ProfileViewBatchWriter {
+
+    private static final String INSERT_VIEW_SQL =
+            "INSERT INTO profile_views (id, actor_id, viewer_id, viewer_ip, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACTIVITY_SQL =
+            "INSERT INTO activities (id, user_id, type, message, related_user_id, related_user_name, " +
+            "related_entity_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_VIEW_COUNT_SQL =
+            "UPDATE actor_profiles SET view_count = view_count + ? WHERE user_id = ?";
+    private static final String LOCK_USERS_SQL =
+            "SELECT id FROM users WHERE id = ANY(?) FOR KEY SHARE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProfileViewCooldown cooldown;
+    private final ProfileViewUniqueCounter uniqueCounter;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProfileViewBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            ProfileViewCooldown cooldown,
+            ProfileViewUniqueCounter uniqueCounter,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cooldown = cooldown;
+        this.uniqueCounter = uniqueCounter;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 쿨다운을 통과한 조회만 저장
+     * 저장에 실패하면 선점한 쿨다운을 반납하여 같은 조회자의 다음 조회가 기록되도록 함
+     *
+     * @return 저장한 조회 수
+     */
+    public int write(List<PendingProfileView> views) {
+        List<PendingProfileView> distinct = new ArrayList<>(views.size());
+        Set<String> seen = new HashSet<>();
+        for (PendingProfileView view : views) {
+            String viewerKey = view.viewerKey();
+            if (viewerKey == null || seen.add(view.actorId() + "|" + viewerKey)) {
+                distinct.add(view);
+            }
+        }
+        uniqueCounter.record(distinct);
+        List<PendingProfileView> accepted = cooldown.acquire(distinct);
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        PreparedBatch batch;
+        try {
+            batch = transaction.execute(status -> {
+                PreparedBatch prepared = prepare(withExistingUsers(accepted));
+                jdbcTemplate.batchUpdate(INSERT_VIEW_SQL, prepared.viewRows());
+                jdbcTemplate.batchUpdate(INSERT_ACTIVITY_SQL, prepared.activityRows());
+                jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, prepared.countRows());
+                return prepared;
+            });
+        } catch (RuntimeException e) {
+            cooldown.release(accepted);
+            throw e;
+        }
+        if (batch == null || batch.size() == 0) {
+            return 0;
+        }
+        eventPublisher.publishEvent(new ActorViewsCountedEvent(batch.viewCountDeltas()));
+        eventPublisher.publishEvent(new ActivityRecordedEvent(batch.feed()));
+        return batch.size();
+    }
+
+    /**
+     * 배우/조회자가 모두 존재하는 조회만 남김 (탈퇴한 사용자 한 명 때문에 배치 전체가 FK 위반으로 롤백되지 않도록)
+     * 남긴 사용자 행은 FOR KEY SHARE로 잠가 INSERT 전에 삭제되지 않도록 함
+     */
+    private List<PendingProfileView> withExistingUsers(List<PendingProfileView> views) {
+        Set<UUID> userIds = new HashSet<>();
+        for (PendingProfileView view : views) {
+            userIds.add(view.actorId());
+            if (view.viewerId() != null) {
+                userIds.add(view.viewerId());
+            }
+        }
+        Set<UUID> existing = new HashSet<>(jdbcTemplate.query(LOCK_USERS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", userIds.toArray())),
+                (rs, rowNum) -> rs.getObject(1, UUID.class)));
+        if (existing.size() == userIds.size()) {
+            return views;
+        }
+        return views.stream()
+                .filter(view -> existing.contains(view.actorId())
+                        && (view.viewerId() == null || existing.contains(view.viewerId())))
+                .toList();
+    }
+
+    private PreparedBatch prepare(List<PendingProfileView> views) {
+        List<Object[]> viewRows = new ArrayList<>(views.size());
+        List<Object[]> activityRows = new ArrayList<>(views.size());
+        Map<UUID, Long> viewCountDeltas = new TreeMap<>();
+        Map<UUID, List<ActivityResponse>> feed = new LinkedHashMap<>();
+        for (PendingProfileView view : views) {
+            viewCountDeltas.merge(view.actorId(), 1L, Long::sum);
+            Timestamp viewedAt = Timestamp.valueOf(view.viewedAt());
+            String viewerName = view.viewerName() != null ? view.viewerName() : Activity.ANONYMOUS_VIEWER_NAME;
+            UUID activityId = UUID.randomUUID();
+            String message = Activity.profileViewedMessage(viewerName);
+            viewRows.add(new Object[] {
+                    UUID.randomUUID(), view.actorId(), view.viewerId(), view.viewerIp(), viewedAt, viewedAt});
+            activityRows.add(new Object[] {
+                    activityId, view.actorId(), ActivityType.PROFILE_VIEW.name(),
+                    message, view.viewerId(), viewerName, null, viewedAt, viewedAt});
+            feed.computeIfAbsent(view.actorId(), id -> new ArrayList<>()).add(ActivityResponse.builder()
+                    .id(activityId)
+                    .type(ActivityType.PROFILE_VIEW.getCode())
+                    .message(message)
+                    .relatedUserId(view.viewerId())
+                    .relatedUserName(viewerName)
+                    .createdAt(view.viewedAt())
+                    .build());
+        }
+        List<Object[]> countRows = new ArrayList<>(viewCountDeltas.size());
+        viewCountDeltas.forEach((actorId, delta) -> countRows.add(new Object[] {delta, actorId}));
+        return new PreparedBatch(viewRows, activityRows, countRows, viewCountDeltas, feed);
+    }
+
+    private record PreparedBatch(
+            List<Object[]> viewRows,
+            List<Object[]> activityRows,
+            List<Object[]> countRows,
+            Map<UUID, Long> viewCountDeltas,
+            Map<UUID, List<ActivityResponse>> feed) {
+
+        int size() {
+            return viewRows.size();
+        }
+    }
+}
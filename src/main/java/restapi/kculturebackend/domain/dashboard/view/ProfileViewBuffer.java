@@ -0,0 +1,175 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로필 조회 쓰기 지연(write-behind) 버퍼
+ *
+ * 상세 조회 요청은 조회를 메모리 큐에 넣기만 하고, 저장은 별도 스레드가 모아서 배치로 처리한다.
+ * - 큐는 크기 제한이 있으며 가득 차면 요청을 막지 않고 버림 (dropped 지표로 확인)
+ * - flush-millis 주기 또는 batch-size 이상 쌓였을 때 저장
+ *   (공용 @Scheduled 스레드를 쓰는 다른 작업이 오래 걸려도 밀리지 않도록 전용 스레드에서 실행)
+ * - 저장 실패 시 해당 배치는 버리고 failed 지표만 올림 (조회 통계 용도라 재시도보다 요청 보호 우선)
+ * - 종료 시 남은 조회를 한 번 더 저장
+ */
+@Slf4j
+@Component
+public class ProfileViewBuffer {
+
+    private final BlockingQueue<PendingProfileView> queue;
+    private final ProfileViewBatchWriter writer;
+    private final int batchSize;
+    private final long flushMillis;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "profile-view-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter accepted;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    public ProfileViewBuffer(
+            ProfileViewBatchWriter writer,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.profile-view.buffer-capacity:10000}") int capacity,
+            @Value("${dashboard.profile-view.batch-size:500}") int batchSize,
+            @Value("${dashboard.profile-view.flush-millis:1000}") long flushMillis) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.accepted = Counter.builder("profile_view.buffer.accepted")
+                .description("Profile views queued for write-behind")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("profile_view.buffer.dropped")
+                .description("Profile views dropped because the buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("profile_view.buffer.written")
+                .description("Profile views persisted after cooldown filtering")
+                .register(meterRegistry);
+        this.failed = Counter.builder("profile_view.buffer.failed")
+                .description("Profile views lost because a batch write failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("profile_view.buffer.flush")
+                .description("Profile view batch write latency")
+                .register(meterRegistry);
+        Gauge.builder("profile_view.buffer.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 추가 (대기 없음, 버퍼가 가득 차면 false)
+     */
+    public boolean offer(PendingProfileView view) {
+        if (!queue.offer(view)) {
+            dropped.increment();
+            return false;
+        }
+        accepted.increment();
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 shutdown에서 저장
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 주기적 저장 시작 (flush-millis 간격, 이전 저장이 끝난 뒤부터)
+     */
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 쌓인 조회를 batch-size 단위로 저장 (동시에 한 스레드만 수행)
+     */
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    // 예외가 나면 이후 주기 실행이 취소되므로 여기서 막음
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Profile view flush failed", e);
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 저장을 기다린 뒤 남은 조회 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void drain() {
+        List<PendingProfileView> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingProfileView> batch) {
+        try {
+            Integer saved = flushTimer.record(() -> writer.write(batch));
+            written.increment(saved != null ? saved : 0);
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} profile views", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로필 조회 쿨다운 (같은 배우 + 같은 조회자/IP는 cooldown 동안 한 번만 기록)
+ *
+ * - (배우, 조회자 키)마다 Redis 키를 SET NX EX로 원자적으로 선점하며, 배치 단위로 파이프라인 전송
+ * - 선점에 성공한 조회만 저장 대상 (profile_views 조회 없이 건당 O(1))
+ * - Redis 장애 시 로컬 시간 구간별 Bloom 필터로 판단 (인스턴스별 판단이라 노드 간 중복은 허용,
+ *   거짓 양성 비율만큼 조회가 누락될 수 있음)
+ * - Redis가 정상일 때도 로컬 필터에 기록해 두어 장애 직후에도 쿨다운이 이어지도록 함
+ * - 저장에 실패한 조회는 Redis 키를 반납 (로컬 필터는 삭제를 지원하지 않아 그대로 둠)
+ */
+@Slf4j
+@Component
+public class ProfileViewCooldown {
+
+    private static final String KEY_PREFIX = "profile-view:cooldown:";
+    private static final byte[] MARKER = "1".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Expiration expiration;
+    private final TimeBucketedBloomFilter localFilter;
+    private final Counter fallbackCounter;
+
+    public ProfileViewCooldown(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.profile-view.cooldown-seconds:3600}") long cooldownSeconds,
+            @Value("${dashboard.profile-view.local-cooldown.buckets:4}") int buckets,
+            @Value("${dashboard.profile-view.local-cooldown.expected-views:200000}") long expectedViews,
+            @Value("${dashboard.profile-view.local-cooldown.fpp:0.001}") double fpp) {
+        this.redisTemplate = redisTemplate;
+        Duration cooldown = Duration.ofSeconds(cooldownSeconds);
+        this.expiration = Expiration.from(cooldown);
+        this.localFilter = new TimeBucketedBloomFilter(cooldown, buckets, expectedViews, fpp);
+        this.fallbackCounter = Counter.builder("profile_view.cooldown.fallback")
+                .description("Profile views deduplicated by the local filter because Redis was unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쿨다운을 선점한 조회만 반환 (조회자 키가 없는 조회는 그대로 통과, 순서 유지)
+     */
+    public List<PendingProfileView> acquire(List<PendingProfileView> views) {
+        List<String> keys = new ArrayList<>(views.size());
+        for (PendingProfileView view : views) {
+            String viewerKey = view.viewerKey();
+            keys.add(viewerKey != null ? KEY_PREFIX + view.actorId() + ":" + viewerKey : null);
+        }
+
+        List<Object> results = setIfAbsent(keys);
+        long now = System.currentTimeMillis();
+        List<PendingProfileView> accepted = new ArrayList<>(views.size());
+        int resultIndex = 0;
+        for (int i = 0; i < views.size(); i++) {
+            String key = keys.get(i);
+            boolean acquired;
+            if (key == null) {
+                acquired = true;
+            } else if (results != null) {
+                acquired = Boolean.TRUE.equals(results.get(resultIndex++));
+                if (acquired) {
+                    localFilter.put(key, now);
+                }
+            } else {
+                acquired = localFilter.putIfAbsent(key, now);
+                fallbackCounter.increment();
+            }
+            if (acquired) {
+                accepted.add(views.get(i));
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 선점한 쿨다운 반납 (저장 트랜잭션 실패 시, 반납 실패는 쿨다운이 끝날 때까지 누락으로 남음)
+     */
+    public void release(List<PendingProfileView> views) {
+        List<byte[]> keys = new ArrayList<>(views.size());
+        for (PendingProfileView view : views) {
+            String viewerKey = view.viewerKey();
+            if (viewerKey != null) {
+                keys.add((KEY_PREFIX + view.actorId() + ":" + viewerKey).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.keyCommands().del(keys.toArray(byte[][]::new)));
+        } catch (DataAccessException e) {
+            log.warn("Profile view cooldown release failed: {}", e.getMessage());
+        }
+    }
+
+    // 키마다 SET NX EX를 한 번의 파이프라인으로 전송 (Redis 장애 시 null)
+    private List<Object> setIfAbsent(List<String> keys) {
+        if (keys.stream().allMatch(key -> key == null)) {
+            return List.of();
+        }
+        try {
+            return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    if (key != null) {
+                        connection.stringCommands().set(
+                                key.getBytes(StandardCharsets.UTF_8), MARKER, expiration, SetOption.ifAbsent());
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Profile view cooldown check failed, using local filter: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배우별 고유 조회자 수 (Redis HyperLogLog)
+ *
+ * - 배우 + 날짜마다 HLL 키 하나에 조회자 키(로그인 ID 또는 IP)를 PFADD (쿨다운과 무관하게 모든 조회 반영)
+ * - 기간 추정은 해당 날짜 키들을 PFCOUNT 한 번으로 합쳐 계산 (중복 조회자는 한 번만 셈)
+ * - 키당 최대 12KB(조회자가 적으면 희소 표현으로 훨씬 작음), 보관 기간이 지나면 만료되어 배우당 메모리가 제한됨
+ * - Redis 장애 시 기록은 건너뛰고 추정치는 비움 (조회 저장/대시보드 조회는 실패시키지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileViewUniqueCounter {
+
+    private static final int MAX_DAYS = 30;
+
+    private static final String KEY_PREFIX = "profile-view:uv:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    // 30일 구간의 가장 오래된 날짜 키가 끝까지 남도록 하루 여유
+    private static final long TTL_SECONDS = (MAX_DAYS + 1) * 24L * 60 * 60;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 조회 반영 (조회자 키가 없는 조회는 제외)
+     */
+    public void record(List<PendingProfileView> views) {
+        Map<String, Set<String>> viewersByKey = new LinkedHashMap<>();
+        for (PendingProfileView view : views) {
+            String viewerKey = view.viewerKey();
+            if (viewerKey != null) {
+                viewersByKey.computeIfAbsent(key(view.actorId(), view.viewedAt().toLocalDate()),
+                        k -> new LinkedHashSet<>()).add(viewerKey);
+            }
+        }
+        if (viewersByKey.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                viewersByKey.forEach((key, viewers) -> {
+                    byte[] rawKey = bytes(key);
+                    connection.hyperLogLogCommands().pfAdd(rawKey,
+                            viewers.stream().map(ProfileViewUniqueCounter::bytes).toArray(byte[][]::new));
+                    connection.keyCommands().expire(rawKey, TTL_SECONDS);
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Unique viewer sketch update failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오늘 / 최근 7일 / 최근 30일 고유 조회자 수 추정
+     */
+    public UniqueViewerEstimate estimate(UUID actorId) {
+        LocalDate today = LocalDate.now();
+        byte[][] keys = new byte[MAX_DAYS][];
+        for (int i = 0; i < MAX_DAYS; i++) {
+            keys[i] = bytes(key(actorId, today.minusDays(i)));
+        }
+
+        try {
+            List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hyperLogLogCommands().pfCount(keys[0]);
+                connection.hyperLogLogCommands().pfCount(Arrays.copyOf(keys, 7));
+                connection.hyperLogLogCommands().pfCount(keys);
+                return null;
+            });
+            return new UniqueViewerEstimate(toLong(counts.get(0)), toLong(counts.get(1)), toLong(counts.get(2)));
+        } catch (DataAccessException e) {
+            log.warn("Unique viewer estimate failed: {}", e.getMessage());
+            return UniqueViewerEstimate.unavailable();
+        }
+    }
+
+    private static String key(UUID actorId, LocalDate day) {
+        return KEY_PREFIX + actorId + ":" + day.format(DAY_FORMAT);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
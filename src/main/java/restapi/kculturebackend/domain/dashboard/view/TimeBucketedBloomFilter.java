@@ -0,0 +1,127 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.BitSet;
+
+/**
+ * 시간 구간별 Bloom 필터 (최근 window 동안 추가된 키인지 근사 판단)
+ *
+ * window를 bucketCount개 구간으로 나누고, 구간마다 Bloom 필터 하나를 둔다.
+ * 조회 시 현재 구간과 직전 bucketCount개 구간을 모두 확인하므로, 추가된 키는 최소 window,
+ * 최대 window + 구간 길이 동안 남는다. 지난 구간은 링 버퍼 칸을 재사용할 때 비운다.
+ * - 거짓 양성(없는 키를 있다고 판단)은 fpp 비율로 발생하고, 거짓 음성은 없음
+ * - 메모리는 구간 수 × 구간당 비트 수로 고정 (키 수와 무관)
+ */
+public final class TimeBucketedBloomFilter {
+
+    private final long bucketMillis;
+    private final int bitCount;
+    private final int hashCount;
+    private final BitSet[] buckets;
+    private final long[] bucketIds;
+
+    /**
+     * @param expectedInsertions window 동안 예상되는 키 수
+     * @param fpp                허용 거짓 양성 비율 (0~1)
+     */
+    public TimeBucketedBloomFilter(Duration window, int bucketCount, long expectedInsertions, double fpp) {
+        if (bucketCount < 1 || expectedInsertions < 1 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("Invalid bloom filter settings");
+        }
+        this.bucketMillis = Math.max(1, window.toMillis() / bucketCount);
+        long perBucket = Math.max(1, expectedInsertions / bucketCount);
+        double ln2 = Math.log(2);
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 64,
+                Math.ceil(-perBucket * Math.log(fpp) / (ln2 * ln2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / perBucket * ln2));
+        // 현재 구간 + 직전 bucketCount개 구간
+        this.buckets = new BitSet[bucketCount + 1];
+        this.bucketIds = new long[bucketCount + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new BitSet(bitCount);
+            bucketIds[i] = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * 최근 window 안에 없던 키면 추가하고 true, 이미 있으면(또는 거짓 양성이면) false
+     */
+    public synchronized boolean putIfAbsent(String key, long nowMillis) {
+        long hash = hash(key);
+        long current = nowMillis / bucketMillis;
+        if (mightContain(hash, current)) {
+            return false;
+        }
+        set(bucketFor(current), hash);
+        return true;
+    }
+
+    /**
+     * 키 추가 (이미 있어도 현재 구간에 다시 기록하여 유지 시간을 연장)
+     */
+    public synchronized void put(String key, long nowMillis) {
+        set(bucketFor(nowMillis / bucketMillis), hash(key));
+    }
+
+    public synchronized boolean mightContain(String key, long nowMillis) {
+        return mightContain(hash(key), nowMillis / bucketMillis);
+    }
+
+    private boolean mightContain(long hash, long current) {
+        for (long id = current - buckets.length + 1; id <= current; id++) {
+            int slot = slot(id);
+            if (bucketIds[slot] == id && contains(buckets[slot], hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 링 버퍼 칸에 다른(지난) 구간이 남아 있으면 비우고 현재 구간으로 사용
+    private BitSet bucketFor(long id) {
+        int slot = slot(id);
+        if (bucketIds[slot] != id) {
+            buckets[slot].clear();
+            bucketIds[slot] = id;
+        }
+        return buckets[slot];
+    }
+
+    private int slot(long id) {
+        return (int) Math.floorMod(id, (long) buckets.length);
+    }
+
+    // 이중 해싱(h1 + i * h2)으로 hashCount개 위치 계산
+    private boolean contains(BitSet bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(Math.floorMod(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void set(BitSet bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            bits.set(Math.floorMod(h1 + i * h2, bitCount));
+        }
+    }
+
+    // FNV-1a 64 + 최종 혼합
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
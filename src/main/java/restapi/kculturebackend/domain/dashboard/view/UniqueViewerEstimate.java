@@ -0,0 +1,16 @@
+package restapi.kculturebackend.domain.dashboard.view;
+
+/**
+ * 배우별 고유 조회자 수 추정치 (HyperLogLog, 표준 오차 약 0.81%)
+ * Redis 장애로 추정할 수 없으면 각 값은 null
+ *
+ * @param today      오늘
+ * @param last7Days  오늘 포함 최근 7일
+ * @param last30Days 오늘 포함 최근 30일
+ */
+public record UniqueViewerEstimate(Long today, Long last7Days, Long last30Days) {
+
+    public static UniqueViewerEstimate unavailable() {
+        return new UniqueViewerEstimate(null, null, null);
+    }
+}
@@ -14,6 +14,8 @@ import restapi.kculturebackend.common.exception.ErrorCode;
 import restapi.kculturebackend.common.exception.NotFoundException;
 import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
 import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import restapi.kculturebackend.domain.dashboard.counter.UserCounterWriter;
+import restapi.kculturebackend.domain.dashboard.entity.UserCounterType;
 import restapi.kculturebackend.domain.dashboard.service.DashboardService;
 import restapi.kculturebackend.domain.favorite.dto.CreateFavoriteRequest;
 import restapi.kculturebackend.domain.favorite.dto.FavoriteResponse;
@@ -33,6 +35,7 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final ActorProfileRepository actorProfileRepository;
     private final DashboardService dashboardService;
+    private final UserCounterWriter userCounterWriter;
 
     // 찜 목록 조회
     @Transactional(readOnly = true)
@@ -73,6 +76,7 @@ public class FavoriteService {
         if (request.getType() == FavoriteType.ACTOR) {
             dashboardService.recordFavoriteActivity(request.getTargetId(), user);
         }
+        updateCounters(user, saved, 1);
 
         log.info("Favorite added: user={}, target={}, type={}", user.getId(), request.getTargetId(), request.getType());
 
@@ -86,9 +90,18 @@ public class FavoriteService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.FAVORITE_NOT_FOUND));
 
         favoriteRepository.delete(favorite);
+        updateCounters(user, favorite, -1);
         log.info("Favorite deleted: user={}, favoriteId={}", user.getId(), favoriteId);
     }
 
+    // 배우 찜만 찜한 배우 수 / 찜 받은 수 카운터에 반영
+    private void updateCounters(User user, Favorite favorite, long delta) {
+        if (favorite.getType() == FavoriteType.ACTOR) {
+            userCounterWriter.increment(user.getId(), UserCounterType.FAVORITES_GIVEN,
+                    favorite.getTargetId(), UserCounterType.FAVORITES_RECEIVED, delta);
+        }
+    }
+
     // 대상 존재 확인
     private void validateTargetExists(UUID targetId, FavoriteType type) {
         boolean exists = switch (type) {
@@ -3,8 +3,8 @@ package restapi.kculturebackend.domain.job.controller;
 import java.util.Map;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -26,6 +26,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import restapi.kculturebackend.common.dto.ApiResponse;
+import restapi.kculturebackend.common.dto.CountMode;
 import restapi.kculturebackend.domain.job.dto.CreateJobRequest;
 import restapi.kculturebackend.domain.job.dto.JobDetailResponse;
 import restapi.kculturebackend.domain.job.dto.JobListResponse;
@@ -56,9 +57,12 @@ public class JobController {
             @Parameter(description = "품앗이 여부") @RequestParam(required = false) Boolean isPumasi,
             @Parameter(description = "상태 (all, 모집중, 마감됨)") @RequestParam(required = false, defaultValue = "all") String status,
             @Parameter(description = "검색어") @RequestParam(required = false) String search,
+            @Parameter(description = "전체 건수 계산 방식 (exact: 정확한 건수, estimated: 추정 건수, none: 건수 없이 hasNext만)")
+                @RequestParam(required = false, defaultValue = "exact") String countMode,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Page<JobSummaryResponse> jobs = jobService.getJobs(category, gender, ageRange, isPumasi, status, search, pageable);
+        Slice<JobSummaryResponse> jobs = jobService.getJobs(category, gender, ageRange, isPumasi, status, search,
+                pageable, CountMode.from(countMode));
         return ResponseEntity.ok(ApiResponse.success(JobListResponse.from(jobs)));
     }
 
@@ -3,6 +3,7 @@ package restapi.kculturebackend.domain.job.dto;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,4 +26,11 @@ public class JobListResponse {
                 Pagination.from(page)
         );
     }
+
+    public static JobListResponse from(Slice<JobSummaryResponse> slice) {
+        return new JobListResponse(
+                slice.getContent(),
+                Pagination.from(slice)
+        );
+    }
 }
@@ -0,0 +1,30 @@
+package restapi.kculturebackend.domain.job.event;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.domain.job.entity.Job;
+
+/**
+ * 작품구인 변경 이벤트 (생성/수정/삭제)
+ * JobService에서 발행하며, 변경 시점의 값을 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class JobChangedEvent {
+    private final UUID jobId;
+    private final String title;
+    private final String workTitle;
+    private final long views;
+    private final boolean deleted;
+
+    public static JobChangedEvent of(Job job) {
+        return new JobChangedEvent(job.getId(), job.getTitle(), job.getWorkTitle(),
+                job.getViews() != null ? job.getViews() : 0L, false);
+    }
+
+    public static JobChangedEvent deleted(UUID jobId) {
+        return new JobChangedEvent(jobId, null, null, 0L, true);
+    }
+}
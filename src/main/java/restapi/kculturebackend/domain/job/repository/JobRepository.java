@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,14 +28,17 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
     // 작품구인 목록 조회 (상태 + 카테고리)
     Page<Job> findByStatusAndCategory(JobStatus status, JobCategory category, Pageable pageable);
 
-    // 검색
-    @Query("SELECT j FROM Job j WHERE " +
+    // 검색 조건 (목록/Slice/건수 쿼리 공용)
+    String SEARCH_CONDITION =
            "(:status IS NULL OR j.status = :status) AND " +
            "(:category IS NULL OR j.category = :category) AND " +
            "(:gender IS NULL OR j.gender = :gender) AND " +
            "(:isPumasi IS NULL OR j.isPumasi = :isPumasi) AND " +
            "(COALESCE(:search, '') = '' OR LOWER(j.title) LIKE LOWER(CONCAT('%', CAST(:search AS string), '%')) OR " +
-           "LOWER(j.workTitle) LIKE LOWER(CONCAT('%', CAST(:search AS string), '%')))")
+           "LOWER(j.workTitle) LIKE LOWER(CONCAT('%', CAST(:search AS string), '%')))";
+
+    // 검색
+    @Query("SELECT j FROM Job j WHERE " + SEARCH_CONDITION)
     Page<Job> searchJobs(
             @Param("status") JobStatus status,
             @Param("category") JobCategory category,
@@ -43,6 +47,25 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
             @Param("search") String search,
             Pageable pageable);
 
+    // 검색 (건수 없이 limit + 1건 조회)
+    @Query("SELECT j FROM Job j WHERE " + SEARCH_CONDITION)
+    Slice<Job> searchJobsSlice(
+            @Param("status") JobStatus status,
+            @Param("category") JobCategory category,
+            @Param("gender") String gender,
+            @Param("isPumasi") Boolean isPumasi,
+            @Param("search") String search,
+            Pageable pageable);
+
+    // 검색 건수
+    @Query("SELECT COUNT(j) FROM Job j WHERE " + SEARCH_CONDITION)
+    long countJobs(
+            @Param("status") JobStatus status,
+            @Param("category") JobCategory category,
+            @Param("gender") String gender,
+            @Param("isPumasi") Boolean isPumasi,
+            @Param("search") String search);
+
     // 사용자의 작품구인 조회
     @Query("SELECT j FROM Job j WHERE j.id = :jobId AND j.user.id = :userId")
     Optional<Job> findByIdAndUserId(@Param("jobId") UUID jobId, @Param("userId") UUID userId);
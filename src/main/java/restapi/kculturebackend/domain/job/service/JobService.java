@@ -2,10 +2,16 @@ package restapi.kculturebackend.domain.job.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.EstimatedPage;
+import restapi.kculturebackend.common.pagination.ApproximateCounter;
 import restapi.kculturebackend.common.exception.ErrorCode;
 import restapi.kculturebackend.common.exception.ForbiddenException;
 import restapi.kculturebackend.common.exception.NotFoundException;
@@ -13,6 +19,7 @@ import restapi.kculturebackend.domain.job.dto.*;
 import restapi.kculturebackend.domain.job.entity.Job;
 import restapi.kculturebackend.domain.job.entity.JobCategory;
 import restapi.kculturebackend.domain.job.entity.JobStatus;
+import restapi.kculturebackend.domain.job.event.JobChangedEvent;
 import restapi.kculturebackend.domain.job.repository.JobRepository;
 import restapi.kculturebackend.domain.user.entity.User;
 
@@ -27,18 +34,48 @@ import java.util.UUID;
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApproximateCounter approximateCounter;
 
     // 작품구인 목록 조회 (검색/필터)
     @Transactional(readOnly = true)
     public Page<JobSummaryResponse> getJobs(JobCategory category, String gender, String ageRange,
                                              Boolean isPumasi, String status, String search, Pageable pageable) {
-        JobStatus jobStatus = null;
-        if (status != null && !"all".equalsIgnoreCase(status)) {
-            jobStatus = "모집중".equals(status) ? JobStatus.RECRUITING : JobStatus.CLOSED;
+        Page<Job> jobs = jobRepository.searchJobs(toJobStatus(status), category, gender, isPumasi, search, pageable);
+        return jobs.map(JobSummaryResponse::from);
+    }
+
+    // 작품구인 목록 조회 (건수 계산 방식 지정)
+    @Transactional(readOnly = true)
+    public Slice<JobSummaryResponse> getJobs(JobCategory category, String gender, String ageRange,
+                                              Boolean isPumasi, String status, String search,
+                                              Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return getJobs(category, gender, ageRange, isPumasi, status, search, pageable);
         }
 
-        Page<Job> jobs = jobRepository.searchJobs(jobStatus, category, gender, isPumasi, search, pageable);
-        return jobs.map(JobSummaryResponse::from);
+        JobStatus jobStatus = toJobStatus(status);
+        Slice<JobSummaryResponse> jobs = jobRepository
+                .searchJobsSlice(jobStatus, category, gender, isPumasi, search, pageable)
+                .map(JobSummaryResponse::from);
+        if (countMode == CountMode.NONE) {
+            return jobs;
+        }
+
+        boolean unfiltered = jobStatus == null && category == null && gender == null
+                && isPumasi == null && !StringUtils.hasText(search);
+        return EstimatedPage.of(jobs, () -> unfiltered
+                ? approximateCounter.tableEstimate("jobs", jobRepository::count)
+                : approximateCounter.count(
+                        "jobs:" + jobStatus + ":" + category + ":" + gender + ":" + isPumasi + ":" + search,
+                        () -> jobRepository.countJobs(jobStatus, category, gender, isPumasi, search)));
+    }
+
+    private JobStatus toJobStatus(String status) {
+        if (status == null || "all".equalsIgnoreCase(status)) {
+            return null;
+        }
+        return "모집중".equals(status) ? JobStatus.RECRUITING : JobStatus.CLOSED;
     }
 
     // 작품구인 상세 조회
@@ -75,6 +112,7 @@ public class JobService {
                 .build();
 
         Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(saved));
         log.info("Job created: id={}, title={}", saved.getId(), saved.getTitle());
 
         return JobDetailResponse.from(saved);
@@ -108,6 +146,7 @@ public class JobService {
         );
 
         Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(saved));
         log.info("Job updated: id={}", jobId);
 
         return JobDetailResponse.from(saved);
@@ -125,6 +164,7 @@ public class JobService {
                 });
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(jobId));
         log.info("Job deleted: id={}", jobId);
     }
 }
@@ -4,14 +4,16 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import restapi.kculturebackend.common.dto.ApiResponse;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.Pagination;
 import restapi.kculturebackend.common.dto.PaginationResponse;
 import restapi.kculturebackend.domain.notification.dto.NotificationResponse;
 import restapi.kculturebackend.domain.notification.entity.NotificationType;
@@ -39,9 +41,12 @@ public class NotificationController {
             @AuthenticationPrincipal User user,
             @Parameter(description = "읽음 상태") @RequestParam(required = false) Boolean isRead,
             @Parameter(description = "알림 타입") @RequestParam(required = false) NotificationType type,
+            @Parameter(description = "전체 건수 계산 방식 (exact: 정확한 건수, estimated: 추정 건수, none: 건수 없이 hasNext만)")
+                @RequestParam(required = false, defaultValue = "exact") String countMode,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Page<NotificationResponse> notifications = notificationService.getNotifications(user, isRead, type, pageable);
+        Slice<NotificationResponse> notifications =
+                notificationService.getNotifications(user, isRead, type, pageable, CountMode.from(countMode));
         long unreadCount = notificationService.getUnreadCount(user);
 
         PaginationResponse<NotificationResponse> paginationResponse = PaginationResponse.from(notifications);
@@ -49,12 +54,7 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(Map.of(
                 "notifications", paginationResponse.getContent(),
                 "unreadCount", unreadCount,
-                "pagination", Map.of(
-                        "page", paginationResponse.getPage(),
-                        "limit", paginationResponse.getLimit(),
-                        "total", paginationResponse.getTotal(),
-                        "totalPages", paginationResponse.getTotalPages()
-                )
+                "pagination", Pagination.from(notifications)
         )));
     }
 
@@ -2,6 +2,7 @@ package restapi.kculturebackend.domain.notification.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,6 +21,12 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     // 사용자의 알림 목록 조회 (페이징)
     Page<Notification> findByUserId(UUID userId, Pageable pageable);
 
+    // 사용자의 알림 목록 조회 (건수 없이 limit + 1건 조회)
+    Slice<Notification> findSliceByUserId(UUID userId, Pageable pageable);
+
+    // 사용자의 알림 수
+    long countByUserId(UUID userId);
+
     // 사용자의 알림 목록 조회 (읽음 상태별)
     Page<Notification> findByUserIdAndIsRead(UUID userId, Boolean isRead, Pageable pageable);
 
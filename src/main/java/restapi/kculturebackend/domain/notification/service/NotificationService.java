@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.EstimatedPage;
+import restapi.kculturebackend.common.pagination.ApproximateCounter;
 import restapi.kculturebackend.common.exception.ErrorCode;
 import restapi.kculturebackend.common.exception.NotFoundException;
 import restapi.kculturebackend.domain.notification.dto.NotificationResponse;
@@ -25,6 +29,7 @@ import java.util.UUID;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final ApproximateCounter approximateCounter;
 
     // 알림 목록 조회
     @Transactional(readOnly = true)
@@ -42,6 +47,24 @@ public class NotificationService {
         return notifications.map(NotificationResponse::from);
     }
 
+    // 알림 목록 조회 (건수 계산 방식 지정, 필터 없는 전체 목록에만 적용)
+    @Transactional(readOnly = true)
+    public Slice<NotificationResponse> getNotifications(User user, Boolean isRead, NotificationType type,
+                                                        Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT || isRead != null || type != null) {
+            return getNotifications(user, isRead, type, pageable);
+        }
+
+        Slice<NotificationResponse> notifications = notificationRepository
+                .findSliceByUserId(user.getId(), pageable)
+                .map(NotificationResponse::from);
+        if (countMode == CountMode.NONE) {
+            return notifications;
+        }
+        return EstimatedPage.of(notifications, () -> approximateCounter.count(
+                "notifications:" + user.getId(), () -> notificationRepository.countByUserId(user.getId())));
+    }
+
     // 읽지 않은 알림 수 조회
     @Transactional(readOnly = true)
     public long getUnreadCount(User user) {
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import restapi.kculturebackend.common.dto.ApiResponse;
+import restapi.kculturebackend.common.dto.CountMode;
 import restapi.kculturebackend.common.dto.PaginationResponse;
 import restapi.kculturebackend.domain.project.dto.CreateProjectRequest;
 import restapi.kculturebackend.domain.project.dto.ProjectResponse;
@@ -55,9 +57,12 @@ public class ProjectController {
             @Parameter(description = "프로젝트명 검색") @RequestParam(required = false) String name,
             @Parameter(description = "프로젝트 유형") @RequestParam(required = false) ProjectType type,
             @Parameter(description = "프로젝트 상태") @RequestParam(required = false) ProjectStatus status,
+            @Parameter(description = "전체 건수 계산 방식 (exact: 정확한 건수, estimated: 추정 건수, none: 건수 없이 hasNext만)")
+                @RequestParam(required = false, defaultValue = "exact") String countMode,
             @PageableDefault(size = 20) Pageable pageable) {
 
-        Page<ProjectResponse> projects = projectService.getProjects(name, type, status, pageable);
+        Slice<ProjectResponse> projects = projectService.getProjects(name, type, status, pageable,
+                CountMode.from(countMode));
         return ResponseEntity.ok(ApiResponse.success(PaginationResponse.from(projects)));
     }
 
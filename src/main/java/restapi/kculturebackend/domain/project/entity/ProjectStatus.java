@@ -19,5 +19,12 @@ public enum ProjectStatus {
     CANCELLED("취소됨");
 
     private final String displayName;
+
+    /**
+     * 진행중 프로젝트 여부 (대시보드 진행중 프로젝트 수 집계 기준)
+     */
+    public boolean isActive() {
+        return this == CASTING || this == PRE_PRODUCTION || this == IN_PRODUCTION;
+    }
 }
 
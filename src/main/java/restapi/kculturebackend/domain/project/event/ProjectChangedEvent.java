@@ -0,0 +1,30 @@
+package restapi.kculturebackend.domain.project.event;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.domain.project.entity.Project;
+
+/**
+ * 프로젝트 변경 이벤트 (생성/수정/삭제)
+ * ProjectService에서 발행하며, 변경 시점의 값을 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProjectChangedEvent {
+    private final UUID projectId;
+    private final UUID agencyId;
+    private final String projectName;
+    private final boolean deleted;
+
+    public static ProjectChangedEvent of(Project project) {
+        return new ProjectChangedEvent(project.getId(), project.getAgency().getUserId(),
+                project.getProjectName(), false);
+    }
+
+    public static ProjectChangedEvent deleted(Project project) {
+        return new ProjectChangedEvent(project.getId(), project.getAgency().getUserId(),
+                project.getProjectName(), true);
+    }
+}
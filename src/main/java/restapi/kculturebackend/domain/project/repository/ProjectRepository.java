@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -44,23 +45,42 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     Page<Project> findCastingProjects(Pageable pageable);
 
     /**
-     * 프로젝트 검색 (이름, 유형, 상태 필터)
+     * 프로젝트 검색 조건 (목록/Slice/건수 쿼리 공용)
      */
-    @Query(value = "SELECT * FROM projects p WHERE " +
-           "(:name IS NULL OR p.project_name ILIKE CONCAT('%', :name, '%')) AND " +
-           "(:type IS NULL OR p.project_type = :type) AND " +
-           "(:status IS NULL OR p.status = :status) " +
-           "ORDER BY p.created_at DESC",
-           countQuery = "SELECT COUNT(*) FROM projects p WHERE " +
+    String SEARCH_CONDITION =
            "(:name IS NULL OR p.project_name ILIKE CONCAT('%', :name, '%')) AND " +
            "(:type IS NULL OR p.project_type = :type) AND " +
-           "(:status IS NULL OR p.status = :status)",
+           "(:status IS NULL OR p.status = :status)";
+
+    /**
+     * 프로젝트 검색 (이름, 유형, 상태 필터)
+     */
+    @Query(value = "SELECT * FROM projects p WHERE " + SEARCH_CONDITION + " ORDER BY p.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM projects p WHERE " + SEARCH_CONDITION,
            nativeQuery = true)
     Page<Project> search(@Param("name") String name,
                          @Param("type") String type,
                          @Param("status") String status,
                          Pageable pageable);
 
+    /**
+     * 프로젝트 검색 (건수 없이 limit + 1건 조회)
+     */
+    @Query(value = "SELECT * FROM projects p WHERE " + SEARCH_CONDITION + " ORDER BY p.created_at DESC",
+           nativeQuery = true)
+    Slice<Project> searchSlice(@Param("name") String name,
+                               @Param("type") String type,
+                               @Param("status") String status,
+                               Pageable pageable);
+
+    /**
+     * 프로젝트 검색 건수
+     */
+    @Query(value = "SELECT COUNT(*) FROM projects p WHERE " + SEARCH_CONDITION, nativeQuery = true)
+    long countSearch(@Param("name") String name,
+                     @Param("type") String type,
+                     @Param("status") String status);
+
     /**
      * 에이전시별 진행중 프로젝트 수
      */
@@ -7,6 +7,8 @@ import org.springframework.transaction.annotation.Transactional;
 import restapi.kculturebackend.common.exception.ErrorCode;
 import restapi.kculturebackend.common.exception.ForbiddenException;
 import restapi.kculturebackend.common.exception.NotFoundException;
+import restapi.kculturebackend.domain.dashboard.counter.UserCounterWriter;
+import restapi.kculturebackend.domain.dashboard.entity.UserCounterType;
 import restapi.kculturebackend.domain.project.dto.CharacterResponse;
 import restapi.kculturebackend.domain.project.dto.CreateCharacterRequest;
 import restapi.kculturebackend.domain.project.dto.UpdateCharacterRequest;
@@ -31,6 +33,7 @@ public class CharacterService {
 
     private final CharacterRepository characterRepository;
     private final ProjectRepository projectRepository;
+    private final UserCounterWriter userCounterWriter;
 
     /**
      * 프로젝트의 캐릭터 목록 조회
@@ -99,6 +102,7 @@ public class CharacterService {
         );
 
         Character saved = characterRepository.save(character);
+        userCounterWriter.increment(user.getId(), UserCounterType.CHARACTERS, 1);
         log.info("Character created: {} for project: {}", saved.getId(), projectId);
 
         return CharacterResponse.from(saved);
@@ -151,6 +155,7 @@ public class CharacterService {
         }
 
         characterRepository.delete(character);
+        userCounterWriter.increment(user.getId(), UserCounterType.CHARACTERS, -1);
         log.info("Character deleted: {}", characterId);
     }
 
@@ -2,21 +2,29 @@ package restapi.kculturebackend.domain.project.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.EstimatedPage;
+import restapi.kculturebackend.common.pagination.ApproximateCounter;
 import restapi.kculturebackend.common.exception.ErrorCode;
 import restapi.kculturebackend.common.exception.ForbiddenException;
 import restapi.kculturebackend.common.exception.NotFoundException;
 import restapi.kculturebackend.domain.agency.entity.AgencyProfile;
 import restapi.kculturebackend.domain.agency.repository.AgencyProfileRepository;
+import restapi.kculturebackend.domain.dashboard.counter.UserCounterWriter;
+import restapi.kculturebackend.domain.dashboard.entity.UserCounterType;
 import restapi.kculturebackend.domain.project.dto.CreateProjectRequest;
 import restapi.kculturebackend.domain.project.dto.ProjectResponse;
 import restapi.kculturebackend.domain.project.dto.UpdateProjectRequest;
 import restapi.kculturebackend.domain.project.entity.Project;
 import restapi.kculturebackend.domain.project.entity.ProjectStatus;
 import restapi.kculturebackend.domain.project.entity.ProjectType;
+import restapi.kculturebackend.domain.project.event.ProjectChangedEvent;
 import restapi.kculturebackend.domain.project.repository.ProjectRepository;
 import restapi.kculturebackend.domain.user.entity.User;
 import restapi.kculturebackend.domain.user.entity.UserType;
@@ -35,6 +43,9 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final AgencyProfileRepository agencyProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApproximateCounter approximateCounter;
+    private final UserCounterWriter userCounterWriter;
 
     /**
      * 프로젝트 목록 조회 (검색/필터)
@@ -47,6 +58,31 @@ public class ProjectService {
                 .map(ProjectResponse::from);
     }
 
+    /**
+     * 프로젝트 목록 조회 (건수 계산 방식 지정)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProjectResponse> getProjects(String name, ProjectType type, ProjectStatus status,
+                                              Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return getProjects(name, type, status, pageable);
+        }
+
+        String typeStr = type != null ? type.name() : null;
+        String statusStr = status != null ? status.name() : null;
+        Slice<ProjectResponse> projects = projectRepository.searchSlice(name, typeStr, statusStr, pageable)
+                .map(ProjectResponse::from);
+        if (countMode == CountMode.NONE) {
+            return projects;
+        }
+
+        boolean unfiltered = name == null && type == null && status == null;
+        return EstimatedPage.of(projects, () -> unfiltered
+                ? approximateCounter.tableEstimate("projects", projectRepository::count)
+                : approximateCounter.count("projects:" + name + ":" + typeStr + ":" + statusStr,
+                        () -> projectRepository.countSearch(name, typeStr, statusStr)));
+    }
+
     /**
      * 캐스팅 중인 프로젝트 목록
      */
@@ -105,6 +141,10 @@ public class ProjectService {
         );
 
         Project saved = projectRepository.save(project);
+        if (saved.getStatus().isActive()) {
+            userCounterWriter.increment(user.getId(), UserCounterType.ACTIVE_PROJECTS, 1);
+        }
+        eventPublisher.publishEvent(ProjectChangedEvent.of(saved));
         log.info("Project created: {} by agency: {}", saved.getId(), user.getId());
 
         return ProjectResponse.from(saved);
@@ -125,6 +165,7 @@ public class ProjectService {
             throw new ForbiddenException(ErrorCode.FORBIDDEN, "본인의 프로젝트만 수정할 수 있습니다.");
         }
 
+        boolean wasActive = project.getStatus().isActive();
         project.update(
                 request.getProjectName(),
                 request.getCompany(),
@@ -141,6 +182,10 @@ public class ProjectService {
         );
 
         Project saved = projectRepository.save(project);
+        if (saved.getStatus().isActive() != wasActive) {
+            userCounterWriter.increment(user.getId(), UserCounterType.ACTIVE_PROJECTS, wasActive ? -1 : 1);
+        }
+        eventPublisher.publishEvent(ProjectChangedEvent.of(saved));
         log.info("Project updated: {}", projectId);
 
         return ProjectResponse.from(saved);
@@ -161,7 +206,14 @@ public class ProjectService {
             throw new ForbiddenException(ErrorCode.FORBIDDEN, "본인의 프로젝트만 삭제할 수 있습니다.");
         }
 
+        // 캐릭터는 프로젝트와 함께 삭제됨 (cascade)
+        int characterCount = project.getCharacters().size();
         projectRepository.delete(project);
+        if (project.getStatus().isActive()) {
+            userCounterWriter.increment(user.getId(), UserCounterType.ACTIVE_PROJECTS, -1);
+        }
+        userCounterWriter.increment(user.getId(), UserCounterType.CHARACTERS, -characterCount);
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(project));
         log.info("Project deleted: {}", projectId);
     }
 
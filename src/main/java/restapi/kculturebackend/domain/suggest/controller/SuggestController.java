@@ -0,0 +1,55 @@
+package restapi.kculturebackend.domain.suggest.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import restapi.kculturebackend.common.dto.ApiResponse;
+import restapi.kculturebackend.domain.suggest.dto.SuggestResponse;
+import restapi.kculturebackend.domain.suggest.service.SuggestService;
+import restapi.kculturebackend.domain.suggest.service.SuggestType;
+
+/**
+ * 자동완성 API 컨트롤러
+ * 검색창 키 입력마다 호출되는 경량 API (ID와 표시 문자열만 반환)
+ */
+@Tag(name = "Suggest", description = "자동완성 API")
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    @Operation(summary = "배우 자동완성", description = "활동명/이름 접두사, 초성으로 배우를 조회수 순으로 제안합니다.")
+    @GetMapping("/actors")
+    public ResponseEntity<ApiResponse<List<SuggestResponse>>> suggestActors(
+            @Parameter(description = "입력 중인 검색어") @RequestParam(required = false) String q,
+            @Parameter(description = "최대 개수 (최대 20)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(suggestService.suggest(SuggestType.ACTOR, q, limit)));
+    }
+
+    @Operation(summary = "작품구인 자동완성", description = "제목/작품명 접두사, 초성으로 작품구인을 조회수 순으로 제안합니다.")
+    @GetMapping("/jobs")
+    public ResponseEntity<ApiResponse<List<SuggestResponse>>> suggestJobs(
+            @Parameter(description = "입력 중인 검색어") @RequestParam(required = false) String q,
+            @Parameter(description = "최대 개수 (최대 20)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(suggestService.suggest(SuggestType.JOB, q, limit)));
+    }
+
+    @Operation(summary = "프로젝트 자동완성", description = "프로젝트명 접두사, 초성으로 프로젝트를 제안합니다.")
+    @GetMapping("/projects")
+    public ResponseEntity<ApiResponse<List<SuggestResponse>>> suggestProjects(
+            @Parameter(description = "입력 중인 검색어") @RequestParam(required = false) String q,
+            @Parameter(description = "최대 개수 (최대 20)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(suggestService.suggest(SuggestType.PROJECT, q, limit)));
+    }
+}
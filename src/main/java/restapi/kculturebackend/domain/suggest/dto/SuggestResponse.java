@@ -0,0 +1,21 @@
+package restapi.kculturebackend.domain.suggest.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import restapi.kculturebackend.domain.suggest.index.Suggestion;
+
+/**
+ * 자동완성 응답 DTO (키 입력마다 호출되므로 ID와 표시 문자열만 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class SuggestResponse {
+    private UUID id;
+    private String label;
+
+    public static SuggestResponse from(Suggestion suggestion) {
+        return new SuggestResponse(suggestion.getId(), suggestion.getLabel());
+    }
+}
@@ -0,0 +1,331 @@
+package restapi.kculturebackend.domain.suggest.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.util.StringUtils;
+
+import restapi.kculturebackend.domain.actor.search.Hangul;
+
+/**
+ * 자동완성용 접두사 트라이
+ *
+ * - 키는 자모 단위로 분해한 문자열이라 입력 중인 음절도 접두사로 일치 ("홍기" -> "홍길동")
+ * - 전체 문자열, 단어 시작 위치, 초성 문자열을 키로 등록 ("글로리", "ㄷㄱㄹㄹ" -> "더 글로리")
+ * - 노드마다 점수 상위 MAX_RESULTS개를 캐시하여 조회는 접두사 길이 + 결과 수에 비례
+ * - 추가는 경로 캐시에 병합하고, 캐시에 포함된 후보가 삭제되면 해당 노드 캐시만 무효화
+ */
+public class SuggestTrie {
+
+    public static final int MAX_RESULTS = 20;
+
+    private static final char[] EMPTY_KEYS = new char[0];
+    private static final Node[] EMPTY_NODES = new Node[0];
+
+    // 점수 높은 순, 같으면 문자열/ID 순
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::getScore).reversed()
+            .thenComparing(Suggestion::getLabel)
+            .thenComparing(Suggestion::getId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private final Map<UUID, List<Suggestion>> suggestionsById = new HashMap<>();
+
+    /**
+     * ID의 후보 전체 교체 (labels가 비어 있으면 제거)
+     */
+    public void put(UUID id, Collection<String> labels, long score) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (String label : labels) {
+                if (StringUtils.hasText(label)) {
+                    insert(new Suggestion(id, label.trim(), score));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성
+     */
+    public void replaceAll(Collection<Suggestion> suggestions) {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            suggestionsById.clear();
+            for (Suggestion suggestion : suggestions) {
+                if (StringUtils.hasText(suggestion.getLabel())) {
+                    insert(suggestion);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사 자동완성 (ID당 1건, 점수 순 최대 limit건)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = toKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+            Suggestion[] top = node.top != null ? node.top : computeTop(key);
+            return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return suggestionsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 내부 구현 (호출 측에서 락 보유) =====
+
+    private void insert(Suggestion suggestion) {
+        suggestionsById.computeIfAbsent(suggestion.getId(), id -> new ArrayList<>()).add(suggestion);
+        for (String key : keysOf(suggestion.getLabel())) {
+            Node node = root;
+            mergeTop(node, suggestion);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                mergeTop(node, suggestion);
+            }
+            node.terminals.add(suggestion);
+        }
+    }
+
+    private void removeInternal(UUID id) {
+        List<Suggestion> existing = suggestionsById.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (Suggestion suggestion : existing) {
+            for (String key : keysOf(suggestion.getLabel())) {
+                removeKey(key, suggestion);
+            }
+        }
+    }
+
+    private void removeKey(String key, Suggestion suggestion) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        path[key.length()].terminals.remove(suggestion);
+        for (int i = key.length(); i >= 0; i--) {
+            Node node = path[i];
+            if (node.top != null && containsId(node.top, suggestion.getId())) {
+                node.top = null;
+            }
+            // 비어 있는 노드 정리
+            if (i > 0 && node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * 캐시가 없는 노드의 상위 후보 계산 (읽기 락을 쓰기 락으로 바꿔 계산 후 다시 읽기 락으로 강등)
+     */
+    private Suggestion[] computeTop(String key) {
+        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return new Suggestion[0];
+            }
+            if (node.top == null) {
+                Map<UUID, Suggestion> bestById = new HashMap<>();
+                collect(node, bestById);
+                node.top = bestById.values().stream()
+                        .sorted(RANKING)
+                        .limit(MAX_RESULTS)
+                        .toArray(Suggestion[]::new);
+            }
+            return node.top;
+        } finally {
+            lock.readLock().lock();
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void collect(Node node, Map<UUID, Suggestion> bestById) {
+        for (Suggestion suggestion : node.terminals) {
+            bestById.merge(suggestion.getId(), suggestion,
+                    (a, b) -> RANKING.compare(a, b) <= 0 ? a : b);
+        }
+        for (Node child : node.children) {
+            collect(child, bestById);
+        }
+    }
+
+    // 캐시가 유효한 노드에만 병합 (새 후보가 추가되면 상위 목록은 기존 상위 + 새 후보 안에서 결정됨)
+    private static void mergeTop(Node node, Suggestion suggestion) {
+        if (node.top == null) {
+            return;
+        }
+        Map<UUID, Suggestion> bestById = new HashMap<>();
+        for (Suggestion candidate : node.top) {
+            bestById.put(candidate.getId(), candidate);
+        }
+        bestById.merge(suggestion.getId(), suggestion, (a, b) -> RANKING.compare(a, b) <= 0 ? a : b);
+        node.top = bestById.values().stream()
+                .sorted(RANKING)
+                .limit(MAX_RESULTS)
+                .toArray(Suggestion[]::new);
+    }
+
+    private static boolean containsId(Suggestion[] top, UUID id) {
+        for (Suggestion suggestion : top) {
+            if (suggestion.getId().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 문자열 하나에 대해 등록할 키 (전체, 단어 시작 위치, 초성)
+     */
+    static Set<String> keysOf(String label) {
+        String normalized = normalize(label);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(Hangul.toJamo(normalized));
+
+        StringBuilder choseong = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (i + 1 < normalized.length() && !Character.isWhitespace(normalized.charAt(i + 1))) {
+                    keys.add(Hangul.toJamo(normalized.substring(i + 1)));
+                }
+                continue;
+            }
+            choseong.append(Hangul.choseongKey(c));
+        }
+        keys.add(choseong.toString());
+        keys.remove("");
+        return keys;
+    }
+
+    static String toKey(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        return Hangul.toJamo(normalize(prefix));
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 트라이 노드 (자식은 정렬된 배열로 보관하여 이진 탐색)
+     */
+    private static final class Node {
+        private char[] keys = EMPTY_KEYS;
+        private Node[] children = EMPTY_NODES;
+        private final List<Suggestion> terminals = new ArrayList<>(0);
+        private Suggestion[] top; // null이면 캐시 무효
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            if (idx >= 0) {
+                return children[idx];
+            }
+            int insertAt = -idx - 1;
+            Node created = new Node();
+            // 비어 있는 새 노드의 상위 목록은 빈 배열로 시작 (이후 병합)
+            created.top = new Suggestion[0];
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = created;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            if (idx < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, idx);
+            System.arraycopy(children, 0, newChildren, 0, idx);
+            System.arraycopy(keys, idx + 1, newKeys, idx, keys.length - idx - 1);
+            System.arraycopy(children, idx + 1, newChildren, idx, children.length - idx - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return terminals.isEmpty() && children.length == 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package restapi.kculturebackend.domain.suggest.index;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보 (ID + 표시 문자열 + 정렬 점수)
+ * 하나의 ID가 여러 문자열로 등록될 수 있음 (예: 작품구인 제목/작품명)
+ */
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+    private final UUID id;
+    private final String label;
+    private final long score;
+}
@@ -0,0 +1,223 @@
+package restapi.kculturebackend.domain.suggest.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.domain.actor.event.ActorProfileChangedEvent;
+import restapi.kculturebackend.domain.actor.search.ActorIndexEntry;
+import restapi.kculturebackend.domain.job.event.JobChangedEvent;
+import restapi.kculturebackend.domain.project.event.ProjectChangedEvent;
+import restapi.kculturebackend.domain.suggest.dto.SuggestResponse;
+import restapi.kculturebackend.domain.suggest.index.SuggestTrie;
+import restapi.kculturebackend.domain.suggest.index.Suggestion;
+
+/**
+ * 자동완성 서비스
+ * - 애플리케이션 기동 시 배우(활동명/이름), 작품구인(제목/작품명), 프로젝트(프로젝트명)로 트라이 구성
+ * - 변경 이벤트를 커밋 이후 트라이에 반영
+ * - 비활성화되었거나 준비 전이면 DB 접두사 검색으로 대체
+ */
+@Slf4j
+@Service
+public class SuggestService {
+
+    private final EnumMap<SuggestType, SuggestTrie> tries = new EnumMap<>(SuggestType.class);
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+
+    // 재구성 중 들어온 변경분 (재구성 완료 후 다시 반영)
+    private final Queue<Runnable> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SuggestService(
+            PlatformTransactionManager transactionManager,
+            @Value("${search.suggest.enabled:false}") boolean enabled) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        for (SuggestType type : SuggestType.values()) {
+            tries.put(type, new SuggestTrie());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 자동완성 조회 (결과 수는 최대 SuggestTrie.MAX_RESULTS)
+     */
+    public List<SuggestResponse> suggest(SuggestType type, String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, SuggestTrie.MAX_RESULTS));
+
+        List<Suggestion> suggestions = enabled && ready
+                ? tries.get(type).suggest(query, size)
+                : readOnlyTransaction.execute(status -> suggestFromDatabase(type, query.trim(), size));
+
+        return suggestions.stream()
+                .map(SuggestResponse::from)
+                .toList();
+    }
+
+    /**
+     * 트라이 전체 재구성
+     */
+    public synchronized void rebuild() {
+        pendingDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            long start = System.currentTimeMillis();
+            for (SuggestType type : SuggestType.values()) {
+                List<Suggestion> suggestions = readOnlyTransaction.execute(status -> load(type));
+                tries.get(type).replaceAll(suggestions);
+            }
+
+            Runnable pending;
+            while ((pending = pendingDuringRebuild.poll()) != null) {
+                pending.run();
+            }
+
+            ready = true;
+            log.info("Suggest tries built: actors={}, jobs={}, projects={} in {}ms",
+                    tries.get(SuggestType.ACTOR).size(), tries.get(SuggestType.JOB).size(),
+                    tries.get(SuggestType.PROJECT).size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to build suggest tries, falling back to database prefix search", e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActorProfileChanged(ActorProfileChangedEvent event) {
+        ActorIndexEntry snapshot = event.getSnapshot();
+        apply(() -> {
+            SuggestTrie trie = tries.get(SuggestType.ACTOR);
+            if (snapshot.isProfileComplete()) {
+                trie.put(snapshot.getActorId(), labels(snapshot.getStageName(), snapshot.getUserName()),
+                        snapshot.getViewCount());
+            } else {
+                trie.remove(snapshot.getActorId());
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        apply(() -> {
+            SuggestTrie trie = tries.get(SuggestType.JOB);
+            if (event.isDeleted()) {
+                trie.remove(event.getJobId());
+            } else {
+                trie.put(event.getJobId(), labels(event.getTitle(), event.getWorkTitle()), event.getViews());
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        apply(() -> {
+            SuggestTrie trie = tries.get(SuggestType.PROJECT);
+            if (event.isDeleted()) {
+                trie.remove(event.getProjectId());
+            } else {
+                trie.put(event.getProjectId(), labels(event.getProjectName()), 0L);
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        change.run();
+        if (rebuilding) {
+            pendingDuringRebuild.add(change);
+        }
+    }
+
+    private static List<String> labels(String... values) {
+        List<String> labels = new ArrayList<>(values.length);
+        for (String value : values) {
+            if (StringUtils.hasText(value) && !labels.contains(value)) {
+                labels.add(value);
+            }
+        }
+        return labels;
+    }
+
+    // 엔티티 대신 필요한 컬럼만 조회
+    private List<Suggestion> load(SuggestType type) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        switch (type) {
+            case ACTOR -> entityManager.createQuery(
+                            "SELECT a.userId, a.stageName, u.name, a.viewCount FROM ActorProfile a " +
+                            "JOIN a.user u WHERE a.isProfileComplete = true", Object[].class)
+                    .getResultList()
+                    .forEach(row -> labels((String) row[1], (String) row[2]).forEach(label ->
+                            suggestions.add(new Suggestion((UUID) row[0], label, toLong(row[3])))));
+            case JOB -> entityManager.createQuery(
+                            "SELECT j.id, j.title, j.workTitle, j.views FROM Job j", Object[].class)
+                    .getResultList()
+                    .forEach(row -> labels((String) row[1], (String) row[2]).forEach(label ->
+                            suggestions.add(new Suggestion((UUID) row[0], label, toLong(row[3])))));
+            case PROJECT -> entityManager.createQuery(
+                            "SELECT p.id, p.projectName FROM Project p", Object[].class)
+                    .getResultList()
+                    .forEach(row -> labels((String) row[1]).forEach(label ->
+                            suggestions.add(new Suggestion((UUID) row[0], label, 0L))));
+        }
+        return suggestions;
+    }
+
+    // 트라이를 사용할 수 없을 때의 접두사 검색 (초성/자모 검색은 지원하지 않음)
+    private List<Suggestion> suggestFromDatabase(SuggestType type, String query, int limit) {
+        String prefix = query.toLowerCase() + "%";
+        String jpql = switch (type) {
+            case ACTOR -> "SELECT a.userId, a.stageName, a.viewCount FROM ActorProfile a " +
+                    "WHERE a.isProfileComplete = true AND LOWER(a.stageName) LIKE :prefix " +
+                    "ORDER BY a.viewCount DESC, a.stageName";
+            case JOB -> "SELECT j.id, j.title, j.views FROM Job j " +
+                    "WHERE LOWER(j.title) LIKE :prefix ORDER BY j.views DESC, j.title";
+            case PROJECT -> "SELECT p.id, p.projectName, 0L FROM Project p " +
+                    "WHERE LOWER(p.projectName) LIKE :prefix ORDER BY p.projectName";
+        };
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter("prefix", prefix)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> new Suggestion((UUID) row[0], (String) row[1], toLong(row[2])))
+                .toList();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,10 @@
+package restapi.kculturebackend.domain.suggest.service;
+
+/**
+ * 자동완성 대상
+ */
+public enum SuggestType {
+    ACTOR,
+    JOB,
+    PROJECT
+}
@@ -0,0 +1,192 @@
+package restapi.kculturebackend.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import lombok.extern.slf4j.Slf4j;
+import restapi.kculturebackend.config.TestContainersConfig;
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.ActorProfile;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import restapi.kculturebackend.domain.actor.search.ActorSearchIndexManager;
+import restapi.kculturebackend.domain.user.entity.User;
+import restapi.kculturebackend.domain.user.repository.UserRepository;
+import restapi.kculturebackend.fixture.TestFixtures;
+
+/**
+ * 배우 목록 조회 벤치마크 (엔티티 경로 vs 요약 DTO 프로젝션 경로)
+ * - 같은 조건으로 페이지를 반복 조회하여 호출당 지연 시간과 스레드 할당 바이트를 비교
+ * - 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@DisplayName("배우 요약 프로젝션 벤치마크")
+class ActorSummaryProjectionBenchmark {
+
+    private static final int ACTOR_COUNT = 2_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURE_ITERATIONS = 200;
+
+    @Autowired
+    private ActorProfileRepository actorProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActorSearchIndexManager actorSearchIndexManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private final List<UUID> seededIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < ACTOR_COUNT; i++) {
+                User user = userRepository.save(TestFixtures.createActorUserWithRandomEmail());
+                ActorProfile profile = actorProfileRepository.save(ActorProfile.builder()
+                        .user(user)
+                        .stageName("벤치배우" + i)
+                        .birthYear(1980 + i % 25)
+                        .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                        .category(i % 3 == 0 ? ActorCategory.MODEL : ActorCategory.ACTOR)
+                        .introduction("벤치마크용 소개 " + i)
+                        .height(160 + i % 30)
+                        .weight(50 + i % 30)
+                        .agency("벤치 소속사")
+                        .isProfileComplete(true)
+                        .viewCount((long) (i * 7 % 1000))
+                        .skills(new ArrayList<>(List.of("연기", "춤", "skill-" + i % 10)))
+                        .languages(new ArrayList<>(List.of("한국어")))
+                        .build());
+                seededIds.add(profile.getUserId());
+            }
+        });
+        actorSearchIndexManager.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorProfileRepository.deleteAllById(seededIds);
+        userRepository.deleteAllById(seededIds);
+        seededIds.clear();
+        actorSearchIndexManager.rebuild();
+    }
+
+    @Test
+    @DisplayName("고급 검색: 엔티티 경로와 프로젝션 경로 비교")
+    void searchAdvanced() {
+        ActorSearchRequest request = ActorSearchRequest.builder()
+                .gender("여자")
+                .sortBy("views_high")
+                .build();
+        Pageable pageable = PageRequest.of(1, 20);
+
+        compare("searchActorsAdvanced",
+                () -> actorProfileRepository.searchWithFilters(request, pageable)
+                        .map(ActorSummaryResponse::from).getContent(),
+                () -> actorProfileRepository.searchSummaries(request, pageable).getContent());
+    }
+
+    @Test
+    @DisplayName("목록 조회: 엔티티 경로와 프로젝션 경로 비교")
+    void getActors() {
+        Pageable pageable = PageRequest.of(2, 20, Sort.by("stageName"));
+
+        compare("getActors",
+                () -> actorProfileRepository.findByIsProfileCompleteTrue(pageable)
+                        .map(ActorSummaryResponse::from).getContent(),
+                () -> actorProfileRepository.findCompleteSummaries(pageable).getContent());
+    }
+
+    @Test
+    @DisplayName("이름 검색: 엔티티 경로와 프로젝션 경로 비교")
+    void searchByName() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("stageName"));
+
+        compare("searchActors",
+                () -> actorProfileRepository.searchByName("벤치배우1", pageable)
+                        .map(ActorSummaryResponse::from).getContent(),
+                () -> actorProfileRepository.searchSummariesByName("벤치배우1", pageable).getContent());
+    }
+
+    private void compare(String name, Supplier<List<ActorSummaryResponse>> entityPath,
+                         Supplier<List<ActorSummaryResponse>> projectionPath) {
+        // 두 경로가 같은 결과를 내는지 먼저 확인
+        List<ActorSummaryResponse> expected = readOnlyTransaction.execute(status -> entityPath.get());
+        List<ActorSummaryResponse> actual = readOnlyTransaction.execute(status -> projectionPath.get());
+        assertThat(actual).hasSameSizeAs(expected).isNotEmpty();
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i))
+                    .usingRecursiveComparison()
+                    .ignoringFields("skills")
+                    .isEqualTo(expected.get(i));
+            assertThat(actual.get(i).getSkills())
+                    .containsExactlyInAnyOrderElementsOf(expected.get(i).getSkills());
+        }
+
+        Measurement entity = measure(entityPath);
+        Measurement projection = measure(projectionPath);
+        log.info("[benchmark] {} entity: {} / projection: {}", name, entity, projection);
+    }
+
+    private Measurement measure(Supplier<List<ActorSummaryResponse>> path) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            readOnlyTransaction.execute(status -> path.get());
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            readOnlyTransaction.execute(status -> path.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(elapsed / MEASURE_ITERATIONS, allocated / MEASURE_ITERATIONS);
+    }
+
+    private record Measurement(long nanosPerCall, long bytesPerCall) {
+        @Override
+        public String toString() {
+            return String.format("%.3f ms/call, %,d bytes/call", nanosPerCall / 1_000_000.0, bytesPerCall);
+        }
+    }
+}
@@ -14,22 +14,29 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut;
 import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
 import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
 import restapi.kculturebackend.domain.actor.entity.ActorCategory;
 import restapi.kculturebackend.domain.actor.entity.ActorProfile;
 import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.recommend.ActorRecommendEngine;
 import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import restapi.kculturebackend.domain.actor.repository.SimilarActorsRepository;
+import restapi.kculturebackend.domain.actor.search.ActorCursorCodec;
+import restapi.kculturebackend.domain.dashboard.counter.UserCounterWriter;
 import restapi.kculturebackend.domain.dashboard.repository.ActivityRepository;
 import restapi.kculturebackend.domain.dashboard.repository.ContactRequestRepository;
-import restapi.kculturebackend.domain.dashboard.repository.ProfileViewRepository;
 import restapi.kculturebackend.domain.dashboard.service.DashboardService;
 import restapi.kculturebackend.domain.favorite.repository.FavoriteRepository;
+import restapi.kculturebackend.domain.project.repository.CharacterRepository;
+import restapi.kculturebackend.domain.project.repository.ProjectRepository;
 import restapi.kculturebackend.domain.user.entity.User;
 import restapi.kculturebackend.domain.user.entity.UserType;
 import restapi.kculturebackend.domain.user.repository.UserRepository;
@@ -56,10 +63,31 @@ class ActorServiceTest {
     private ActivityRepository activityRepository;
 
     @Mock
-    private ProfileViewRepository profileViewRepository;
+    private FavoriteRepository favoriteRepository;
 
     @Mock
-    private FavoriteRepository favoriteRepository;
+    private ActorCursorCodec actorCursorCodec;
+
+    @Mock
+    private ActorRecommendEngine actorRecommendEngine;
+
+    @Mock
+    private CharacterRepository characterRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private SimilarActorsRepository similarActorsRepository;
+
+    @Mock
+    private UserCounterWriter userCounterWriter;
+
+    @Mock
+    private ReadOnlyFanOut readOnlyFanOut;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ActorService actorService;
@@ -106,10 +134,11 @@ class ActorServiceTest {
         void getActors_success() {
             // given
             Pageable pageable = PageRequest.of(0, 20);
-            Page<ActorProfile> actorPage = new PageImpl<>(List.of(mockActorProfile), pageable, 1);
+            Page<ActorSummaryResponse> summaryPage = new PageImpl<>(
+                    List.of(ActorSummaryResponse.from(mockActorProfile)), pageable, 1);
             
-            when(actorProfileRepository.findByIsProfileCompleteTrue(any(Pageable.class)))
-                    .thenReturn(actorPage);
+            when(actorProfileRepository.findCompleteSummaries(any(Pageable.class)))
+                    .thenReturn(summaryPage);
 
             // when
             Page<ActorSummaryResponse> result = actorService.getActors(pageable);
@@ -125,9 +154,9 @@ class ActorServiceTest {
         void getActors_empty() {
             // given
             Pageable pageable = PageRequest.of(0, 20);
-            Page<ActorProfile> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+            Page<ActorSummaryResponse> emptyPage = new PageImpl<>(List.of(), pageable, 0);
             
-            when(actorProfileRepository.findByIsProfileCompleteTrue(any(Pageable.class)))
+            when(actorProfileRepository.findCompleteSummaries(any(Pageable.class)))
                     .thenReturn(emptyPage);
 
             // when
@@ -157,10 +186,11 @@ class ActorServiceTest {
                     .sortBy("recent")
                     .build();
             
-            Page<ActorProfile> actorPage = new PageImpl<>(List.of(mockActorProfile), pageable, 1);
+            Page<ActorSummaryResponse> summaryPage = new PageImpl<>(
+                    List.of(ActorSummaryResponse.from(mockActorProfile)), pageable, 1);
             
-            when(actorProfileRepository.searchWithFilters(any(ActorSearchRequest.class), any(Pageable.class)))
-                    .thenReturn(actorPage);
+            when(actorProfileRepository.searchSummaries(any(ActorSearchRequest.class), any(Pageable.class)))
+                    .thenReturn(summaryPage);
 
             // when
             Page<ActorSummaryResponse> result = actorService.searchActorsAdvanced(request, pageable);
@@ -179,10 +209,11 @@ class ActorServiceTest {
                     .keyword("테스트")
                     .build();
             
-            Page<ActorProfile> actorPage = new PageImpl<>(List.of(mockActorProfile), pageable, 1);
+            Page<ActorSummaryResponse> summaryPage = new PageImpl<>(
+                    List.of(ActorSummaryResponse.from(mockActorProfile)), pageable, 1);
             
-            when(actorProfileRepository.searchWithFilters(any(ActorSearchRequest.class), any(Pageable.class)))
-                    .thenReturn(actorPage);
+            when(actorProfileRepository.searchSummaries(any(ActorSearchRequest.class), any(Pageable.class)))
+                    .thenReturn(summaryPage);
 
             // when
             Page<ActorSummaryResponse> result = actorService.searchActorsAdvanced(request, pageable);
@@ -202,10 +233,11 @@ class ActorServiceTest {
                     .sortBy("views_high")
                     .build();
             
-            Page<ActorProfile> actorPage = new PageImpl<>(List.of(mockActorProfile), pageable, 1);
+            Page<ActorSummaryResponse> summaryPage = new PageImpl<>(
+                    List.of(ActorSummaryResponse.from(mockActorProfile)), pageable, 1);
             
-            when(actorProfileRepository.searchWithFilters(any(ActorSearchRequest.class), any(Pageable.class)))
-                    .thenReturn(actorPage);
+            when(actorProfileRepository.searchSummaries(any(ActorSearchRequest.class), any(Pageable.class)))
+                    .thenReturn(summaryPage);
 
             // when
             Page<ActorSummaryResponse> result = actorService.searchActorsAdvanced(request, pageable);
@@ -225,10 +257,11 @@ class ActorServiceTest {
         void searchActors_byName() {
             // given
             Pageable pageable = PageRequest.of(0, 20);
-            Page<ActorProfile> actorPage = new PageImpl<>(List.of(mockActorProfile), pageable, 1);
+            Page<ActorSummaryResponse> summaryPage = new PageImpl<>(
+                    List.of(ActorSummaryResponse.from(mockActorProfile)), pageable, 1);
             
-            when(actorProfileRepository.searchByName(any(String.class), any(Pageable.class)))
-                    .thenReturn(actorPage);
+            when(actorProfileRepository.searchSummariesByName(any(String.class), any(Pageable.class)))
+                    .thenReturn(summaryPage);
 
             // when
             Page<ActorSummaryResponse> result = actorService.searchActors("테스트", pageable);
@@ -0,0 +1,148 @@
+package restapi.kculturebackend.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.redis.testcontainers.RedisContainer;
+
+import restapi.kculturebackend.domain.dashboard.dto.ActivityResponse;
+import restapi.kculturebackend.domain.dashboard.dto.RecentActivitiesResponse;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+import restapi.kculturebackend.domain.dashboard.feed.ActivityFeedStore;
+
+/**
+ * ActivityFeedStore 통합 테스트 (실제 Redis에서 추가/채우기 스크립트 순서 검증)
+ */
+@Testcontainers
+@DisplayName("ActivityFeedStore 통합 테스트")
+class ActivityFeedStoreIntegrationTest {
+
+    @Container
+    private static final RedisContainer REDIS = new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static ActivityFeedStore store;
+
+    private final UUID userId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+    private final List<ActivityResponse> committed = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        store = new ActivityFeedStore(redisTemplate, true, 50, 3600);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private ActivityResponse activity(String message) {
+        return ActivityResponse.builder()
+                .id(UUID.randomUUID())
+                .type("view")
+                .message(message)
+                .createdAt(now)
+                .build();
+    }
+
+    // 커밋된 활동을 최신순으로 읽는 SQL 대역
+    private IntFunction<RecentActivitiesResponse> sqlLoader(AtomicInteger loads) {
+        return size -> {
+            loads.incrementAndGet();
+            List<ActivityResponse> newestFirst = new ArrayList<>(committed).reversed();
+            return RecentActivitiesResponse.of(
+                    newestFirst.subList(0, Math.min(size, newestFirst.size())), newestFirst.size());
+        };
+    }
+
+    private void push(ActivityResponse activity) {
+        store.onActivityRecorded(new ActivityRecordedEvent(Map.of(userId, List.of(activity))));
+    }
+
+    private RecentActivitiesResponse recent(AtomicInteger loads) {
+        return store.recent(userId, 10, now.minusDays(90), sqlLoader(loads));
+    }
+
+    @Test
+    @DisplayName("채운 뒤 도착한 추가 이벤트의 활동이 이미 피드에 있으면 다시 넣지 않음")
+    void pushAfterFillIsIdempotent() {
+        ActivityResponse liked = activity("찜");
+        committed.add(liked);
+        AtomicInteger loads = new AtomicInteger();
+
+        // 커밋 직후, 추가 이벤트보다 조회(채우기)가 먼저 실행됨
+        recent(loads);
+        push(liked);
+        RecentActivitiesResponse response = recent(loads);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(response.getActivities()).extracting(ActivityResponse::getId).containsExactly(liked.getId());
+        assertThat(response.getRecentTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채우는 중에 추가 이벤트가 먼저 도착하면 채우지 않고 다음 조회에서 다시 채움")
+    void pushBeforeFillSkipsFill() {
+        ActivityResponse first = activity("첫 활동");
+        ActivityResponse second = activity("두 번째 활동");
+        committed.add(first);
+        AtomicInteger loads = new AtomicInteger();
+
+        // SQL을 읽은 뒤 채우기 전에 다른 활동이 커밋되고 추가 이벤트가 반영됨
+        store.recent(userId, 10, now.minusDays(90), size -> {
+            RecentActivitiesResponse loaded = sqlLoader(loads).apply(size);
+            committed.add(second);
+            push(second);
+            return loaded;
+        });
+        RecentActivitiesResponse response = recent(loads);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(response.getActivities()).extracting(ActivityResponse::getId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(response.getRecentTotal()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채워진 피드에는 새 활동을 최신순으로 추가하고 건수를 올림")
+    void pushesNewActivitiesAfterFill() {
+        ActivityResponse first = activity("첫 활동");
+        committed.add(first);
+        AtomicInteger loads = new AtomicInteger();
+        recent(loads);
+
+        ActivityResponse second = activity("두 번째 활동");
+        committed.add(second);
+        push(second);
+        RecentActivitiesResponse response = recent(loads);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(response.getActivities()).extracting(ActivityResponse::getId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(response.getRecentTotal()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,126 @@
+package restapi.kculturebackend.unit.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut.Branch;
+import restapi.kculturebackend.common.exception.BusinessException;
+import restapi.kculturebackend.common.exception.ErrorCode;
+import restapi.kculturebackend.common.exception.NotFoundException;
+
+/**
+ * ReadOnlyFanOut 단위 테스트
+ */
+@DisplayName("ReadOnlyFanOut 테스트")
+class ReadOnlyFanOutTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ReadOnlyFanOut fanOut =
+            new ReadOnlyFanOut(transactionManager, new SimpleMeterRegistry(), 1000, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    @Test
+    @DisplayName("분기는 동시에 실행되고 각자 읽기 전용 트랜잭션을 사용")
+    void runsBranchesConcurrently() {
+        // 두 분기가 서로를 기다리므로 순차 실행이면 시간 초과
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (ReadOnlyFanOut.Scope scope = fanOut.open()) {
+            Branch<String> first = scope.fork(() -> awaitOther(bothStarted, "first"));
+            Branch<String> second = scope.fork(() -> awaitOther(bothStarted, "second"));
+            scope.join();
+
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo("second");
+        }
+        verify(transactionManager, times(2)).getTransaction(any(TransactionDefinition.class));
+    }
+
+    @Test
+    @DisplayName("동시 분기 수는 커넥션 풀보다 작게 제한")
+    void limitsInFlightBelowConnectionPool() {
+        // 풀 3개 중 2개는 남겨 두므로 분기는 하나씩만 실행되어 서로를 기다리는 두 분기는 시간 초과
+        ReadOnlyFanOut smallPool = new ReadOnlyFanOut(transactionManager, new SimpleMeterRegistry(), 300, 4, 3);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (ReadOnlyFanOut.Scope scope = smallPool.open()) {
+            scope.fork(() -> awaitOther(bothStarted, "first"));
+            scope.fork(() -> awaitOther(bothStarted, "second"));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.QUERY_TIMEOUT);
+        } finally {
+            smallPool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 없는 분기는 트랜잭션을 열지 않음")
+    void forkWithoutTransaction() {
+        try (ReadOnlyFanOut.Scope scope = fanOut.open()) {
+            Branch<Integer> branch = scope.forkWithoutTransaction(() -> 42);
+            scope.join();
+
+            assertThat(branch.get()).isEqualTo(42);
+        }
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("분기 예외는 그대로 전달")
+    void propagatesBranchException() {
+        try (ReadOnlyFanOut.Scope scope = fanOut.open()) {
+            scope.fork(() -> {
+                throw new NotFoundException(ErrorCode.ACTOR_PROFILE_NOT_FOUND);
+            });
+
+            assertThatThrownBy(scope::join).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("분기 timeout을 넘기면 QUERY_TIMEOUT")
+    void timesOut() {
+        CountDownLatch blocked = new CountDownLatch(1);
+
+        try (ReadOnlyFanOut.Scope scope = fanOut.open()) {
+            scope.fork(() -> awaitOther(blocked, "slow"));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.QUERY_TIMEOUT);
+        }
+    }
+
+    private static String awaitOther(CountDownLatch latch, String value) {
+        latch.countDown();
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
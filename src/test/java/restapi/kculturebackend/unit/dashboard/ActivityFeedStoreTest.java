@@ -0,0 +1,145 @@
+package restapi.kculturebackend.unit.dashboard;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import restapi.kculturebackend.domain.dashboard.dto.ActivityResponse;
+import restapi.kculturebackend.domain.dashboard.dto.RecentActivitiesResponse;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+import restapi.kculturebackend.domain.dashboard.feed.ActivityFeedStore;
+
+/**
+ * ActivityFeedStore 단위 테스트
+ */
+@DisplayName("ActivityFeedStore 테스트")
+class ActivityFeedStoreTest {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private final UUID userId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ActivityFeedStore store = new ActivityFeedStore(redisTemplate, true, 50, 3600);
+
+    private IntFunction<RecentActivitiesResponse> countingLoader(AtomicInteger requested) {
+        return size -> {
+            requested.set(size);
+            List<ActivityResponse> activities = IntStream.range(0, 3)
+                    .mapToObj(i -> ActivityResponse.builder()
+                            .id(UUID.randomUUID())
+                            .type("view")
+                            .message("조회 " + i)
+                            .createdAt(now.minusMinutes(i))
+                            .build())
+                    .toList();
+            return RecentActivitiesResponse.of(activities, 3);
+        };
+    }
+
+    private String item(String message, LocalDateTime createdAt) {
+        return String.join(SEPARATOR, UUID.randomUUID().toString(), "like", message,
+                UUID.randomUUID().toString(), "에이전시", "", createdAt.toString());
+    }
+
+    @Test
+    @DisplayName("피드가 채워져 있으면 Redis 결과만으로 응답하고 SQL을 조회하지 않음")
+    void readsFromFeed() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(
+                List.of(item("최신", now), item("이전", now.minusDays(1))), "12", "4"));
+        AtomicInteger requested = new AtomicInteger(-1);
+
+        RecentActivitiesResponse response = store.recent(userId, 10, now.minusDays(90), countingLoader(requested));
+
+        assertThat(response.getRecentTotal()).isEqualTo(12);
+        assertThat(response.getActivities()).extracting(ActivityResponse::getMessage).containsExactly("최신", "이전");
+        assertThat(response.getActivities().get(0).getRelatedUserName()).isEqualTo("에이전시");
+        assertThat(response.getActivities().get(0).getRelatedEntityId()).isNull();
+        assertThat(requested.get()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("조회 기간을 벗어난 항목부터는 제외")
+    void skipsActivitiesOutsideWindow() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(
+                List.of(item("최신", now), item("오래됨", now.minusDays(100))), "2", null));
+
+        RecentActivitiesResponse response = store.recent(userId, 10, now.minusDays(90),
+                countingLoader(new AtomicInteger()));
+
+        assertThat(response.getActivities()).extracting(ActivityResponse::getMessage).containsExactly("최신");
+    }
+
+    @Test
+    @DisplayName("피드가 비어 있으면 capacity만큼 SQL로 읽어 채우고 limit만큼 반환")
+    void fillsOnMiss() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(List.of(), null, null));
+        AtomicInteger requested = new AtomicInteger();
+
+        RecentActivitiesResponse response = store.recent(userId, 2, now.minusDays(90), countingLoader(requested));
+
+        assertThat(requested.get()).isEqualTo(50);
+        assertThat(response.getActivities()).hasSize(2);
+        assertThat(response.getRecentTotal()).isEqualTo(3);
+        verify(redisTemplate).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 요청한 개수만 SQL로 조회하고 피드는 채우지 않음")
+    void fallsBackToSqlWhenRedisFails() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        AtomicInteger requested = new AtomicInteger();
+
+        RecentActivitiesResponse response = store.recent(userId, 5, now.minusDays(90), countingLoader(requested));
+
+        assertThat(requested.get()).isEqualTo(5);
+        assertThat(response.getActivities()).hasSize(3);
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("capacity보다 많이 요청하면 피드를 거치지 않음")
+    void bypassesFeedBeyondCapacity() {
+        AtomicInteger requested = new AtomicInteger();
+
+        store.recent(userId, 100, now.minusDays(90), countingLoader(requested));
+
+        assertThat(requested.get()).isEqualTo(100);
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("활동 저장 이벤트는 한 번의 파이프라인으로 반영하고 Redis 장애는 전파하지 않음")
+    void pushesRecordedActivities() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        ActivityResponse activity = ActivityResponse.builder()
+                .id(UUID.randomUUID())
+                .type("view")
+                .message("조회")
+                .createdAt(now)
+                .build();
+
+        store.onActivityRecorded(new ActivityRecordedEvent(Map.of(userId, List.of(activity))));
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+}
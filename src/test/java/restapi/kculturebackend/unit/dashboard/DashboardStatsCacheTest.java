@@ -0,0 +1,117 @@
+package restapi.kculturebackend.unit.dashboard;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.dashboard.dto.AgencyDashboardStats;
+import restapi.kculturebackend.domain.dashboard.event.DashboardStatsChangedEvent;
+import restapi.kculturebackend.domain.dashboard.service.DashboardStatsCache;
+
+/**
+ * DashboardStatsCache 단위 테스트
+ */
+@DisplayName("DashboardStatsCache 테스트")
+class DashboardStatsCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID otherUserId = UUID.randomUUID();
+
+    private Supplier<AgencyDashboardStats> countingLoader(AtomicInteger calls) {
+        return () -> AgencyDashboardStats.builder().activeProjects(calls.incrementAndGet()).build();
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 사용자별로 한 번만 조회")
+    void cachesPerUser() {
+        DashboardStatsCache cache = new DashboardStatsCache(60_000, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(userId, countingLoader(calls));
+        AgencyDashboardStats cached = cache.get(userId, countingLoader(calls));
+        cache.get(otherUserId, countingLoader(calls));
+
+        assertThat(cached.getActiveProjects()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("통계 변경 이벤트의 사용자만 다시 조회")
+    void invalidatesChangedUsers() {
+        DashboardStatsCache cache = new DashboardStatsCache(60_000, 100);
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(userId, countingLoader(calls));
+        cache.get(otherUserId, countingLoader(calls));
+
+        cache.onDashboardStatsChanged(DashboardStatsChangedEvent.of(userId));
+
+        assertThat(cache.get(userId, countingLoader(calls)).getActiveProjects()).isEqualTo(3);
+        assertThat(cache.get(otherUserId, countingLoader(calls)).getActiveProjects()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 결과를 저장하지 않음")
+    void skipsStoreWhenInvalidatedDuringLoad() {
+        DashboardStatsCache cache = new DashboardStatsCache(60_000, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(userId, () -> {
+            cache.invalidate(userId);
+            return countingLoader(calls).get();
+        });
+        cache.get(userId, countingLoader(calls));
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 다른 사용자가 무효화되어도 결과를 저장")
+    void storesWhenOtherUserInvalidatedDuringLoad() {
+        DashboardStatsCache cache = new DashboardStatsCache(60_000, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(userId, () -> {
+            cache.invalidate(otherUserId);
+            return countingLoader(calls).get();
+        });
+        cache.get(userId, countingLoader(calls));
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 차면 오래된 항목만 지우고 최근 항목은 유지")
+    void evictsOldestWhenFull() throws InterruptedException {
+        DashboardStatsCache cache = new DashboardStatsCache(60_000, 10);
+        AtomicInteger calls = new AtomicInteger();
+        UUID oldest = UUID.randomUUID();
+        cache.get(oldest, countingLoader(calls));
+        Thread.sleep(5);
+        for (int i = 0; i < 9; i++) {
+            cache.get(UUID.randomUUID(), countingLoader(calls));
+        }
+        cache.get(userId, countingLoader(calls));
+        int loaded = calls.get();
+
+        cache.get(userId, countingLoader(calls));
+        assertThat(calls.get()).isEqualTo(loaded);
+        cache.get(oldest, countingLoader(calls));
+        assertThat(calls.get()).isEqualTo(loaded + 1);
+    }
+
+    @Test
+    @DisplayName("TTL이 0이면 캐시하지 않음")
+    void disabledWithZeroTtl() {
+        DashboardStatsCache cache = new DashboardStatsCache(0, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(userId, countingLoader(calls));
+        cache.get(userId, countingLoader(calls));
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,60 @@
+package restapi.kculturebackend.unit.dashboard;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.dashboard.partition.PartitionBound;
+
+@DisplayName("PartitionBound 테스트")
+class PartitionBoundTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime FEB = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Test
+    @DisplayName("월 단위 범위 구간 해석")
+    void parseRange() {
+        PartitionBound bound = PartitionBound.parse("activities_p202601",
+                "FOR VALUES FROM ('2026-01-01 00:00:00') TO ('2026-02-01 00:00:00')");
+
+        assertThat(bound.name()).isEqualTo("activities_p202601");
+        assertThat(bound.from()).isEqualTo(JAN);
+        assertThat(bound.to()).isEqualTo(FEB);
+        assertThat(bound.covers(JAN)).isTrue();
+        assertThat(bound.covers(FEB.minusNanos(1000))).isTrue();
+        assertThat(bound.covers(FEB)).isFalse();
+        assertThat(bound.covers(JAN.minusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("MINVALUE 하한 (기존 테이블을 붙인 파티션)")
+    void parseMinValue() {
+        PartitionBound bound = PartitionBound.parse("activities_legacy",
+                "FOR VALUES FROM (MINVALUE) TO ('2026-02-01 00:00:00')");
+
+        assertThat(bound.from()).isNull();
+        assertThat(bound.to()).isEqualTo(FEB);
+        assertThat(bound.covers(LocalDateTime.of(2000, 1, 1, 0, 0))).isTrue();
+        assertThat(bound.covers(FEB)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DEFAULT 파티션이나 빈 식은 범위로 해석하지 않음")
+    void parseNonRange() {
+        assertThat(PartitionBound.parse("activities_default", "DEFAULT")).isNull();
+        assertThat(PartitionBound.parse("activities_x", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("보관 기간 만료 판단은 상한 기준")
+    void endsBefore() {
+        PartitionBound bound = new PartitionBound("profile_views_p202601", JAN, FEB);
+
+        assertThat(bound.endsBefore(FEB)).isTrue();
+        assertThat(bound.endsBefore(FEB.minusDays(1))).isFalse();
+        assertThat(new PartitionBound("profile_views_open", JAN, null).endsBefore(FEB.plusYears(10))).isFalse();
+    }
+}
@@ -0,0 +1,385 @@
+package restapi.kculturebackend.unit.dashboard;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import restapi.kculturebackend.domain.actor.event.ActorViewsCountedEvent;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+import restapi.kculturebackend.domain.dashboard.view.PendingProfileView;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewBatchWriter;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewBuffer;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewCooldown;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewUniqueCounter;
+import restapi.kculturebackend.domain.dashboard.view.UniqueViewerEstimate;
+import restapi.kculturebackend.domain.dashboard.view.TimeBucketedBloomFilter;
+
+/**
+ * ProfileViewBuffer / ProfileViewBatchWriter / ProfileViewCooldown 단위 테스트
+ */
+@DisplayName("프로필 조회 쓰기 지연 버퍼 테스트")
+class ProfileViewBufferTest {
+
+    private static PendingProfileView view(UUID actorId, UUID viewerId, String viewerIp) {
+        return new PendingProfileView(actorId, viewerId, viewerId != null ? "조회자" : null, viewerIp,
+                LocalDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("버퍼")
+    class Buffer {
+
+        @Test
+        @DisplayName("가득 차면 버리고 dropped 지표를 올린다")
+        void dropsWhenFull() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            ProfileViewBuffer buffer = new ProfileViewBuffer(mock(ProfileViewBatchWriter.class), registry, 2, 100, 1000);
+
+            assertThat(buffer.offer(view(UUID.randomUUID(), null, "1.1.1.1"))).isTrue();
+            assertThat(buffer.offer(view(UUID.randomUUID(), null, "1.1.1.2"))).isTrue();
+            assertThat(buffer.offer(view(UUID.randomUUID(), null, "1.1.1.3"))).isFalse();
+
+            assertThat(buffer.size()).isEqualTo(2);
+            assertThat(registry.get("profile_view.buffer.dropped").counter().count()).isEqualTo(1);
+            assertThat(registry.get("profile_view.buffer.size").gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("주기 저장 시 쌓인 조회를 모두 저장한다")
+        void flushesPending() {
+            ProfileViewBatchWriter writer = mock(ProfileViewBatchWriter.class);
+            List<Integer> batchSizes = new ArrayList<>();
+            when(writer.write(anyList())).thenAnswer(invocation -> {
+                List<?> batch = invocation.getArgument(0);
+                batchSizes.add(batch.size());
+                return batch.size();
+            });
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            // batch-size 미만으로 채워 크기 기준 저장이 끼어들지 않게 함
+            ProfileViewBuffer buffer = new ProfileViewBuffer(writer, registry, 100, 40, 1000);
+            for (int i = 0; i < 39; i++) {
+                buffer.offer(view(UUID.randomUUID(), null, "10.0.0." + i));
+            }
+
+            buffer.flush();
+
+            assertThat(batchSizes).containsExactly(39);
+            assertThat(buffer.size()).isZero();
+            assertThat(registry.get("profile_view.buffer.written").counter().count()).isEqualTo(39);
+        }
+
+        @Test
+        @DisplayName("저장 실패 시 failed 지표를 올리고 버퍼를 비운다")
+        void countsFailures() {
+            ProfileViewBatchWriter writer = mock(ProfileViewBatchWriter.class);
+            when(writer.write(anyList())).thenThrow(new IllegalStateException("db down"));
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            ProfileViewBuffer buffer = new ProfileViewBuffer(writer, registry, 100, 50, 1000);
+            buffer.offer(view(UUID.randomUUID(), null, "1.1.1.1"));
+
+            buffer.flush();
+
+            assertThat(buffer.size()).isZero();
+            assertThat(registry.get("profile_view.buffer.failed").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 저장")
+    class Writer {
+
+        @SuppressWarnings("unchecked")
+        private void existingUsers(JdbcTemplate jdbcTemplate, UUID... userIds) {
+            when(jdbcTemplate.query(any(String.class), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                    .thenReturn(List.of(userIds));
+        }
+
+        @Test
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @DisplayName("배치 안의 중복과 쿨다운 중인 조회를 제외하고 한 번에 INSERT하고 배우별 조회수를 더한다")
+        void filtersDuplicatesAndCooldown() {
+            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+            ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+            ProfileViewUniqueCounter uniqueCounter = mock(ProfileViewUniqueCounter.class);
+            ProfileViewCooldown cooldown = mock(ProfileViewCooldown.class);
+            UUID actorId = UUID.randomUUID();
+            UUID viewer = UUID.randomUUID();
+            UUID recentViewer = UUID.randomUUID();
+            when(cooldown.acquire(anyList())).thenAnswer(invocation -> {
+                List<PendingProfileView> views = invocation.getArgument(0);
+                return views.stream().filter(view -> !recentViewer.equals(view.viewerId())).toList();
+            });
+            UUID otherActorId = UUID.randomUUID();
+            existingUsers(jdbcTemplate, actorId, viewer, otherActorId);
+            ProfileViewBatchWriter writer = new ProfileViewBatchWriter(
+                    jdbcTemplate, cooldown, uniqueCounter, mock(PlatformTransactionManager.class), eventPublisher);
+
+            int saved = writer.write(List.of(
+                    view(actorId, viewer, null),
+                    view(actorId, viewer, null),
+                    view(actorId, recentViewer, null),
+                    view(actorId, null, "1.1.1.1"),
+                    view(otherActorId, viewer, null)));
+
+            assertThat(saved).isEqualTo(3);
+            ArgumentCaptor<List<PendingProfileView>> checked = ArgumentCaptor.forClass((Class) List.class);
+            verify(cooldown).acquire(checked.capture());
+            assertThat(checked.getValue()).hasSize(4);
+            // 고유 조회자 수는 쿨다운 이전의 모든 조회로 갱신
+            verify(uniqueCounter).record(checked.getValue());
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass((Class) List.class);
+            verify(jdbcTemplate, times(3)).batchUpdate(sql.capture(), rows.capture());
+            assertThat(sql.getAllValues()).satisfiesExactly(
+                    first -> assertThat(first).startsWith("INSERT INTO profile_views"),
+                    second -> assertThat(second).startsWith("INSERT INTO activities"),
+                    third -> assertThat(third).startsWith("UPDATE actor_profiles SET view_count"));
+            assertThat(rows.getAllValues().get(0)).hasSize(3);
+            assertThat(rows.getAllValues().get(1)).hasSize(3);
+            // 배우당 한 행
+            assertThat(rows.getAllValues().get(2)).hasSize(2);
+            ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertThat(events.getAllValues().get(0)).isInstanceOfSatisfying(ActorViewsCountedEvent.class,
+                    counted -> assertThat(counted.getDeltas()).isEqualTo(Map.of(actorId, 2L, otherActorId, 1L)));
+            // 저장한 조회 활동을 배우별로 최근 활동 피드에 전달
+            assertThat(events.getAllValues().get(1)).isInstanceOfSatisfying(ActivityRecordedEvent.class,
+                    recorded -> {
+                        assertThat(recorded.getActivitiesByUser().get(actorId)).hasSize(2);
+                        assertThat(recorded.getActivitiesByUser().get(otherActorId)).singleElement()
+                                .satisfies(activity -> assertThat(activity.getRelatedUserId()).isEqualTo(viewer));
+                    });
+        }
+
+        @Test
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @DisplayName("없어진 배우/조회자의 조회만 제외하고 나머지는 저장한다")
+        void skipsViewsOfMissingUsers() {
+            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+            ProfileViewCooldown cooldown = mock(ProfileViewCooldown.class);
+            when(cooldown.acquire(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+            UUID actorId = UUID.randomUUID();
+            UUID viewer = UUID.randomUUID();
+            existingUsers(jdbcTemplate, actorId, viewer);
+            ProfileViewBatchWriter writer = new ProfileViewBatchWriter(
+                    jdbcTemplate, cooldown, mock(ProfileViewUniqueCounter.class),
+                    mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class));
+
+            int saved = writer.write(List.of(
+                    view(actorId, viewer, null),
+                    view(actorId, UUID.randomUUID(), null),
+                    view(UUID.randomUUID(), viewer, null),
+                    view(actorId, null, "1.1.1.1")));
+
+            assertThat(saved).isEqualTo(2);
+            ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass((Class) List.class);
+            verify(jdbcTemplate, times(3)).batchUpdate(any(String.class), rows.capture());
+            assertThat(rows.getAllValues().get(0)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 선점한 쿨다운을 반납하고 이벤트를 발행하지 않는다")
+        void releasesCooldownWhenInsertFails() {
+            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+            ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+            ProfileViewCooldown cooldown = mock(ProfileViewCooldown.class);
+            List<PendingProfileView> views = List.of(view(UUID.randomUUID(), UUID.randomUUID(), null));
+            when(cooldown.acquire(anyList())).thenReturn(views);
+            existingUsers(jdbcTemplate, views.get(0).actorId(), views.get(0).viewerId());
+            when(jdbcTemplate.batchUpdate(any(String.class), anyList()))
+                    .thenThrow(new DataIntegrityViolationException("fk"));
+            ProfileViewBatchWriter writer = new ProfileViewBatchWriter(
+                    jdbcTemplate, cooldown, mock(ProfileViewUniqueCounter.class),
+                    mock(PlatformTransactionManager.class), eventPublisher);
+
+            assertThatThrownBy(() -> writer.write(views)).isInstanceOf(DataIntegrityViolationException.class);
+
+            verify(cooldown).release(views);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("모두 쿨다운 중이면 INSERT하지 않는다")
+        void skipsInsertWhenAllCoolingDown() {
+            JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+            ProfileViewCooldown cooldown = mock(ProfileViewCooldown.class);
+            when(cooldown.acquire(anyList())).thenReturn(List.of());
+            ProfileViewBatchWriter writer = new ProfileViewBatchWriter(
+                    jdbcTemplate, cooldown, mock(ProfileViewUniqueCounter.class),
+                    mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class));
+
+            int saved = writer.write(List.of(view(UUID.randomUUID(), UUID.randomUUID(), null)));
+
+            assertThat(saved).isZero();
+            verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("쿨다운")
+    class Cooldown {
+
+        private ProfileViewCooldown cooldown(StringRedisTemplate redisTemplate, SimpleMeterRegistry registry) {
+            return new ProfileViewCooldown(redisTemplate, registry, 3600, 4, 1000, 0.001);
+        }
+
+        @Test
+        @DisplayName("Redis에서 선점에 성공한 조회만 통과시키고, 조회자 키가 없으면 그대로 통과시킨다")
+        void usesRedisResults() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false));
+            ProfileViewCooldown cooldown = cooldown(redisTemplate, new SimpleMeterRegistry());
+            PendingProfileView first = view(UUID.randomUUID(), UUID.randomUUID(), null);
+            PendingProfileView keyless = view(UUID.randomUUID(), null, null);
+            PendingProfileView cooling = view(UUID.randomUUID(), null, "1.1.1.1");
+
+            List<PendingProfileView> accepted = cooldown.acquire(List.of(first, keyless, cooling));
+
+            assertThat(accepted).containsExactly(first, keyless);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 로컬 필터로 쿨다운을 이어간다")
+        void fallsBackToLocalFilter() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            PendingProfileView before = view(UUID.randomUUID(), UUID.randomUUID(), null);
+            PendingProfileView during = view(UUID.randomUUID(), null, "2.2.2.2");
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(List.of(true))
+                    .thenThrow(new RedisConnectionFailureException("redis down"));
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            ProfileViewCooldown cooldown = cooldown(redisTemplate, registry);
+
+            cooldown.acquire(List.of(before));
+            // 장애 전에 선점한 키와 장애 중 처음 본 키, 장애 중 다시 본 키
+            List<PendingProfileView> accepted = cooldown.acquire(List.of(before, during));
+            List<PendingProfileView> repeated = cooldown.acquire(List.of(during));
+
+            assertThat(accepted).containsExactly(during);
+            assertThat(repeated).isEmpty();
+            assertThat(registry.get("profile_view.cooldown.fallback").counter().count()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("고유 조회자 수")
+    class UniqueViewers {
+
+        @Test
+        @DisplayName("배우와 날짜별 키에 조회자 키를 모아 PFADD하고 만료를 건다")
+        void recordsPerActorAndDay() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            Map<String, Integer> addedByKey = new HashMap<>();
+            RedisHyperLogLogCommands hll = mock(RedisHyperLogLogCommands.class, invocation -> {
+                Object[] args = invocation.getRawArguments();
+                addedByKey.merge(new String((byte[]) args[0], StandardCharsets.UTF_8),
+                        ((byte[][]) args[1]).length, Integer::sum);
+                return null;
+            });
+            RedisKeyCommands keys = mock(RedisKeyCommands.class);
+            RedisConnection connection = mock(RedisConnection.class);
+            when(connection.hyperLogLogCommands()).thenReturn(hll);
+            when(connection.keyCommands()).thenReturn(keys);
+            when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+                RedisCallback<?> callback = invocation.getArgument(0);
+                callback.doInRedis(connection);
+                return List.of();
+            });
+            UUID actorId = UUID.randomUUID();
+            LocalDateTime today = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+            new ProfileViewUniqueCounter(redisTemplate).record(List.of(
+                    new PendingProfileView(actorId, UUID.randomUUID(), "조회자", null, today),
+                    new PendingProfileView(actorId, null, null, "1.1.1.1", today),
+                    new PendingProfileView(actorId, null, null, "1.1.1.1", today.minusDays(1)),
+                    new PendingProfileView(actorId, null, null, null, today)));
+
+            assertThat(addedByKey).containsOnly(
+                    Map.entry("profile-view:uv:" + actorId + ":20260310", 2),
+                    Map.entry("profile-view:uv:" + actorId + ":20260309", 1));
+            verify(keys, times(2)).expire(any(byte[].class), eq(31L * 24 * 60 * 60));
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 추정치를 비운다")
+        void unavailableWhenRedisDown() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenThrow(new RedisConnectionFailureException("redis down"));
+
+            UniqueViewerEstimate estimate = new ProfileViewUniqueCounter(redisTemplate).estimate(UUID.randomUUID());
+
+            assertThat(estimate).isEqualTo(UniqueViewerEstimate.unavailable());
+        }
+    }
+
+    @Nested
+    @DisplayName("시간 구간별 Bloom 필터")
+    class BloomFilter {
+
+        private static final long MINUTE = 60_000L;
+
+        @Test
+        @DisplayName("window 동안은 같은 키를 거절하고, window + 한 구간이 지나면 다시 받는다")
+        void expiresAfterWindow() {
+            TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(Duration.ofHours(1), 4, 1000, 0.001);
+            long start = 10 * 60 * MINUTE;
+
+            assertThat(filter.putIfAbsent("a", start)).isTrue();
+            assertThat(filter.putIfAbsent("a", start + 59 * MINUTE)).isFalse();
+            assertThat(filter.mightContain("a", start + 74 * MINUTE)).isTrue();
+            assertThat(filter.putIfAbsent("a", start + 75 * MINUTE)).isTrue();
+        }
+
+        @Test
+        @DisplayName("거짓 양성 비율이 설정값 근처에 머문다")
+        void falsePositiveRate() {
+            TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(Duration.ofHours(1), 1, 10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.put("member-" + i, 0);
+            }
+
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain("other-" + i, 0)) {
+                    falsePositives++;
+                }
+            }
+
+            assertThat(falsePositives).isLessThan(300);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package restapi.kculturebackend.unit.dashboard;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import restapi.kculturebackend.domain.dashboard.counter.UserCounterWriter;
+import restapi.kculturebackend.domain.dashboard.entity.UserCounterType;
+import restapi.kculturebackend.domain.dashboard.event.DashboardStatsChangedEvent;
+
+/**
+ * UserCounterWriter 단위 테스트
+ */
+@DisplayName("UserCounterWriter 테스트")
+class UserCounterWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final UserCounterWriter writer = new UserCounterWriter(jdbcTemplate, eventPublisher);
+
+    @Test
+    @DisplayName("해당 컬럼만 증감하는 upsert 실행 후 통계 변경 이벤트 발행")
+    void incrementUpsertsColumn() {
+        UUID userId = UUID.randomUUID();
+
+        writer.increment(userId, UserCounterType.CHARACTERS, -1);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), eq(userId), eq(-1L), eq(-1L));
+        assertThat(sql.getValue())
+                .contains("ON CONFLICT (user_id)")
+                .contains("characters = GREATEST(user_counters.characters + ?, 0)");
+        ArgumentCaptor<DashboardStatsChangedEvent> event = ArgumentCaptor.forClass(DashboardStatsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getUserIds()).containsExactly(userId);
+    }
+
+    @Test
+    @DisplayName("두 사용자 갱신은 UUID 순서로 실행")
+    void incrementPairInUuidOrder() {
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000001");
+
+        writer.increment(high, UserCounterType.FAVORITES_GIVEN, low, UserCounterType.FAVORITES_RECEIVED, 1);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(anyString(), eq(low), eq(1L), eq(1L));
+        order.verify(jdbcTemplate).update(anyString(), eq(high), eq(1L), eq(1L));
+    }
+
+    @Test
+    @DisplayName("증감분이 0이면 아무것도 하지 않음")
+    void zeroDeltaIsNoop() {
+        writer.increment(UUID.randomUUID(), UserCounterType.ACTIVE_PROJECTS, 0);
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
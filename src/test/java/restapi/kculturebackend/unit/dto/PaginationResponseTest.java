@@ -0,0 +1,98 @@
+package restapi.kculturebackend.unit.dto;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import restapi.kculturebackend.common.dto.CountMode;
+import restapi.kculturebackend.common.dto.EstimatedPage;
+import restapi.kculturebackend.common.dto.PaginationResponse;
+
+/**
+ * PaginationResponse / EstimatedPage 단위 테스트
+ */
+@DisplayName("PaginationResponse 테스트")
+class PaginationResponseTest {
+
+    private final PageRequest secondPage = PageRequest.of(1, 2);
+
+    @Nested
+    @DisplayName("건수 계산 방식 표시")
+    class Modes {
+
+        @Test
+        @DisplayName("Page는 정확한 건수로 표시한다")
+        void exact() {
+            PaginationResponse<String> response = PaginationResponse.from(
+                    new PageImpl<>(List.of("a", "b"), secondPage, 10));
+
+            assertThat(response.getCountMode()).isEqualTo(CountMode.EXACT);
+            assertThat(response.getTotal()).isEqualTo(10);
+            assertThat(response.getTotalPages()).isEqualTo(5);
+            assertThat(response.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Slice는 건수 없이 hasNext만 표시한다")
+        void none() {
+            PaginationResponse<String> response = PaginationResponse.from(
+                    new SliceImpl<>(List.of("a", "b"), secondPage, true));
+
+            assertThat(response.getCountMode()).isEqualTo(CountMode.NONE);
+            assertThat(response.getTotal()).isNull();
+            assertThat(response.getTotalPages()).isNull();
+            assertThat(response.getPage()).isEqualTo(2);
+            assertThat(response.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("추정 페이지는 ESTIMATED로 표시한다")
+        void estimated() {
+            Page<String> page = EstimatedPage.of(new SliceImpl<>(List.of("a", "b"), secondPage, true), () -> 100);
+
+            PaginationResponse<String> response = PaginationResponse.from(page);
+
+            assertThat(response.getCountMode()).isEqualTo(CountMode.ESTIMATED);
+            assertThat(response.getTotal()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 요청 값은 EXACT로 처리한다")
+        void parse() {
+            assertThat(CountMode.from("NONE")).isEqualTo(CountMode.NONE);
+            assertThat(CountMode.from("estimated")).isEqualTo(CountMode.ESTIMATED);
+            assertThat(CountMode.from("unknown")).isEqualTo(CountMode.EXACT);
+            assertThat(CountMode.from(null)).isEqualTo(CountMode.EXACT);
+        }
+    }
+
+    @Nested
+    @DisplayName("추정 건수 보정")
+    class Estimate {
+
+        @Test
+        @DisplayName("마지막 페이지면 추정 없이 정확한 건수를 사용한다")
+        void lastPageIsExact() {
+            Page<String> page = EstimatedPage.of(new SliceImpl<>(List.of("a"), secondPage, false), () -> 100);
+
+            assertThat(page).isNotInstanceOf(EstimatedPage.class);
+            assertThat(page.getTotalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("추정치가 확인된 행 수보다 작으면 확인된 행 수 + 1로 보정한다")
+        void staleEstimateIsRaised() {
+            Page<String> page = EstimatedPage.of(new SliceImpl<>(List.of("a", "b"), secondPage, true), () -> 1);
+
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            assertThat(page.hasNext()).isTrue();
+        }
+    }
+}
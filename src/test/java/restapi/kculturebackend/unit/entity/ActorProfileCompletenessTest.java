@@ -0,0 +1,73 @@
+package restapi.kculturebackend.unit.entity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.actor.entity.ActorProfile;
+import restapi.kculturebackend.domain.user.entity.User;
+
+/**
+ * ActorProfile 프로필 완성도 단위 테스트
+ */
+@DisplayName("ActorProfile 완성도 테스트")
+class ActorProfileCompletenessTest {
+
+    @Test
+    @DisplayName("새 프로필의 완성도는 0이다")
+    void defaultCompletenessIsZero() {
+        // given & when
+        ActorProfile profile = ActorProfile.builder().build();
+
+        // then
+        assertThat(profile.getProfileCompleteness()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("프로필 수정 시 입력 항목별 가중치로 완성도를 다시 계산한다")
+    void updateProfile_recalculatesCompleteness() {
+        // given
+        User user = User.builder().profileImage("image.jpg").build();
+        ActorProfile profile = ActorProfile.builder().user(user).build();
+
+        // when
+        profile.updateProfile("활동명", 1995, "소개", null, 175, null,
+                List.of("액션"), null, null);
+
+        // then (활동명 15 + 출생년도 10 + 소개 20 + 키 10 + 스킬 15 + 이미지 10)
+        assertThat(profile.getProfileCompleteness()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("모든 항목을 입력하면 완성도는 100이다")
+    void allFields_fullCompleteness() {
+        // given
+        ActorProfile profile = ActorProfile.builder().build();
+        profile.updateProfile("활동명", 1995, "소개", "대한민국", 175, 65,
+                List.of("액션"), List.of("영어"), null);
+
+        // when
+        profile.refreshCompleteness("image.jpg");
+
+        // then
+        assertThat(profile.getProfileCompleteness()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지를 지우면 완성도가 내려간다")
+    void refreshCompleteness_withoutImage() {
+        // given
+        ActorProfile profile = ActorProfile.builder().build();
+        profile.updateProfile("활동명", null, null, null, null, null, null, null, null);
+        profile.refreshCompleteness("image.jpg");
+        assertThat(profile.getProfileCompleteness()).isEqualTo(25);
+
+        // when
+        profile.refreshCompleteness(null);
+
+        // then
+        assertThat(profile.getProfileCompleteness()).isEqualTo(15);
+    }
+}
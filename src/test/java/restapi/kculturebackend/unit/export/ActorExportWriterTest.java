@@ -0,0 +1,110 @@
+package restapi.kculturebackend.unit.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.common.exception.ValidationException;
+import restapi.kculturebackend.domain.actor.dto.ActorSummaryResponse;
+import restapi.kculturebackend.domain.actor.export.ActorExportFormat;
+import restapi.kculturebackend.domain.actor.export.ActorExportWriter;
+
+/**
+ * ActorExportWriter 단위 테스트
+ */
+@DisplayName("ActorExportWriter 테스트")
+class ActorExportWriterTest {
+
+    private final UUID actorId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private ActorSummaryResponse actor(String introduction) {
+        return ActorSummaryResponse.builder()
+                .id(actorId)
+                .email("actor@test.com")
+                .name("홍길동")
+                .stageName("길동")
+                .birthYear(1995)
+                .age(31)
+                .gender("남자")
+                .category("배우")
+                .height(180)
+                .skills(List.of("연기", "춤"))
+                .viewCount(10L)
+                .introduction(introduction)
+                .build();
+    }
+
+    private String export(ActorExportFormat format, ActorSummaryResponse... actors) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ActorExportWriter writer = new ActorExportWriter(format, out);
+        writer.writeHeader();
+        for (ActorSummaryResponse actor : actors) {
+            writer.write(actor);
+        }
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("배우 한 명당 JSON 한 줄을 출력한다")
+        void oneLinePerActor() throws IOException {
+            String result = export(ActorExportFormat.NDJSON, actor("첫 줄\n둘째 줄"), actor("소개"));
+
+            String[] lines = result.split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).startsWith("{").endsWith("}")
+                    .contains("\"stageName\":\"길동\"")
+                    .contains("첫 줄\\n둘째 줄");
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("BOM과 헤더를 먼저 출력한다")
+        void header() throws IOException {
+            String result = export(ActorExportFormat.CSV);
+
+            assertThat(result).startsWith("\uFEFFid,email,name,stageName,");
+        }
+
+        @Test
+        @DisplayName("구분자/따옴표/줄바꿈이 있는 값은 큰따옴표로 감싼다")
+        void escape() throws IOException {
+            String result = export(ActorExportFormat.CSV, actor("안녕하세요, \"길동\"입니다\n잘 부탁드립니다"));
+
+            assertThat(result).contains("연기|춤")
+                    .endsWith(",\"안녕하세요, \"\"길동\"\"입니다\n잘 부탁드립니다\"\r\n");
+        }
+
+        @Test
+        @DisplayName("수식으로 시작하는 값은 문자열로 처리한다")
+        void formula() throws IOException {
+            String result = export(ActorExportFormat.CSV, actor("=HYPERLINK(\"x\")"));
+
+            assertThat(result).endsWith(",\"'=HYPERLINK(\"\"x\"\")\"\r\n");
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 예외가 발생한다")
+    void unknownFormat() {
+        assertThat(ActorExportFormat.from("CSV")).isEqualTo(ActorExportFormat.CSV);
+        assertThat(ActorExportFormat.from(null)).isEqualTo(ActorExportFormat.NDJSON);
+        assertThatThrownBy(() -> ActorExportFormat.from("xlsx")).isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,243 @@
+package restapi.kculturebackend.unit.recommend;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.actor.dto.ActorRecommendRequest;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.RoleType;
+import restapi.kculturebackend.domain.actor.recommend.ActorBatchScorer;
+import restapi.kculturebackend.domain.actor.recommend.ActorFeatureSnapshot;
+import restapi.kculturebackend.domain.actor.recommend.ActorRecommendation;
+import restapi.kculturebackend.domain.actor.recommend.ActorScorer;
+import restapi.kculturebackend.domain.actor.recommend.RecommendCriteria;
+import restapi.kculturebackend.domain.project.entity.Character;
+
+/**
+ * ActorScorer / ActorBatchScorer / RecommendCriteria 단위 테스트
+ */
+@DisplayName("ActorScorer 테스트")
+class ActorScorerTest {
+
+    private static final int CURRENT_YEAR = 2026;
+
+    private final UUID young = UUID.randomUUID();
+    private final UUID old = UUID.randomUUID();
+    private final UUID female = UUID.randomUUID();
+
+    private ActorFeatureSnapshot snapshot() {
+        return ActorFeatureSnapshot.builder()
+                .addActor(young, 2000, Gender.MALE, 182, 10L)
+                .addActor(old, 1980, Gender.MALE, 170, 500L)
+                .addActor(female, 2000, Gender.FEMALE, 165, 1000L)
+                .addTag(young, "액션")
+                .addTag(young, "영어")
+                .addTag(young, "영어")
+                .addTag(old, "승마")
+                .addRole(young, RoleType.LEAD)
+                .addRole(old, RoleType.MINOR)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("조건 파싱")
+    class Parse {
+
+        @Test
+        @DisplayName("나이대 표현을 범위로 변환한다")
+        void ageRange() {
+            assertThat(RecommendCriteria.parseAgeRange("20대")).containsExactly(20, 29);
+            assertThat(RecommendCriteria.parseAgeRange("20대 후반")).containsExactly(27, 29);
+            assertThat(RecommendCriteria.parseAgeRange("30-40")).containsExactly(30, 40);
+            assertThat(RecommendCriteria.parseAgeRange("20대~30대 초반")).containsExactly(20, 33);
+            assertThat(RecommendCriteria.parseAgeRange("60대 이상")).containsExactly(60, Integer.MAX_VALUE);
+            assertThat(RecommendCriteria.parseAgeRange("무관")).isNull();
+        }
+
+        @Test
+        @DisplayName("요청 필터가 캐릭터 값보다 우선한다")
+        void filtersOverrideCharacter() {
+            Character character = Character.builder()
+                    .gender(restapi.kculturebackend.domain.project.entity.Gender.FEMALE)
+                    .ageRange("40대")
+                    .roleType(RoleType.SUPPORTING)
+                    .keywords(List.of("액션", "키 180cm 이상"))
+                    .build();
+            ActorRecommendRequest request = ActorRecommendRequest.builder()
+                    .filters(ActorRecommendRequest.ActorRecommendFilters.builder()
+                            .gender("남자")
+                            .ageRange("20대 초반")
+                            .build())
+                    .build();
+
+            RecommendCriteria criteria = RecommendCriteria.of(character, request);
+
+            assertThat(criteria.getGender()).isEqualTo(Gender.MALE);
+            assertThat(criteria.getAgeMin()).isEqualTo(20);
+            assertThat(criteria.getAgeMax()).isEqualTo(23);
+            assertThat(criteria.getRoleType()).isEqualTo(RoleType.SUPPORTING);
+            assertThat(criteria.getHeightMin()).isEqualTo(180);
+            assertThat(criteria.getHeightMax()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("점수 계산")
+    class Scoring {
+
+        @Test
+        @DisplayName("조건에 가까운 배우가 먼저 오고, 성별이 다르면 제외된다")
+        void ranking() {
+            RecommendCriteria criteria = RecommendCriteria.builder()
+                    .gender(Gender.MALE)
+                    .ageMin(20)
+                    .ageMax(29)
+                    .roleType(RoleType.LEAD)
+                    .keywords(List.of("액션", "영어", "없는키워드"))
+                    .heightMin(180)
+                    .build();
+
+            List<ActorRecommendation> result = new ActorScorer(snapshot(), criteria, CURRENT_YEAR).top(10);
+
+            assertThat(result).extracting(ActorRecommendation::getActorId).containsExactly(young, old);
+            assertThat(result.get(0).getScore()).isGreaterThan(result.get(1).getScore()).isLessThanOrEqualTo(100);
+            assertThat(result.get(0).getReasons()).contains(
+                    "성별 일치 (남자)", "나이 조건 부합 (26세)", "키워드 일치: 액션, 영어", "주연 출연 경력", "키 조건 부합 (182cm)");
+            assertThat(result.get(1).getReasons()).contains("출연 경력 보유");
+        }
+
+        @Test
+        @DisplayName("조건이 없으면 조회수 순으로 정렬한다")
+        void noCriteria() {
+            RecommendCriteria criteria = RecommendCriteria.builder().build();
+
+            List<ActorRecommendation> result = new ActorScorer(snapshot(), criteria, CURRENT_YEAR).top(2);
+
+            assertThat(result).extracting(ActorRecommendation::getActorId).containsExactly(female, old);
+            assertThat(result.get(0).getReasons()).containsExactly("조회수 상위");
+        }
+
+        @Test
+        @DisplayName("병렬 스캔 결과는 전체 정렬 결과의 상위 K와 같다")
+        void parallelTopK() {
+            Random random = new Random(42);
+            ActorFeatureSnapshot.Builder builder = ActorFeatureSnapshot.builder();
+            List<UUID> ids = IntStream.range(0, 20_000).mapToObj(i -> UUID.randomUUID()).toList();
+            for (UUID id : ids) {
+                builder.addActor(id, 1960 + random.nextInt(45), random.nextBoolean() ? Gender.MALE : Gender.FEMALE,
+                        150 + random.nextInt(40), (long) random.nextInt(10_000));
+                if (random.nextBoolean()) {
+                    builder.addTag(id, "skill-" + random.nextInt(20));
+                }
+            }
+            ActorFeatureSnapshot snapshot = builder.build();
+            RecommendCriteria criteria = RecommendCriteria.builder()
+                    .gender(Gender.FEMALE)
+                    .ageMin(30)
+                    .ageMax(35)
+                    .keywords(List.of("skill-3", "skill-7"))
+                    .heightMin(165)
+                    .heightMax(170)
+                    .build();
+            ActorScorer scorer = new ActorScorer(snapshot, criteria, CURRENT_YEAR);
+
+            List<ActorRecommendation> top = scorer.top(20);
+            List<ActorRecommendation> all = scorer.top(snapshot.size());
+
+            assertThat(top).hasSize(20);
+            assertThat(top).extracting(ActorRecommendation::getActorId)
+                    .containsExactlyElementsOf(all.subList(0, 20).stream().map(ActorRecommendation::getActorId).toList());
+            assertThat(all).isSortedAccordingTo(
+                    Comparator.comparingInt(ActorRecommendation::getScore).reversed());
+        }
+    }
+    @Nested
+    @DisplayName("배역 일괄 추천")
+    class Batch {
+
+        private ActorFeatureSnapshot randomSnapshot() {
+            Random random = new Random(7);
+            ActorFeatureSnapshot.Builder builder = ActorFeatureSnapshot.builder();
+            for (int i = 0; i < 20_000; i++) {
+                UUID id = UUID.randomUUID();
+                builder.addActor(id, 1960 + random.nextInt(45), random.nextBoolean() ? Gender.MALE : Gender.FEMALE,
+                        150 + random.nextInt(40), (long) random.nextInt(10_000));
+                builder.addTag(id, "skill-" + random.nextInt(20));
+            }
+            return builder.build();
+        }
+
+        private List<ActorScorer> scorers(ActorFeatureSnapshot snapshot) {
+            return List.of(
+                    new ActorScorer(snapshot, RecommendCriteria.builder()
+                            .gender(Gender.MALE).ageMin(20).ageMax(29).build(), CURRENT_YEAR),
+                    new ActorScorer(snapshot, RecommendCriteria.builder()
+                            .gender(Gender.MALE).ageMin(22).ageMax(30).keywords(List.of("skill-1")).build(), CURRENT_YEAR),
+                    new ActorScorer(snapshot, RecommendCriteria.builder()
+                            .gender(Gender.FEMALE).heightMin(165).heightMax(170).build(), CURRENT_YEAR));
+        }
+
+        @Test
+        @DisplayName("한 번의 스캔 결과가 배역별 개별 추천과 같다")
+        void sameAsIndependentScans() {
+            ActorFeatureSnapshot snapshot = randomSnapshot();
+            List<ActorScorer> scorers = scorers(snapshot);
+
+            List<List<ActorRecommendation>> batch = new ActorBatchScorer(snapshot, scorers).top(15, false);
+
+            assertThat(batch).hasSize(3);
+            for (int t = 0; t < scorers.size(); t++) {
+                assertThat(batch.get(t)).extracting(ActorRecommendation::getActorId)
+                        .containsExactlyElementsOf(scorers.get(t).top(15).stream()
+                                .map(ActorRecommendation::getActorId).toList());
+            }
+        }
+
+        @Test
+        @DisplayName("중복 제거 시 한 배우는 한 배역에만 추천되고 배역마다 limit명을 채운다")
+        void distinctAcrossRoles() {
+            ActorFeatureSnapshot snapshot = randomSnapshot();
+            List<ActorScorer> scorers = scorers(snapshot);
+
+            List<List<ActorRecommendation>> batch = new ActorBatchScorer(snapshot, scorers).top(15, true);
+
+            Set<UUID> seen = new HashSet<>();
+            for (List<ActorRecommendation> role : batch) {
+                assertThat(role).hasSize(15);
+                assertThat(role).isSortedAccordingTo(
+                        Comparator.comparingInt(ActorRecommendation::getScore).reversed());
+                role.forEach(recommendation -> assertThat(seen.add(recommendation.getActorId())).isTrue());
+            }
+        }
+
+        @Test
+        @DisplayName("겹치는 후보는 점수가 더 높은 배역에 배정된다")
+        void distinctPrefersHigherScore() {
+            ActorFeatureSnapshot snapshot = snapshot();
+            List<ActorScorer> scorers = List.of(
+                    new ActorScorer(snapshot, RecommendCriteria.builder()
+                            .gender(Gender.MALE).ageMin(20).ageMax(29).heightMin(180).build(), CURRENT_YEAR),
+                    new ActorScorer(snapshot, RecommendCriteria.builder()
+                            .gender(Gender.MALE).ageMin(20).ageMax(29).build(), CURRENT_YEAR));
+            ActorBatchScorer batchScorer = new ActorBatchScorer(snapshot, scorers);
+
+            List<List<ActorRecommendation>> shared = batchScorer.top(1, false);
+            List<List<ActorRecommendation>> distinct = batchScorer.top(1, true);
+
+            assertThat(shared.get(0)).extracting(ActorRecommendation::getActorId).containsExactly(young);
+            assertThat(shared.get(1)).extracting(ActorRecommendation::getActorId).containsExactly(young);
+            assertThat(distinct.get(0)).extracting(ActorRecommendation::getActorId).containsExactly(young);
+            assertThat(distinct.get(1)).extracting(ActorRecommendation::getActorId).containsExactly(old);
+        }
+    }
+}
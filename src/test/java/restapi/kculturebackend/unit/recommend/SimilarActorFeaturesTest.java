@@ -0,0 +1,83 @@
+package restapi.kculturebackend.unit.recommend;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.entity.SimilarActors;
+import restapi.kculturebackend.domain.actor.recommend.MinHash;
+import restapi.kculturebackend.domain.actor.recommend.SimilarActorFeatures;
+
+/**
+ * MinHash / SimilarActorFeatures / SimilarActors 단위 테스트
+ */
+@DisplayName("비슷한 배우 계산 테스트")
+class SimilarActorFeaturesTest {
+
+    private static final int CURRENT_YEAR = 2026;
+
+    @Test
+    @DisplayName("MinHash 서명 비교로 자카드 유사도를 추정한다")
+    void minHashEstimatesJaccard() {
+        Set<String> left = IntStream.range(0, 100).mapToObj(i -> "skill-" + i).collect(Collectors.toSet());
+        Set<String> right = IntStream.range(50, 150).mapToObj(i -> "skill-" + i).collect(Collectors.toSet());
+
+        int[] a = MinHash.signature(left);
+        int[] b = MinHash.signature(right);
+
+        // 실제 자카드 = 50 / 150
+        assertThat(MinHash.jaccard(a, 0, b, 0)).isCloseTo(1f / 3, within(0.2f));
+        assertThat(MinHash.jaccard(a, 0, MinHash.signature(left), 0)).isEqualTo(1f);
+    }
+
+    @Test
+    @DisplayName("특징과 스킬이 가까운 배우가 먼저 오고, 성별이 다르면 뒤로 밀린다")
+    void nearest() {
+        UUID target = UUID.randomUUID();
+        UUID twin = UUID.randomUUID();
+        UUID sameBodyOtherSkills = UUID.randomUUID();
+        UUID otherGender = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+
+        SimilarActorFeatures features = SimilarActorFeatures.builder()
+                .addActor(target, 1998, Gender.MALE, ActorCategory.ACTOR, 180, 70)
+                .addActor(twin, 1997, Gender.MALE, ActorCategory.ACTOR, 181, 71)
+                .addActor(sameBodyOtherSkills, 1998, Gender.MALE, ActorCategory.ACTOR, 180, 70)
+                .addActor(otherGender, 1998, Gender.FEMALE, ActorCategory.ACTOR, 180, 70)
+                .addActor(older, 1960, Gender.MALE, ActorCategory.MODEL, 165, 90)
+                .addSkill(target, "액션")
+                .addSkill(target, "승마")
+                .addSkill(twin, "액션")
+                .addSkill(twin, "승마")
+                .addSkill(sameBodyOtherSkills, "피아노")
+                .addSkill(otherGender, "액션")
+                .addSkill(otherGender, "승마")
+                .build(CURRENT_YEAR);
+
+        List<UUID> nearest = features.nearest(features.indexOf(target), 3);
+
+        assertThat(nearest).containsExactly(twin, sameBodyOtherSkills, otherGender);
+        assertThat(features.nearest(features.indexOf(target), 10)).hasSize(4).doesNotContain(target);
+        assertThat(features.similarity(0, 1)).isEqualTo(features.similarity(1, 0));
+    }
+
+    @Test
+    @DisplayName("이웃 ID 목록을 순서대로 저장하고 복원한다")
+    void neighborEncoding() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        SimilarActors similar = SimilarActors.of(UUID.randomUUID(), ids, null);
+
+        assertThat(similar.getNeighbors()).hasSize(48);
+        assertThat(similar.getNeighborIds()).containsExactlyElementsOf(ids);
+    }
+}
@@ -0,0 +1,80 @@
+package restapi.kculturebackend.unit.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.common.exception.ValidationException;
+import restapi.kculturebackend.domain.actor.search.ActorCursor;
+import restapi.kculturebackend.domain.actor.search.ActorCursorCodec;
+import restapi.kculturebackend.domain.actor.search.ActorSortOption;
+
+/**
+ * ActorCursorCodec 단위 테스트
+ */
+@DisplayName("ActorCursorCodec 테스트")
+class ActorCursorCodecTest {
+
+    private final ActorCursorCodec codec = new ActorCursorCodec("test-cursor-secret-key-for-hmac-signing");
+
+    @Test
+    @DisplayName("정렬 키와 ID를 그대로 복원한다")
+    void roundTrip() {
+        UUID actorId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123456000);
+
+        ActorCursor decoded = codec.decode(codec.encode(new ActorCursor(ActorSortOption.RECENT, createdAt, actorId)));
+
+        assertThat(decoded.getSortOption()).isEqualTo(ActorSortOption.RECENT);
+        assertThat(decoded.getSortKey()).isEqualTo(createdAt);
+        assertThat(decoded.getActorId()).isEqualTo(actorId);
+    }
+
+    @Test
+    @DisplayName("구분자가 포함된 이름과 NULL 정렬 키를 복원한다")
+    void roundTripSpecialValues() {
+        UUID actorId = UUID.randomUUID();
+
+        ActorCursor name = codec.decode(codec.encode(new ActorCursor(ActorSortOption.NAME_ASC, "배우:.홍길동", actorId)));
+        ActorCursor nullHeight = codec.decode(codec.encode(new ActorCursor(ActorSortOption.HEIGHT_TALL, null, actorId)));
+
+        assertThat(name.getSortKey()).isEqualTo("배우:.홍길동");
+        assertThat(nullHeight.getSortKey()).isNull();
+        assertThat(nullHeight.getSortOption()).isEqualTo(ActorSortOption.HEIGHT_TALL);
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 커서는 거부한다")
+    void rejectTamperedCursor() {
+        String token = codec.encode(new ActorCursor(ActorSortOption.VIEWS_HIGH, 10L, UUID.randomUUID()));
+        String forged = new ActorCursorCodec("another-secret").encode(
+                new ActorCursor(ActorSortOption.VIEWS_HIGH, 0L, UUID.randomUUID()));
+
+        assertThatThrownBy(() -> codec.decode(forged)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> codec.decode(token.substring(1))).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> codec.decode("not-a-cursor")).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("설정한 비밀값 자체로 서명한 커서는 거부한다 (파생 키로만 서명)")
+    void rejectCursorSignedWithRawSecret() throws Exception {
+        String token = codec.encode(new ActorCursor(ActorSortOption.VIEWS_HIGH, 10L, UUID.randomUUID()));
+        String payload = token.substring(0, token.indexOf('.'));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(
+                "test-cursor-secret-key-for-hmac-signing".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String rawSigned = payload + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(Base64.getUrlDecoder().decode(payload)));
+
+        assertThatThrownBy(() -> codec.decode(rawSigned)).isInstanceOf(ValidationException.class);
+    }
+}
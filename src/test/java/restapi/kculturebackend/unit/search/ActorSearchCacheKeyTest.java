@@ -0,0 +1,39 @@
+package restapi.kculturebackend.unit.search;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.search.ActorSearchCacheKey;
+
+/**
+ * ActorSearchCacheKey 단위 테스트
+ */
+@DisplayName("ActorSearchCacheKey 테스트")
+class ActorSearchCacheKeyTest {
+
+    @Test
+    @DisplayName("같은 결과를 내는 조건은 정렬과 관계없이 같은 키가 된다")
+    void equivalentRequests() {
+        ActorSearchRequest a = ActorSearchRequest.builder()
+                .gender("무관").keyword(" Kim ").skills(List.of("Dance", "연기")).sortBy("recent").build();
+        ActorSearchRequest b = ActorSearchRequest.builder()
+                .keyword("kim").skills(List.of("연기", "dance ")).skillMatch("any").sortBy("name").build();
+
+        assertThat(ActorSearchCacheKey.ofFilters(a)).isEqualTo(ActorSearchCacheKey.ofFilters(b));
+    }
+
+    @Test
+    @DisplayName("매칭 방식이나 최소 완성도가 다르면 다른 키가 된다")
+    void differentRequests() {
+        ActorSearchRequest any = ActorSearchRequest.builder().skills(List.of("춤")).build();
+        ActorSearchRequest all = ActorSearchRequest.builder().skills(List.of("춤")).skillMatch("all").build();
+        ActorSearchRequest complete = ActorSearchRequest.builder().skills(List.of("춤")).minCompleteness(80).build();
+
+        assertThat(ActorSearchCacheKey.ofFilters(any)).isNotEqualTo(ActorSearchCacheKey.ofFilters(all));
+        assertThat(ActorSearchCacheKey.ofFilters(any)).isNotEqualTo(ActorSearchCacheKey.ofFilters(complete));
+    }
+}
@@ -0,0 +1,387 @@
+package restapi.kculturebackend.unit.search;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import restapi.kculturebackend.domain.actor.dto.ActorFacetResponse;
+import restapi.kculturebackend.domain.actor.dto.ActorSearchRequest;
+import restapi.kculturebackend.domain.actor.entity.ActorCategory;
+import restapi.kculturebackend.domain.actor.entity.Gender;
+import restapi.kculturebackend.domain.actor.search.ActorIndexEntry;
+import restapi.kculturebackend.domain.actor.search.ActorIndexResult;
+import restapi.kculturebackend.domain.actor.search.ActorSearchIndex;
+import restapi.kculturebackend.domain.actor.search.ActorSortOption;
+
+/**
+ * ActorSearchIndex 단위 테스트
+ */
+@DisplayName("ActorSearchIndex 테스트")
+class ActorSearchIndexTest {
+
+    private ActorSearchIndex index;
+    private UUID tallMale;
+    private UUID shortFemale;
+    private UUID model;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActorSearchIndex();
+        int currentYear = Year.now().getValue();
+        LocalDateTime now = LocalDateTime.now();
+
+        tallMale = UUID.randomUUID();
+        shortFemale = UUID.randomUUID();
+        model = UUID.randomUUID();
+
+        index.replaceAll(List.of(
+                entry(tallMale, "가배우", currentYear - 30, Gender.MALE, ActorCategory.ACTOR, 185, now.minusDays(3),
+                        List.of("액션", "승마")),
+                entry(shortFemale, "나배우", currentYear - 22, Gender.FEMALE, ActorCategory.ACTOR, 160, now.minusDays(2),
+                        List.of("승마", "Jazz Dance")),
+                entry(model, "다모델", currentYear - 25, Gender.FEMALE, ActorCategory.MODEL, 175, now.minusDays(1))
+        ));
+    }
+
+    private ActorIndexEntry entry(UUID id, String stageName, Integer birthYear, Gender gender,
+                                  ActorCategory category, Integer height, LocalDateTime createdAt) {
+        return entry(id, stageName, birthYear, gender, category, height, createdAt, List.of());
+    }
+
+    private ActorIndexEntry entry(UUID id, String stageName, Integer birthYear, Gender gender,
+                                  ActorCategory category, Integer height, LocalDateTime createdAt,
+                                  List<String> skills) {
+        return ActorIndexEntry.builder()
+                .actorId(id)
+                .stageName(stageName)
+                .birthYear(birthYear)
+                .gender(gender)
+                .category(category)
+                .height(height)
+                .weight(60)
+                .skills(skills)
+                .createdAt(createdAt)
+                .profileComplete(true)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("필터")
+    class Filter {
+
+        @Test
+        @DisplayName("성별/구분 필터는 BitSet 교집합으로 적용된다")
+        void filterByGenderAndCategory() {
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .gender("여자")
+                    .category("배우")
+                    .sortBy("recent")
+                    .build();
+
+            ActorIndexResult result = index.search(request, 0, 20);
+
+            assertThat(result.getTotal()).isEqualTo(1);
+            assertThat(result.getActorIds()).containsExactly(shortFemale);
+        }
+
+        @Test
+        @DisplayName("나이/키 범위 필터를 적용한다")
+        void filterByRanges() {
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .ageMin(24)
+                    .heightMin(170)
+                    .sortBy("recent")
+                    .build();
+
+            ActorIndexResult result = index.search(request, 0, 20);
+
+            assertThat(result.getTotal()).isEqualTo(2);
+            assertThat(result.getActorIds()).containsExactly(model, tallMale);
+        }
+
+        @Test
+        @DisplayName("값이 없는 컬럼은 범위 필터에 매칭되지 않는다")
+        void nullValueExcludedFromRange() {
+            UUID noHeight = UUID.randomUUID();
+            index.upsert(entry(noHeight, "라배우", null, Gender.MALE, ActorCategory.ACTOR, null, LocalDateTime.now()));
+
+            ActorSearchRequest request = ActorSearchRequest.builder().heightMax(200).sortBy("recent").build();
+
+            assertThat(index.search(request, 0, 20).getActorIds()).doesNotContain(noHeight);
+        }
+    }
+
+    @Nested
+    @DisplayName("키워드 검색")
+    class Keyword {
+
+        @Test
+        @DisplayName("활동명 초성과 다른 필터를 함께 적용한다")
+        void choseongWithFilters() {
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .keyword("ㄴㅂ")
+                    .gender("여자")
+                    .sortBy("recent")
+                    .build();
+
+            assertThat(index.search(request, 0, 20).getActorIds()).containsExactly(shortFemale);
+        }
+
+        @Test
+        @DisplayName("활동명 검색은 미완성 프로필도 포함한다")
+        void stageNameSearchIncludesIncompleteProfiles() {
+            UUID incomplete = UUID.randomUUID();
+            index.upsert(ActorIndexEntry.builder()
+                    .actorId(incomplete)
+                    .stageName("라배우")
+                    .skills(List.of())
+                    .createdAt(LocalDateTime.now())
+                    .profileComplete(false)
+                    .build());
+
+            ActorSearchRequest filter = ActorSearchRequest.builder().keyword("배우").sortBy("recent").build();
+
+            assertThat(index.search(filter, 0, 20).getActorIds()).containsExactly(shortFemale, tallMale);
+            assertThat(index.searchByStageName("배우", ActorSortOption.RECENT, 0, 20).getActorIds())
+                    .containsExactly(incomplete, shortFemale, tallMale);
+        }
+    }
+
+    @Nested
+    @DisplayName("스킬 필터")
+    class SkillFilter {
+
+        @Test
+        @DisplayName("ANY는 하나 이상의 스킬을 보유한 배우를 찾는다")
+        void matchAny() {
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .skills(List.of("액션", "jazz dance"))
+                    .sortBy("recent")
+                    .build();
+
+            ActorIndexResult result = index.search(request, 0, 20);
+
+            assertThat(result.getTotal()).isEqualTo(2);
+            assertThat(result.getActorIds()).containsExactly(shortFemale, tallMale);
+        }
+
+        @Test
+        @DisplayName("ALL은 모든 스킬을 보유한 배우만 찾고 다른 필터와 결합된다")
+        void matchAllCombinedWithFilters() {
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .skills(List.of(" 승마 ", "액션"))
+                    .skillMatch("all")
+                    .sortBy("recent")
+                    .build();
+            ActorSearchRequest female = ActorSearchRequest.builder()
+                    .skills(List.of("승마"))
+                    .gender("여자")
+                    .sortBy("recent")
+                    .build();
+
+            assertThat(index.search(request, 0, 20).getActorIds()).containsExactly(tallMale);
+            assertThat(index.search(female, 0, 20).getActorIds()).containsExactly(shortFemale);
+        }
+
+        @Test
+        @DisplayName("보유자가 없는 스킬이 포함된 ALL 조건은 결과가 없다")
+        void matchAllWithUnknownSkill() {
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .skills(List.of("승마", "펜싱"))
+                    .skillMatch("all")
+                    .sortBy("recent")
+                    .build();
+
+            assertThat(index.search(request, 0, 20).getTotal()).isZero();
+        }
+
+        @Test
+        @DisplayName("프로필 갱신 시 이전 스킬 역색인에서 제거된다")
+        void skillsReplacedOnUpdate() {
+            index.upsert(entry(tallMale, "가배우", 1990, Gender.MALE, ActorCategory.ACTOR, 185, LocalDateTime.now(),
+                    List.of("펜싱")));
+
+            ActorSearchRequest action = ActorSearchRequest.builder().skills(List.of("액션")).sortBy("recent").build();
+            ActorSearchRequest fencing = ActorSearchRequest.builder().skills(List.of("펜싱")).sortBy("recent").build();
+
+            assertThat(index.search(action, 0, 20).getTotal()).isZero();
+            assertThat(index.search(fencing, 0, 20).getActorIds()).containsExactly(tallMale);
+        }
+    }
+
+    @Nested
+    @DisplayName("패싯 집계")
+    class Facets {
+
+        @Test
+        @DisplayName("각 패싯은 자기 필터만 제외하고 집계한다")
+        void excludesOwnFilter() {
+            ActorFacetResponse facets = index.facets(
+                    ActorSearchRequest.builder().gender("여자").heightMin(170).build());
+
+            assertThat(facets.getTotal()).isEqualTo(1);
+            // 성별 패싯: 키 조건만 적용 (가배우, 다모델)
+            assertThat(facets.getGender())
+                    .extracting(ActorFacetResponse.Bucket::getValue, ActorFacetResponse.Bucket::getCount)
+                    .containsExactly(tuple("남자", 1L), tuple("여자", 1L));
+            assertThat(facets.getCategory())
+                    .extracting(ActorFacetResponse.Bucket::getValue, ActorFacetResponse.Bucket::getCount)
+                    .containsExactly(tuple("배우", 0L), tuple("모델", 1L));
+            assertThat(facets.getAge())
+                    .extracting(ActorFacetResponse.Bucket::getValue, ActorFacetResponse.Bucket::getCount)
+                    .containsExactly(tuple("20대", 1L));
+            // 키 패싯: 성별 조건만 적용 (나배우 160, 다모델 175)
+            assertThat(facets.getHeight())
+                    .extracting(ActorFacetResponse.Bucket::getMin, ActorFacetResponse.Bucket::getMax,
+                            ActorFacetResponse.Bucket::getCount)
+                    .containsExactly(tuple(160, 169, 1L), tuple(170, 179, 1L));
+        }
+
+        @Test
+        @DisplayName("패싯 외 조건(키워드)은 모든 패싯에 적용된다")
+        void appliesNonFacetFilters() {
+            ActorFacetResponse facets = index.facets(ActorSearchRequest.builder().keyword("모델").build());
+
+            assertThat(facets.getTotal()).isEqualTo(1);
+            assertThat(facets.getGender())
+                    .extracting(ActorFacetResponse.Bucket::getValue, ActorFacetResponse.Bucket::getCount)
+                    .containsExactly(tuple("남자", 0L), tuple("여자", 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("정렬/페이징")
+    class SortAndPaging {
+
+        @Test
+        @DisplayName("키 큰 순으로 정렬하고 offset/limit을 적용한다")
+        void sortByHeightWithPaging() {
+            ActorSearchRequest request = ActorSearchRequest.builder().sortBy("height_tall").build();
+
+            ActorIndexResult result = index.search(request, 1, 1);
+
+            assertThat(result.getTotal()).isEqualTo(3);
+            assertThat(result.getActorIds()).containsExactly(model);
+        }
+
+        @Test
+        @DisplayName("변경 이후 정렬 순열을 다시 계산한다")
+        void permutationRefreshedAfterUpdate() {
+            ActorSearchRequest request = ActorSearchRequest.builder().sortBy("height_short").build();
+            assertThat(index.search(request, 0, 1).getActorIds()).containsExactly(shortFemale);
+
+            index.upsert(entry(tallMale, "가배우", 1990, Gender.MALE, ActorCategory.ACTOR, 150, LocalDateTime.now()));
+
+            assertThat(index.search(request, 0, 1).getActorIds()).containsExactly(tallMale);
+        }
+
+        @Test
+        @DisplayName("최소 완성도 이상인 배우만 완성도 높은 순으로 정렬한다")
+        void minCompletenessAndCompletenessSort() {
+            index.upsert(withCompleteness(tallMale, 80));
+            index.upsert(withCompleteness(shortFemale, 100));
+            index.upsert(withCompleteness(model, 55));
+            ActorSearchRequest request = ActorSearchRequest.builder()
+                    .minCompleteness(80)
+                    .sortBy("completeness")
+                    .build();
+
+            ActorIndexResult result = index.search(request, 0, 3);
+
+            assertThat(result.getTotal()).isEqualTo(2);
+            assertThat(result.getActorIds()).containsExactly(shortFemale, tallMale);
+        }
+
+        @Test
+        @DisplayName("활동명 정렬은 코드 포인트 순(ucs_basic)으로 대문자, 소문자, 한글, 전각, 보조 평면 문자 순이다")
+        void sortByNameInCodePointOrder() {
+            UUID upper = UUID.randomUUID();
+            UUID lower = UUID.randomUUID();
+            UUID fullWidth = UUID.randomUUID();
+            UUID supplementary = UUID.randomUUID();
+            LocalDateTime now = LocalDateTime.now();
+            index.replaceAll(List.of(
+                    entry(supplementary, "𠀀배우", 1990, Gender.MALE, ActorCategory.ACTOR, 180, now),
+                    entry(shortFemale, "나배우", 1990, Gender.FEMALE, ActorCategory.ACTOR, 160, now),
+                    entry(lower, "alice", 1990, Gender.FEMALE, ActorCategory.ACTOR, 165, now),
+                    entry(tallMale, "가배우", 1990, Gender.MALE, ActorCategory.ACTOR, 185, now),
+                    entry(upper, "Bob", 1990, Gender.MALE, ActorCategory.ACTOR, 175, now),
+                    entry(fullWidth, "Ａ배우", 1990, Gender.MALE, ActorCategory.ACTOR, 170, now)));
+            ActorSearchRequest request = ActorSearchRequest.builder().sortBy("name").sortDirection("asc").build();
+
+            ActorIndexResult result = index.search(request, 0, 6);
+
+            // String.compareTo(UTF-16 단위)라면 보조 평면 문자가 전각 문자보다 앞에 옴
+            assertThat(result.getActorIds())
+                    .containsExactly(upper, lower, tallMale, shortFemale, fullWidth, supplementary);
+        }
+
+        private ActorIndexEntry withCompleteness(UUID id, int completeness) {
+            return ActorIndexEntry.builder()
+                    .actorId(id)
+                    .skills(List.of())
+                    .profileCompleteness(completeness)
+                    .profileComplete(true)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("조회수 증가분을 반영하여 조회수 순으로 다시 정렬한다")
+        void viewCountDeltas() {
+            ActorSearchRequest request = ActorSearchRequest.builder().sortBy("views_high").build();
+            index.search(request, 0, 3);
+
+            index.addViewCounts(Map.of(shortFemale, 5L, model, 2L, UUID.randomUUID(), 100L));
+
+            assertThat(index.search(request, 0, 3).getActorIds()).containsExactly(shortFemale, model, tallMale);
+        }
+    }
+
+    @Nested
+    @DisplayName("동기화")
+    class Synchronization {
+
+        @Test
+        @DisplayName("미완성 프로필로 갱신되면 검색 대상에서 제외된다")
+        void incompleteProfileRemoved() {
+            index.upsert(ActorIndexEntry.builder().actorId(model).profileComplete(false).build());
+
+            ActorIndexResult result = index.search(ActorSearchRequest.builder().sortBy("recent").build(), 0, 20);
+
+            assertThat(result.getTotal()).isEqualTo(2);
+            assertThat(result.getActorIds()).doesNotContain(model);
+        }
+
+        @Test
+        @DisplayName("성별 변경 시 이전 성별 BitSet에서 제거된다")
+        void genderChangeMovesBit() {
+            index.upsert(entry(tallMale, "가배우", 1990, Gender.FEMALE, ActorCategory.ACTOR, 185, LocalDateTime.now()));
+
+            ActorIndexResult male = index.search(ActorSearchRequest.builder().gender("남자").sortBy("recent").build(), 0, 20);
+
+            assertThat(male.getTotal()).isZero();
+        }
+
+        @Test
+        @DisplayName("sortBy 없는 Pageable 정렬은 지원하지 않는다")
+        void unsupportedRequests() {
+            ActorSearchRequest keyword = ActorSearchRequest.builder().keyword("배우").sortBy("recent").build();
+            ActorSearchRequest pageableSort = ActorSearchRequest.builder().build();
+
+            assertThat(index.supports(keyword, PageRequest.of(0, 20))).isTrue();
+            assertThat(index.supports(pageableSort, PageRequest.of(0, 20, Sort.by("stageName")))).isFalse();
+            assertThat(index.supports(pageableSort, PageRequest.of(0, 20))).isTrue();
+        }
+    }
+}
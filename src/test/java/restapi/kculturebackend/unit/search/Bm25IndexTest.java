@@ -0,0 +1,92 @@
+package restapi.kculturebackend.unit.search;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.actor.search.BigramTokenizer;
+import restapi.kculturebackend.domain.actor.search.Bm25Index;
+
+/**
+ * Bm25Index / BigramTokenizer 단위 테스트
+ */
+@DisplayName("Bm25Index 테스트")
+class Bm25IndexTest {
+
+    private final UUID detective = UUID.randomUUID();
+    private final UUID doctor = UUID.randomUUID();
+    private final UUID idol = UUID.randomUUID();
+
+    private Bm25Index index;
+
+    @BeforeEach
+    void setUp() {
+        index = new Bm25Index();
+        index.put(detective, "강력반 형사 역할 전문\n범죄도시 형사\n액션 스릴러");
+        index.put(doctor, "의학 드라마 전문의 역할\n슬기로운 의사생활");
+        index.put(idol, "아이돌 출신 배우\n청춘 로맨스 드라마 주연");
+    }
+
+    @Test
+    @DisplayName("한글은 음절 bigram, 영문/숫자는 단어 단위로 자른다")
+    void tokenize() {
+        assertThat(BigramTokenizer.tokenize("형사가 NETFLIX 2024 주연"))
+                .containsExactly("형사", "사가", "netflix", "2024", "주연");
+        assertThat(BigramTokenizer.tokenize("칼 a")).containsExactly("칼");
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class Search {
+
+        @Test
+        @DisplayName("질의 토큰을 가진 문서만 점수 순으로 반환한다")
+        void ranking() {
+            Map<UUID, Float> result = index.search("형사가 범죄 조직을 쫓는 액션 드라마", 10);
+
+            assertThat(result.keySet()).first().isEqualTo(detective);
+            assertThat(result).containsKeys(detective, doctor, idol);
+            assertThat(result.get(detective)).isGreaterThan(result.get(doctor));
+        }
+
+        @Test
+        @DisplayName("일치하는 토큰이 없으면 빈 결과를 반환한다")
+        void noMatch() {
+            assertThat(index.search("우주 비행", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신")
+    class Update {
+
+        @Test
+        @DisplayName("문서를 갱신하면 이전 내용으로는 검색되지 않는다")
+        void put() {
+            index.put(detective, "사극 왕 역할");
+
+            assertThat(index.search("형사", 10)).isEmpty();
+            assertThat(index.search("사극", 10)).containsOnlyKeys(detective);
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("삭제가 누적되어 압축되어도 남은 문서는 그대로 검색된다")
+        void compaction() {
+            for (int i = 0; i < 3_000; i++) {
+                UUID temporary = UUID.randomUUID();
+                index.put(temporary, "임시 문서 " + i);
+                index.remove(temporary);
+            }
+
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(index.search("임시", 10)).isEmpty();
+            assertThat(index.search("의사", 10)).containsOnlyKeys(doctor);
+        }
+    }
+}
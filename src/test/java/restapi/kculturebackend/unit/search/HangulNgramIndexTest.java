@@ -0,0 +1,78 @@
+package restapi.kculturebackend.unit.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.actor.search.Hangul;
+import restapi.kculturebackend.domain.actor.search.HangulNgramIndex;
+
+/**
+ * HangulNgramIndex 단위 테스트
+ */
+@DisplayName("HangulNgramIndex 테스트")
+class HangulNgramIndexTest {
+
+    private HangulNgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HangulNgramIndex();
+        index.put(0, "홍길동");
+        index.put(1, "김수현");
+        index.put(2, "가나다");
+        index.put(3, "Jazz 김닭");
+    }
+
+    @Test
+    @DisplayName("음절 부분 문자열과 대소문자 무시 검색")
+    void substring() {
+        assertThat(index.search("길동").toArray()).containsExactly(0);
+        assertThat(index.search("JAZZ").toArray()).containsExactly(3);
+        assertThat(index.search("없는이름").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("초성 검색")
+    void choseong() {
+        assertThat(index.search("ㄱㅅㅎ").toArray()).containsExactly(1);
+        assertThat(index.search("ㅎㄱ").toArray()).containsExactly(0);
+        assertThat(index.search("김ㅅ").toArray()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 음절은 자모 단위로 비교")
+    void partialSyllable() {
+        assertThat(index.search("홍길ㄷ").toArray()).containsExactly(0);
+        assertThat(index.search("홍기").toArray()).containsExactly(0);
+        assertThat(index.search("김다").toArray()).containsExactly(3);
+        // 받침이 다음 음절 초성으로 넘어가는 입력
+        assertThat(index.search("간").toArray()).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("마지막이 아닌 음절은 정확히 일치해야 한다")
+    void nonLastSyllableExact() {
+        assertThat(index.search("홍기동").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("갱신/삭제 시 이전 gram이 제거된다")
+    void updateAndRemove() {
+        index.put(0, "박보검");
+        index.remove(1);
+
+        assertThat(index.search("홍길").isEmpty()).isTrue();
+        assertThat(index.search("ㅂㅂㄱ").toArray()).containsExactly(0);
+        assertThat(index.search("김수").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹받침/겹모음을 기본 자모로 분해한다")
+    void jamoDecomposition() {
+        assertThat(Hangul.toJamo('닭')).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(Hangul.toJamo('과')).isEqualTo("ㄱㅗㅏ");
+        assertThat(Hangul.choseongKey('현')).isEqualTo('ㅎ');
+    }
+}
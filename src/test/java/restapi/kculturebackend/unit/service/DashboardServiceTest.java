@@ -1,11 +1,15 @@
 package restapi.kculturebackend.unit.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,30 +17,45 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import restapi.kculturebackend.domain.actor.entity.ActorProfile;
-import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import restapi.kculturebackend.common.concurrent.ReadOnlyFanOut;
+import restapi.kculturebackend.common.exception.ValidationException;
 import restapi.kculturebackend.domain.dashboard.dto.ActorDashboardStats;
 import restapi.kculturebackend.domain.dashboard.dto.AgencyDashboardStats;
+import restapi.kculturebackend.domain.dashboard.dto.DashboardTrendResponse;
 import restapi.kculturebackend.domain.dashboard.dto.RecentActivitiesResponse;
 import restapi.kculturebackend.domain.dashboard.entity.Activity;
 import restapi.kculturebackend.domain.dashboard.entity.ActivityType;
+import restapi.kculturebackend.domain.dashboard.entity.EventRollup;
+import restapi.kculturebackend.domain.dashboard.entity.RollupGranularity;
+import restapi.kculturebackend.domain.dashboard.event.ActivityRecordedEvent;
+import restapi.kculturebackend.domain.dashboard.feed.ActivityFeedStore;
 import restapi.kculturebackend.domain.dashboard.repository.ActivityRepository;
-import restapi.kculturebackend.domain.dashboard.repository.ContactRequestRepository;
+import restapi.kculturebackend.domain.dashboard.repository.DashboardStatsRepository;
+import restapi.kculturebackend.domain.dashboard.repository.DashboardStatsRepository.ActorCounters;
+import restapi.kculturebackend.domain.dashboard.repository.DashboardStatsRepository.AgencyCounters;
+import restapi.kculturebackend.domain.dashboard.repository.EventRollupRepository;
 import restapi.kculturebackend.domain.dashboard.repository.ProfileViewRepository;
 import restapi.kculturebackend.domain.dashboard.service.DashboardService;
-import restapi.kculturebackend.domain.favorite.entity.FavoriteType;
-import restapi.kculturebackend.domain.favorite.repository.FavoriteRepository;
-import restapi.kculturebackend.domain.project.repository.CharacterRepository;
-import restapi.kculturebackend.domain.project.repository.ProjectRepository;
+import restapi.kculturebackend.domain.dashboard.service.DashboardStatsCache;
+import restapi.kculturebackend.domain.dashboard.view.PendingProfileView;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewBuffer;
+import restapi.kculturebackend.domain.dashboard.view.ProfileViewUniqueCounter;
+import restapi.kculturebackend.domain.dashboard.view.UniqueViewerEstimate;
 import restapi.kculturebackend.domain.user.entity.User;
 import restapi.kculturebackend.domain.user.entity.UserType;
 import restapi.kculturebackend.domain.user.repository.UserRepository;
@@ -48,35 +67,45 @@ import restapi.kculturebackend.domain.user.repository.UserRepository;
 class DashboardServiceTest {
 
     @Mock
-    private ActorProfileRepository actorProfileRepository;
+    private ProfileViewRepository profileViewRepository;
     
     @Mock
-    private ProjectRepository projectRepository;
-    
+    private ActivityRepository activityRepository;
+
     @Mock
-    private CharacterRepository characterRepository;
-    
+    private DashboardStatsRepository dashboardStatsRepository;
+
     @Mock
-    private FavoriteRepository favoriteRepository;
+    private DashboardStatsCache dashboardStatsCache;
     
     @Mock
-    private ProfileViewRepository profileViewRepository;
-    
+    private UserRepository userRepository;
+
     @Mock
-    private ContactRequestRepository contactRequestRepository;
-    
+    private ProfileViewBuffer profileViewBuffer;
+
     @Mock
-    private ActivityRepository activityRepository;
-    
+    private ProfileViewUniqueCounter profileViewUniqueCounter;
+
     @Mock
-    private UserRepository userRepository;
+    private EventRollupRepository eventRollupRepository;
+
+    @Spy
+    private ReadOnlyFanOut readOnlyFanOut =
+            new ReadOnlyFanOut(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 3000, 4, 10);
+
+    // 피드를 끈 상태 (항상 SQL 조회)
+    @Spy
+    private ActivityFeedStore activityFeedStore = new ActivityFeedStore(mock(StringRedisTemplate.class), false, 50, 3600);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private DashboardService dashboardService;
 
     private User actorUser;
     private User agencyUser;
-    private ActorProfile actorProfile;
 
     @BeforeEach
     void setUp() {
@@ -97,18 +126,6 @@ class DashboardServiceTest {
                 .type(UserType.AGENCY)
                 .isActive(true)
                 .build();
-
-        actorProfile = ActorProfile.builder()
-                .user(actorUser)
-                .stageName("테스트배우")
-                .birthYear(1995)
-                .introduction("안녕하세요")
-                .height(175)
-                .weight(70)
-                .skills(List.of("연기", "춤"))
-                .languages(List.of("한국어", "영어"))
-                .isProfileComplete(true)
-                .build();
     }
 
     @Nested
@@ -140,15 +157,21 @@ class DashboardServiceTest {
     @DisplayName("getActorStats 테스트")
     class GetActorStatsTest {
 
+        @BeforeEach
+        void setUpCache() {
+            when(dashboardStatsCache.get(any(), any())).thenAnswer(invocation ->
+                    invocation.<Supplier<?>>getArgument(1).get());
+        }
+
         @Test
-        @DisplayName("배우 대시보드 통계 조회 성공")
+        @DisplayName("배우 대시보드 통계 조회 성공 (카운터는 집계 쿼리 한 번)")
         void getActorStats_Success() {
             // given
-            when(profileViewRepository.countByActorId(actorUser.getId())).thenReturn(100L);
-            when(favoriteRepository.countByTargetIdAndType(actorUser.getId(), FavoriteType.ACTOR)).thenReturn(50L);
-            when(contactRequestRepository.countByActorId(actorUser.getId())).thenReturn(10L);
-            when(actorProfileRepository.findById(actorUser.getId())).thenReturn(Optional.of(actorProfile));
-            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(PageRequest.class)))
+            when(dashboardStatsRepository.findActorCounters(actorUser.getId()))
+                    .thenReturn(actorCounters(true, 100L, 50L, 10L));
+            when(profileViewUniqueCounter.estimate(actorUser.getId()))
+                    .thenReturn(new UniqueViewerEstimate(3L, 20L, 60L));
+            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(LocalDateTime.class), any(PageRequest.class)))
                     .thenReturn(Collections.emptyList());
 
             // when
@@ -157,25 +180,26 @@ class DashboardServiceTest {
             // then
             assertThat(stats).isNotNull();
             assertThat(stats.getProfileViews()).isEqualTo(100);
+            assertThat(stats.getUniqueViewersToday()).isEqualTo(3L);
+            assertThat(stats.getUniqueViewers7Days()).isEqualTo(20L);
+            assertThat(stats.getUniqueViewers30Days()).isEqualTo(60L);
             assertThat(stats.getLikes()).isEqualTo(50);
             assertThat(stats.getContactRequests()).isEqualTo(10);
-            assertThat(stats.getProfileCompleteness()).isGreaterThan(0);
+            assertThat(stats.getProfileCompleteness()).isEqualTo(100);
             assertThat(stats.getRecentActivities()).isEmpty();
 
-            verify(profileViewRepository).countByActorId(actorUser.getId());
-            verify(favoriteRepository).countByTargetIdAndType(actorUser.getId(), FavoriteType.ACTOR);
-            verify(contactRequestRepository).countByActorId(actorUser.getId());
+            verify(dashboardStatsRepository).findActorCounters(actorUser.getId());
+            verify(profileViewRepository, never()).countByActorId(any());
         }
 
         @Test
         @DisplayName("프로필 없는 배우의 완성도는 0")
         void getActorStats_WithNoProfile_CompletenessIsZero() {
             // given
-            when(profileViewRepository.countByActorId(actorUser.getId())).thenReturn(0L);
-            when(favoriteRepository.countByTargetIdAndType(actorUser.getId(), FavoriteType.ACTOR)).thenReturn(0L);
-            when(contactRequestRepository.countByActorId(actorUser.getId())).thenReturn(0L);
-            when(actorProfileRepository.findById(actorUser.getId())).thenReturn(Optional.empty());
-            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(PageRequest.class)))
+            when(dashboardStatsRepository.findActorCounters(actorUser.getId()))
+                    .thenReturn(actorCounters(false, 0L, 0L, 0L));
+            when(profileViewUniqueCounter.estimate(actorUser.getId())).thenReturn(UniqueViewerEstimate.unavailable());
+            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(LocalDateTime.class), any(PageRequest.class)))
                     .thenReturn(Collections.emptyList());
 
             // when
@@ -184,6 +208,10 @@ class DashboardServiceTest {
             // then
             assertThat(stats.getProfileCompleteness()).isEqualTo(0);
         }
+
+        private ActorCounters actorCounters(boolean hasProfile, long views, long likes, long contacts) {
+            return new ActorCounters(views, hasProfile ? 100 : 0, likes, contacts);
+        }
     }
 
     @Nested
@@ -191,14 +219,13 @@ class DashboardServiceTest {
     class GetAgencyStatsTest {
 
         @Test
-        @DisplayName("에이전시 대시보드 통계 조회 성공")
+        @DisplayName("에이전시 대시보드 통계 조회 성공 (카운터는 집계 쿼리 한 번)")
         void getAgencyStats_Success() {
             // given
-            when(projectRepository.countActiveProjectsByAgencyUserId(agencyUser.getId())).thenReturn(5L);
-            when(favoriteRepository.findByUserIdAndType(eq(agencyUser.getId()), eq(FavoriteType.ACTOR), any(PageRequest.class)))
-                    .thenReturn(new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 1000), 20));
-            when(contactRequestRepository.countByAgencyId(agencyUser.getId())).thenReturn(15L);
-            when(characterRepository.countByAgencyUserId(agencyUser.getId())).thenReturn(30L);
+            when(dashboardStatsCache.get(any(), any())).thenAnswer(invocation ->
+                    invocation.<Supplier<?>>getArgument(1).get());
+            when(dashboardStatsRepository.findAgencyCounters(agencyUser.getId()))
+                    .thenReturn(new AgencyCounters(5L, 20L, 15L, 30L));
 
             // when
             AgencyDashboardStats stats = dashboardService.getAgencyStats(agencyUser);
@@ -210,77 +237,70 @@ class DashboardServiceTest {
             assertThat(stats.getSentContacts()).isEqualTo(15);
             assertThat(stats.getTotalCharacters()).isEqualTo(30);
         }
-    }
-
-    @Nested
-    @DisplayName("recordProfileView 테스트")
-    class RecordProfileViewTest {
 
         @Test
-        @DisplayName("프로필 조회수 기록 성공")
-        void recordProfileView_Success() {
+        @DisplayName("캐시된 통계가 있으면 집계 쿼리를 실행하지 않음")
+        void getAgencyStats_Cached() {
             // given
-            when(userRepository.findById(actorUser.getId())).thenReturn(Optional.of(actorUser));
-            when(profileViewRepository.existsByActorIdAndViewerIdSince(
-                    eq(actorUser.getId()), eq(agencyUser.getId()), any())).thenReturn(false);
-            when(profileViewRepository.save(any())).thenReturn(null);
-            when(activityRepository.save(any())).thenReturn(null);
+            AgencyDashboardStats cached = AgencyDashboardStats.builder().activeProjects(1).build();
+            when(dashboardStatsCache.get(eq(agencyUser.getId()), any())).thenReturn(cached);
 
             // when
-            dashboardService.recordProfileView(actorUser.getId(), agencyUser, null);
+            AgencyDashboardStats stats = dashboardService.getAgencyStats(agencyUser);
 
             // then
-            verify(profileViewRepository).save(any());
-            verify(activityRepository).save(any());
+            assertThat(stats).isSameAs(cached);
+            verify(dashboardStatsRepository, never()).findAgencyCounters(any());
         }
+    }
+
+    @Nested
+    @DisplayName("recordProfileView 테스트")
+    class RecordProfileViewTest {
 
         @Test
-        @DisplayName("본인 프로필 조회는 기록하지 않음")
-        void recordProfileView_SelfView_NotRecorded() {
+        @DisplayName("프로필 조회를 쓰기 지연 버퍼에 넣는다")
+        void recordProfileView_Success() {
             // given
-            when(userRepository.findById(actorUser.getId())).thenReturn(Optional.of(actorUser));
+            when(profileViewBuffer.offer(any())).thenReturn(true);
 
             // when
-            dashboardService.recordProfileView(actorUser.getId(), actorUser, null);
+            dashboardService.recordProfileView(actorUser.getId(), agencyUser, null);
 
             // then
+            ArgumentCaptor<PendingProfileView> captor = ArgumentCaptor.forClass(PendingProfileView.class);
+            verify(profileViewBuffer).offer(captor.capture());
+            assertThat(captor.getValue().actorId()).isEqualTo(actorUser.getId());
+            assertThat(captor.getValue().viewerId()).isEqualTo(agencyUser.getId());
             verify(profileViewRepository, never()).save(any());
             verify(activityRepository, never()).save(any());
         }
 
         @Test
-        @DisplayName("중복 조회는 기록하지 않음")
-        void recordProfileView_DuplicateView_NotRecorded() {
-            // given
-            when(userRepository.findById(actorUser.getId())).thenReturn(Optional.of(actorUser));
-            when(profileViewRepository.existsByActorIdAndViewerIdSince(
-                    eq(actorUser.getId()), eq(agencyUser.getId()), any())).thenReturn(true);
-
+        @DisplayName("본인 프로필 조회는 기록하지 않음")
+        void recordProfileView_SelfView_NotRecorded() {
             // when
-            dashboardService.recordProfileView(actorUser.getId(), agencyUser, null);
+            dashboardService.recordProfileView(actorUser.getId(), actorUser, null);
 
             // then
-            verify(profileViewRepository, never()).save(any());
-            verify(activityRepository, never()).save(any());
+            verify(profileViewBuffer, never()).offer(any());
         }
 
         @Test
-        @DisplayName("비로그인 사용자 IP 기반 조회수 기록")
+        @DisplayName("비로그인 사용자는 IP와 함께 기록")
         void recordProfileView_AnonymousUser_WithIp() {
             // given
             String viewerIp = "192.168.1.100";
-            when(userRepository.findById(actorUser.getId())).thenReturn(Optional.of(actorUser));
-            when(profileViewRepository.existsByActorIdAndViewerIpSince(
-                    eq(actorUser.getId()), eq(viewerIp), any())).thenReturn(false);
-            when(profileViewRepository.save(any())).thenReturn(null);
-            when(activityRepository.save(any())).thenReturn(null);
+            when(profileViewBuffer.offer(any())).thenReturn(true);
 
             // when
             dashboardService.recordProfileView(actorUser.getId(), null, viewerIp);
 
             // then
-            verify(profileViewRepository).save(any());
-            verify(activityRepository).save(any());
+            ArgumentCaptor<PendingProfileView> captor = ArgumentCaptor.forClass(PendingProfileView.class);
+            verify(profileViewBuffer).offer(captor.capture());
+            assertThat(captor.getValue().viewerId()).isNull();
+            assertThat(captor.getValue().viewerKey()).isEqualTo("ip:" + viewerIp);
         }
     }
 
@@ -300,6 +320,7 @@ class DashboardServiceTest {
 
             // then
             verify(activityRepository).save(any());
+            verify(eventPublisher).publishEvent(any(ActivityRecordedEvent.class));
         }
 
         @Test
@@ -334,9 +355,9 @@ class DashboardServiceTest {
                     .relatedUserName("테스트에이전시")
                     .build();
 
-            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(PageRequest.class)))
+            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(LocalDateTime.class), any(PageRequest.class)))
                     .thenReturn(List.of(activity));
-            when(activityRepository.countByUserId(actorUser.getId())).thenReturn(1L);
+            when(activityRepository.countByUserIdSince(eq(actorUser.getId()), any(LocalDateTime.class))).thenReturn(1L);
 
             // when
             RecentActivitiesResponse response = dashboardService.getRecentActivities(actorUser, 10);
@@ -344,7 +365,7 @@ class DashboardServiceTest {
             // then
             assertThat(response).isNotNull();
             assertThat(response.getActivities()).hasSize(1);
-            assertThat(response.getTotal()).isEqualTo(1);
+            assertThat(response.getRecentTotal()).isEqualTo(1);
             assertThat(response.getActivities().get(0).getMessage()).contains("테스트에이전시");
         }
 
@@ -352,16 +373,56 @@ class DashboardServiceTest {
         @DisplayName("활동 내역이 없는 경우 빈 리스트 반환")
         void getRecentActivities_Empty() {
             // given
-            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(PageRequest.class)))
+            when(activityRepository.findRecentByUserId(eq(actorUser.getId()), any(LocalDateTime.class), any(PageRequest.class)))
                     .thenReturn(Collections.emptyList());
-            when(activityRepository.countByUserId(actorUser.getId())).thenReturn(0L);
+            when(activityRepository.countByUserIdSince(eq(actorUser.getId()), any(LocalDateTime.class))).thenReturn(0L);
 
             // when
             RecentActivitiesResponse response = dashboardService.getRecentActivities(actorUser, 10);
 
             // then
             assertThat(response.getActivities()).isEmpty();
-            assertThat(response.getTotal()).isEqualTo(0);
+            assertThat(response.getRecentTotal()).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTrend 테스트")
+    class GetTrendTest {
+
+        @Test
+        @DisplayName("집계가 없는 구간은 0으로 채워 현재 구간까지 반환")
+        void getTrend_FillsEmptyBuckets() {
+            // given
+            LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+            EventRollup yesterday = mock(EventRollup.class);
+            when(yesterday.getBucketStart()).thenReturn(today.minusDays(1));
+            when(yesterday.getEventCount()).thenReturn(4L);
+            when(eventRollupRepository.findSeries(eq(actorUser.getId()), eq(RollupGranularity.DAY),
+                    eq(ActivityType.PROFILE_VIEW), eq(today.minusDays(6)), eq(today.plusDays(1))))
+                    .thenReturn(List.of(yesterday));
+
+            // when
+            DashboardTrendResponse response = dashboardService.getTrend(actorUser, "day", "view", 7);
+
+            // then
+            assertThat(response.getPoints()).hasSize(7);
+            assertThat(response.getPoints().get(0).getBucketStart()).isEqualTo(today.minusDays(6));
+            assertThat(response.getPoints().get(6).getBucketStart()).isEqualTo(today);
+            assertThat(response.getPoints())
+                    .extracting(DashboardTrendResponse.Point::getCount)
+                    .containsExactly(0L, 0L, 0L, 0L, 0L, 4L, 0L);
+            assertThat(response.getRecentTotal()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 단위나 범위를 넘는 구간 수는 예외 발생")
+        void getTrend_InvalidParameters() {
+            assertThatThrownBy(() -> dashboardService.getTrend(actorUser, "week", "view", 7))
+                    .isInstanceOf(ValidationException.class);
+            assertThatThrownBy(() -> dashboardService.getTrend(actorUser, "hour", "view", 169))
+                    .isInstanceOf(ValidationException.class);
+            verify(eventRollupRepository, never()).findSeries(any(), any(), any(), any(), any());
         }
     }
 }
@@ -18,6 +18,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import restapi.kculturebackend.common.exception.ForbiddenException;
 import restapi.kculturebackend.common.exception.NotFoundException;
@@ -28,6 +29,7 @@ import restapi.kculturebackend.domain.actor.entity.ActorProfile;
 import restapi.kculturebackend.domain.actor.entity.Filmography;
 import restapi.kculturebackend.domain.actor.entity.FilmographyType;
 import restapi.kculturebackend.domain.actor.entity.RoleType;
+import restapi.kculturebackend.domain.actor.event.ActorPortfolioChangedEvent;
 import restapi.kculturebackend.domain.actor.repository.ActorProfileRepository;
 import restapi.kculturebackend.domain.actor.repository.FilmographyRepository;
 import restapi.kculturebackend.domain.actor.service.FilmographyService;
@@ -46,6 +48,9 @@ class FilmographyServiceTest {
     @Mock
     private ActorProfileRepository actorProfileRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private FilmographyService filmographyService;
 
@@ -293,6 +298,7 @@ class FilmographyServiceTest {
 
             // then
             verify(filmographyRepository).delete(filmography);
+            verify(eventPublisher).publishEvent(any(ActorPortfolioChangedEvent.class));
         }
 
         @Test
@@ -0,0 +1,81 @@
+package restapi.kculturebackend.unit.suggest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import restapi.kculturebackend.domain.suggest.index.SuggestTrie;
+import restapi.kculturebackend.domain.suggest.index.Suggestion;
+
+/**
+ * SuggestTrie 단위 테스트
+ */
+@DisplayName("SuggestTrie 테스트")
+class SuggestTrieTest {
+
+    private SuggestTrie trie;
+    private UUID hong;
+    private UUID hongMin;
+    private UUID glory;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestTrie();
+        hong = UUID.randomUUID();
+        hongMin = UUID.randomUUID();
+        glory = UUID.randomUUID();
+
+        trie.replaceAll(List.of(
+                new Suggestion(hong, "홍길동", 10),
+                new Suggestion(hongMin, "홍민수", 50),
+                new Suggestion(glory, "더 글로리", 5)
+        ));
+    }
+
+    private List<UUID> ids(String prefix) {
+        return trie.suggest(prefix, 10).stream().map(Suggestion::getId).toList();
+    }
+
+    @Test
+    @DisplayName("접두사 후보를 점수 순으로 반환한다")
+    void rankedByScore() {
+        assertThat(ids("홍")).containsExactly(hongMin, hong);
+        assertThat(trie.suggest("홍", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절, 초성, 단어 시작 위치로 찾는다")
+    void jamoChoseongAndWordPrefix() {
+        assertThat(ids("홍기")).containsExactly(hong);
+        assertThat(ids("ㅎㅁ")).containsExactly(hongMin);
+        assertThat(ids("글로")).containsExactly(glory);
+        assertThat(ids("ㄷㄱ")).containsExactly(glory);
+        assertThat(ids("길동")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신 시 이전 문자열은 제거되고 점수가 반영된다")
+    void updateReplacesLabels() {
+        assertThat(ids("홍")).containsExactly(hongMin, hong);
+
+        trie.put(hong, List.of("홍길순"), 100);
+        trie.remove(hongMin);
+
+        assertThat(ids("홍")).containsExactly(hong);
+        assertThat(trie.suggest("홍", 10).get(0).getLabel()).isEqualTo("홍길순");
+        assertThat(ids("홍길도")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 ID의 여러 문자열은 한 번만 반환된다")
+    void deduplicatesById() {
+        UUID job = UUID.randomUUID();
+        trie.put(job, List.of("홍보 모델", "홍보 영상"), 1);
+
+        assertThat(ids("홍보")).containsExactly(job);
+    }
+}